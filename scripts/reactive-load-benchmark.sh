@@ -0,0 +1,37 @@
+#!/usr/bin/env bash
+# Lastvergleich blockierende vs. reaktive Lese-Endpoints bei vielen gleichzeitigen Verbindungen.
+#
+# Nutzung (Backend läuft, z.B. docker-compose up):
+#   ./scripts/reactive-load-benchmark.sh
+#   CONNECTIONS=10000 DURATION=60s RECIPE_ID=1 ./scripts/reactive-load-benchmark.sh
+#
+# Voraussetzung: wrk (https://github.com/wg/wrk), genug File-Descriptors (ulimit -n > CONNECTIONS).
+# Tomcat nimmt per server.tomcat.max-connections bis zu 12000 Verbindungen an; bei den
+# blockierenden Endpoints bleiben trotzdem nur server.tomcat.threads.max (200) gleichzeitig aktiv.
+set -euo pipefail
+
+BASE_URL="${BASE_URL:-http://localhost:8080}"
+CONNECTIONS="${CONNECTIONS:-10000}"
+THREADS="${THREADS:-8}"
+DURATION="${DURATION:-30s}"
+RECIPE_ID="${RECIPE_ID:-1}"
+
+if [ "$(ulimit -n)" != "unlimited" ] && [ "$(ulimit -n)" -le "$CONNECTIONS" ]; then
+    ulimit -n $((CONNECTIONS + 1024)) 2>/dev/null || {
+        echo "ulimit -n ist zu klein für $CONNECTIONS Verbindungen" >&2
+        exit 1
+    }
+fi
+
+run() {
+    local name="$1" url="$2" accept="$3"
+    echo "==> $name ($CONNECTIONS Verbindungen, $DURATION)"
+    wrk -t "$THREADS" -c "$CONNECTIONS" -d "$DURATION" --latency --timeout 10s \
+        -H "Accept: $accept" "$url" | grep -E 'Latency|50%|99%|Requests/sec|Socket errors|Non-2xx'
+    echo
+}
+
+run "Liste blockierend (JPA)"   "$BASE_URL/api/recipes"                       "application/json"
+run "Liste reaktiv (R2DBC)"     "$BASE_URL/api/reactive/recipes"              "application/x-ndjson"
+run "Detail blockierend (JPA)"  "$BASE_URL/api/recipes/$RECIPE_ID"            "application/json"
+run "Detail reaktiv (R2DBC)"    "$BASE_URL/api/reactive/recipes/$RECIPE_ID"   "application/json"
@@ -0,0 +1,71 @@
+#!/usr/bin/env bash
+# Startzeit-Benchmark: misst time-to-ready (bis /actuator/health UP) und RSS nach dem Start
+# für alle Image-Varianten.
+#
+# Nutzung:
+#   ./scripts/startup-benchmark.sh            # 5 Läufe pro Variante
+#   RUNS=10 ./scripts/startup-benchmark.sh
+#   TARGETS="jvm fast-startup native" ./scripts/startup-benchmark.sh   # inkl. GraalVM (langer Build)
+#
+# Voraussetzung: .env vorhanden (siehe README), Docker läuft.
+set -euo pipefail
+
+RUNS="${RUNS:-5}"
+PORT="${PORT:-18080}"
+TARGETS="${TARGETS:-jvm fast-startup}"
+ENV_FILE="${ENV_FILE:-.env}"
+
+cd "$(dirname "$0")/.."
+
+echo "==> Datenbank starten"
+docker compose up -d db >/dev/null
+NETWORK="$(docker inspect -f '{{range $k, $v := .NetworkSettings.Networks}}{{$k}}{{end}}' recipe_db)"
+
+for target in $TARGETS; do
+    echo "==> Image bauen: $target"
+    docker build -q --target "$target" -t "recipe-backend:$target" . >/dev/null
+done
+
+now_ms() {
+    date +%s%3N
+}
+
+measure() {
+    local target="$1"
+    local container="recipe_startup_bench"
+    docker rm -f "$container" >/dev/null 2>&1 || true
+
+    local start end
+    start="$(now_ms)"
+    docker run -d --name "$container" --network "$NETWORK" --env-file "$ENV_FILE" \
+        -p "$PORT:8080" "recipe-backend:$target" >/dev/null
+
+    until curl -sf "http://localhost:$PORT/actuator/health" | grep -q '"UP"'; do
+        if [ "$(docker inspect -f '{{.State.Running}}' "$container")" != "true" ]; then
+            docker logs "$container" >&2
+            echo "Container $target ist abgestürzt" >&2
+            exit 1
+        fi
+        sleep 0.05
+    done
+    end="$(now_ms)"
+
+    local started
+    started="$(docker logs "$container" 2>&1 | grep -o 'Started RecipeManagerBackendApplication in [0-9.]* seconds' | grep -o '[0-9.]*' | head -1)"
+    local rss
+    rss="$(docker stats --no-stream --format '{{.MemUsage}}' "$container" | cut -d' ' -f1)"
+
+    docker rm -f "$container" >/dev/null
+    echo "$((end - start)) ${started:-?} $rss"
+}
+
+printf '%-14s %5s %16s %14s %10s\n' "variante" "lauf" "time-to-ready ms" "spring start s" "rss"
+for target in $TARGETS; do
+    total=0
+    for run in $(seq 1 "$RUNS"); do
+        read -r ready started rss < <(measure "$target")
+        total=$((total + ready))
+        printf '%-14s %5s %16s %14s %10s\n' "$target" "$run" "$ready" "$started" "$rss"
+    done
+    printf '%-14s %5s %16s\n' "$target" "avg" "$((total / RUNS))"
+done
@@ -2,8 +2,12 @@ package com.recipemanager;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+import com.recipemanager.config.RecipeManagerRuntimeHints;
 
 @SpringBootApplication
+@ImportRuntimeHints(RecipeManagerRuntimeHints.class)
 public class RecipeManagerBackendApplication {
 
 	public static void main(String[] args) {
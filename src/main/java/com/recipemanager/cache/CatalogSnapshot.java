@@ -0,0 +1,321 @@
+package com.recipemanager.cache;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import com.recipemanager.dto.IngredientResponse;
+import com.recipemanager.dto.NutrientsResponse;
+import com.recipemanager.dto.NutritionResponse;
+import com.recipemanager.dto.RecipeDetailResponse;
+import com.recipemanager.dto.RecipeResponse;
+import com.recipemanager.enums.Unit;
+
+/**
+ * Unveränderlicher Stand des kompletten Katalogs in Spalten statt Objekten.
+ *
+ * Pro Rezept bzw. Zutat ein Eintrag in primitiven Arrays (IDs, Offsets, Mengen,
+ * Einheit als Byte), alle Texte dedupliziert in einem String-Pool. Statt Millionen
+ * kleiner Objekte hält der Heap so nur ein paar große Arrays.
+ *
+ * Rezepte liegen nach ID sortiert (Binärsuche), die Zutaten eines Rezepts i stehen
+ * in [ingredientOffsets[i], ingredientOffsets[i + 1]). Änderungen erzeugen über
+ * withChanges() einen neuen Snapshot, der alte bleibt für laufende Leser gültig.
+ */
+public final class CatalogSnapshot {
+
+    private static final Unit[] UNITS = Unit.values();
+    private static final long NO_TIMESTAMP = Long.MIN_VALUE;
+    private static final int NO_STRING = -1;
+
+    public static final CatalogSnapshot EMPTY = new Builder().build();
+
+    // ========== Rezepte (Index i) ==========
+    private final long[] recipeIds;
+    private final int[] titles;
+    private final int[] descriptions;
+    private final long[] createdAt; // Epoch-Nanos (UTC)
+    private final int[] servings; // 0 = keine Angabe
+    private final double[] nutrients; // 4 pro Rezept: kcal, Eiweiß, Fett, Kohlenhydrate; NaN = keine Summen
+    private final int[] unmatched;
+    private final int[] createdOrder; // Rezept-Indizes sortiert nach (createdAt, id)
+
+    // ========== Zutaten (Index j) ==========
+    private final int[] ingredientOffsets;
+    private final long[] ingredientIds;
+    private final int[] ingredientTitles;
+    private final byte[] ingredientUnits;
+    private final double[] ingredientAmounts; // NaN = keine Menge
+
+    private final String[] strings;
+
+    private CatalogSnapshot(Builder builder) {
+        int recipes = builder.recipeCount;
+        int ingredients = builder.ingredientCount;
+        this.recipeIds = Arrays.copyOf(builder.recipeIds, recipes);
+        this.titles = Arrays.copyOf(builder.titles, recipes);
+        this.descriptions = Arrays.copyOf(builder.descriptions, recipes);
+        this.createdAt = Arrays.copyOf(builder.createdAt, recipes);
+        this.servings = Arrays.copyOf(builder.servings, recipes);
+        this.nutrients = Arrays.copyOf(builder.nutrients, recipes * 4);
+        this.unmatched = Arrays.copyOf(builder.unmatched, recipes);
+        this.ingredientOffsets = Arrays.copyOf(builder.ingredientOffsets, recipes + 1);
+        this.ingredientIds = Arrays.copyOf(builder.ingredientIds, ingredients);
+        this.ingredientTitles = Arrays.copyOf(builder.ingredientTitles, ingredients);
+        this.ingredientUnits = Arrays.copyOf(builder.ingredientUnits, ingredients);
+        this.ingredientAmounts = Arrays.copyOf(builder.ingredientAmounts, ingredients);
+        this.strings = builder.strings.toArray(String[]::new);
+        this.createdOrder = IntStream.range(0, recipes).boxed()
+                .sorted(Comparator.<Integer>comparingLong(i -> createdAt[i]).thenComparingLong(i -> recipeIds[i]))
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    // ========== READ ==========
+
+    public int getRecipeCount() {
+        return recipeIds.length;
+    }
+
+    public int getIngredientCount() {
+        return ingredientIds.length;
+    }
+
+    public int getStringCount() {
+        return strings.length;
+    }
+
+    public boolean contains(long recipeId) {
+        return Arrays.binarySearch(recipeIds, recipeId) >= 0;
+    }
+
+    /**
+     * Alle Rezepte wie RecipeService.getAllRecipes(): älteste zuerst
+     *
+     * @param limit Höchstanzahl, null = alle
+     */
+    public List<RecipeResponse> list(Integer limit) {
+        int size = limit == null ? createdOrder.length : Math.min(limit, createdOrder.length);
+        List<RecipeResponse> recipes = new ArrayList<>(size);
+        for (int k = 0; k < size; k++) {
+            int i = createdOrder[k];
+            recipes.add(new RecipeResponse(recipeIds[i], strings[titles[i]], toDateTime(createdAt[i]),
+                    ingredientOffsets[i + 1] - ingredientOffsets[i]));
+        }
+        return recipes;
+    }
+
+    /**
+     * Rezept mit Zutaten und Nährwerten wie RecipeService.getRecipeById()
+     */
+    public Optional<RecipeDetailResponse> detail(long recipeId) {
+        int i = Arrays.binarySearch(recipeIds, recipeId);
+        if (i < 0) {
+            return Optional.empty();
+        }
+
+        List<IngredientResponse> ingredients = new ArrayList<>(ingredientOffsets[i + 1] - ingredientOffsets[i]);
+        for (int j = ingredientOffsets[i]; j < ingredientOffsets[i + 1]; j++) {
+            double amount = ingredientAmounts[j];
+            ingredients.add(new IngredientResponse(ingredientIds[j], strings[ingredientTitles[j]],
+                    Double.isNaN(amount) ? null : amount, UNITS[ingredientUnits[j]]));
+        }
+
+        RecipeDetailResponse detail = new RecipeDetailResponse(recipeIds[i], strings[titles[i]],
+                descriptions[i] == NO_STRING ? null : strings[descriptions[i]], toDateTime(createdAt[i]), ingredients);
+        detail.setNutrition(nutritionOf(i));
+        return Optional.of(detail);
+    }
+
+    private NutritionResponse nutritionOf(int i) {
+        if (Double.isNaN(nutrients[i * 4])) {
+            return null;
+        }
+        NutrientsResponse total = new NutrientsResponse(
+                nutrients[i * 4], nutrients[i * 4 + 1], nutrients[i * 4 + 2], nutrients[i * 4 + 3]);
+        Integer portions = servings[i] == 0 ? null : servings[i];
+        NutrientsResponse perServing = portions == null ? null
+                : new NutrientsResponse(
+                        nutrients[i * 4] / portions, nutrients[i * 4 + 1] / portions,
+                        nutrients[i * 4 + 2] / portions, nutrients[i * 4 + 3] / portions);
+        return new NutritionResponse(portions, total, perServing, unmatched[i]);
+    }
+
+    // ========== PATCH ==========
+
+    /**
+     * Neuer Snapshot: Rezepte aus changes ersetzen/ergänzen, Rezepte aus changedIds,
+     * die in changes fehlen, entfernen. Der String-Pool wird dabei neu aufgebaut,
+     * nicht mehr benutzte Texte fallen also weg.
+     *
+     * @param changedIds Alle geänderten Rezept-IDs (auch gelöschte)
+     * @param changes    Neuer Stand der noch existierenden Rezepte daraus
+     */
+    public CatalogSnapshot withChanges(Set<Long> changedIds, CatalogSnapshot changes) {
+        Builder builder = new Builder();
+        int i = 0;
+        int c = 0;
+        while (i < recipeIds.length || c < changes.recipeIds.length) {
+            long own = i < recipeIds.length ? recipeIds[i] : Long.MAX_VALUE;
+            long changed = c < changes.recipeIds.length ? changes.recipeIds[c] : Long.MAX_VALUE;
+            if (changed <= own) {
+                builder.copyRecipe(changes, c++);
+                if (changed == own) {
+                    i++;
+                }
+            } else {
+                if (!changedIds.contains(own)) {
+                    builder.copyRecipe(this, i);
+                }
+                i++;
+            }
+        }
+        return builder.build();
+    }
+
+    // ========== Helper ==========
+
+    private static long toNanos(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return NO_TIMESTAMP;
+        }
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + dateTime.getNano();
+    }
+
+    private static LocalDateTime toDateTime(long nanos) {
+        if (nanos == NO_TIMESTAMP) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(nanos, 1_000_000_000L),
+                (int) Math.floorMod(nanos, 1_000_000_000L), ZoneOffset.UTC);
+    }
+
+    /**
+     * Baut einen Snapshot auf. Rezepte müssen nach aufsteigender ID kommen,
+     * die Zutaten jeweils direkt nach ihrem Rezept.
+     */
+    public static final class Builder {
+
+        private int recipeCount;
+        private long[] recipeIds = new long[16];
+        private int[] titles = new int[16];
+        private int[] descriptions = new int[16];
+        private long[] createdAt = new long[16];
+        private int[] servings = new int[16];
+        private double[] nutrients = new double[64];
+        private int[] unmatched = new int[16];
+        private int[] ingredientOffsets = new int[17];
+
+        private int ingredientCount;
+        private long[] ingredientIds = new long[64];
+        private int[] ingredientTitles = new int[64];
+        private byte[] ingredientUnits = new byte[64];
+        private double[] ingredientAmounts = new double[64];
+
+        private final List<String> strings = new ArrayList<>();
+        private final Map<String, Integer> pool = new HashMap<>();
+
+        public Builder addRecipe(long id, String title, String description, LocalDateTime created, Integer portions) {
+            if (recipeCount > 0 && id <= recipeIds[recipeCount - 1]) {
+                throw new IllegalArgumentException("Rezepte müssen nach aufsteigender ID kommen: " + id);
+            }
+            if (recipeCount == recipeIds.length) {
+                int capacity = recipeCount * 2;
+                recipeIds = Arrays.copyOf(recipeIds, capacity);
+                titles = Arrays.copyOf(titles, capacity);
+                descriptions = Arrays.copyOf(descriptions, capacity);
+                createdAt = Arrays.copyOf(createdAt, capacity);
+                servings = Arrays.copyOf(servings, capacity);
+                nutrients = Arrays.copyOf(nutrients, capacity * 4);
+                unmatched = Arrays.copyOf(unmatched, capacity);
+                ingredientOffsets = Arrays.copyOf(ingredientOffsets, capacity + 1);
+            }
+            recipeIds[recipeCount] = id;
+            titles[recipeCount] = intern(title);
+            descriptions[recipeCount] = description == null ? NO_STRING : intern(description);
+            createdAt[recipeCount] = toNanos(created);
+            servings[recipeCount] = portions == null ? 0 : portions;
+            Arrays.fill(nutrients, recipeCount * 4, recipeCount * 4 + 4, Double.NaN);
+            unmatched[recipeCount] = 0;
+            ingredientOffsets[recipeCount] = ingredientCount;
+            recipeCount++;
+            ingredientOffsets[recipeCount] = ingredientCount;
+            return this;
+        }
+
+        /**
+         * Nährwert-Summen für das zuletzt hinzugefügte Rezept
+         */
+        public Builder nutrition(double kcal, double protein, double fat, double carbohydrates, int unmatchedIngredients) {
+            int i = lastRecipe();
+            nutrients[i * 4] = kcal;
+            nutrients[i * 4 + 1] = protein;
+            nutrients[i * 4 + 2] = fat;
+            nutrients[i * 4 + 3] = carbohydrates;
+            unmatched[i] = unmatchedIngredients;
+            return this;
+        }
+
+        /**
+         * Zutat zum zuletzt hinzugefügten Rezept
+         */
+        public Builder addIngredient(long id, String title, Double amount, Unit unit) {
+            int i = lastRecipe();
+            if (ingredientCount == ingredientIds.length) {
+                int capacity = ingredientCount * 2;
+                ingredientIds = Arrays.copyOf(ingredientIds, capacity);
+                ingredientTitles = Arrays.copyOf(ingredientTitles, capacity);
+                ingredientUnits = Arrays.copyOf(ingredientUnits, capacity);
+                ingredientAmounts = Arrays.copyOf(ingredientAmounts, capacity);
+            }
+            ingredientIds[ingredientCount] = id;
+            ingredientTitles[ingredientCount] = intern(title);
+            ingredientUnits[ingredientCount] = (byte) unit.ordinal();
+            ingredientAmounts[ingredientCount] = amount == null ? Double.NaN : amount;
+            ingredientCount++;
+            ingredientOffsets[i + 1] = ingredientCount;
+            return this;
+        }
+
+        public CatalogSnapshot build() {
+            return new CatalogSnapshot(this);
+        }
+
+        private void copyRecipe(CatalogSnapshot source, int i) {
+            addRecipe(source.recipeIds[i], source.strings[source.titles[i]],
+                    source.descriptions[i] == NO_STRING ? null : source.strings[source.descriptions[i]],
+                    toDateTime(source.createdAt[i]), source.servings[i] == 0 ? null : source.servings[i]);
+            if (!Double.isNaN(source.nutrients[i * 4])) {
+                nutrition(source.nutrients[i * 4], source.nutrients[i * 4 + 1], source.nutrients[i * 4 + 2],
+                        source.nutrients[i * 4 + 3], source.unmatched[i]);
+            }
+            for (int j = source.ingredientOffsets[i]; j < source.ingredientOffsets[i + 1]; j++) {
+                double amount = source.ingredientAmounts[j];
+                addIngredient(source.ingredientIds[j], source.strings[source.ingredientTitles[j]],
+                        Double.isNaN(amount) ? null : amount, UNITS[source.ingredientUnits[j]]);
+            }
+        }
+
+        private int lastRecipe() {
+            if (recipeCount == 0) {
+                throw new IllegalStateException("Noch kein Rezept hinzugefügt");
+            }
+            return recipeCount - 1;
+        }
+
+        private int intern(String value) {
+            return pool.computeIfAbsent(value, key -> {
+                strings.add(key);
+                return strings.size() - 1;
+            });
+        }
+    }
+}
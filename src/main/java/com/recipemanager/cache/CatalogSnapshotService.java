@@ -0,0 +1,277 @@
+package com.recipemanager.cache;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.recipemanager.dto.RecipeDetailResponse;
+import com.recipemanager.dto.RecipeResponse;
+import com.recipemanager.enums.Unit;
+import com.recipemanager.event.RecipeChangedEvent;
+import com.recipemanager.invalidation.RemoteInvalidationEvent;
+import com.recipemanager.model.RecipeNutrition;
+import com.recipemanager.repository.IngredientRepository;
+import com.recipemanager.repository.RecipeNutritionRepository;
+import com.recipemanager.repository.RecipeRepository;
+import com.recipemanager.sharding.ShardRouter;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Hält den aktuellen CatalogSnapshot und tauscht ihn atomar aus.
+ *
+ * Nach dem Start wird der Katalog einmal komplett geladen, danach wird jede
+ * committete Änderung (lokal oder von einer anderen Instanz) eingepflegt:
+ * die betroffenen Rezepte frisch aus der Datenbank lesen, neuen Snapshot bauen,
+ * Referenz tauschen. Die Listener laufen vor den übrigen Cache-Invalidierungen
+ * (HIGHEST_PRECEDENCE), damit der Detail-Cache danach nur noch den neuen Stand lädt.
+ *
+ * Mit Sharding lädt jede Shard ihren Teil (Keyset pro Shard), die Teile werden
+ * zu einem Snapshot zusammengeführt; die Rezept-IDs der Shards sind disjunkt.
+ *
+ * Nur aktiv mit recipemanager.catalog.enabled=true (lesende Edge-Instanzen).
+ */
+@Component
+public class CatalogSnapshotService {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogSnapshotService.class);
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    @Autowired
+    private IngredientRepository ingredientRepository;
+
+    @Autowired
+    private RecipeNutritionRepository recipeNutritionRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Value("${recipemanager.catalog.enabled:false}")
+    private boolean enabled;
+
+    @Value("${recipemanager.catalog.batch-size:1000}")
+    private int batchSize;
+
+    // Komplettes Neuladen als Sicherheitsnetz, 0 = aus
+    @Value("${recipemanager.catalog.refresh-minutes:60}")
+    private long refreshMinutes;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "catalog-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile CatalogSnapshot snapshot;
+    private TransactionTemplate readTransaction;
+
+    @PostConstruct
+    void init() {
+        // Eigene Transaktion, auch wenn der Aufruf aus afterCommit einer anderen kommt
+        readTransaction = new TransactionTemplate(transactionManager);
+        readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        readTransaction.setReadOnly(true);
+
+        Gauge.builder("recipemanager.catalog.recipes", this, service -> service.current().getRecipeCount())
+                .register(meterRegistry);
+        Gauge.builder("recipemanager.catalog.ingredients", this, service -> service.current().getIngredientCount())
+                .register(meterRegistry);
+        Gauge.builder("recipemanager.catalog.strings", this, service -> service.current().getStringCount())
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        reload();
+        if (refreshMinutes > 0) {
+            scheduler.scheduleWithFixedDelay(this::reloadQuietly, refreshMinutes, refreshMinutes, TimeUnit.MINUTES);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    // ========== READ ==========
+
+    /**
+     * Snapshot nur außerhalb von Transaktionen nutzen: wer selbst schreibt,
+     * muss seine noch nicht committeten Änderungen sehen
+     */
+    public boolean isServing() {
+        return snapshot != null && !TransactionSynchronizationManager.isActualTransactionActive();
+    }
+
+    public List<RecipeResponse> list(Integer limit) {
+        return current().list(limit);
+    }
+
+    public Optional<RecipeDetailResponse> detail(Long id) {
+        return current().detail(id);
+    }
+
+    public CatalogSnapshot current() {
+        CatalogSnapshot current = snapshot;
+        return current != null ? current : CatalogSnapshot.EMPTY;
+    }
+
+    // ========== UPDATE ==========
+
+    /**
+     * Kompletten Katalog neu laden (Keyset über die Rezept-IDs, pro Shard)
+     */
+    public synchronized void reload() {
+        snapshot = merge(shardRouter.onEachShard(this::loadShard));
+        log.info("Katalog-Snapshot geladen: {} Rezepte, {} Zutaten, {} Texte",
+                snapshot.getRecipeCount(), snapshot.getIngredientCount(), snapshot.getStringCount());
+    }
+
+    /**
+     * Geänderte Rezepte neu lesen (jede Shard ihre) und einen neuen Snapshot einsetzen
+     */
+    public synchronized void patch(Set<Long> recipeIds) {
+        if (snapshot == null || recipeIds.isEmpty()) {
+            return;
+        }
+        List<CatalogSnapshot> changes = shardRouter.onEachShard(recipeIds, group -> {
+            CatalogSnapshot.Builder builder = new CatalogSnapshot.Builder();
+            readTransaction.executeWithoutResult(status -> load(group, builder));
+            return builder.build();
+        });
+        snapshot = snapshot.withChanges(recipeIds, merge(changes));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onRecipeChangeCommitted(RecipeChangedEvent event) {
+        patch(Set.of(event.getRecipeId()));
+    }
+
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onRemoteInvalidation(RemoteInvalidationEvent event) {
+        if (snapshot == null) {
+            return;
+        }
+        if (event.isAll()) {
+            reload();
+        } else {
+            patch(event.getRecipeIds());
+        }
+    }
+
+    // ========== Helper ==========
+
+    /**
+     * Alle Rezepte der aktuellen Shard, Keyset über die IDs
+     */
+    private CatalogSnapshot loadShard() {
+        CatalogSnapshot.Builder builder = new CatalogSnapshot.Builder();
+        long after = 0;
+        while (true) {
+            long from = after;
+            List<Long> ids = readTransaction.execute(status -> {
+                List<Long> batch = recipeRepository.findIdsAfter(from, Limit.of(batchSize));
+                if (!batch.isEmpty()) {
+                    load(batch, builder);
+                }
+                return batch;
+            });
+            if (ids.isEmpty()) {
+                break;
+            }
+            after = ids.get(ids.size() - 1);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Teil-Snapshots mit disjunkten IDs vereinen (ohne Sharding nur einer)
+     */
+    private static CatalogSnapshot merge(List<CatalogSnapshot> parts) {
+        CatalogSnapshot merged = parts.get(0);
+        for (int i = 1; i < parts.size(); i++) {
+            merged = merged.withChanges(Set.of(), parts.get(i));
+        }
+        return merged;
+    }
+
+    /**
+     * Rezepte mit Zutaten und Nährwerten in den Builder, nach ID sortiert
+     */
+    private void load(Collection<Long> recipeIds, CatalogSnapshot.Builder builder) {
+        List<Object[]> recipes = recipeRepository.findCatalogRows(recipeIds);
+        Iterator<Object[]> ingredients = ingredientRepository.findCatalogRows(recipeIds).iterator();
+        Map<Long, RecipeNutrition> nutrition = recipeNutritionRepository.findAllById(new ArrayList<>(recipeIds))
+                .stream()
+                .collect(Collectors.toMap(RecipeNutrition::getRecipeId, Function.identity()));
+
+        Object[] ingredient = ingredients.hasNext() ? ingredients.next() : null;
+        for (Object[] recipe : recipes) {
+            Long id = (Long) recipe[0];
+            builder.addRecipe(id, (String) recipe[1], (String) recipe[2],
+                    (LocalDateTime) recipe[3], (Integer) recipe[4]);
+
+            RecipeNutrition totals = nutrition.get(id);
+            if (totals != null) {
+                builder.nutrition(totals.getKcal(), totals.getProtein(), totals.getFat(),
+                        totals.getCarbohydrates(), totals.getUnmatchedIngredients());
+            }
+
+            while (ingredient != null && id.equals(ingredient[0])) {
+                builder.addIngredient((Long) ingredient[1], (String) ingredient[2],
+                        (Double) ingredient[3], (Unit) ingredient[4]);
+                ingredient = ingredients.hasNext() ? ingredients.next() : null;
+            }
+        }
+    }
+
+    private void reloadQuietly() {
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            log.warn("Neuladen des Katalog-Snapshots fehlgeschlagen", e);
+        }
+    }
+}
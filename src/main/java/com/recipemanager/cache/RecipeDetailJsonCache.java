@@ -0,0 +1,243 @@
+package com.recipemanager.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.recipemanager.event.RecipeChangedEvent;
+import com.recipemanager.service.RecipeService;
+import com.recipemanager.service.RecipeViewService;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Cache für fertig serialisierte RecipeDetailResponse-Bytes (UTF-8 JSON, optional gzip).
+ *
+ * Jeder Eintrag trägt die Version des Rezepts, mit der er geladen wurde.
+ * Ein Schreibzugriff erhöht die Version (sofort und nochmal nach dem Commit),
+ * dadurch kann ein parallel geladener, veralteter Stand nie ausgeliefert werden.
+ * Version und Bytes liegen gemeinsam in einer LRU-Map mit höchstens max-entries
+ * Einträgen; fällt ein Eintrag heraus, wird seine Version zur Untergrenze für alle
+ * Rezepte ohne Eintrag - ein vorher begonnenes Laden kann so nichts Veraltetes ablegen.
+ *
+ * Mit recipemanager.recipe-view.enabled kommen die Bytes bei einem Miss unverändert
+ * aus recipe_view; Rezepte ohne Zeile (noch nicht neu aufgebaut) über RecipeService.
+ * Mit recipemanager.detail-cache.render-in-database rendert die Datenbank das JSON
+ * (Vergleich von Latenz und CPU gegen Hibernate + Jackson).
+ */
+@Component
+public class RecipeDetailJsonCache {
+
+    @Autowired
+    private RecipeService recipeService;
+
+    @Autowired
+    private RecipeViewService recipeViewService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${recipemanager.detail-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${recipemanager.detail-cache.max-entries:10000}")
+    private int maxEntries;
+
+    @Value("${recipemanager.detail-cache.gzip-min-size:1024}")
+    private int gzipMinSize;
+
+    @Value("${recipemanager.detail-cache.render-in-database:false}")
+    private boolean renderInDatabase;
+
+    // Zugriffsreihenfolge (LRU), alle Zugriffe unter synchronized (slots)
+    private Map<Long, Slot> slots;
+    private long clock;
+    private long evictedVersion;
+
+    @PostConstruct
+    void init() {
+        slots = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Slot> eldest) {
+                if (size() <= maxEntries) {
+                    return false;
+                }
+                evictedVersion = Math.max(evictedVersion, eldest.getValue().version);
+                return true;
+            }
+        };
+    }
+
+    // ========== GET ==========
+
+    /**
+     * Fertige JSON-Bytes eines Rezepts, bei Cache-Miss aus RecipeService geladen
+     *
+     * @param id Die ID des Rezepts
+     * @return Die Bytes oder leer, wenn das Rezept nicht existiert
+     */
+    public Optional<CachedJson> get(Long id) {
+        long version;
+        synchronized (slots) {
+            Slot slot = slots.get(id);
+            if (slot != null && slot.json != null) {
+                return Optional.of(slot.json);
+            }
+            version = slot != null ? slot.version : evictedVersion;
+        }
+
+        Optional<CachedJson> loaded = recipeViewService.isServing()
+                ? recipeViewService.getJson(id).map(json -> wrap(version, json))
+                : Optional.empty();
+        if (loaded.isEmpty()) {
+            loaded = renderInDatabase
+                    ? recipeService.getRecipeDetailJson(id).map(json -> wrap(version, json))
+                    : recipeService.getRecipeById(id).map(detail -> serialize(version, detail));
+        }
+
+        if (enabled) {
+            loaded.ifPresent(json -> put(id, json));
+        }
+        return loaded;
+    }
+
+    // ========== INVALIDATE ==========
+
+    /**
+     * Sofort beim Schreiben (auch innerhalb der laufenden Transaktion)
+     */
+    @EventListener
+    public void onRecipeChanged(RecipeChangedEvent event) {
+        invalidate(event.getRecipeId());
+    }
+
+    /**
+     * Nochmal nach dem Commit: Leser, die zwischen Schreiben und Commit
+     * den alten Stand geladen haben, werden damit verworfen
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRecipeChangeCommitted(RecipeChangedEvent event) {
+        invalidate(event.getRecipeId());
+    }
+
+    public void invalidate(Long id) {
+        if (id == null) {
+            return;
+        }
+        synchronized (slots) {
+            slots.put(id, new Slot(++clock, null));
+        }
+    }
+
+    /**
+     * Alles verwerfen (z.B. wenn Invalidierungen anderer Instanzen verloren sein könnten)
+     */
+    public void invalidateAll() {
+        synchronized (slots) {
+            slots.clear();
+            evictedVersion = ++clock;
+        }
+    }
+
+    // ========== Helper ==========
+
+    private void put(Long id, CachedJson json) {
+        // Nur speichern, wenn zwischenzeitlich nicht invalidiert wurde
+        synchronized (slots) {
+            Slot slot = slots.get(id);
+            long current = slot != null ? slot.version : evictedVersion;
+            if (json.getVersion() == current) {
+                slots.put(id, new Slot(current, json));
+            }
+        }
+    }
+
+    /**
+     * Anzahl der Einträge (mit und ohne Bytes)
+     */
+    int size() {
+        synchronized (slots) {
+            return slots.size();
+        }
+    }
+
+    private CachedJson serialize(long version, Object detail) {
+        try {
+            return wrap(version, objectMapper.writeValueAsBytes(detail));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private CachedJson wrap(long version, byte[] json) {
+        byte[] gzip = json.length >= gzipMinSize ? gzip(json) : null;
+        return new CachedJson(version, json, gzip);
+    }
+
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Version eines Rezepts, mit Bytes sobald geladen
+     */
+    private static class Slot {
+
+        private final long version;
+        private final CachedJson json;
+
+        Slot(long version, CachedJson json) {
+            this.version = version;
+            this.json = json;
+        }
+    }
+
+    /**
+     * Unveränderliche, fertig serialisierte Antwort
+     */
+    public static class CachedJson {
+
+        private final long version;
+        private final byte[] json;
+        private final byte[] gzip;
+
+        CachedJson(long version, byte[] json, byte[] gzip) {
+            this.version = version;
+            this.json = json;
+            this.gzip = gzip;
+        }
+
+        public long getVersion() {
+            return version;
+        }
+
+        public byte[] getJson() {
+            return json;
+        }
+
+        /**
+         * @return gzip-komprimierte Bytes oder null bei kleinen Antworten
+         */
+        public byte[] getGzip() {
+            return gzip;
+        }
+    }
+}
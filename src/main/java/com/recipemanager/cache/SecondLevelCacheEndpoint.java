@@ -0,0 +1,76 @@
+package com.recipemanager.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Actuator-Endpoint für den Hibernate Second-Level-Cache
+ * GET /actuator/hibernatecache          -> alle Regionen + Query-Cache-Summen
+ * GET /actuator/hibernatecache/{region} -> eine Region
+ *
+ * Die Zähler als Zeitreihe liefert zusätzlich /actuator/metrics/hibernate.second.level.cache.*
+ */
+@Component
+@Endpoint(id = "hibernatecache")
+public class SecondLevelCacheEndpoint {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @ReadOperation
+    public Map<String, Object> summary() {
+        Statistics statistics = statistics();
+
+        Map<String, Object> regions = new LinkedHashMap<>();
+        for (String region : statistics.getSecondLevelCacheRegionNames()) {
+            regions.put(region, toMap(statistics.getCacheRegionStatistics(region)));
+        }
+
+        Map<String, Object> queryCache = new LinkedHashMap<>();
+        queryCache.put("hits", statistics.getQueryCacheHitCount());
+        queryCache.put("misses", statistics.getQueryCacheMissCount());
+        queryCache.put("puts", statistics.getQueryCachePutCount());
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("enabled", statistics.isStatisticsEnabled());
+        result.put("hits", statistics.getSecondLevelCacheHitCount());
+        result.put("misses", statistics.getSecondLevelCacheMissCount());
+        result.put("puts", statistics.getSecondLevelCachePutCount());
+        result.put("queryCache", queryCache);
+        result.put("regions", regions);
+        return result;
+    }
+
+    @ReadOperation
+    public Map<String, Object> region(@Selector String region) {
+        CacheRegionStatistics regionStatistics = statistics().getCacheRegionStatistics(region);
+        if (regionStatistics == null) {
+            return null;
+        }
+        return toMap(regionStatistics);
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private static Map<String, Object> toMap(CacheRegionStatistics regionStatistics) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("hits", regionStatistics.getHitCount());
+        map.put("misses", regionStatistics.getMissCount());
+        map.put("puts", regionStatistics.getPutCount());
+        map.put("elementsInMemory", regionStatistics.getElementCountInMemory());
+        return map;
+    }
+}
@@ -0,0 +1,114 @@
+package com.recipemanager.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Request-Coalescing: pro Schlüssel läuft höchstens ein Ladevorgang,
+ * gleichzeitige Aufrufer warten auf dessen Ergebnis statt selbst zu laden.
+ *
+ * Es wird nichts gecacht - sobald der Ladevorgang fertig ist, lädt der nächste
+ * Aufrufer wieder frisch. Läuft der Aufrufer in einer Transaktion, wird nicht
+ * zusammengelegt, weil er sonst eigene, noch nicht committete Änderungen nicht sehen würde.
+ * Veränderbare Werte (DTOs, Entities) bekommen eine Kopierfunktion: jeder Wartende
+ * erhält dann seine eigene Kopie statt der Instanz des Laders.
+ *
+ * Metriken: recipemanager.singleflight.loads / .collapsed (Tag name)
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final UnaryOperator<V> copy;
+    private final Counter loads;
+    private final Counter collapsed;
+
+    /**
+     * Für unveränderliche Werte: Wartende bekommen dieselbe Instanz
+     */
+    public SingleFlight(String name, MeterRegistry meterRegistry) {
+        this(name, meterRegistry, UnaryOperator.identity());
+    }
+
+    /**
+     * @param copy Kopiert den geladenen Wert für jeden Wartenden
+     */
+    public SingleFlight(String name, MeterRegistry meterRegistry, UnaryOperator<V> copy) {
+        this.copy = copy;
+        this.loads = Counter.builder("recipemanager.singleflight.loads")
+                .tag("name", name)
+                .description("Tatsächlich ausgeführte Ladevorgänge")
+                .register(meterRegistry);
+        this.collapsed = Counter.builder("recipemanager.singleflight.collapsed")
+                .tag("name", name)
+                .description("Aufrufe, die auf einen laufenden Ladevorgang gewartet haben")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Ergebnis für den Schlüssel laden oder auf den bereits laufenden Ladevorgang warten
+     *
+     * @param key    Der Schlüssel (z.B. Rezept-ID)
+     * @param loader Lädt den Wert, wird pro Flight genau einmal aufgerufen
+     * @return Der geladene Wert (bei Wartenden die Kopie davon)
+     */
+    public V load(K key, Supplier<V> loader) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            loads.increment();
+            return loader.get();
+        }
+
+        CompletableFuture<V> own = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, own);
+        if (running != null) {
+            collapsed.increment();
+            return copy.apply(await(running));
+        }
+
+        loads.increment();
+        try {
+            V value = loader.get();
+            own.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            own.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, own);
+        }
+    }
+
+    /**
+     * Laufenden Ladevorgang abkoppeln: Wer danach kommt, lädt neu.
+     * Wird nach Schreibzugriffen aufgerufen, damit niemand auf einen Stand vor dem Commit wartet.
+     */
+    public void forget(K key) {
+        inFlight.remove(key);
+    }
+
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    private static <V> V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.recipemanager.config;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.util.MimeTypeUtils;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.recipemanager.enums.Unit;
+
+/**
+ * Binäre Darstellungen der API für Service-zu-Service-Aufrufe, gewählt über den Accept-
+ * bzw. Content-Type-Header: application/cbor und application/x-jackson-smile.
+ *
+ * Beide Mapper kommen aus demselben Builder wie der JSON-Mapper (gleiche Module und
+ * Einstellungen). Zusätzlich wird Unit als Index geschrieben (1 Byte statt des Namens);
+ * gelesen werden Index und Name. Smile referenziert wiederholte Texte (Zutaten, Einheiten-
+ * namen alter Clients) zurück statt sie erneut zu schreiben.
+ *
+ * Spring Boot ersetzt mit diesen Beans die Standard-Converter an derselben Stelle, also
+ * hinter JSON: Clients ohne Accept-Header (oder mit *&#47;*) bekommen weiter JSON.
+ */
+@Configuration
+public class BinaryContentConfiguration {
+
+    public static final MediaType APPLICATION_SMILE = MediaType.valueOf("application/x-jackson-smile");
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        ObjectMapper mapper = builder.factory(new CBORFactory()).build();
+        return new MappingJackson2CborHttpMessageConverter(mapper.registerModule(compactUnitModule()));
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        SmileFactory factory = SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build();
+        ObjectMapper mapper = builder.factory(factory).build();
+        return new MappingJackson2SmileHttpMessageConverter(mapper.registerModule(compactUnitModule()));
+    }
+
+    /**
+     * Bevorzugtes Binärformat laut Accept-Header
+     *
+     * @return CBOR oder Smile, leer für JSON (auch bei fehlendem Header oder Wildcards)
+     */
+    public static Optional<MediaType> preferredBinaryType(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return Optional.empty();
+        }
+        List<MediaType> mediaTypes;
+        try {
+            mediaTypes = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return Optional.empty();
+        }
+        MimeTypeUtils.sortBySpecificity(mediaTypes);
+        for (MediaType mediaType : mediaTypes) {
+            if (mediaType.equalsTypeAndSubtype(MediaType.APPLICATION_CBOR)) {
+                return Optional.of(MediaType.APPLICATION_CBOR);
+            }
+            if (mediaType.equalsTypeAndSubtype(APPLICATION_SMILE)) {
+                return Optional.of(APPLICATION_SMILE);
+            }
+            if (mediaType.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                return Optional.empty();
+            }
+        }
+        return Optional.empty();
+    }
+
+    static SimpleModule compactUnitModule() {
+        SimpleModule module = new SimpleModule("CompactUnit");
+        module.addSerializer(Unit.class, new StdSerializer<Unit>(Unit.class) {
+            @Override
+            public void serialize(Unit unit, JsonGenerator generator, SerializerProvider provider) throws IOException {
+                generator.writeNumber(unit.ordinal());
+            }
+        });
+        return module;
+    }
+}
@@ -0,0 +1,90 @@
+package com.recipemanager.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.hibernate.jpa.boot.internal.EntityManagerFactoryBuilderImpl;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.recipemanager.sharding.ShardRoutingDataSource;
+import com.recipemanager.sharding.ShardSchemaIntegrator;
+import com.zaxxer.hikari.HikariDataSource;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * JDBC-DataSource für JPA.
+ *
+ * Spring Boot legt keine DataSource an, sobald eine R2DBC ConnectionFactory
+ * existiert (reaktive Lese-Endpoints). Beide Zugriffswege laufen parallel,
+ * daher wird die Hikari-DataSource hier explizit aus spring.datasource.* gebaut.
+ * Der JPA-TransactionManager ist primär, damit @Transactional nicht an den
+ * R2DBC-TransactionManager gerät.
+ *
+ * Mit recipemanager.sharding.urls wird daraus Shard 0 einer ShardRoutingDataSource,
+ * die weiteren Shards bekommen dieselben Zugangsdaten und Pool-Einstellungen.
+ */
+@Configuration
+@EnableConfigurationProperties(DataSourceProperties.class)
+public class DataSourceConfiguration {
+
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourceProperties properties, Environment environment,
+            @Value("${recipemanager.sharding.urls:}") List<String> shardUrls) {
+        HikariDataSource home = hikariDataSource(properties, environment, null);
+        if (shardUrls.isEmpty()) {
+            return home;
+        }
+
+        List<HikariDataSource> shards = new ArrayList<>();
+        shards.add(home);
+        for (String url : shardUrls) {
+            shards.add(hikariDataSource(properties, environment, url.trim()));
+        }
+        return new ShardRoutingDataSource(shards);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer shardSchemaCustomizer(DataSource dataSource) {
+        return properties -> {
+            if (dataSource instanceof ShardRoutingDataSource shards) {
+                properties.put(EntityManagerFactoryBuilderImpl.INTEGRATOR_PROVIDER, (IntegratorProvider)
+                        () -> List.of(new ShardSchemaIntegrator(shards.getShardCount())));
+            }
+        };
+    }
+
+    @Bean
+    @Primary
+    public PlatformTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+        return new JpaTransactionManager(entityManagerFactory);
+    }
+
+    private static HikariDataSource hikariDataSource(DataSourceProperties properties, Environment environment,
+            String url) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(dataSource));
+        if (url != null) {
+            dataSource.setJdbcUrl(url);
+            dataSource.setPoolName(null);
+        }
+        return dataSource;
+    }
+}
@@ -0,0 +1,20 @@
+package com.recipemanager.config;
+
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.recipemanager.dto.FieldSelection;
+
+/**
+ * Die Antwort-DTOs tragen @JsonFilter(FieldSelection.FILTER). Ohne diesen Standard-Filter
+ * könnte kein ObjectMapper aus dem Builder (JSON, CBOR, Smile, Detail-Cache) sie schreiben.
+ */
+@Configuration
+public class FieldSelectionConfiguration {
+
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer fieldSelectionFilterCustomizer() {
+        return builder -> builder.filters(FieldSelection.serializeAll());
+    }
+}
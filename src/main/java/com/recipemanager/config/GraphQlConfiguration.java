@@ -0,0 +1,57 @@
+package com.recipemanager.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import graphql.analysis.FieldComplexityEnvironment;
+import graphql.analysis.MaxQueryComplexityInstrumentation;
+import graphql.analysis.MaxQueryDepthInstrumentation;
+
+/**
+ * Obergrenzen für GraphQL-Anfragen, geprüft vor der Ausführung.
+ *
+ * Jedes Feld kostet 1. Listen multiplizieren die Kosten ihrer Unterfelder:
+ * recipes mit limit, ingredients mit einer geschätzten Zutatenzahl pro Rezept.
+ * Zu teure oder zu tiefe Anfragen werden ohne Datenbankzugriff abgelehnt.
+ */
+@Configuration
+public class GraphQlConfiguration {
+
+    // Schätzung für Recipe.ingredients, das tatsächliche Mittel liegt darunter
+    static final int INGREDIENTS_PER_RECIPE = 10;
+
+    // Wie der Default von recipes(limit) im Schema
+    static final int DEFAULT_LIMIT = 50;
+
+    @Bean
+    public MaxQueryComplexityInstrumentation maxQueryComplexityInstrumentation(
+            @Value("${recipemanager.graphql.max-complexity:5000}") int maxComplexity) {
+        return new MaxQueryComplexityInstrumentation(maxComplexity,
+                (environment, childComplexity) -> complexityOf(environment, childComplexity, maxComplexity));
+    }
+
+    @Bean
+    public MaxQueryDepthInstrumentation maxQueryDepthInstrumentation(
+            @Value("${recipemanager.graphql.max-depth:5}") int maxDepth) {
+        return new MaxQueryDepthInstrumentation(maxDepth);
+    }
+
+    /**
+     * Kosten eines Felds, gekappt knapp über dem Maximum: limit kommt vom Client,
+     * in int-Arithmetik könnte das Produkt überlaufen und negativ durchrutschen
+     */
+    static int complexityOf(FieldComplexityEnvironment environment, int childComplexity, int maxComplexity) {
+        long cost = switch (environment.getField().getName()) {
+            case "recipes" -> 1 + (long) childComplexity * limitOf(environment);
+            case "ingredients" -> 1 + (long) childComplexity * INGREDIENTS_PER_RECIPE;
+            default -> 1 + (long) childComplexity;
+        };
+        return (int) Math.min(cost, Math.min(maxComplexity + 1L, Integer.MAX_VALUE));
+    }
+
+    private static int limitOf(FieldComplexityEnvironment environment) {
+        Object limit = environment.getArguments().get("limit");
+        return limit instanceof Number number ? Math.max(1, number.intValue()) : DEFAULT_LIMIT;
+    }
+}
@@ -0,0 +1,97 @@
+package com.recipemanager.config;
+
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+import com.recipemanager.dto.ImportItemError;
+import com.recipemanager.dto.ImportJobResponse;
+import com.recipemanager.dto.IngredientRequest;
+import com.recipemanager.dto.IngredientResponse;
+import com.recipemanager.dto.IngredientUpsertResponse;
+import com.recipemanager.dto.NutrientsResponse;
+import com.recipemanager.dto.NutritionResponse;
+import com.recipemanager.dto.RecipeChangeNotification;
+import com.recipemanager.dto.RecipeChangeResponse;
+import com.recipemanager.dto.RecipeChangesResponse;
+import com.recipemanager.dto.RecipeDetailResponse;
+import com.recipemanager.dto.RecipeRequest;
+import com.recipemanager.dto.RecipeResponse;
+import com.recipemanager.dto.SimilarRecipeResponse;
+import com.recipemanager.enums.ChangeType;
+import com.recipemanager.enums.DuplicateMode;
+import com.recipemanager.enums.JobStatus;
+import com.recipemanager.enums.RecipeSort;
+import com.recipemanager.enums.Unit;
+import com.recipemanager.model.CacheInvalidation;
+import com.recipemanager.model.ChangeFeedClock;
+import com.recipemanager.model.Ingredient;
+import com.recipemanager.model.NutritionReference;
+import com.recipemanager.model.Recipe;
+import com.recipemanager.model.RecipeChange;
+import com.recipemanager.model.RecipeNutrition;
+import com.recipemanager.model.RecipeView;
+
+/**
+ * Reflection-/Serialization-Hints für das GraalVM Native Image.
+ * Im JVM-Betrieb wirkungslos.
+ *
+ * RecipeManagerRuntimeHintsTest prüft, dass jede Entity, jedes DTO und jedes Enum hier steht.
+ */
+public class RecipeManagerRuntimeHints implements RuntimeHintsRegistrar {
+
+    static final Class<?>[] ENTITIES = {
+            Recipe.class, Ingredient.class, RecipeNutrition.class, NutritionReference.class,
+            RecipeChange.class, ChangeFeedClock.class, CacheInvalidation.class, RecipeView.class };
+
+    static final Class<?>[] DTOS = {
+            RecipeRequest.class, IngredientRequest.class, RecipeResponse.class, RecipeDetailResponse.class,
+            IngredientResponse.class, NutritionResponse.class, NutrientsResponse.class,
+            IngredientUpsertResponse.class, RecipeChangeResponse.class, RecipeChangesResponse.class,
+            RecipeChangeNotification.class, SimilarRecipeResponse.class, ImportJobResponse.class,
+            ImportItemError.class };
+
+    static final Class<?>[] ENUMS = {
+            Unit.class, ChangeType.class, DuplicateMode.class, JobStatus.class, RecipeSort.class };
+
+    private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        // JPA-Entities: Hibernate liest/schreibt Felder und instanziiert per Reflection
+        for (Class<?> entity : ENTITIES) {
+            hints.reflection().registerType(entity,
+                    MemberCategory.DECLARED_FIELDS,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+
+        // DTOs + Entities (POST/PUT liefern Recipe direkt aus): Jackson (De-)Serialisierung
+        bindingRegistrar.registerReflectionHints(hints.reflection(), DTOS);
+        bindingRegistrar.registerReflectionHints(hints.reflection(), Recipe.class, Ingredient.class);
+
+        // Enums: Jackson (values/valueOf), Request-Parameter + Java-Serialisierung
+        for (Class<?> type : ENUMS) {
+            hints.reflection().registerType(type,
+                    MemberCategory.PUBLIC_FIELDS,
+                    MemberCategory.INVOKE_PUBLIC_METHODS);
+            hints.serialization().registerType(TypeReference.of(type));
+        }
+
+        // Second-Level-Cache: Hibernate wählt die RegionFactory ("jcache") und JCache den
+        // Provider per Klassenname, Ehcache validiert ehcache.xml gegen seine Schemas
+        hints.reflection().registerType(JCacheRegionFactory.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        hints.reflection().registerType(EhcacheCachingProvider.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        hints.resources().registerPattern("ehcache-*.xsd");
+        hints.resources().registerPattern("META-INF/services/org.ehcache.*");
+        hints.resources().registerPattern("META-INF/services/javax.cache.spi.CachingProvider");
+
+        // Classpath-Dateien, die zur Laufzeit gelesen werden
+        hints.resources().registerPattern("ehcache.xml");
+        hints.resources().registerPattern("nutrition-reference.csv");
+    }
+}
@@ -0,0 +1,41 @@
+package com.recipemanager.config;
+
+import java.net.URI;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.ehcache.xml.XmlConfiguration;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * JCache-CacheManager für den Hibernate Second-Level-Cache (Regionen in ehcache.xml).
+ *
+ * JCache teilt CacheManager pro URI + ClassLoader über die ganze JVM. Jeder
+ * ApplicationContext bekommt hier seinen eigenen, der mit dem Context geschlossen wird -
+ * sonst überleben Einträge einen Neuaufbau des Schemas (Tests mit mehreren Contexts).
+ */
+@Configuration
+public class SecondLevelCacheConfiguration {
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(ApplicationContext applicationContext) {
+        EhcacheCachingProvider provider = (EhcacheCachingProvider) Caching
+                .getCachingProvider(EhcacheCachingProvider.class.getName());
+        URI uri = URI.create("urn:recipemanager:hibernate:" + ObjectUtils.getIdentityHexString(applicationContext));
+        XmlConfiguration configuration = new XmlConfiguration(
+                SecondLevelCacheConfiguration.class.getResource("/ehcache.xml"));
+        return provider.getCacheManager(uri, configuration);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+}
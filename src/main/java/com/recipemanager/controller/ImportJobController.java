@@ -0,0 +1,93 @@
+package com.recipemanager.controller;
+
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.recipemanager.dto.ImportJobResponse;
+import com.recipemanager.dto.RecipeRequest;
+import com.recipemanager.jobs.ImportJob;
+import com.recipemanager.jobs.ImportJobService;
+
+@RestController
+@RequestMapping("/api/jobs")
+public class ImportJobController {
+
+    @Autowired
+    private ImportJobService importJobService;
+
+    // ========== CREATE ==========
+
+    /**
+     * Rezepte asynchron importieren
+     * POST /api/jobs/imports
+     *
+     * Validiert wird pro Eintrag im Job: ungültige Rezepte landen in den Fehlern des
+     * Jobs, statt den ganzen Import abzulehnen.
+     *
+     * @param requests Die Rezepte mit Zutaten
+     * @return Der Job mit Status 202 Accepted und Location, 400 bei leerem/zu großem
+     *         Payload, 429 wenn schon zu viele Imports laufen
+     */
+    @PostMapping("/imports")
+    public ResponseEntity<ImportJobResponse> submitImport(@RequestBody List<RecipeRequest> requests) {
+        try {
+            ImportJob job = importJobService.submit(requests);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/jobs/" + job.getId()))
+                    .body(job.toResponse());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, "60")
+                    .build();
+        }
+    }
+
+    // ========== GET ==========
+
+    /**
+     * Fortschritt eines Imports
+     * GET /api/jobs/{id}
+     *
+     * @param id Die ID des Jobs
+     * @return Status, Zähler, Durchsatz und Fehler pro Eintrag oder 404
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<ImportJobResponse> getJob(@PathVariable String id) {
+        return importJobService.getJob(id)
+                .map(job -> ResponseEntity.ok(job.toResponse()))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    // ========== DELETE ==========
+
+    /**
+     * Import abbrechen (laufende Jobs nach dem aktuellen Chunk)
+     * DELETE /api/jobs/{id}
+     *
+     * @param id Die ID des Jobs
+     * @return Der Job mit Status 202 Accepted oder 404
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<ImportJobResponse> cancelJob(@PathVariable String id) {
+        try {
+            return ResponseEntity.accepted().body(importJobService.cancel(id).toResponse());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+}
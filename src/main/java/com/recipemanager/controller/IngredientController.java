@@ -4,8 +4,10 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -13,11 +15,15 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.recipemanager.dto.FieldSelection;
 import com.recipemanager.dto.IngredientRequest;
 import com.recipemanager.dto.IngredientResponse;
+import com.recipemanager.dto.IngredientUpsertResponse;
 import com.recipemanager.model.Ingredient;
+import com.recipemanager.service.DuplicateRecipeException;
 import com.recipemanager.service.IngredientService;
 
 import jakarta.validation.Valid;
@@ -33,14 +39,27 @@ public class IngredientController {
 
     /**
      * Alle Zutaten eines Rezepts abrufen
-     * GET /api/recipes/5/ingredients
+     * GET /api/recipes/5/ingredients?fields=title
      * 
      * @param recipeId Die ID des Rezepts
-     * @return Array von IngredientResponse
+     * @param fields   Optional: nur diese Felder lesen und ausgeben (id, title, amount, unit)
+     * @return Array von IngredientResponse, 400 bei unbekannten Feldern
      */
     @GetMapping
-    public ResponseEntity<List<IngredientResponse>> getIngredientsByRecipe(
-            @PathVariable Long recipeId) {
+    public ResponseEntity<MappingJacksonValue> getIngredientsByRecipe(
+            @PathVariable Long recipeId,
+            @RequestParam(required = false) String fields) {
+        FieldSelection selection;
+        try {
+            selection = FieldSelection.parse(fields, IngredientResponse.FIELDS);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (!selection.isAll()) {
+            return ResponseEntity.ok(selection.apply(
+                    ingredientService.getIngredientResponses(recipeId, selection)));
+        }
+
         List<Ingredient> ingredients = ingredientService.getIngredientsByRecipeId(recipeId);
 
         List<IngredientResponse> responses = ingredients.stream()
@@ -51,7 +70,7 @@ public class IngredientController {
                         ing.getUnit()))
                 .collect(Collectors.toList());
 
-        return ResponseEntity.ok(responses);
+        return ResponseEntity.ok(selection.apply(responses));
     }
 
     // ========== CREATE ==========
@@ -81,6 +100,33 @@ public class IngredientController {
             return ResponseEntity.status(HttpStatus.CREATED).body(response);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.notFound().build();
+        } catch (DuplicateRecipeException e) {
+            // Rezept wäre danach eine Dublette eines anderen
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (DataIntegrityViolationException e) {
+            // Zutat mit diesem Titel gibt es im Rezept schon (uk_ingredients_recipe_id_title)
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    /**
+     * Mehrere Zutaten per Titel einfügen oder aktualisieren (ein Statement)
+     * POST /api/recipes/5/ingredients/upsert
+     * 
+     * @param recipeId Die ID des Rezepts
+     * @param requests Die Zutaten, bestehende werden über den Titel gefunden
+     * @return Anzahl neuer und geänderter Zutaten oder 404
+     */
+    @PostMapping("/upsert")
+    public ResponseEntity<IngredientUpsertResponse> upsertIngredients(
+            @PathVariable Long recipeId,
+            @RequestBody List<@Valid IngredientRequest> requests) {
+        try {
+            return ResponseEntity.ok(ingredientService.upsertIngredients(recipeId, requests));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        } catch (DuplicateRecipeException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         }
     }
 
@@ -113,6 +159,8 @@ public class IngredientController {
             return ResponseEntity.ok(response);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.notFound().build();
+        } catch (DuplicateRecipeException | DataIntegrityViolationException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         }
     }
 
@@ -135,6 +183,8 @@ public class IngredientController {
             return ResponseEntity.noContent().build();
         } catch (IllegalArgumentException e) {
             return ResponseEntity.notFound().build();
+        } catch (DuplicateRecipeException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         }
     }
 }
\ No newline at end of file
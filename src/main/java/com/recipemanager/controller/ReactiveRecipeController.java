@@ -0,0 +1,61 @@
+package com.recipemanager.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.recipemanager.dto.RecipeDetailResponse;
+import com.recipemanager.dto.RecipeResponse;
+import com.recipemanager.repository.ReactiveRecipeReadRepository;
+import com.recipemanager.sharding.ShardDatabaseClients;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Nicht-blockierende Variante der Lese-Endpoints.
+ * Läuft als async Request im Servlet-Stack: der Tomcat-Thread wird während
+ * der Datenbankabfrage freigegeben, Schreibzugriffe bleiben bei RecipeController.
+ * Mit Sharding über eine R2DBC-Verbindung pro Shard (recipemanager.sharding.r2dbc-urls),
+ * ohne diese URLs antworten die Endpoints mit 501.
+ */
+@RestController
+@RequestMapping("/api/reactive/recipes")
+public class ReactiveRecipeController {
+
+    @Autowired
+    private ReactiveRecipeReadRepository reactiveRecipeReadRepository;
+
+    @Autowired
+    private ShardDatabaseClients shardDatabaseClients;
+
+    // GET /api/reactive/recipes (NDJSON: ein RecipeResponse pro Zeile, gestreamt)
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<RecipeResponse> streamAllRecipes() {
+        if (!shardDatabaseClients.isAvailable()) {
+            return Flux.error(shardsUnavailable());
+        }
+        return reactiveRecipeReadRepository.findAll();
+    }
+
+    // GET /api/reactive/recipes/{id}
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<RecipeDetailResponse>> getRecipeById(@PathVariable Long id) {
+        if (!shardDatabaseClients.isAvailable()) {
+            return Mono.error(shardsUnavailable());
+        }
+        return reactiveRecipeReadRepository.findDetailById(id)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    private static ResponseStatusException shardsUnavailable() {
+        return new ResponseStatusException(HttpStatus.NOT_IMPLEMENTED, "Reaktive Endpoints ohne recipemanager.sharding.r2dbc-urls");
+    }
+}
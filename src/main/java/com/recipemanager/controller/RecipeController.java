@@ -1,26 +1,51 @@
 package com.recipemanager.controller;
 
+import java.net.URI;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.recipemanager.cache.RecipeDetailJsonCache;
+import com.recipemanager.cache.RecipeDetailJsonCache.CachedJson;
+import com.recipemanager.config.BinaryContentConfiguration;
+import com.recipemanager.dto.FieldSelection;
+import com.recipemanager.dto.RecipeChangesResponse;
+import com.recipemanager.dto.RecipeDetailResponse;
+import com.recipemanager.dto.RecipeListFilter;
 import com.recipemanager.dto.RecipeRequest;
 import com.recipemanager.dto.RecipeResponse;
-import com.recipemanager.dto.RecipeDetailResponse;
+import com.recipemanager.dto.SimilarRecipeResponse;
+import com.recipemanager.enums.DuplicateMode;
+import com.recipemanager.enums.RecipeSort;
 import com.recipemanager.model.Recipe;
+import com.recipemanager.service.ChangeFeedService;
+import com.recipemanager.service.DuplicateRecipeException;
 import com.recipemanager.service.RecipeService;
+import com.recipemanager.similarity.SimilarRecipeService;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
 
 @RestController
 @RequestMapping("/api/recipes")
@@ -29,26 +54,145 @@ public class RecipeController {
     @Autowired
     private RecipeService recipeService;
 
-    // GET /api/recipes
+    @Autowired
+    private RecipeDetailJsonCache recipeDetailJsonCache;
+
+    @Autowired
+    private ChangeFeedService changeFeedService;
+
+    @Autowired
+    private SimilarRecipeService similarRecipeService;
+
+    @Value("${recipemanager.duplicates.mode:REJECT}")
+    private DuplicateMode duplicateMode;
+
+    // GET /api/recipes?sort=title&direction=desc&titlePrefix=Pa&createdFrom=2024-01-01&createdTo=2024-12-31&ingredient=Ei&limit=50&fields=id,title
+    // Filter und Sortierung laufen in der Datenbank (siehe RecipeSpecifications),
+    // fields wählt die gelesenen Spalten und die Felder der Antwort
     @GetMapping
-    public ResponseEntity<List<RecipeResponse>> getAllRecipes() {
-        List<RecipeResponse> recipes = recipeService.getAllRecipes();
-        return ResponseEntity.ok(recipes);
+    public ResponseEntity<MappingJacksonValue> getAllRecipes(
+            @RequestParam(defaultValue = "createdAt") String sort,
+            @RequestParam(defaultValue = "asc") String direction,
+            @RequestParam(required = false) String titlePrefix,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate createdTo,
+            @RequestParam(required = false) String ingredient,
+            @RequestParam(required = false) @Positive Integer limit,
+            @RequestParam(required = false) String fields) {
+        RecipeListFilter filter = new RecipeListFilter();
+        try {
+            filter.setSort(RecipeSort.fromParameter(sort));
+            filter.setFields(FieldSelection.parse(fields, RecipeResponse.FIELDS));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (!direction.equalsIgnoreCase("asc") && !direction.equalsIgnoreCase("desc")) {
+            return ResponseEntity.badRequest().build();
+        }
+        filter.setDescending(direction.equalsIgnoreCase("desc"));
+        filter.setTitlePrefix(titlePrefix);
+        filter.setCreatedFrom(createdFrom);
+        filter.setCreatedTo(createdTo);
+        filter.setIngredient(ingredient);
+        filter.setLimit(limit);
+
+        List<RecipeResponse> recipes = recipeService.getRecipes(filter);
+        return ResponseEntity.ok(filter.getFields().apply(recipes));
     }
 
-    // GET /api/recipes/{id}
+    // GET /api/recipes/changes?since=42&limit=500 (mit Sharding since=0:42,1:17,2:5)
+    // Nur Rezepte, die nach dem Cursor geändert/gelöscht wurden
+    @GetMapping("/changes")
+    public ResponseEntity<RecipeChangesResponse> getChanges(
+            @RequestParam(defaultValue = "0") String since,
+            @RequestParam(defaultValue = "500") int limit) {
+        try {
+            return ResponseEntity.ok(changeFeedService.getChangesSince(since, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // GET /api/recipes/{id}?fields=title,ingredients.title
+    // JSON kommt als fertige Bytes aus dem RecipeDetailJsonCache,
+    // CBOR/Smile (Accept: application/cbor, application/x-jackson-smile) über die Converter.
+    // Mit fields nur die gewählten Spalten/Zutaten, am Detail-Cache vorbei
     @GetMapping("/{id}")
-    public ResponseEntity<RecipeDetailResponse> getRecipeById(@PathVariable Long id) {
-        return recipeService.getRecipeById(id)
+    public ResponseEntity<?> getRecipeById(
+            @PathVariable Long id,
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        FieldSelection selection;
+        try {
+            selection = FieldSelection.parse(fields, RecipeDetailResponse.FIELDS);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (!selection.isAll()) {
+            return recipeService.getRecipeById(id, selection)
+                    .<ResponseEntity<?>>map(detail -> ResponseEntity.ok()
+                            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                            .body(selection.apply(detail)))
+                    .orElse(ResponseEntity.notFound().build());
+        }
+
+        Optional<MediaType> binaryType = BinaryContentConfiguration.preferredBinaryType(accept);
+        if (binaryType.isPresent()) {
+            return recipeService.getRecipeById(id)
+                    .<ResponseEntity<?>>map(detail -> ResponseEntity.ok()
+                            .contentType(binaryType.get())
+                            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                            .body(detail))
+                    .orElse(ResponseEntity.notFound().build());
+        }
+        return recipeDetailJsonCache.get(id)
+                .<ResponseEntity<?>>map(json -> toJsonResponse(json, acceptEncoding))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    // GET /api/recipes/{id}/similar?limit=10
+    // Ähnlichste Rezepte nach Zutaten (Jaccard), Kandidaten aus dem MinHash/LSH-Index
+    // 501, wenn abgeschaltet, 503, solange der Index nach dem Start noch aufgebaut wird
+    @GetMapping("/{id}/similar")
+    public ResponseEntity<List<SimilarRecipeResponse>> getSimilarRecipes(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "10") @Positive @Max(100) int limit) {
+        if (!similarRecipeService.isEnabled()) {
+            return ResponseEntity.status(HttpStatus.NOT_IMPLEMENTED).build();
+        }
+        if (!similarRecipeService.isReady()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        return similarRecipeService.findSimilar(id, limit)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
 
-    // POST /api/recipes
+    // POST /api/recipes?onDuplicate=REJECT|RETURN_EXISTING
+    // Dubletten (gleicher Titel + gleiche Zutaten): 409 mit Location des vorhandenen Rezepts
+    // oder 200 mit dem vorhandenen Rezept, Standard aus recipemanager.duplicates.mode
     @PostMapping
-    public ResponseEntity<Recipe> createRecipe(@Valid @RequestBody RecipeRequest request) {
-        Recipe recipe = recipeService.createRecipe(request);
-        return ResponseEntity.status(HttpStatus.CREATED).body(recipe);
+    public ResponseEntity<Recipe> createRecipe(
+            @Valid @RequestBody RecipeRequest request,
+            @RequestParam(required = false) DuplicateMode onDuplicate) {
+        try {
+            Recipe recipe = recipeService.createRecipe(request);
+            return ResponseEntity.status(HttpStatus.CREATED).body(recipe);
+        } catch (DuplicateRecipeException e) {
+            Long existingId = e.getExistingId() != null ? e.getExistingId()
+                    : recipeService.findDuplicate(request).orElseThrow(() -> e);
+            DuplicateMode mode = onDuplicate != null ? onDuplicate : duplicateMode;
+            if (mode == DuplicateMode.RETURN_EXISTING) {
+                return recipeService.findRecipe(existingId)
+                        .map(existing -> ResponseEntity.ok().location(locationOf(existingId)).body(existing))
+                        .orElseThrow(() -> e);
+            }
+            return ResponseEntity.status(HttpStatus.CONFLICT).location(locationOf(existingId)).build();
+        } catch (DataIntegrityViolationException e) {
+            // Zutat doppelt im Request (uk_ingredients_recipe_id_title)
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
     }
 
     // PUT /api/recipes/{id}
@@ -61,6 +205,10 @@ public class RecipeController {
             return ResponseEntity.ok(recipe);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.notFound().build();
+        } catch (DuplicateRecipeException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).location(locationOf(e.getExistingId())).build();
+        } catch (DataIntegrityViolationException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         }
     }
 
@@ -70,4 +218,54 @@ public class RecipeController {
         recipeService.deleteRecipe(id);
         return ResponseEntity.noContent().build();
     }
+
+    // ========== Helper ==========
+
+    private static URI locationOf(Long recipeId) {
+        return URI.create("/api/recipes/" + recipeId);
+    }
+
+    private ResponseEntity<byte[]> toJsonResponse(CachedJson json, String acceptEncoding) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING);
+
+        if (json.getGzip() != null && acceptsGzip(acceptEncoding)) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(json.getGzip());
+        }
+        return response.body(json.getJson());
+    }
+
+    /**
+     * gzip erlaubt, wenn gzip (sonst *) mit q > 0 genannt ist - "gzip;q=0" schließt es aus
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzip = null;
+        Double wildcard = null;
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.trim().split(";");
+            double q = 1.0;
+            for (int i = 1; i < tokens.length; i++) {
+                String param = tokens[i].trim();
+                if (param.regionMatches(true, 0, "q=", 0, 2)) {
+                    try {
+                        q = Double.parseDouble(param.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        q = 0.0;
+                    }
+                }
+            }
+            String coding = tokens[0].trim();
+            if (coding.equalsIgnoreCase("gzip") || coding.equalsIgnoreCase("x-gzip")) {
+                gzip = q;
+            } else if (coding.equals("*")) {
+                wildcard = q;
+            }
+        }
+        Double q = gzip != null ? gzip : wildcard;
+        return q != null && q > 0;
+    }
 }
@@ -0,0 +1,44 @@
+package com.recipemanager.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.recipemanager.event.RecipeChangeBroadcaster;
+
+@RestController
+@RequestMapping("/api/recipes/events")
+public class RecipeEventController {
+
+    @Autowired
+    private RecipeChangeBroadcaster recipeChangeBroadcaster;
+
+    @Value("${recipemanager.sse.timeout-millis:1800000}")
+    private long timeoutMillis;
+
+    // ========== GET ==========
+
+    /**
+     * Änderungen an Rezepten und Zutaten als Server-Sent Events
+     * GET /api/recipes/events
+     * GET /api/recipes/events?recipeId=5
+     *
+     * @param recipeId Optional: nur Events dieses Rezepts
+     * @return Event-Stream oder 503, wenn zu viele Clients verbunden sind
+     */
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> subscribe(@RequestParam(required = false) Long recipeId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        if (!recipeChangeBroadcaster.register(emitter, recipeId)) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        return ResponseEntity.ok(emitter);
+    }
+}
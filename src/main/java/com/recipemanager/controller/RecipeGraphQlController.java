@@ -0,0 +1,95 @@
+package com.recipemanager.controller;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
+import org.springframework.graphql.data.method.annotation.GraphQlExceptionHandler;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.graphql.execution.ErrorType;
+import org.springframework.stereotype.Controller;
+
+import com.recipemanager.dto.IngredientResponse;
+import com.recipemanager.dto.RecipeListFilter;
+import com.recipemanager.dto.RecipeResponse;
+import com.recipemanager.service.IngredientService;
+import com.recipemanager.service.RecipeService;
+
+import graphql.GraphQLError;
+
+/**
+ * GraphQL über Rezepte und Zutaten (Schema in graphql/recipes.graphqls)
+ *
+ * Die Queries liefern RecipeResponse (Spalten aus recipes). description und
+ * ingredients laufen über @BatchMapping: Spring legt dafür pro Anfrage einen
+ * DataLoader an, alle Rezepte der Antwort werden mit einer IN-Abfrage geladen.
+ */
+@Controller
+public class RecipeGraphQlController {
+
+    @Autowired
+    private RecipeService recipeService;
+
+    @Autowired
+    private IngredientService ingredientService;
+
+    // ========== QUERY ==========
+
+    @QueryMapping
+    public List<RecipeResponse> recipes(@Argument int limit, @Argument String titlePrefix,
+            @Argument String ingredient) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit muss positiv sein: " + limit);
+        }
+        RecipeListFilter filter = new RecipeListFilter();
+        filter.setLimit(limit);
+        filter.setTitlePrefix(titlePrefix);
+        filter.setIngredient(ingredient);
+        return recipeService.getRecipes(filter);
+    }
+
+    @QueryMapping
+    public RecipeResponse recipe(@Argument Long id) {
+        return recipeService.getRecipeSummary(id).orElse(null);
+    }
+
+    // ========== BATCH ==========
+
+    // Map statt Liste: Rezepte ohne Beschreibung fehlen darin (Listen dürfen kein null enthalten)
+    @BatchMapping(typeName = "Recipe")
+    public Map<RecipeResponse, String> description(List<RecipeResponse> recipes) {
+        Map<Long, String> descriptions = recipeService.getDescriptions(idsOf(recipes));
+        Map<RecipeResponse, String> byRecipe = new IdentityHashMap<>();
+        for (RecipeResponse recipe : recipes) {
+            String description = descriptions.get(recipe.getId());
+            if (description != null) {
+                byRecipe.put(recipe, description);
+            }
+        }
+        return byRecipe;
+    }
+
+    @BatchMapping(typeName = "Recipe")
+    public List<List<IngredientResponse>> ingredients(List<RecipeResponse> recipes) {
+        Map<Long, List<IngredientResponse>> ingredients =
+                ingredientService.getIngredientResponsesByRecipeIds(idsOf(recipes));
+        return recipes.stream()
+                .map(recipe -> ingredients.getOrDefault(recipe.getId(), List.of()))
+                .toList();
+    }
+
+    @GraphQlExceptionHandler
+    public GraphQLError handleInvalidArgument(IllegalArgumentException e) {
+        return GraphQLError.newError()
+                .errorType(ErrorType.BAD_REQUEST)
+                .message(e.getMessage())
+                .build();
+    }
+
+    private static List<Long> idsOf(List<RecipeResponse> recipes) {
+        return recipes.stream().map(RecipeResponse::getId).distinct().toList();
+    }
+}
@@ -0,0 +1,161 @@
+package com.recipemanager.dto;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.springframework.http.converter.json.MappingJacksonValue;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+
+/**
+ * Vom Client gewählte Felder (?fields=id,title,ingredients.title), leer = alle.
+ *
+ * Steuert die Projektion in SQL (nur angefragte Spalten, Zutaten nur bei Bedarf) und die
+ * Serialisierung: die Antwort-DTOs tragen @JsonFilter(FILTER), der Filter prüft den Pfad
+ * jeder Property gegen die Auswahl. Ein Objekt-Feld ("ingredients") wählt alle Unterfelder,
+ * ein Unterfeld ("ingredients.title") wählt sein Objekt mit.
+ */
+public class FieldSelection {
+
+    public static final String FILTER = "fieldSelection";
+
+    public static final FieldSelection ALL = new FieldSelection(null);
+
+    // null = alle Felder
+    private final Set<String> paths;
+
+    private FieldSelection(Set<String> paths) {
+        this.paths = paths;
+    }
+
+    /**
+     * @param fields  Kommagetrennte Feld-Pfade, null oder leer = alle
+     * @param allowed Gültige Pfade des Endpunkts
+     * @throws IllegalArgumentException bei unbekannten Feldern
+     */
+    public static FieldSelection parse(String fields, Set<String> allowed) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        Set<String> paths = new LinkedHashSet<>();
+        for (String field : fields.split(",")) {
+            String path = field.trim();
+            if (path.isEmpty()) {
+                continue;
+            }
+            if (!allowed.contains(path)) {
+                throw new IllegalArgumentException("Unbekanntes Feld: " + path);
+            }
+            paths.add(path);
+        }
+        return paths.isEmpty() ? ALL : new FieldSelection(Collections.unmodifiableSet(paths));
+    }
+
+    public boolean isAll() {
+        return paths == null;
+    }
+
+    /**
+     * Gehört das Feld (Pfad mit Punkten) zur Antwort?
+     */
+    public boolean includes(String path) {
+        if (paths == null) {
+            return true;
+        }
+        for (String selected : paths) {
+            if (selected.equals(path) || path.startsWith(selected + ".") || selected.startsWith(path + ".")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Diese Auswahl plus ein weiteres Feld
+     */
+    public FieldSelection plus(String path) {
+        if (includes(path)) {
+            return this;
+        }
+        Set<String> extended = new LinkedHashSet<>(paths);
+        extended.add(path);
+        return new FieldSelection(Collections.unmodifiableSet(extended));
+    }
+
+    /**
+     * Auswahl unterhalb eines Objekt-Felds ("ingredients.title" -> "title")
+     */
+    public FieldSelection nested(String field) {
+        if (paths == null || paths.contains(field)) {
+            return ALL;
+        }
+        String prefix = field + ".";
+        Set<String> nested = new LinkedHashSet<>();
+        for (String path : paths) {
+            if (path.startsWith(prefix)) {
+                nested.add(path.substring(prefix.length()));
+            }
+        }
+        return new FieldSelection(Collections.unmodifiableSet(nested));
+    }
+
+    /**
+     * Antwort mit dieser Auswahl als Jackson-Filter (JSON, CBOR und Smile)
+     */
+    public MappingJacksonValue apply(Object body) {
+        MappingJacksonValue value = new MappingJacksonValue(body);
+        value.setFilters(new SimpleFilterProvider().addFilter(FILTER, new PathFilter(this)));
+        return value;
+    }
+
+    /**
+     * Standard für alle ObjectMapper: ohne Auswahl werden alle Felder geschrieben
+     */
+    public static FilterProvider serializeAll() {
+        return new SimpleFilterProvider().addFilter(FILTER, SimpleBeanPropertyFilter.serializeAll());
+    }
+
+    /**
+     * Pfad der Property aus dem Schreib-Kontext: Namen der umgebenden Objekt-Felder,
+     * Arrays werden übersprungen (ingredients[3].title -> ingredients.title)
+     */
+    private static final class PathFilter extends SimpleBeanPropertyFilter {
+
+        private final FieldSelection selection;
+
+        private PathFilter(FieldSelection selection) {
+            this.selection = selection;
+        }
+
+        @Override
+        public void serializeAsField(Object pojo, JsonGenerator generator, SerializerProvider provider,
+                PropertyWriter writer) throws Exception {
+            if (selection.includes(pathOf(generator, writer.getName()))) {
+                writer.serializeAsField(pojo, generator, provider);
+            } else if (!generator.canOmitFields()) {
+                writer.serializeAsOmittedField(pojo, generator, provider);
+            }
+        }
+
+        private static String pathOf(JsonGenerator generator, String name) {
+            Deque<String> names = new ArrayDeque<>();
+            names.push(name);
+            for (JsonStreamContext context = generator.getOutputContext().getParent(); context != null;
+                    context = context.getParent()) {
+                if (context.inObject() && context.getCurrentName() != null) {
+                    names.push(context.getCurrentName());
+                }
+            }
+            return String.join(".", names);
+        }
+    }
+}
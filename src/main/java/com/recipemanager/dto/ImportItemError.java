@@ -0,0 +1,42 @@
+package com.recipemanager.dto;
+
+/**
+ * Ein nicht importiertes Rezept: Position im Payload und Grund
+ */
+public class ImportItemError {
+
+    private int index;
+    private String title;
+    private String message;
+
+    public ImportItemError(int index, String title, String message) {
+        this.index = index;
+        this.title = title;
+        this.message = message;
+    }
+
+    // Getter/Setter
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
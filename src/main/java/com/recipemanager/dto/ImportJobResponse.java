@@ -0,0 +1,137 @@
+package com.recipemanager.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.recipemanager.enums.JobStatus;
+
+public class ImportJobResponse {
+
+    private String id;
+    private JobStatus status;
+    private boolean cancelRequested;
+    private int total;
+    private int processed;
+    private int succeeded;
+    private int failed;
+    private double itemsPerSecond;
+    private LocalDateTime submittedAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private List<ImportItemError> errors; // höchstens max-errors Einträge, failed zählt alle
+
+    public ImportJobResponse(String id, JobStatus status, boolean cancelRequested, int total,
+            int processed, int succeeded, int failed, double itemsPerSecond,
+            LocalDateTime submittedAt, LocalDateTime startedAt, LocalDateTime finishedAt,
+            List<ImportItemError> errors) {
+        this.id = id;
+        this.status = status;
+        this.cancelRequested = cancelRequested;
+        this.total = total;
+        this.processed = processed;
+        this.succeeded = succeeded;
+        this.failed = failed;
+        this.itemsPerSecond = itemsPerSecond;
+        this.submittedAt = submittedAt;
+        this.startedAt = startedAt;
+        this.finishedAt = finishedAt;
+        this.errors = errors;
+    }
+
+    // Getter/Setter
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public JobStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(JobStatus status) {
+        this.status = status;
+    }
+
+    public boolean isCancelRequested() {
+        return cancelRequested;
+    }
+
+    public void setCancelRequested(boolean cancelRequested) {
+        this.cancelRequested = cancelRequested;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public void setTotal(int total) {
+        this.total = total;
+    }
+
+    public int getProcessed() {
+        return processed;
+    }
+
+    public void setProcessed(int processed) {
+        this.processed = processed;
+    }
+
+    public int getSucceeded() {
+        return succeeded;
+    }
+
+    public void setSucceeded(int succeeded) {
+        this.succeeded = succeeded;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public double getItemsPerSecond() {
+        return itemsPerSecond;
+    }
+
+    public void setItemsPerSecond(double itemsPerSecond) {
+        this.itemsPerSecond = itemsPerSecond;
+    }
+
+    public LocalDateTime getSubmittedAt() {
+        return submittedAt;
+    }
+
+    public void setSubmittedAt(LocalDateTime submittedAt) {
+        this.submittedAt = submittedAt;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(LocalDateTime finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+
+    public List<ImportItemError> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<ImportItemError> errors) {
+        this.errors = errors;
+    }
+}
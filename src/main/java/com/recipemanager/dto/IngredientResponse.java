@@ -1,14 +1,25 @@
 package com.recipemanager.dto;
 
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
 import com.recipemanager.enums.Unit;
 
+@JsonFilter(FieldSelection.FILTER)
 public class IngredientResponse {
 
+    /** Gültige Werte für ?fields= */
+    public static final Set<String> FIELDS = Set.of("id", "title", "amount", "unit");
+
     private Long id;
     private String title;
     private Double amount;
     private Unit unit;
 
+    // Für Clients, die die Antwort wieder einlesen (JSON, CBOR, Smile)
+    public IngredientResponse() {
+    }
+
     public IngredientResponse(Long id, String title, Double amount, Unit unit) {
         this.id = id;
         this.title = title;
@@ -16,6 +27,10 @@ public class IngredientResponse {
         this.unit = unit;
     }
 
+    public IngredientResponse copy() {
+        return new IngredientResponse(id, title, amount, unit);
+    }
+
     // Getter/Setter
     public Long getId() {
         return id;
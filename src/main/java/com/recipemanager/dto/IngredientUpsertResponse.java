@@ -0,0 +1,29 @@
+package com.recipemanager.dto;
+
+public class IngredientUpsertResponse {
+
+    private int inserted;
+    private int updated;
+
+    public IngredientUpsertResponse(int inserted, int updated) {
+        this.inserted = inserted;
+        this.updated = updated;
+    }
+
+    // Getter/Setter
+    public int getInserted() {
+        return inserted;
+    }
+
+    public void setInserted(int inserted) {
+        this.inserted = inserted;
+    }
+
+    public int getUpdated() {
+        return updated;
+    }
+
+    public void setUpdated(int updated) {
+        this.updated = updated;
+    }
+}
@@ -0,0 +1,70 @@
+package com.recipemanager.dto;
+
+/**
+ * Nährwerte (kcal und Makros in g), auf eine Nachkommastelle gerundet
+ */
+public class NutrientsResponse {
+
+    private double kcal;
+    private double protein;
+    private double fat;
+    private double carbohydrates;
+
+    // Für Clients, die die Antwort wieder einlesen (JSON, CBOR, Smile)
+    public NutrientsResponse() {
+    }
+
+    public NutrientsResponse(double kcal, double protein, double fat, double carbohydrates) {
+        this.kcal = round(kcal);
+        this.protein = round(protein);
+        this.fat = round(fat);
+        this.carbohydrates = round(carbohydrates);
+    }
+
+    private static double round(double value) {
+        // Inkrementelle Summen können minimal unter 0 driften
+        return Math.max(0.0, Math.round(value * 10.0) / 10.0);
+    }
+
+    public NutrientsResponse copy() {
+        NutrientsResponse copy = new NutrientsResponse();
+        copy.kcal = kcal;
+        copy.protein = protein;
+        copy.fat = fat;
+        copy.carbohydrates = carbohydrates;
+        return copy;
+    }
+
+    // Getter/Setter
+    public double getKcal() {
+        return kcal;
+    }
+
+    public void setKcal(double kcal) {
+        this.kcal = kcal;
+    }
+
+    public double getProtein() {
+        return protein;
+    }
+
+    public void setProtein(double protein) {
+        this.protein = protein;
+    }
+
+    public double getFat() {
+        return fat;
+    }
+
+    public void setFat(double fat) {
+        this.fat = fat;
+    }
+
+    public double getCarbohydrates() {
+        return carbohydrates;
+    }
+
+    public void setCarbohydrates(double carbohydrates) {
+        this.carbohydrates = carbohydrates;
+    }
+}
@@ -0,0 +1,62 @@
+package com.recipemanager.dto;
+
+/**
+ * Nährwerte eines Rezepts, gesamt und pro Portion
+ */
+public class NutritionResponse {
+
+    private Integer servings;
+    private NutrientsResponse total;
+    private NutrientsResponse perServing; // null ohne Portionsangabe
+    private int unmatchedIngredients; // Zutaten ohne Referenzwerte, fehlen in den Summen
+
+    // Für Clients, die die Antwort wieder einlesen (JSON, CBOR, Smile)
+    public NutritionResponse() {
+    }
+
+    public NutritionResponse(Integer servings, NutrientsResponse total, NutrientsResponse perServing,
+            int unmatchedIngredients) {
+        this.servings = servings;
+        this.total = total;
+        this.perServing = perServing;
+        this.unmatchedIngredients = unmatchedIngredients;
+    }
+
+    public NutritionResponse copy() {
+        return new NutritionResponse(servings, total == null ? null : total.copy(),
+                perServing == null ? null : perServing.copy(), unmatchedIngredients);
+    }
+
+    // Getter/Setter
+    public Integer getServings() {
+        return servings;
+    }
+
+    public void setServings(Integer servings) {
+        this.servings = servings;
+    }
+
+    public NutrientsResponse getTotal() {
+        return total;
+    }
+
+    public void setTotal(NutrientsResponse total) {
+        this.total = total;
+    }
+
+    public NutrientsResponse getPerServing() {
+        return perServing;
+    }
+
+    public void setPerServing(NutrientsResponse perServing) {
+        this.perServing = perServing;
+    }
+
+    public int getUnmatchedIngredients() {
+        return unmatchedIngredients;
+    }
+
+    public void setUnmatchedIngredients(int unmatchedIngredients) {
+        this.unmatchedIngredients = unmatchedIngredients;
+    }
+}
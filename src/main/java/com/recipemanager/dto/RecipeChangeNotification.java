@@ -0,0 +1,54 @@
+package com.recipemanager.dto;
+
+import com.recipemanager.enums.ChangeType;
+
+/**
+ * Payload der Server-Sent Events unter /api/recipes/events
+ */
+public class RecipeChangeNotification {
+
+    private Long recipeId;
+    private Long ingredientId; // null bei Änderungen am Rezept selbst
+    private ChangeType type;
+    private Long changeSeq;
+
+    public RecipeChangeNotification(Long recipeId, Long ingredientId, ChangeType type, Long changeSeq) {
+        this.recipeId = recipeId;
+        this.ingredientId = ingredientId;
+        this.type = type;
+        this.changeSeq = changeSeq;
+    }
+
+    // Getter/Setter
+    public Long getRecipeId() {
+        return recipeId;
+    }
+
+    public void setRecipeId(Long recipeId) {
+        this.recipeId = recipeId;
+    }
+
+    public Long getIngredientId() {
+        return ingredientId;
+    }
+
+    public void setIngredientId(Long ingredientId) {
+        this.ingredientId = ingredientId;
+    }
+
+    public ChangeType getType() {
+        return type;
+    }
+
+    public void setType(ChangeType type) {
+        this.type = type;
+    }
+
+    public Long getChangeSeq() {
+        return changeSeq;
+    }
+
+    public void setChangeSeq(Long changeSeq) {
+        this.changeSeq = changeSeq;
+    }
+}
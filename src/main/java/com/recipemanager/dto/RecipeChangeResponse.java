@@ -0,0 +1,64 @@
+package com.recipemanager.dto;
+
+import java.time.LocalDateTime;
+
+import com.recipemanager.enums.ChangeType;
+
+public class RecipeChangeResponse {
+
+    private Long recipeId;
+    private Long changeSeq;
+    private ChangeType type;
+    private LocalDateTime changedAt;
+    private RecipeResponse recipe; // null bei DELETED (Tombstone)
+
+    public RecipeChangeResponse(Long recipeId, Long changeSeq, ChangeType type,
+            LocalDateTime changedAt, RecipeResponse recipe) {
+        this.recipeId = recipeId;
+        this.changeSeq = changeSeq;
+        this.type = type;
+        this.changedAt = changedAt;
+        this.recipe = recipe;
+    }
+
+    // Getter/Setter
+    public Long getRecipeId() {
+        return recipeId;
+    }
+
+    public void setRecipeId(Long recipeId) {
+        this.recipeId = recipeId;
+    }
+
+    public Long getChangeSeq() {
+        return changeSeq;
+    }
+
+    public void setChangeSeq(Long changeSeq) {
+        this.changeSeq = changeSeq;
+    }
+
+    public ChangeType getType() {
+        return type;
+    }
+
+    public void setType(ChangeType type) {
+        this.type = type;
+    }
+
+    public LocalDateTime getChangedAt() {
+        return changedAt;
+    }
+
+    public void setChangedAt(LocalDateTime changedAt) {
+        this.changedAt = changedAt;
+    }
+
+    public RecipeResponse getRecipe() {
+        return recipe;
+    }
+
+    public void setRecipe(RecipeResponse recipe) {
+        this.recipe = recipe;
+    }
+}
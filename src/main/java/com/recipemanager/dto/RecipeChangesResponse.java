@@ -0,0 +1,41 @@
+package com.recipemanager.dto;
+
+import java.util.List;
+
+public class RecipeChangesResponse {
+
+    private String cursor; // als ?since= für den nächsten Aufruf (mit Sharding "0:42,1:17")
+    private boolean hasMore;
+    private List<RecipeChangeResponse> changes;
+
+    public RecipeChangesResponse(String cursor, boolean hasMore, List<RecipeChangeResponse> changes) {
+        this.cursor = cursor;
+        this.hasMore = hasMore;
+        this.changes = changes;
+    }
+
+    // Getter/Setter
+    public String getCursor() {
+        return cursor;
+    }
+
+    public void setCursor(String cursor) {
+        this.cursor = cursor;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+
+    public List<RecipeChangeResponse> getChanges() {
+        return changes;
+    }
+
+    public void setChanges(List<RecipeChangeResponse> changes) {
+        this.changes = changes;
+    }
+}
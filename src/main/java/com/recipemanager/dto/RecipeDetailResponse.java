@@ -2,14 +2,31 @@ package com.recipemanager.dto;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
+
+@JsonFilter(FieldSelection.FILTER)
 public class RecipeDetailResponse {
 
+    /** Gültige Werte für ?fields=, Zutaten auch einzeln (ingredients.title) */
+    public static final Set<String> FIELDS = Stream.concat(
+            Stream.of("id", "title", "description", "createdAt", "ingredients", "nutrition"),
+            IngredientResponse.FIELDS.stream().map(field -> "ingredients." + field))
+            .collect(Collectors.toUnmodifiableSet());
+
     private Long id;
     private String title;
     private String description;
     private LocalDateTime createdAt;
     private List<IngredientResponse> ingredients; // ← Nested DTOs!
+    private NutritionResponse nutrition; // null, solange keine Summen berechnet sind
+
+    // Für Clients, die die Antwort wieder einlesen (JSON, CBOR, Smile)
+    public RecipeDetailResponse() {
+    }
 
     public RecipeDetailResponse(Long id, String title, String description,
             LocalDateTime createdAt, List<IngredientResponse> ingredients) {
@@ -20,6 +37,17 @@ public class RecipeDetailResponse {
         this.ingredients = ingredients;
     }
 
+    /**
+     * Tiefe Kopie (Zutaten und Nährwerte eingeschlossen)
+     */
+    public RecipeDetailResponse copy() {
+        RecipeDetailResponse copy = new RecipeDetailResponse(id, title, description, createdAt,
+                ingredients == null ? null
+                        : ingredients.stream().map(IngredientResponse::copy).collect(Collectors.toList()));
+        copy.setNutrition(nutrition == null ? null : nutrition.copy());
+        return copy;
+    }
+
     // Getter/Setter
     public Long getId() {
         return id;
@@ -60,4 +88,12 @@ public class RecipeDetailResponse {
     public void setIngredients(List<IngredientResponse> ingredients) {
         this.ingredients = ingredients;
     }
-}
\ No newline at end of file
+
+    public NutritionResponse getNutrition() {
+        return nutrition;
+    }
+
+    public void setNutrition(NutritionResponse nutrition) {
+        this.nutrition = nutrition;
+    }
+}
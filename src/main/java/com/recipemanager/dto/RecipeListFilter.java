@@ -0,0 +1,112 @@
+package com.recipemanager.dto;
+
+import java.time.LocalDate;
+
+import com.recipemanager.enums.RecipeSort;
+
+/**
+ * Filter und Sortierung für GET /api/recipes, alle Felder optional
+ */
+public class RecipeListFilter {
+
+    private String titlePrefix;
+    private LocalDate createdFrom;
+    private LocalDate createdTo;
+    private String ingredient;
+    private RecipeSort sort = RecipeSort.CREATED_AT;
+    private boolean descending;
+    private Integer limit;
+    private FieldSelection fields = FieldSelection.ALL;
+
+    public RecipeListFilter() {
+    }
+
+    /**
+     * Keine Filter, Standard-Sortierung (älteste zuerst) - nur das Limit darf gesetzt sein
+     */
+    public boolean isUnfiltered() {
+        return titlePrefix == null && createdFrom == null && createdTo == null && ingredient == null
+                && sort == RecipeSort.CREATED_AT && !descending;
+    }
+
+    /**
+     * Kopie mit anderer Feld-Auswahl
+     */
+    public RecipeListFilter withFields(FieldSelection fields) {
+        RecipeListFilter copy = new RecipeListFilter();
+        copy.titlePrefix = titlePrefix;
+        copy.createdFrom = createdFrom;
+        copy.createdTo = createdTo;
+        copy.ingredient = ingredient;
+        copy.sort = sort;
+        copy.descending = descending;
+        copy.limit = limit;
+        copy.fields = fields;
+        return copy;
+    }
+
+    // Getter/Setter
+    public String getTitlePrefix() {
+        return titlePrefix;
+    }
+
+    public void setTitlePrefix(String titlePrefix) {
+        this.titlePrefix = titlePrefix;
+    }
+
+    public LocalDate getCreatedFrom() {
+        return createdFrom;
+    }
+
+    public void setCreatedFrom(LocalDate createdFrom) {
+        this.createdFrom = createdFrom;
+    }
+
+    public LocalDate getCreatedTo() {
+        return createdTo;
+    }
+
+    public void setCreatedTo(LocalDate createdTo) {
+        this.createdTo = createdTo;
+    }
+
+    public String getIngredient() {
+        return ingredient;
+    }
+
+    public void setIngredient(String ingredient) {
+        this.ingredient = ingredient;
+    }
+
+    public RecipeSort getSort() {
+        return sort;
+    }
+
+    public void setSort(RecipeSort sort) {
+        this.sort = sort;
+    }
+
+    public boolean isDescending() {
+        return descending;
+    }
+
+    public void setDescending(boolean descending) {
+        this.descending = descending;
+    }
+
+    public Integer getLimit() {
+        return limit;
+    }
+
+    public void setLimit(Integer limit) {
+        this.limit = limit;
+    }
+
+    public FieldSelection getFields() {
+        return fields;
+    }
+
+    public void setFields(FieldSelection fields) {
+        this.fields = fields;
+    }
+}
@@ -4,6 +4,7 @@ import java.util.List;
 
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.Size;
 
 public class RecipeRequest {
@@ -15,6 +16,9 @@ public class RecipeRequest {
     @Size(max = 5000, message = "Description darf max. 5000 Zeichen sein")
     private String description;
 
+    @Positive(message = "Portionen müssen positiv sein")
+    private Integer servings;
+
     @Valid
     private List<IngredientRequest> ingredients;
 
@@ -35,6 +39,14 @@ public class RecipeRequest {
         this.description = description;
     }
 
+    public Integer getServings() {
+        return servings;
+    }
+
+    public void setServings(Integer servings) {
+        this.servings = servings;
+    }
+
     public List<IngredientRequest> getIngredients() {
         return ingredients;
     }
@@ -1,17 +1,30 @@
 package com.recipemanager.dto;
 
 import java.time.LocalDateTime;
+import java.util.Set;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
+
+@JsonFilter(FieldSelection.FILTER)
 public class RecipeResponse {
 
+    /** Gültige Werte für ?fields= */
+    public static final Set<String> FIELDS = Set.of("id", "title", "createdAt", "ingredientCount");
+
     private Long id;
     private String title;
     private LocalDateTime createdAt;
+    private int ingredientCount;
+
+    // Für Clients, die die Antwort wieder einlesen (JSON, CBOR, Smile)
+    public RecipeResponse() {
+    }
 
-    public RecipeResponse(Long id, String title, LocalDateTime createdAt) {
+    public RecipeResponse(Long id, String title, LocalDateTime createdAt, int ingredientCount) {
         this.id = id;
         this.title = title;
         this.createdAt = createdAt;
+        this.ingredientCount = ingredientCount;
     }
 
     // Getter/Setter
@@ -38,4 +51,12 @@ public class RecipeResponse {
     public void setCreatedAt(LocalDateTime createdAt) {
         this.createdAt = createdAt;
     }
+
+    public int getIngredientCount() {
+        return ingredientCount;
+    }
+
+    public void setIngredientCount(int ingredientCount) {
+        this.ingredientCount = ingredientCount;
+    }
 }
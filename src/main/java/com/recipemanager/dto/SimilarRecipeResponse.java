@@ -0,0 +1,39 @@
+package com.recipemanager.dto;
+
+public class SimilarRecipeResponse {
+
+    private Long id;
+    private String title;
+    private double similarity; // Jaccard-Ähnlichkeit der Zutaten, 0..1
+
+    public SimilarRecipeResponse(Long id, String title, double similarity) {
+        this.id = id;
+        this.title = title;
+        this.similarity = similarity;
+    }
+
+    // Getter/Setter
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public double getSimilarity() {
+        return similarity;
+    }
+
+    public void setSimilarity(double similarity) {
+        this.similarity = similarity;
+    }
+}
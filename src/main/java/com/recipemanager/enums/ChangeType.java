@@ -0,0 +1,7 @@
+package com.recipemanager.enums;
+
+public enum ChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -0,0 +1,9 @@
+package com.recipemanager.enums;
+
+/**
+ * Verhalten von POST /api/recipes, wenn es das Rezept schon gibt
+ */
+public enum DuplicateMode {
+    REJECT,          // 409 Conflict mit der ID des vorhandenen Rezepts
+    RETURN_EXISTING  // 200 OK mit dem vorhandenen Rezept statt eines neuen
+}
@@ -0,0 +1,34 @@
+package com.recipemanager.enums;
+
+/**
+ * Sortierung der Rezept-Liste, jeweils mit eigenem Index (Spalte, id)
+ */
+public enum RecipeSort {
+    CREATED_AT("createdAt"),
+    TITLE("title"),
+    INGREDIENT_COUNT("ingredientCount");
+
+    private final String attribute;
+
+    RecipeSort(String attribute) {
+        this.attribute = attribute;
+    }
+
+    public String getAttribute() {
+        return attribute;
+    }
+
+    /**
+     * Query-Parameter (?sort=createdAt) zur Sortierung
+     *
+     * @throws IllegalArgumentException bei unbekanntem Feld
+     */
+    public static RecipeSort fromParameter(String parameter) {
+        for (RecipeSort sort : values()) {
+            if (sort.attribute.equals(parameter)) {
+                return sort;
+            }
+        }
+        throw new IllegalArgumentException("Unbekannte Sortierung: " + parameter);
+    }
+}
@@ -1,5 +1,8 @@
 package com.recipemanager.enums;
 
+/**
+ * CBOR und Smile übertragen die Einheit als Index: neue Einheiten nur hinten anhängen
+ */
 public enum Unit {
     G("Gramm"),
     ML("Milliliter"),
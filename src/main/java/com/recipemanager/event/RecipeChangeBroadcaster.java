@@ -0,0 +1,190 @@
+package com.recipemanager.event;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.recipemanager.dto.RecipeChangeNotification;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Verteilt RecipeChangedEvents nach dem Commit als Server-Sent Events.
+ *
+ * Jedes Event wird genau einmal serialisiert und als dieselbe Instanz in die
+ * Queues aller passenden Subscriber gelegt. Jeder Subscriber hat eine feste
+ * Queue-Größe; wer nicht hinterherkommt, wird getrennt (und kann über den
+ * Change-Feed mit seiner letzten Event-ID nachladen).
+ */
+@Component
+public class RecipeChangeBroadcaster {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${recipemanager.sse.buffer-size:256}")
+    private int bufferSize;
+
+    @Value("${recipemanager.sse.max-subscribers:10000}")
+    private int maxSubscribers;
+
+    private final CopyOnWriteArrayList<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+
+    private Counter droppedSubscribers;
+
+    @PostConstruct
+    void initMetrics() {
+        meterRegistry.gauge("recipemanager.sse.subscribers", subscribers, CopyOnWriteArrayList::size);
+        droppedSubscribers = meterRegistry.counter("recipemanager.sse.dropped.subscribers");
+    }
+
+    // ========== SUBSCRIBE ==========
+
+    /**
+     * Neuen Subscriber anmelden
+     *
+     * @param emitter  Der SSE-Kanal zum Client
+     * @param recipeId Nur Events dieses Rezepts, null für alle
+     * @return false, wenn die maximale Anzahl Subscriber erreicht ist
+     */
+    public boolean register(SseEmitter emitter, Long recipeId) {
+        if (subscribers.size() >= maxSubscribers) {
+            return false;
+        }
+
+        Subscriber subscriber = new Subscriber(emitter, recipeId, bufferSize);
+        emitter.onCompletion(() -> subscriber.close());
+        emitter.onTimeout(() -> subscriber.close());
+        emitter.onError(e -> subscriber.close());
+        subscribers.add(subscriber);
+        return true;
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    // ========== PUBLISH ==========
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRecipeChanged(RecipeChangedEvent event) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+
+        Set<DataWithMediaType> message = toMessage(event);
+        Long recipeId = event.getRecipeId();
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.recipeId == null || subscriber.recipeId.equals(recipeId)) {
+                subscriber.offer(message);
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.emitter.complete();
+        }
+        senders.shutdownNow();
+    }
+
+    // ========== Helper ==========
+
+    private Set<DataWithMediaType> toMessage(RecipeChangedEvent event) {
+        try {
+            String json = objectMapper.writeValueAsString(new RecipeChangeNotification(
+                    event.getRecipeId(), event.getIngredientId(), event.getType(), event.getChangeSeq()));
+            String name = (event.getIngredientId() == null ? "recipe." : "ingredient.")
+                    + event.getType().name().toLowerCase();
+
+            SseEmitter.SseEventBuilder builder = SseEmitter.event()
+                    .name(name)
+                    .data(json, MediaType.APPLICATION_JSON);
+            if (event.getChangeSeq() != null) {
+                builder.id(event.getChangeSeq().toString());
+            }
+            return builder.build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Ein Client. Gesendet wird nur von einem Thread gleichzeitig (draining),
+     * der nur läuft, solange die Queue nicht leer ist.
+     */
+    private final class Subscriber implements Runnable {
+
+        private final SseEmitter emitter;
+        private final Long recipeId;
+        private final ArrayBlockingQueue<Set<DataWithMediaType>> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+
+        Subscriber(SseEmitter emitter, Long recipeId, int bufferSize) {
+            this.emitter = emitter;
+            this.recipeId = recipeId;
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        void offer(Set<DataWithMediaType> message) {
+            if (closed) {
+                return;
+            }
+            if (!queue.offer(message)) {
+                // Langsamer Client: trennen statt unbegrenzt puffern
+                droppedSubscribers.increment();
+                close();
+                emitter.complete();
+                return;
+            }
+            if (draining.compareAndSet(false, true)) {
+                senders.execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                do {
+                    Set<DataWithMediaType> message;
+                    while (!closed && (message = queue.poll()) != null) {
+                        emitter.send(message);
+                    }
+                    draining.set(false);
+                } while (!closed && !queue.isEmpty() && draining.compareAndSet(false, true));
+            } catch (IOException | IllegalStateException e) {
+                // Verbindung weg oder Emitter bereits abgeschlossen
+                close();
+            }
+        }
+
+        void close() {
+            closed = true;
+            subscribers.remove(this);
+            queue.clear();
+        }
+    }
+}
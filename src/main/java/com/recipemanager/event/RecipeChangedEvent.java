@@ -0,0 +1,42 @@
+package com.recipemanager.event;
+
+import com.recipemanager.enums.ChangeType;
+import com.recipemanager.model.RecipeChange;
+
+/**
+ * Wird von RecipeService und IngredientService bei jedem Schreibzugriff
+ * auf ein Rezept oder seine Zutaten veröffentlicht.
+ */
+public class RecipeChangedEvent {
+
+    private final Long recipeId;
+    private final Long ingredientId; // null bei Änderungen am Rezept selbst
+    private final ChangeType type;
+    private final RecipeChange change; // Sequenz erst beim Commit vergeben
+
+    public RecipeChangedEvent(Long recipeId, Long ingredientId, ChangeType type, RecipeChange change) {
+        this.recipeId = recipeId;
+        this.ingredientId = ingredientId;
+        this.type = type;
+        this.change = change;
+    }
+
+    public Long getRecipeId() {
+        return recipeId;
+    }
+
+    public Long getIngredientId() {
+        return ingredientId;
+    }
+
+    public ChangeType getType() {
+        return type;
+    }
+
+    /**
+     * Cursor im Change-Feed, null wenn nichts geändert wurde - und vor dem Commit
+     */
+    public Long getChangeSeq() {
+        return change != null ? change.getSeq() : null;
+    }
+}
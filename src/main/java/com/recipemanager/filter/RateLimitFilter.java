@@ -0,0 +1,258 @@
+package com.recipemanager.filter;
+
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Schützt den Connection-Pool vor einzelnen Clients:
+ * 1. Token-Bucket pro Client (IP bzw. X-Forwarded-For), ohne Lock; ab max-clients
+ *    Buckets fallen die Clients heraus, deren Bucket am frühesten wieder voll ist
+ * 2. Bulkheads: getrennte Limits für gleichzeitige teure (Liste, Change-Feed)
+ *    und günstige (Detail, Zutat-PATCH) Requests. Asynchrone Requests (Flux/Mono)
+ *    halten ihren Platz, bis die Antwort komplett ist.
+ *
+ * Abgelehnte Requests bekommen 429 mit Retry-After.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${recipemanager.rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${recipemanager.rate-limit.requests-per-second:50}")
+    private double requestsPerSecond;
+
+    @Value("${recipemanager.rate-limit.burst:100}")
+    private int burst;
+
+    @Value("${recipemanager.rate-limit.max-clients:100000}")
+    private int maxClients;
+
+    @Value("${recipemanager.rate-limit.trust-forwarded-for:false}")
+    private boolean trustForwardedFor;
+
+    @Value("${recipemanager.rate-limit.bulkhead.expensive:8}")
+    private int expensiveConcurrency;
+
+    @Value("${recipemanager.rate-limit.bulkhead.cheap:64}")
+    private int cheapConcurrency;
+
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    private Semaphore expensive;
+    private Semaphore cheap;
+
+    @PostConstruct
+    void init() {
+        expensive = new Semaphore(expensiveConcurrency);
+        cheap = new Semaphore(cheapConcurrency);
+        meterRegistry.gauge("recipemanager.ratelimit.clients", this, RateLimitFilter::getClientCount);
+        meterRegistry.gauge("recipemanager.bulkhead.available", Tags.of("class", "expensive"),
+                expensive, Semaphore::availablePermits);
+        meterRegistry.gauge("recipemanager.bulkhead.available", Tags.of("class", "cheap"),
+                cheap, Semaphore::availablePermits);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        // 1. Rate-Limit pro Client
+        long now = System.nanoTime();
+        long waitNanos = bucketFor(clientKey(request)).tryAcquire(now);
+        if (waitNanos > 0) {
+            reject(response, "rate", TimeUnit.NANOSECONDS.toSeconds(waitNanos) + 1);
+            return;
+        }
+
+        // 2. Bulkhead je Endpoint-Klasse
+        Semaphore bulkhead = bulkheadFor(request);
+        if (bulkhead == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        if (!bulkhead.tryAcquire()) {
+            reject(response, bulkhead == expensive ? "bulkhead-expensive" : "bulkhead-cheap", 1);
+            return;
+        }
+        boolean async = false;
+        try {
+            chain.doFilter(request, response);
+            async = request.isAsyncStarted();
+        } finally {
+            if (async) {
+                // Antwort wird später auf einem anderen Thread geschrieben
+                request.getAsyncContext().addListener(new BulkheadRelease(bulkhead));
+            } else {
+                bulkhead.release();
+            }
+        }
+    }
+
+    public int getClientCount() {
+        return buckets.size();
+    }
+
+    // ========== Helper ==========
+
+    private TokenBucket bucketFor(String client) {
+        TokenBucket bucket = buckets.get(client);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= maxClients) {
+            evict();
+        }
+        return buckets.computeIfAbsent(client, key -> new TokenBucket(requestsPerSecond, burst));
+    }
+
+    /**
+     * Auf 90 % von max-clients zurückschneiden: zuerst die am längsten vollen Buckets
+     * (inaktive Clients), dann die, die am frühesten wieder voll wären - ausgeschöpfte
+     * Clients bleiben begrenzt.
+     * Nur ein Thread räumt, die übrigen legen ihren Bucket derweil an (Grenze ungefähr);
+     * das Sortieren verteilt sich auf die nächsten max-clients / 10 neuen Clients.
+     */
+    private void evict() {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            int excess = buckets.size() - (maxClients - Math.max(1, maxClients / 10));
+            if (excess <= 0) {
+                return;
+            }
+            buckets.entrySet().stream()
+                    .map(entry -> new Candidate(entry.getKey(), entry.getValue(), entry.getValue().fullAt()))
+                    .sorted(Comparator.comparingLong(Candidate::fullAt))
+                    .limit(excess)
+                    .forEach(candidate -> buckets.remove(candidate.client(), candidate.bucket()));
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    private String clientKey(HttpServletRequest request) {
+        if (trustForwardedFor) {
+            String forwarded = request.getHeader("X-Forwarded-For");
+            if (forwarded != null && !forwarded.isBlank()) {
+                int comma = forwarded.indexOf(',');
+                return (comma < 0 ? forwarded : forwarded.substring(0, comma)).trim();
+            }
+        }
+        return request.getRemoteAddr();
+    }
+
+    /**
+     * Teuer: ganze Tabelle bzw. viele Zeilen (Liste, Change-Feed, GraphQL).
+     * Günstig: Zugriff über Primärschlüssel (Detail, Zutat-PATCH).
+     * SSE-Streams und übrige Schreibzugriffe laufen ohne Bulkhead.
+     */
+    private Semaphore bulkheadFor(HttpServletRequest request) {
+        String method = request.getMethod();
+        String path = request.getRequestURI();
+
+        if ("GET".equals(method)) {
+            if (path.equals("/api/recipes") || path.equals("/api/recipes/changes")
+                    || path.equals("/api/reactive/recipes")) {
+                return expensive;
+            }
+            if (path.equals("/api/recipes/events")) {
+                return null;
+            }
+            if (path.startsWith("/api/recipes/") || path.startsWith("/api/reactive/recipes/")) {
+                return cheap;
+            }
+        }
+        if ("POST".equals(method) && (path.equals("/api/graphql") || path.equals("/api/jobs/imports"))) {
+            return expensive;
+        }
+        if ("PATCH".equals(method) && path.contains("/ingredients/")) {
+            return cheap;
+        }
+        return null;
+    }
+
+    private void reject(HttpServletResponse response, String reason, long retryAfterSeconds) throws IOException {
+        meterRegistry.counter("recipemanager.ratelimit.rejected", "reason", reason).increment();
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType("application/json");
+        response.getWriter().write("{\"error\":\"Too Many Requests\",\"reason\":\"" + reason + "\"}");
+    }
+
+    /**
+     * Bucket mit festgehaltenem Zeitpunkt (sortiert wird nicht auf dem laufenden Zustand)
+     */
+    private record Candidate(String client, TokenBucket bucket, long fullAt) {
+    }
+
+    /**
+     * Gibt den Bulkhead-Platz eines asynchronen Requests genau einmal frei
+     */
+    private static final class BulkheadRelease implements AsyncListener {
+
+        private final Semaphore bulkhead;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        BulkheadRelease(Semaphore bulkhead) {
+            this.bulkhead = bulkhead;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // Erneutes startAsync: Listener bleibt registriert
+            event.getAsyncContext().addListener(this);
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                bulkhead.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.recipemanager.filter;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-freier Token-Bucket für einen Client.
+ *
+ * Umgesetzt als GCRA (Generic Cell Rate Algorithm): statt Token-Anzahl und
+ * letztem Refill wird nur die "theoretische Ankunftszeit" in einem AtomicLong
+ * gehalten. Ein Request kostet einen CAS, ohne Lock und ohne Allokation.
+ */
+public class TokenBucket {
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final AtomicLong theoreticalArrival = new AtomicLong(Long.MIN_VALUE);
+
+    /**
+     * @param requestsPerSecond Dauerhafte Rate
+     * @param burst             Max. Anzahl Requests am Stück (Bucket-Größe)
+     */
+    public TokenBucket(double requestsPerSecond, int burst) {
+        this.emissionIntervalNanos = (long) (1_000_000_000L / requestsPerSecond);
+        this.burstToleranceNanos = emissionIntervalNanos * Math.max(0, burst - 1);
+    }
+
+    /**
+     * Versucht ein Token zu nehmen
+     *
+     * @param nowNanos Aktuelle Zeit (System.nanoTime())
+     * @return 0 wenn erlaubt, sonst Wartezeit in Nanosekunden bis zum nächsten Token
+     */
+    public long tryAcquire(long nowNanos) {
+        while (true) {
+            long tat = theoreticalArrival.get();
+            long base = tat == Long.MIN_VALUE ? nowNanos : Math.max(tat, nowNanos);
+            long waitNanos = base - burstToleranceNanos - nowNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (theoreticalArrival.compareAndSet(tat, base + emissionIntervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * @return Zeitpunkt (System.nanoTime()), ab dem der Bucket wieder voll ist;
+     *         liegt er zurück, ist der Client seitdem inaktiv (Long.MIN_VALUE: nie benutzt)
+     */
+    public long fullAt() {
+        return theoreticalArrival.get();
+    }
+}
@@ -0,0 +1,126 @@
+package com.recipemanager.invalidation;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.recipemanager.event.RecipeChangedEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Sammelt geänderte Rezept-IDs nach dem Commit und schickt sie gebündelt über den InvalidationBus.
+ *
+ * Zehn Zutaten-Änderungen am selben Rezept innerhalb eines Fensters
+ * (recipemanager.invalidation.batch-millis) ergeben eine einzige Nachricht.
+ * Schlägt das Senden fehl, bleiben die IDs für den nächsten Durchlauf liegen.
+ */
+@Component
+public class InvalidationBatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(InvalidationBatcher.class);
+
+    @Autowired
+    private InvalidationBus invalidationBus;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${recipemanager.invalidation.batch-millis:100}")
+    private long batchMillis;
+
+    @Value("${recipemanager.invalidation.max-batch-size:500}")
+    private int maxBatchSize;
+
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "invalidation-batcher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private Counter publishedBatches;
+    private Counter publishedIds;
+
+    @PostConstruct
+    void init() {
+        publishedBatches = meterRegistry.counter("recipemanager.invalidation.published.batches");
+        publishedIds = meterRegistry.counter("recipemanager.invalidation.published.ids");
+        meterRegistry.gauge("recipemanager.invalidation.pending", pending, Set::size);
+
+        if (invalidationBus.isEnabled()) {
+            scheduler.scheduleWithFixedDelay(this::flushQuietly, batchMillis, batchMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdown();
+        flushQuietly();
+    }
+
+    /**
+     * Erst nach dem Commit: andere Instanzen sollen den neuen Stand laden
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRecipeChanged(RecipeChangedEvent event) {
+        if (invalidationBus.isEnabled() && event.getRecipeId() != null) {
+            pending.add(event.getRecipeId());
+        }
+    }
+
+    /**
+     * Rezepte, die an den Services vorbei geändert wurden (z.B. RecipeSummaryRepairJob)
+     */
+    public void enqueue(Collection<Long> recipeIds) {
+        if (invalidationBus.isEnabled()) {
+            pending.addAll(recipeIds);
+        }
+    }
+
+    /**
+     * Alle gesammelten IDs senden (in Batches von max-batch-size)
+     */
+    public void flush() {
+        while (!pending.isEmpty()) {
+            Set<Long> batch = new HashSet<>();
+            Iterator<Long> it = pending.iterator();
+            while (it.hasNext() && batch.size() < maxBatchSize) {
+                batch.add(it.next());
+                it.remove();
+            }
+
+            try {
+                invalidationBus.publish(batch);
+            } catch (RuntimeException e) {
+                pending.addAll(batch);
+                throw e;
+            }
+            publishedBatches.increment();
+            publishedIds.increment(batch.size());
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("Invalidierungen konnten nicht verteilt werden, neuer Versuch in {} ms", batchMillis, e);
+        }
+    }
+}
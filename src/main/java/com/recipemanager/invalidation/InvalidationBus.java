@@ -0,0 +1,31 @@
+package com.recipemanager.invalidation;
+
+import java.util.Set;
+
+/**
+ * Verteilt Rezept-Invalidierungen an die anderen Instanzen.
+ *
+ * Implementierungen (recipemanager.invalidation.bus):
+ * - none:     nur eine Instanz, nichts zu verteilen
+ * - jdbc:     Polling-Tabelle cache_invalidations (läuft auf jeder Datenbank)
+ * - postgres: LISTEN/NOTIFY
+ *
+ * Empfangene Invalidierungen anderer Instanzen werden als
+ * RemoteInvalidationEvent veröffentlicht; eigene Nachrichten werden ignoriert.
+ */
+public interface InvalidationBus {
+
+    /**
+     * Einen Batch Rezept-IDs an alle anderen Instanzen schicken
+     *
+     * @param recipeIds Die geänderten Rezepte
+     */
+    void publish(Set<Long> recipeIds);
+
+    /**
+     * @return false, wenn nichts verteilt wird (Batches müssen nicht gesammelt werden)
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+}
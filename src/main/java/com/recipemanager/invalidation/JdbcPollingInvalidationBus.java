@@ -0,0 +1,164 @@
+package com.recipemanager.invalidation;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import com.recipemanager.model.CacheInvalidation;
+import com.recipemanager.repository.CacheInvalidationRepository;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * InvalidationBus über die Tabelle cache_invalidations: eine Zeile pro Batch,
+ * alle Instanzen pollen ab ihrem letzten Cursor (ID).
+ *
+ * IDs werden nicht zwingend in Commit-Reihenfolge sichtbar. Der Cursor rückt deshalb
+ * nur über Zeilen vor, die älter als settle-millis sind; jüngere Zeilen werden schon
+ * verarbeitet, aber beim nächsten Poll nochmal gelesen (und über ihre ID übersprungen).
+ * Zeilen älter als retention-minutes räumt jede Instanz selbst weg.
+ */
+@Component
+@ConditionalOnProperty(name = "recipemanager.invalidation.bus", havingValue = "jdbc")
+public class JdbcPollingInvalidationBus implements InvalidationBus {
+
+    private static final Logger log = LoggerFactory.getLogger(JdbcPollingInvalidationBus.class);
+
+    @Autowired
+    private CacheInvalidationRepository cacheInvalidationRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${recipemanager.invalidation.poll-millis:1000}")
+    private long pollMillis;
+
+    @Value("${recipemanager.invalidation.settle-millis:2000}")
+    private long settleMillis;
+
+    @Value("${recipemanager.invalidation.retention-minutes:10}")
+    private long retentionMinutes;
+
+    @Value("${recipemanager.invalidation.poll-limit:1000}")
+    private int pollLimit;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Set<Long> processedUnsettled = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "invalidation-poller");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile long cursor = -1;
+    private volatile LocalDateTime lastCleanup = LocalDateTime.now();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::pollQuietly, pollMillis, pollMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    // ========== PUBLISH ==========
+
+    @Override
+    public void publish(Set<Long> recipeIds) {
+        String ids = recipeIds.stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(","));
+        cacheInvalidationRepository.save(new CacheInvalidation(nodeId, ids));
+    }
+
+    // ========== POLL ==========
+
+    /**
+     * Neue Zeilen anderer Instanzen lesen und als RemoteInvalidationEvent veröffentlichen
+     *
+     * @return Anzahl der invalidierten Rezept-IDs
+     */
+    public synchronized int poll() {
+        if (cursor < 0) {
+            // Beim Start ist der lokale Cache leer, ältere Zeilen sind irrelevant
+            cursor = cacheInvalidationRepository.findMaxId();
+            return 0;
+        }
+
+        List<CacheInvalidation> rows = cacheInvalidationRepository
+                .findByIdGreaterThanOrderByIdAsc(cursor, Limit.of(pollLimit));
+        LocalDateTime settledBefore = LocalDateTime.now().minusNanos(settleMillis * 1_000_000);
+
+        Set<Long> recipeIds = new HashSet<>();
+        boolean settled = true;
+        for (CacheInvalidation row : rows) {
+            if (processedUnsettled.add(row.getId()) && !nodeId.equals(row.getNodeId())) {
+                recipeIds.addAll(parseIds(row.getRecipeIds()));
+            }
+
+            settled = settled && row.getCreatedAt().isBefore(settledBefore);
+            if (settled) {
+                cursor = row.getId();
+            }
+        }
+        long committedCursor = cursor;
+        processedUnsettled.removeIf(id -> id <= committedCursor);
+
+        if (!recipeIds.isEmpty()) {
+            eventPublisher.publishEvent(RemoteInvalidationEvent.of(recipeIds));
+        }
+        cleanupIfDue();
+        return recipeIds.size();
+    }
+
+    private void pollQuietly() {
+        try {
+            poll();
+        } catch (RuntimeException e) {
+            // Nach einem Fehler könnten Nachrichten fehlen: lieber alles verwerfen
+            log.warn("Polling von cache_invalidations fehlgeschlagen", e);
+            eventPublisher.publishEvent(RemoteInvalidationEvent.all());
+        }
+    }
+
+    private void cleanupIfDue() {
+        LocalDateTime now = LocalDateTime.now();
+        if (lastCleanup.isAfter(now.minusMinutes(1))) {
+            return;
+        }
+        lastCleanup = now;
+        cacheInvalidationRepository.deleteCreatedBefore(now.minusMinutes(retentionMinutes));
+    }
+
+    private static Set<Long> parseIds(String ids) {
+        return Arrays.stream(ids.split(","))
+                .filter(id -> !id.isBlank())
+                .map(Long::valueOf)
+                .collect(Collectors.toSet());
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+}
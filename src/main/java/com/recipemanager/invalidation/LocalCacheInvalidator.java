@@ -0,0 +1,106 @@
+package com.recipemanager.invalidation;
+
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.recipemanager.cache.RecipeDetailJsonCache;
+import com.recipemanager.enums.ChangeType;
+import com.recipemanager.event.RecipeChangedEvent;
+import com.recipemanager.model.Ingredient;
+import com.recipemanager.model.Recipe;
+import com.recipemanager.repository.IngredientRepository;
+import com.recipemanager.sharding.ShardRouter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Verwirft lokale Caches für Rezepte, die auf einer anderen Instanz geändert wurden:
+ * den JSON-Detail-Cache und die Hibernate-Regionen (Rezept, Zutaten-Collection,
+ * die einzelnen Zutaten und den Query-Cache für findByRecipeId).
+ *
+ * Lokal gelöschte Rezepte ebenso: der Soft-Delete ist für Hibernate nur ein Update,
+ * die Entity-Region würde das Rezept sonst weiter ausliefern (@SQLRestriction greift
+ * nur in der Datenbank).
+ */
+@Component
+public class LocalCacheInvalidator {
+
+    private static final String INGREDIENTS_ROLE = Recipe.class.getName() + ".ingredients";
+
+    @Autowired
+    private RecipeDetailJsonCache recipeDetailJsonCache;
+
+    @Autowired
+    private IngredientRepository ingredientRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Counter receivedIds;
+    private Counter receivedFull;
+
+    @PostConstruct
+    void init() {
+        receivedIds = meterRegistry.counter("recipemanager.invalidation.received.ids");
+        receivedFull = meterRegistry.counter("recipemanager.invalidation.received.full");
+    }
+
+    @EventListener
+    public void onRemoteInvalidation(RemoteInvalidationEvent event) {
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+
+        if (event.isAll()) {
+            receivedFull.increment();
+            cache.evictAllRegions();
+            recipeDetailJsonCache.invalidateAll();
+            return;
+        }
+
+        Set<Long> recipeIds = event.getRecipeIds();
+        receivedIds.increment(recipeIds.size());
+        evict(cache, recipeIds);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onRecipeDeleted(RecipeChangedEvent event) {
+        if (event.getType() != ChangeType.DELETED || event.getIngredientId() != null) {
+            return;
+        }
+        evict(entityManagerFactory.unwrap(SessionFactory.class).getCache(), Set.of(event.getRecipeId()));
+    }
+
+    private void evict(Cache cache, Set<Long> recipeIds) {
+        // Vorhandene Zutaten auch einzeln, sonst liefert die Entity-Region alte Mengen
+        // (Zutaten liegen auf der Shard ihres Rezepts)
+        for (List<Long> ingredientIds : shardRouter.onEachShard(recipeIds, ingredientRepository::findIdsByRecipeIdIn)) {
+            for (Long ingredientId : ingredientIds) {
+                cache.evictEntityData(Ingredient.class, ingredientId);
+            }
+        }
+        for (Long recipeId : recipeIds) {
+            cache.evictEntityData(Recipe.class, recipeId);
+            cache.evictCollectionData(INGREDIENTS_ROLE, recipeId);
+            recipeDetailJsonCache.invalidate(recipeId);
+        }
+        cache.evictQueryRegion(IngredientRepository.BY_RECIPE_REGION);
+    }
+}
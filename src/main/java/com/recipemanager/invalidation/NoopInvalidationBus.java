@@ -0,0 +1,23 @@
+package com.recipemanager.invalidation;
+
+import java.util.Set;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Standard für eine einzelne Instanz: nichts zu verteilen
+ */
+@Component
+@ConditionalOnProperty(name = "recipemanager.invalidation.bus", havingValue = "none", matchIfMissing = true)
+public class NoopInvalidationBus implements InvalidationBus {
+
+    @Override
+    public void publish(Set<Long> recipeIds) {
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return false;
+    }
+}
@@ -0,0 +1,225 @@
+package com.recipemanager.invalidation;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import javax.sql.DataSource;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.stereotype.Component;
+
+import com.recipemanager.sharding.ShardRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * InvalidationBus über Postgres LISTEN/NOTIFY.
+ *
+ * Gesendet wird über den normalen Pool (pg_notify, autocommit), empfangen über eine
+ * eigene, dauerhaft offene Verbindung außerhalb des Hikari-Pools - mit URL, Zugangsdaten
+ * und Treiber-Properties des Pools (bei Sharding: Shard 0, wie pg_notify).
+ * NOTIFY ist nicht persistent: nach einem Verbindungsabbruch wird deshalb alles lokal
+ * verworfen, bei einer wackelnden Verbindung höchstens einmal pro all-debounce-millis
+ * (ein zurückgehaltenes Verwerfen folgt, sobald das Fenster abgelaufen ist).
+ * Nachrichten: "nodeId|1,2,3", höchstens ids-per-message IDs (Payload-Limit 8000 Bytes).
+ */
+@Component
+@ConditionalOnProperty(name = "recipemanager.invalidation.bus", havingValue = "postgres")
+public class PostgresNotifyInvalidationBus implements InvalidationBus {
+
+    private static final Logger log = LoggerFactory.getLogger(PostgresNotifyInvalidationBus.class);
+
+    private static final String CHANNEL = "recipe_invalidation";
+
+    private static final int POLL_MILLIS = 10_000;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${recipemanager.invalidation.ids-per-message:500}")
+    private int idsPerMessage;
+
+    @Value("${recipemanager.invalidation.reconnect-millis:5000}")
+    private long reconnectMillis;
+
+    @Value("${recipemanager.invalidation.all-debounce-millis:30000}")
+    private long allDebounceMillis;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private volatile boolean running = true;
+    private volatile Connection listenConnection;
+    private Thread listener;
+
+    // Nur vom Listener-Thread benutzt
+    private boolean allPending;
+    private long lastAllNanos;
+    private boolean allPublished;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        listener = Thread.ofVirtual().name("invalidation-listener").start(this::listenLoop);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        running = false;
+        closeQuietly(listenConnection);
+        if (listener != null) {
+            listener.interrupt();
+        }
+    }
+
+    // ========== PUBLISH ==========
+
+    @Override
+    public void publish(Set<Long> recipeIds) {
+        List<Long> ids = new ArrayList<>(recipeIds);
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement("SELECT pg_notify(?, ?)")) {
+            for (int from = 0; from < ids.size(); from += idsPerMessage) {
+                List<Long> chunk = ids.subList(from, Math.min(from + idsPerMessage, ids.size()));
+                statement.setString(1, CHANNEL);
+                statement.setString(2, nodeId + "|" + chunk.stream()
+                        .map(String::valueOf)
+                        .collect(Collectors.joining(",")));
+                statement.execute();
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("pg_notify fehlgeschlagen", e);
+        }
+    }
+
+    // ========== LISTEN ==========
+
+    private void listenLoop() {
+        boolean reconnect = false;
+        DataSource listenDataSource;
+        try {
+            listenDataSource = listenDataSource();
+        } catch (SQLException e) {
+            log.error("LISTEN-Verbindung nicht konfigurierbar, keine Invalidierungen anderer Instanzen", e);
+            return;
+        }
+        while (running) {
+            try (Connection connection = listenDataSource.getConnection()) {
+                listenConnection = connection;
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                if (reconnect) {
+                    // Zwischen Abbruch und neuem LISTEN können Nachrichten verloren sein
+                    markAllPending();
+                }
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    int waitMillis = publishPendingAll(System.nanoTime());
+                    PGNotification[] notifications = pgConnection.getNotifications(waitMillis);
+                    if (notifications != null) {
+                        handle(notifications);
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("LISTEN-Verbindung verloren, neuer Versuch in {} ms", reconnectMillis, e);
+                reconnect = true;
+                try {
+                    Thread.sleep(reconnectMillis);
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Eigene Verbindung mit der Konfiguration des Pools (URL, Zugangsdaten, Treiber-Properties)
+     */
+    DataSource listenDataSource() throws SQLException {
+        DataSource home = dataSource instanceof ShardRoutingDataSource shards ? shards.getShard(0) : dataSource;
+        HikariDataSource pool = home.unwrap(HikariDataSource.class);
+        SimpleDriverDataSource listen = DataSourceBuilder.derivedFrom(pool)
+                .type(SimpleDriverDataSource.class)
+                .build();
+        listen.setConnectionProperties(pool.getDataSourceProperties());
+        return listen;
+    }
+
+    /**
+     * Zurückgehaltenes Verwerfen nachholen, sobald das Fenster seit dem letzten abgelaufen ist
+     *
+     * @return Wartezeit in Millisekunden für die nächste Abfrage der Notifications
+     */
+    int publishPendingAll(long nowNanos) {
+        if (!allPending) {
+            return POLL_MILLIS;
+        }
+        long remainingNanos = allPublished
+                ? lastAllNanos + TimeUnit.MILLISECONDS.toNanos(allDebounceMillis) - nowNanos
+                : 0;
+        if (remainingNanos > 0) {
+            return (int) Math.clamp(TimeUnit.NANOSECONDS.toMillis(remainingNanos), 1, POLL_MILLIS);
+        }
+        allPending = false;
+        allPublished = true;
+        lastAllNanos = nowNanos;
+        eventPublisher.publishEvent(RemoteInvalidationEvent.all());
+        return POLL_MILLIS;
+    }
+
+    void markAllPending() {
+        allPending = true;
+    }
+
+    private void handle(PGNotification[] notifications) {
+        Set<Long> recipeIds = Arrays.stream(notifications)
+                .map(PGNotification::getParameter)
+                .filter(payload -> !payload.startsWith(nodeId + "|"))
+                .flatMap(payload -> Arrays.stream(payload.substring(payload.indexOf('|') + 1).split(",")))
+                .filter(id -> !id.isBlank())
+                .map(Long::valueOf)
+                .collect(Collectors.toSet());
+
+        if (!recipeIds.isEmpty()) {
+            eventPublisher.publishEvent(RemoteInvalidationEvent.of(recipeIds));
+        }
+    }
+
+    private static void closeQuietly(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            // beim Herunterfahren egal
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.recipemanager.invalidation;
+
+import java.util.Set;
+
+/**
+ * Eine andere Instanz hat Rezepte geändert (oder Nachrichten können verloren sein).
+ */
+public class RemoteInvalidationEvent {
+
+    private final Set<Long> recipeIds;
+    private final boolean all;
+
+    private RemoteInvalidationEvent(Set<Long> recipeIds, boolean all) {
+        this.recipeIds = recipeIds;
+        this.all = all;
+    }
+
+    public static RemoteInvalidationEvent of(Set<Long> recipeIds) {
+        return new RemoteInvalidationEvent(Set.copyOf(recipeIds), false);
+    }
+
+    /**
+     * Alles verwerfen, z.B. nach einem Verbindungsabbruch, in dem Nachrichten verloren gingen
+     */
+    public static RemoteInvalidationEvent all() {
+        return new RemoteInvalidationEvent(Set.of(), true);
+    }
+
+    public Set<Long> getRecipeIds() {
+        return recipeIds;
+    }
+
+    public boolean isAll() {
+        return all;
+    }
+}
@@ -0,0 +1,122 @@
+package com.recipemanager.jobs;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.recipemanager.dto.ImportItemError;
+import com.recipemanager.dto.ImportJobResponse;
+import com.recipemanager.dto.RecipeRequest;
+import com.recipemanager.enums.JobStatus;
+
+/**
+ * Zustand eines Import-Jobs. Geschrieben nur vom Job-Thread (Fortschritt) und über
+ * cancel(), gelesen von beliebigen Request-Threads über toResponse().
+ */
+public class ImportJob {
+
+    private final String id;
+    private final int total;
+    private final int maxErrors;
+    private final LocalDateTime submittedAt = LocalDateTime.now();
+
+    private List<RecipeRequest> items; // nach dem Lauf freigegeben
+    private JobStatus status = JobStatus.QUEUED;
+    private boolean cancelRequested;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private long startedNanos;
+    private long finishedNanos;
+    private int succeeded;
+    private int failed;
+    private final List<ImportItemError> errors = new ArrayList<>();
+
+    ImportJob(String id, List<RecipeRequest> items, int maxErrors) {
+        this.id = id;
+        this.items = items;
+        this.total = items.size();
+        this.maxErrors = maxErrors;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public synchronized JobStatus getStatus() {
+        return status;
+    }
+
+    public synchronized boolean isFinished() {
+        return status != JobStatus.QUEUED && status != JobStatus.RUNNING;
+    }
+
+    synchronized boolean isCancelRequested() {
+        return cancelRequested;
+    }
+
+    synchronized LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    synchronized List<RecipeRequest> getItems() {
+        return items;
+    }
+
+    // ========== UPDATE ==========
+
+    /**
+     * @return false, wenn der Job schon vor dem Start abgebrochen wurde
+     */
+    synchronized boolean start() {
+        if (status != JobStatus.QUEUED) {
+            return false;
+        }
+        status = JobStatus.RUNNING;
+        startedAt = LocalDateTime.now();
+        startedNanos = System.nanoTime();
+        return true;
+    }
+
+    synchronized void succeeded(int count) {
+        succeeded += count;
+    }
+
+    synchronized void failed(int index, String title, String message) {
+        failed++;
+        if (errors.size() < maxErrors) {
+            errors.add(new ImportItemError(index, title, message));
+        }
+    }
+
+    synchronized void finish(JobStatus result) {
+        status = result;
+        finishedAt = LocalDateTime.now();
+        finishedNanos = System.nanoTime();
+        items = null;
+    }
+
+    /**
+     * Wartende Jobs enden sofort, laufende nach dem aktuellen Chunk
+     * (bereits committete Chunks bleiben importiert)
+     */
+    synchronized void cancel() {
+        if (status == JobStatus.QUEUED) {
+            finish(JobStatus.CANCELLED);
+        } else if (status == JobStatus.RUNNING) {
+            cancelRequested = true;
+        }
+    }
+
+    // ========== READ ==========
+
+    public synchronized ImportJobResponse toResponse() {
+        int processed = succeeded + failed;
+        double itemsPerSecond = 0;
+        if (startedAt != null) {
+            long elapsed = (finishedAt != null ? finishedNanos : System.nanoTime()) - startedNanos;
+            itemsPerSecond = elapsed > 0 ? processed * 1_000_000_000.0 / elapsed : 0;
+        }
+        return new ImportJobResponse(id, status, cancelRequested, total, processed, succeeded, failed,
+                itemsPerSecond, submittedAt, startedAt, finishedAt, List.copyOf(errors));
+    }
+}
@@ -0,0 +1,253 @@
+package com.recipemanager.jobs;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import com.recipemanager.dto.RecipeRequest;
+import com.recipemanager.enums.JobStatus;
+import com.recipemanager.service.RecipeService;
+import com.recipemanager.sharding.ShardRouter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/**
+ * Asynchrone Massen-Imports (POST /api/jobs/imports).
+ *
+ * Jeder Job läuft auf einem eigenen virtuellen Thread, gleichzeitig aber höchstens
+ * max-concurrent-jobs (Semaphore, der Rest wartet als QUEUED) - so bleiben Verbindungen
+ * im Pool für die normalen Requests. Ein Job arbeitet den Payload in Chunks von
+ * chunk-size Rezepten ab, jeder Chunk eine Transaktion (RecipeService.importRecipes),
+ * mit Sharding eine pro Shard.
+ * Rollt ein Chunk zurück, wird er Rezept für Rezept wiederholt, damit nur die
+ * fehlerhaften Einträge als Fehler im Job landen.
+ *
+ * Jobs liegen nur im Speicher dieser Instanz und werden retention-minutes nach
+ * dem Ende verworfen.
+ */
+@Service
+public class ImportJobService {
+
+    private static final Logger log = LoggerFactory.getLogger(ImportJobService.class);
+
+    @Autowired
+    private RecipeService recipeService;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Value("${recipemanager.import.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${recipemanager.import.max-items:50000}")
+    private int maxItems;
+
+    @Value("${recipemanager.import.max-concurrent-jobs:2}")
+    private int maxConcurrentJobs;
+
+    @Value("${recipemanager.import.max-queued-jobs:20}")
+    private int maxQueuedJobs;
+
+    @Value("${recipemanager.import.max-errors:1000}")
+    private int maxErrors;
+
+    @Value("${recipemanager.import.retention-minutes:60}")
+    private long retentionMinutes;
+
+    private final Map<String, ImportJob> jobs = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("import-job-", 0).factory());
+
+    private Semaphore running;
+    private Counter importedCounter;
+    private Counter failedCounter;
+
+    @PostConstruct
+    void init() {
+        running = new Semaphore(maxConcurrentJobs);
+        importedCounter = meterRegistry.counter("recipemanager.import.items", "outcome", "imported");
+        failedCounter = meterRegistry.counter("recipemanager.import.items", "outcome", "failed");
+        Gauge.builder("recipemanager.import.jobs.active", this, service -> service.activeJobs())
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // ========== CREATE ==========
+
+    /**
+     * Import-Job anlegen und im Hintergrund starten
+     *
+     * @throws IllegalArgumentException    bei leerem oder zu großem Payload
+     * @throws RejectedExecutionException  wenn schon zu viele Jobs laufen oder warten
+     */
+    public ImportJob submit(List<RecipeRequest> items) {
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("Import enthält keine Rezepte");
+        }
+        if (items.size() > maxItems) {
+            throw new IllegalArgumentException("Import mit " + items.size() + " Rezepten, max. " + maxItems);
+        }
+        purgeFinished();
+        if (activeJobs() >= maxConcurrentJobs + maxQueuedJobs) {
+            throw new RejectedExecutionException("Zu viele laufende Import-Jobs");
+        }
+
+        ImportJob job = new ImportJob(UUID.randomUUID().toString(), new ArrayList<>(items), maxErrors);
+        jobs.put(job.getId(), job);
+        executor.execute(() -> run(job));
+        return job;
+    }
+
+    // ========== GET ==========
+
+    public Optional<ImportJob> getJob(String id) {
+        return Optional.ofNullable(jobs.get(id));
+    }
+
+    // ========== CANCEL ==========
+
+    /**
+     * @throws IllegalArgumentException wenn es den Job nicht (mehr) gibt
+     */
+    public ImportJob cancel(String id) {
+        ImportJob job = getJob(id)
+                .orElseThrow(() -> new IllegalArgumentException("Import-Job nicht gefunden: " + id));
+        job.cancel();
+        return job;
+    }
+
+    // ========== Helper ==========
+
+    private void run(ImportJob job) {
+        try {
+            running.acquire();
+        } catch (InterruptedException e) {
+            job.finish(JobStatus.CANCELLED);
+            return;
+        }
+        try {
+            if (!job.start()) {
+                return;
+            }
+            List<RecipeRequest> items = job.getItems();
+            for (int from = 0; from < items.size(); from += chunkSize) {
+                if (job.isCancelRequested() || Thread.currentThread().isInterrupted()) {
+                    job.finish(JobStatus.CANCELLED);
+                    return;
+                }
+                importChunk(job, items, from, Math.min(from + chunkSize, items.size()));
+            }
+            job.finish(JobStatus.COMPLETED);
+        } catch (RuntimeException e) {
+            log.warn("Import-Job {} abgebrochen", job.getId(), e);
+            job.finish(JobStatus.FAILED);
+        } finally {
+            running.release();
+        }
+    }
+
+    private void importChunk(ImportJob job, List<RecipeRequest> items, int from, int to) {
+        // Shard -> Indizes der gültigen Einträge
+        Map<Integer, List<Integer>> byShard = new TreeMap<>();
+        for (int index = from; index < to; index++) {
+            RecipeRequest item = items.get(index);
+            String violations = validate(item);
+            if (violations != null) {
+                fail(job, index, item, violations);
+            } else {
+                byShard.computeIfAbsent(shardRouter.shardOf(item), shard -> new ArrayList<>()).add(index);
+            }
+        }
+        byShard.forEach((shard, indexes) -> importOnShard(job, shard, indexes,
+                indexes.stream().map(items::get).toList()));
+    }
+
+    private void importOnShard(ImportJob job, int shard, List<Integer> indexes, List<RecipeRequest> valid) {
+        try {
+            shardRouter.onShard(shard, () -> recipeService.importRecipes(valid));
+            job.succeeded(valid.size());
+            importedCounter.increment(valid.size());
+        } catch (RuntimeException chunkError) {
+            // Chunk zurückgerollt: einzeln wiederholen, um die schuldigen Einträge zu finden
+            for (int i = 0; i < valid.size(); i++) {
+                try {
+                    recipeService.createRecipe(valid.get(i));
+                    job.succeeded(1);
+                    importedCounter.increment();
+                } catch (RuntimeException itemError) {
+                    fail(job, indexes.get(i), valid.get(i), messageOf(itemError));
+                }
+            }
+        }
+    }
+
+    private String validate(RecipeRequest item) {
+        if (item == null) {
+            return "Leerer Eintrag";
+        }
+        Set<ConstraintViolation<RecipeRequest>> violations = validator.validate(item);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private void fail(ImportJob job, int index, RecipeRequest item, String message) {
+        job.failed(index, item != null ? item.getTitle() : null, message);
+        failedCounter.increment();
+    }
+
+    private static String messageOf(RuntimeException e) {
+        if (e instanceof DataIntegrityViolationException) {
+            // z.B. dieselbe Zutat zweimal im Rezept (uk_ingredients_recipe_id_title)
+            return "Verletzt einen Datenbank-Constraint (doppelte Zutat?)";
+        }
+        return e.getMessage();
+    }
+
+    private long activeJobs() {
+        return jobs.values().stream().filter(job -> !job.isFinished()).count();
+    }
+
+    private void purgeFinished() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(retentionMinutes);
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(cutoff));
+    }
+}
@@ -0,0 +1,33 @@
+package com.recipemanager.maintenance;
+
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Soft-gelöschte Rezepte
+ * GET  /actuator/recipepurge -> {"backlog": 12}
+ * POST /actuator/recipepurge -> {"purged": 12, "backlog": 0} (ohne Zeitfenster)
+ */
+@Component
+@Endpoint(id = "recipepurge")
+public class RecipePurgeEndpoint {
+
+    @Autowired
+    private RecipePurgeJob recipePurgeJob;
+
+    @ReadOperation
+    public Map<String, Object> backlog() {
+        return Map.of("backlog", recipePurgeJob.refreshBacklog());
+    }
+
+    @WriteOperation
+    public Map<String, Object> purge() {
+        int purged = recipePurgeJob.purge();
+        return Map.of("purged", purged, "backlog", recipePurgeJob.refreshBacklog());
+    }
+}
@@ -0,0 +1,189 @@
+package com.recipemanager.maintenance;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.recipemanager.repository.RecipeRepository;
+import com.recipemanager.sharding.ShardRouter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Entfernt soft-gelöschte Rezepte (deleted_at) physisch, samt Zutaten und Nährwerten.
+ *
+ * Läuft in Batches von batch-size Rezepten, jeder Batch in einer eigenen kurzen
+ * Transaktion, mit pause-millis Pause dazwischen - die Sperren auf ingredients
+ * bleiben so klein und kurz. Automatisch nur im Zeitfenster window-start bis
+ * window-end (lokale Zeit, darf über Mitternacht gehen), und nur für Rezepte,
+ * die seit mindestens grace-minutes gelöscht sind.
+ *
+ * Mit Sharding räumt jeder Batch auf allen Shards parallel je batch-size Rezepte ab.
+ *
+ * Metriken: recipemanager.purge.backlog (noch nicht entfernte Rezepte, Stand des
+ * letzten Laufs) und recipemanager.purge.purged.
+ */
+@Component
+public class RecipePurgeJob {
+
+    private static final Logger log = LoggerFactory.getLogger(RecipePurgeJob.class);
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Value("${recipemanager.purge.batch-size:200}")
+    private int batchSize;
+
+    @Value("${recipemanager.purge.pause-millis:100}")
+    private long pauseMillis;
+
+    @Value("${recipemanager.purge.grace-minutes:0}")
+    private long graceMinutes;
+
+    // 0 = nur manuell (POST /actuator/recipepurge)
+    @Value("${recipemanager.purge.interval-minutes:0}")
+    private long intervalMinutes;
+
+    @Value("${recipemanager.purge.window-start:00:00}")
+    private LocalTime windowStart;
+
+    @Value("${recipemanager.purge.window-end:00:00}")
+    private LocalTime windowEnd;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "recipe-purge");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final AtomicLong backlog = new AtomicLong();
+    private TransactionTemplate transactionTemplate;
+    private Counter purgedCounter;
+
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        purgedCounter = meterRegistry.counter("recipemanager.purge.purged");
+        Gauge.builder("recipemanager.purge.backlog", backlog, AtomicLong::get).register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        shardRouter.onEachShard(() -> transactionTemplate.execute(status -> {
+            recipeRepository.createPurgeIndex();
+            return null;
+        }));
+        if (intervalMinutes > 0) {
+            scheduler.scheduleWithFixedDelay(this::runQuietly, 1, intervalMinutes * 60, TimeUnit.SECONDS);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Alle fälligen Rezepte entfernen, ohne Zeitfenster
+     *
+     * @return Anzahl entfernter Rezepte
+     */
+    public synchronized int purge() {
+        return purgeWhile(() -> true);
+    }
+
+    /**
+     * Anzahl noch nicht entfernter Rezepte (frisch gezählt, aktualisiert die Metrik)
+     */
+    public long refreshBacklog() {
+        long deleted = shardRouter.onEachShard(recipeRepository::countDeleted)
+                .stream()
+                .mapToLong(Long::longValue)
+                .sum();
+        backlog.set(deleted);
+        return deleted;
+    }
+
+    /**
+     * Gleiche Werte für Start und Ende = immer
+     */
+    boolean isInWindow(LocalTime now) {
+        if (windowStart.equals(windowEnd)) {
+            return true;
+        }
+        if (windowStart.isBefore(windowEnd)) {
+            return !now.isBefore(windowStart) && now.isBefore(windowEnd);
+        }
+        return !now.isBefore(windowStart) || now.isBefore(windowEnd);
+    }
+
+    private int purgeWhile(BooleanSupplier proceed) {
+        int purged = 0;
+        try {
+            while (proceed.getAsBoolean()) {
+                int batch = purgeBatch();
+                if (batch == 0) {
+                    break;
+                }
+                purged += batch;
+                purgedCounter.increment(batch);
+                if (pauseMillis > 0) {
+                    Thread.sleep(pauseMillis);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            refreshBacklog();
+        }
+        return purged;
+    }
+
+    private int purgeBatch() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(graceMinutes);
+        return shardRouter.onEachShard(() -> transactionTemplate.execute(status -> {
+            List<Long> ids = recipeRepository.findPurgeableIds(cutoff, Limit.of(batchSize));
+            return ids.isEmpty() ? 0 : recipeRepository.purge(ids);
+        })).stream().mapToInt(Integer::intValue).sum();
+    }
+
+    private synchronized void runQuietly() {
+        try {
+            int purged = purgeWhile(() -> isInWindow(LocalTime.now()));
+            if (purged > 0) {
+                log.info("{} gelöschte Rezepte entfernt, {} verbleibend", purged, backlog.get());
+            }
+        } catch (RuntimeException e) {
+            log.warn("Entfernen gelöschter Rezepte fehlgeschlagen", e);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.recipemanager.maintenance;
+
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reparatur der Rezept-Summen manuell anstoßen
+ * POST /actuator/recipesummaryrepair -> {"repaired": 3}
+ */
+@Component
+@Endpoint(id = "recipesummaryrepair")
+public class RecipeSummaryRepairEndpoint {
+
+    @Autowired
+    private RecipeSummaryRepairJob recipeSummaryRepairJob;
+
+    @WriteOperation
+    public Map<String, Object> repair() {
+        return Map.of("repaired", recipeSummaryRepairJob.repair());
+    }
+}
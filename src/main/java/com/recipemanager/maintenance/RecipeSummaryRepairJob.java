@@ -0,0 +1,225 @@
+package com.recipemanager.maintenance;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.recipemanager.invalidation.InvalidationBatcher;
+import com.recipemanager.invalidation.RemoteInvalidationEvent;
+import com.recipemanager.model.Ingredient;
+import com.recipemanager.model.RecipeNutrition;
+import com.recipemanager.repository.IngredientRepository;
+import com.recipemanager.repository.RecipeNutritionRepository;
+import com.recipemanager.repository.RecipeRepository;
+import com.recipemanager.service.NutritionCalculator;
+import com.recipemanager.service.NutritionCalculator.Contribution;
+import com.recipemanager.service.NutritionService;
+import com.recipemanager.service.RecipeViewService;
+import com.recipemanager.sharding.ShardRouter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Prüft die denormalisierten Summen gegen die Zutaten-Tabelle und korrigiert Abweichungen:
+ * ingredient_count auf recipes und die Nährwert-Summen in recipe_nutrition.
+ *
+ * Läuft in Batches von batch-size Rezepten (Keyset über die ID), jeder Batch in
+ * einer eigenen kurzen Transaktion. Geschrieben wird nur, wenn ein Batch Abweichungen
+ * hat. Abweichungen entstehen durch Schreibzugriffe an den Services vorbei
+ * (SQL-Konsole, Migrationen), bestehende Daten vor Einführung der Spalten und bei
+ * den Nährwerten durch Rundung der inkrementellen Deltas.
+ * Mit Sharding läuft die Prüfung parallel auf allen Shards.
+ *
+ * Korrigierte Rezepte laufen an den Events der Services vorbei: recipe_view wird im
+ * selben Batch neu geschrieben, lokale Caches (Second-Level-Cache, Detail-JSON,
+ * Katalog-Snapshot) bekommen ein RemoteInvalidationEvent, andere Instanzen den Bus.
+ */
+@Component
+public class RecipeSummaryRepairJob {
+
+    private static final Logger log = LoggerFactory.getLogger(RecipeSummaryRepairJob.class);
+
+    // Abweichung der Nährwert-Summen, die noch als Rundung gilt (relativ, mindestens absolut)
+    private static final double TOLERANCE = 1e-6;
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    @Autowired
+    private IngredientRepository ingredientRepository;
+
+    @Autowired
+    private RecipeNutritionRepository recipeNutritionRepository;
+
+    @Autowired
+    private NutritionCalculator nutritionCalculator;
+
+    @Autowired
+    private NutritionService nutritionService;
+
+    @Autowired
+    private RecipeViewService recipeViewService;
+
+    @Autowired
+    private InvalidationBatcher invalidationBatcher;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Value("${recipemanager.summary-repair.batch-size:500}")
+    private int batchSize;
+
+    // 0 = nur manuell (POST /actuator/recipesummaryrepair)
+    @Value("${recipemanager.summary-repair.interval-minutes:0}")
+    private long intervalMinutes;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "summary-repair");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private TransactionTemplate transactionTemplate;
+    private Counter repairedCounter;
+
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        repairedCounter = meterRegistry.counter("recipemanager.summary.repaired");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (intervalMinutes > 0) {
+            scheduler.scheduleWithFixedDelay(this::repairQuietly, 1, intervalMinutes * 60, TimeUnit.SECONDS);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Alle Rezepte prüfen
+     *
+     * @return Anzahl korrigierter Rezepte
+     */
+    public synchronized int repair() {
+        Set<Long> repaired = new TreeSet<>();
+        shardRouter.onEachShard(this::repairShard).forEach(repaired::addAll);
+        if (!repaired.isEmpty()) {
+            eventPublisher.publishEvent(RemoteInvalidationEvent.of(repaired));
+            invalidationBatcher.enqueue(repaired);
+        }
+        repairedCounter.increment(repaired.size());
+        return repaired.size();
+    }
+
+    private Set<Long> repairShard() {
+        Set<Long> repaired = new TreeSet<>();
+        long after = 0;
+        while (true) {
+            List<Long> ids = recipeRepository.findIdsAfter(after, Limit.of(batchSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            repaired.addAll(repairBatch(ids));
+            after = ids.get(ids.size() - 1);
+        }
+        return repaired;
+    }
+
+    private Set<Long> repairBatch(List<Long> ids) {
+        return transactionTemplate.execute(status -> {
+            Set<Long> repaired = new TreeSet<>();
+            List<Long> counts = recipeRepository.findIngredientCountMismatches(ids.get(0), ids.get(ids.size() - 1));
+            if (!counts.isEmpty()) {
+                recipeRepository.recalculateIngredientCounts(counts);
+                repaired.addAll(counts);
+            }
+            repaired.addAll(repairNutrition(ids));
+            if (!repaired.isEmpty() && recipeViewService.isServing()) {
+                recipeViewService.render(repaired);
+            }
+            return repaired;
+        });
+    }
+
+    /**
+     * Gespeicherte Nährwert-Summen gegen die Summe der Zutaten (fehlende Zeile: neu rechnen)
+     *
+     * @return Korrigierte Rezepte
+     */
+    private List<Long> repairNutrition(List<Long> ids) {
+        Map<Long, List<Ingredient>> ingredients = ingredientRepository.findByRecipeIdIn(ids).stream()
+                .collect(Collectors.groupingBy(ingredient -> ingredient.getRecipe().getId()));
+        Map<Long, RecipeNutrition> stored = recipeNutritionRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(RecipeNutrition::getRecipeId, Function.identity()));
+
+        List<Long> repaired = new ArrayList<>();
+        for (Long id : ids) {
+            List<Ingredient> own = ingredients.getOrDefault(id, List.of());
+            if (!matches(stored.get(id), nutritionCalculator.totalOf(own))) {
+                nutritionService.recalculate(id, own);
+                repaired.add(id);
+            }
+        }
+        return repaired;
+    }
+
+    private static boolean matches(RecipeNutrition stored, Contribution total) {
+        return stored != null
+                && stored.getUnmatchedIngredients() == total.getUnmatched()
+                && close(stored.getKcal(), total.getKcal())
+                && close(stored.getProtein(), total.getProtein())
+                && close(stored.getFat(), total.getFat())
+                && close(stored.getCarbohydrates(), total.getCarbohydrates());
+    }
+
+    private static boolean close(double stored, double expected) {
+        return Math.abs(stored - expected) <= TOLERANCE * Math.max(1, Math.abs(expected));
+    }
+
+    private void repairQuietly() {
+        try {
+            int repaired = repair();
+            if (repaired > 0) {
+                log.info("Summen bei {} Rezepten korrigiert", repaired);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Reparatur der Rezept-Summen fehlgeschlagen", e);
+        }
+    }
+}
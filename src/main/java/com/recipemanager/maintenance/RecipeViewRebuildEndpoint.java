@@ -0,0 +1,25 @@
+package com.recipemanager.maintenance;
+
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Lesemodell recipe_view neu aufbauen
+ * POST /actuator/recipeviewrebuild -> {"rendered": 1200}
+ */
+@Component
+@Endpoint(id = "recipeviewrebuild")
+public class RecipeViewRebuildEndpoint {
+
+    @Autowired
+    private RecipeViewRebuildJob recipeViewRebuildJob;
+
+    @WriteOperation
+    public Map<String, Object> rebuild() {
+        return Map.of("rendered", recipeViewRebuildJob.rebuild());
+    }
+}
@@ -0,0 +1,92 @@
+package com.recipemanager.maintenance;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.recipemanager.repository.RecipeRepository;
+import com.recipemanager.repository.RecipeViewRepository;
+import com.recipemanager.service.RecipeViewService;
+import com.recipemanager.sharding.ShardRouter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Baut das Lesemodell recipe_view komplett neu auf.
+ *
+ * Läuft in Batches von batch-size Rezepten (Keyset über die ID), jeder Batch in
+ * einer eigenen kurzen Transaktion; danach werden Zeilen ohne Rezept entfernt.
+ * Nötig nach dem Einschalten von recipemanager.recipe-view.enabled und nach
+ * Schreibzugriffen an den Services vorbei. Mit Sharding parallel auf allen Shards.
+ */
+@Component
+public class RecipeViewRebuildJob {
+
+    private static final Logger log = LoggerFactory.getLogger(RecipeViewRebuildJob.class);
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    @Autowired
+    private RecipeViewRepository recipeViewRepository;
+
+    @Autowired
+    private RecipeViewService recipeViewService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Value("${recipemanager.recipe-view.batch-size:500}")
+    private int batchSize;
+
+    private TransactionTemplate transactionTemplate;
+    private Counter renderedCounter;
+
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        renderedCounter = meterRegistry.counter("recipemanager.recipe-view.rendered");
+    }
+
+    /**
+     * Alle Zeilen neu schreiben
+     *
+     * @return Anzahl geschriebener Zeilen
+     */
+    public synchronized int rebuild() {
+        int rendered = shardRouter.onEachShard(this::rebuildShard).stream().mapToInt(Integer::intValue).sum();
+        renderedCounter.increment(rendered);
+        log.info("recipe_view neu aufgebaut: {} Rezepte", rendered);
+        return rendered;
+    }
+
+    private int rebuildShard() {
+        int rendered = 0;
+        long after = 0;
+        while (true) {
+            List<Long> ids = recipeRepository.findIdsAfter(after, Limit.of(batchSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            rendered += transactionTemplate.execute(status -> recipeViewService.render(ids));
+            after = ids.get(ids.size() - 1);
+        }
+        transactionTemplate.executeWithoutResult(status -> recipeViewRepository.deleteOrphans());
+        return rendered;
+    }
+}
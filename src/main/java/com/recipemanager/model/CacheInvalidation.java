@@ -0,0 +1,60 @@
+package com.recipemanager.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * Ein Batch Rezept-Invalidierungen für die anderen Instanzen (JDBC-Polling-Bus).
+ * Die IDs stehen kommagetrennt in einer Zeile, damit ein Batch eine einzige Zeile ist.
+ */
+@Entity
+@Table(name = "cache_invalidations", indexes = @Index(name = "idx_cache_invalidations_created_at", columnList = "created_at"))
+public class CacheInvalidation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "node_id", nullable = false, length = 36)
+    private String nodeId;
+
+    @Column(name = "recipe_ids", nullable = false, columnDefinition = "TEXT")
+    private String recipeIds;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // --- Constructors ---
+    public CacheInvalidation() {
+    }
+
+    public CacheInvalidation(String nodeId, String recipeIds) {
+        this.nodeId = nodeId;
+        this.recipeIds = recipeIds;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    // --- Getters ---
+    public Long getId() {
+        return id;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public String getRecipeIds() {
+        return recipeIds;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -0,0 +1,42 @@
+package com.recipemanager.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Einzige Zeile (ID 1) mit der zuletzt vergebenen Sequenz des Change-Feeds.
+ * Schreibende Transaktionen sperren sie erst kurz vor dem Commit, die Sperre
+ * hält bis zum Commit - die Sequenzen steigen damit in Commit-Reihenfolge.
+ */
+@Entity
+@Table(name = "change_feed_clock")
+public class ChangeFeedClock {
+
+    public static final int ID = 1;
+
+    @Id
+    private Integer id;
+
+    @Column(nullable = false)
+    private Long seq;
+
+    // --- Constructors ---
+    public ChangeFeedClock() {
+    }
+
+    public ChangeFeedClock(Long seq) {
+        this.id = ID;
+        this.seq = seq;
+    }
+
+    // --- Getters ---
+    public Integer getId() {
+        return id;
+    }
+
+    public Long getSeq() {
+        return seq;
+    }
+}
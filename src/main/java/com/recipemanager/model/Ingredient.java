@@ -1,7 +1,13 @@
 package com.recipemanager.model;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.SQLRestriction;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.recipemanager.enums.Unit;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -9,12 +15,21 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 
 @Entity
-@Table(name = "ingredients")
+@Table(name = "ingredients", indexes = {
+        // Eindeutig pro Rezept (Upsert-Schlüssel), deckt auch Abfragen nach recipe_id ab
+        @Index(name = "uk_ingredients_recipe_id_title", columnList = "recipe_id, title", unique = true),
+        @Index(name = "idx_ingredients_title_recipe_id", columnList = "title, recipe_id")
+})
+// Zutaten soft-gelöschter Rezepte ausblenden, bis RecipePurgeJob sie entfernt
+@SQLRestriction("EXISTS (SELECT 1 FROM recipes r WHERE r.id = recipe_id AND r.deleted_at IS NULL)")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Ingredient {
 
     @Id
@@ -31,7 +46,8 @@ public class Ingredient {
     @Column(nullable = false)
     private Unit unit;
 
-    // 🔗 Beziehung zu Recipe
+    // 🔗 Beziehung zu Recipe (nicht serialisieren, sonst Recipe -> ingredients -> recipe -> ...)
+    @JsonIgnore
     @ManyToOne
     @JoinColumn(name = "recipe_id", nullable = false)
     private Recipe recipe;
@@ -47,6 +63,15 @@ public class Ingredient {
         this.recipe = recipe;
     }
 
+    /**
+     * Kopie mit derselben ID (nicht verwaltet), das Rezept wird geteilt
+     */
+    public Ingredient copy() {
+        Ingredient copy = new Ingredient(title, amount, unit, recipe);
+        copy.id = id;
+        return copy;
+    }
+
     // --- Getters and Setters ---
     public Long getId() {
         return id;
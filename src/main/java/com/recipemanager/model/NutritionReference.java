@@ -0,0 +1,83 @@
+package com.recipemanager.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Nährwerte pro 100 g, Schlüssel ist der normalisierte Zutat-Name
+ * (siehe NutritionCalculator.normalize). Die Dichte rechnet ml in g um.
+ */
+@Entity
+@Table(name = "nutrition_reference")
+public class NutritionReference {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "normalized_name", nullable = false, unique = true, length = 100)
+    private String normalizedName;
+
+    @Column(name = "kcal_per_100g", nullable = false)
+    private double kcalPer100g;
+
+    @Column(name = "protein_per_100g", nullable = false)
+    private double proteinPer100g;
+
+    @Column(name = "fat_per_100g", nullable = false)
+    private double fatPer100g;
+
+    @Column(name = "carbohydrates_per_100g", nullable = false)
+    private double carbohydratesPer100g;
+
+    // g pro ml, für ML/L/TL/EL/TASSE/GLAS
+    @Column(name = "density", nullable = false)
+    private double density = 1.0;
+
+    // --- Constructors ---
+    public NutritionReference() {
+    }
+
+    public NutritionReference(String normalizedName, double kcalPer100g, double proteinPer100g,
+            double fatPer100g, double carbohydratesPer100g, double density) {
+        this.normalizedName = normalizedName;
+        this.kcalPer100g = kcalPer100g;
+        this.proteinPer100g = proteinPer100g;
+        this.fatPer100g = fatPer100g;
+        this.carbohydratesPer100g = carbohydratesPer100g;
+        this.density = density;
+    }
+
+    // --- Getters ---
+    public Long getId() {
+        return id;
+    }
+
+    public String getNormalizedName() {
+        return normalizedName;
+    }
+
+    public double getKcalPer100g() {
+        return kcalPer100g;
+    }
+
+    public double getProteinPer100g() {
+        return proteinPer100g;
+    }
+
+    public double getFatPer100g() {
+        return fatPer100g;
+    }
+
+    public double getCarbohydratesPer100g() {
+        return carbohydratesPer100g;
+    }
+
+    public double getDensity() {
+        return density;
+    }
+}
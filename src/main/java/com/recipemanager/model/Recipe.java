@@ -4,17 +4,37 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.SQLRestriction;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 
 @Entity
-@Table(name = "recipes")
+@Table(name = "recipes", indexes = {
+        @Index(name = "idx_recipes_created_at", columnList = "created_at, id"),
+        @Index(name = "idx_recipes_title", columnList = "title, id"),
+        @Index(name = "idx_recipes_ingredient_count", columnList = "ingredient_count, id"),
+        @Index(name = "uk_recipes_content_fingerprint", columnList = "content_fingerprint", unique = true)
+        // idx_recipes_deleted_at: partieller Index, legt RecipePurgeJob auf PostgreSQL an
+})
+// Soft-Delete: gelöschte Rezepte sind für alle JPA-Abfragen unsichtbar,
+// natives SQL muss deleted_at selbst prüfen
+@SQLRestriction("deleted_at IS NULL")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Recipe {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -29,7 +49,35 @@ public class Recipe {
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // Denormalisiert für die Liste (Sortieren/Filtern ohne COUNT über ingredients),
+    // wird in RecipeService/IngredientService gepflegt und von RecipeSummaryRepairJob geprüft
+    @ColumnDefault("0")
+    @Column(name = "ingredient_count", nullable = false)
+    private int ingredientCount;
+
+    // RecipeFingerprint aus Titel + Zutaten, eindeutig (null bei Rezepten von vor der Spalte)
+    @JsonIgnore
+    @Column(name = "content_fingerprint", length = 64)
+    private String contentFingerprint;
+
+    // Portionen (optional, für Nährwerte pro Portion)
+    @Column
+    private Integer servings;
+
+    // Sequenz des letzten Eintrags im Change-Feed (recipe_changes.seq), beim Commit gesetzt
+    @Column(name = "change_seq")
+    private Long changeSeq;
+
+    // Gesetzt von RecipeService.deleteRecipe, physisch entfernt von RecipePurgeJob
+    @JsonIgnore
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
     @OneToMany(mappedBy = "recipe", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     private List<Ingredient> ingredients = new ArrayList<>();
 
     // Konstruktoren
@@ -41,6 +89,7 @@ public class Recipe {
         this.title = title;
         this.description = description;
         this.createdAt = LocalDateTime.now();
+        this.updatedAt = this.createdAt;
         this.ingredients = new ArrayList<>();
     }
 
@@ -79,6 +128,46 @@ public class Recipe {
         this.createdAt = createdAt;
     }
 
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public int getIngredientCount() {
+        return ingredientCount;
+    }
+
+    public void setIngredientCount(int ingredientCount) {
+        this.ingredientCount = ingredientCount;
+    }
+
+    public Integer getServings() {
+        return servings;
+    }
+
+    public void setServings(Integer servings) {
+        this.servings = servings;
+    }
+
+    public Long getChangeSeq() {
+        return changeSeq;
+    }
+
+    public void setChangeSeq(Long changeSeq) {
+        this.changeSeq = changeSeq;
+    }
+
+    public LocalDateTime getDeletedAt() {
+        return deletedAt;
+    }
+
+    public void setDeletedAt(LocalDateTime deletedAt) {
+        this.deletedAt = deletedAt;
+    }
+
     public List<Ingredient> getIngredients() {
         return ingredients;
     }
@@ -86,4 +175,12 @@ public class Recipe {
     public void setIngredients(List<Ingredient> ingredients) {
         this.ingredients = ingredients != null ? ingredients : new ArrayList<>();
     }
+
+    public String getContentFingerprint() {
+        return contentFingerprint;
+    }
+
+    public void setContentFingerprint(String contentFingerprint) {
+        this.contentFingerprint = contentFingerprint;
+    }
 }
@@ -0,0 +1,77 @@
+package com.recipemanager.model;
+
+import java.time.LocalDateTime;
+
+import com.recipemanager.enums.ChangeType;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Ein Eintrag im Change-Feed. Die ID wird beim Insert vergeben, der Cursor ist seq:
+ * erst kurz vor dem Commit vergeben und in Commit-Reihenfolge steigend (ChangeFeedClock).
+ * Bewusst ohne Fremdschlüssel: DELETED-Einträge (Tombstones) überleben das Rezept.
+ */
+@Entity
+@Table(name = "recipe_changes")
+public class RecipeChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "recipe_id", nullable = false)
+    private Long recipeId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ChangeType type;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+
+    // null bis kurz vor dem Commit
+    @Column(unique = true)
+    private Long seq;
+
+    // --- Constructors ---
+    public RecipeChange() {
+    }
+
+    public RecipeChange(Long recipeId, ChangeType type) {
+        this.recipeId = recipeId;
+        this.type = type;
+        this.changedAt = LocalDateTime.now();
+    }
+
+    // --- Getters ---
+    public Long getId() {
+        return id;
+    }
+
+    public Long getRecipeId() {
+        return recipeId;
+    }
+
+    public ChangeType getType() {
+        return type;
+    }
+
+    public LocalDateTime getChangedAt() {
+        return changedAt;
+    }
+
+    public Long getSeq() {
+        return seq;
+    }
+
+    public void setSeq(Long seq) {
+        this.seq = seq;
+    }
+}
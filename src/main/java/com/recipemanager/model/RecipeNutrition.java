@@ -0,0 +1,102 @@
+package com.recipemanager.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Materialisierte Nährwert-Summen eines Rezepts (gleiche ID wie das Rezept).
+ * Wird bei jedem Zutaten-Schreibzugriff inkrementell angepasst, nicht beim Lesen berechnet.
+ */
+@Entity
+@Table(name = "recipe_nutrition")
+public class RecipeNutrition {
+
+    @Id
+    @Column(name = "recipe_id")
+    private Long recipeId;
+
+    @Column(nullable = false)
+    private double kcal;
+
+    @Column(nullable = false)
+    private double protein;
+
+    @Column(nullable = false)
+    private double fat;
+
+    @Column(nullable = false)
+    private double carbohydrates;
+
+    // Zutaten ohne Referenzwerte (fehlen in den Summen)
+    @Column(name = "unmatched_ingredients", nullable = false)
+    private int unmatchedIngredients;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // --- Constructors ---
+    public RecipeNutrition() {
+    }
+
+    public RecipeNutrition(Long recipeId) {
+        this.recipeId = recipeId;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    // --- Getters und Setter ---
+    public Long getRecipeId() {
+        return recipeId;
+    }
+
+    public double getKcal() {
+        return kcal;
+    }
+
+    public void setKcal(double kcal) {
+        this.kcal = kcal;
+    }
+
+    public double getProtein() {
+        return protein;
+    }
+
+    public void setProtein(double protein) {
+        this.protein = protein;
+    }
+
+    public double getFat() {
+        return fat;
+    }
+
+    public void setFat(double fat) {
+        this.fat = fat;
+    }
+
+    public double getCarbohydrates() {
+        return carbohydrates;
+    }
+
+    public void setCarbohydrates(double carbohydrates) {
+        this.carbohydrates = carbohydrates;
+    }
+
+    public int getUnmatchedIngredients() {
+        return unmatchedIngredients;
+    }
+
+    public void setUnmatchedIngredients(int unmatchedIngredients) {
+        this.unmatchedIngredients = unmatchedIngredients;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
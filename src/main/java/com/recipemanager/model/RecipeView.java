@@ -0,0 +1,57 @@
+package com.recipemanager.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Lesemodell: fertig serialisierte RecipeDetailResponse (JSON) eines Rezepts,
+ * gleiche ID wie das Rezept. Wird von RecipeViewService in derselben Transaktion
+ * wie jeder Schreibzugriff neu geschrieben, nie beim Lesen berechnet.
+ */
+@Entity
+@Table(name = "recipe_view")
+public class RecipeView {
+
+    @Id
+    @Column(name = "recipe_id")
+    private Long recipeId;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String json;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // --- Constructors ---
+    public RecipeView() {
+    }
+
+    public RecipeView(Long recipeId) {
+        this.recipeId = recipeId;
+    }
+
+    // --- Getters und Setter ---
+    public Long getRecipeId() {
+        return recipeId;
+    }
+
+    public String getJson() {
+        return json;
+    }
+
+    public void setJson(String json) {
+        this.json = json;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,23 @@
+package com.recipemanager.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.recipemanager.model.ChangeFeedClock;
+
+@Repository
+public interface ChangeFeedClockRepository extends JpaRepository<ChangeFeedClock, Integer> {
+
+    /**
+     * Uhr um count weiterstellen, sperrt die Zeile bis zum Ende der Transaktion
+     */
+    @Modifying
+    @Query("update ChangeFeedClock c set c.seq = c.seq + :count where c.id = " + ChangeFeedClock.ID)
+    int advance(@Param("count") long count);
+
+    @Query("select c.seq from ChangeFeedClock c where c.id = " + ChangeFeedClock.ID)
+    Long current();
+}
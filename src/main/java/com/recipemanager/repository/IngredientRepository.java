@@ -1,13 +1,58 @@
 package com.recipemanager.repository;
 
 import com.recipemanager.model.Ingredient;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface IngredientRepository extends JpaRepository<Ingredient, Long> {
+public interface IngredientRepository extends JpaRepository<Ingredient, Long>, IngredientRepositoryCustom {
+
+    String BY_RECIPE_REGION = "ingredients-by-recipe";
+
+    // Query-Cache: speichert nur die IDs, die Zutaten selbst kommen aus der Entity-Region
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = IngredientRepository.BY_RECIPE_REGION)
+    })
     List<Ingredient> findByRecipeId(Long recipeId);
 
     Ingredient findByTitleAndRecipeId(String title, Long recipeId);
+
+    long countByRecipeId(Long recipeId);
+
+    @Query("select i.recipe.id from Ingredient i where i.id = :id")
+    Optional<Long> findRecipeIdById(@Param("id") Long id);
+
+    @Query("select i.title from Ingredient i where i.recipe.id = :recipeId")
+    List<String> findTitlesByRecipeId(@Param("recipeId") Long recipeId);
+
+    /**
+     * Zutaten mehrerer Rezepte direkt aus der Tabelle (Reparatur der Nährwert-Summen)
+     */
+    @Query("select i from Ingredient i where i.recipe.id in :recipeIds")
+    List<Ingredient> findByRecipeIdIn(@Param("recipeIds") Collection<Long> recipeIds);
+
+    /**
+     * Auch Zutaten soft-gelöschter Rezepte (Cache-Invalidierung), daher nativ
+     */
+    @Query(value = "SELECT id FROM ingredients WHERE recipe_id IN (:recipeIds)", nativeQuery = true)
+    List<Long> findIdsByRecipeIdIn(@Param("recipeIds") Collection<Long> recipeIds);
+
+    /**
+     * Spalten für CatalogSnapshot und GraphQL-Batching, direkt aus der Tabelle
+     * (nicht aus dem Second-Level-Cache)
+     *
+     * @return [recipeId, id, title, amount, unit], nach Rezept und id sortiert
+     */
+    @Query("select i.recipe.id, i.id, i.title, i.amount, i.unit from Ingredient i "
+            + "where i.recipe.id in :recipeIds order by i.recipe.id, i.id")
+    List<Object[]> findCatalogRows(@Param("recipeIds") Collection<Long> recipeIds);
 }
@@ -0,0 +1,31 @@
+package com.recipemanager.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import com.recipemanager.dto.FieldSelection;
+import com.recipemanager.dto.IngredientRequest;
+import com.recipemanager.dto.IngredientResponse;
+import com.recipemanager.dto.IngredientUpsertResponse;
+import com.recipemanager.model.Ingredient;
+
+public interface IngredientRepositoryCustom {
+
+    /**
+     * Zutaten eines Rezepts über (recipe_id, title) einfügen oder aktualisieren,
+     * ein Statement pro Chunk. Titel müssen innerhalb von ingredients eindeutig sein.
+     * Betroffene Einträge im Second-Level-Cache werden danach verworfen.
+     */
+    IngredientUpsertResponse upsert(Long recipeId, Collection<IngredientRequest> ingredients);
+
+    /**
+     * Neue Zutaten (auch mehrerer Rezepte) als JDBC-Batch einfügen, ohne IDs zurückzulesen.
+     * Die Objekte bleiben transient und dürfen nicht in Recipe.ingredients landen.
+     */
+    void insertAll(Collection<Ingredient> ingredients);
+
+    /**
+     * Zutaten eines Rezepts als IngredientResponse, nur die gewählten Spalten (?fields=)
+     */
+    List<IngredientResponse> findResponses(Long recipeId, FieldSelection fields);
+}
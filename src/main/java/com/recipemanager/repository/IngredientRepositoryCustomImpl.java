@@ -0,0 +1,205 @@
+package com.recipemanager.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.Cache;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.NativeQuery;
+import org.hibernate.query.TypedParameterValue;
+import org.hibernate.type.StandardBasicTypes;
+
+import com.recipemanager.dto.FieldSelection;
+import com.recipemanager.dto.IngredientRequest;
+import com.recipemanager.dto.IngredientResponse;
+import com.recipemanager.dto.IngredientUpsertResponse;
+import com.recipemanager.enums.Unit;
+import com.recipemanager.model.Ingredient;
+import com.recipemanager.model.Recipe;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+/**
+ * Projektion für ?fields= per Criteria-Tuple, Bulk-Upsert als natives SQL:
+ * PostgreSQL: INSERT ... ON CONFLICT (recipe_id, title) DO UPDATE ... RETURNING (xmax = 0),
+ * das liefert pro Zeile, ob sie neu ist.
+ * H2 (Tests): MERGE INTO ... USING (VALUES ...), neu/geändert vorher über die vorhandenen
+ * Titel gezählt - der Aufrufer hält die Zeilensperre auf dem Rezept.
+ * Import: ein vorbereitetes INSERT als JDBC-Batch (PostgreSQL: reWriteBatchedInserts
+ * macht daraus mehrzeilige INSERTs) - Hibernate selbst batcht IDENTITY-Inserts nicht.
+ */
+class IngredientRepositoryCustomImpl implements IngredientRepositoryCustom {
+
+    // 4 Parameter pro Zeile, weit unter dem Limit von 65535 Bind-Parametern
+    private static final int CHUNK_SIZE = 1000;
+
+    // Spalten für findResponses, gleich benannt wie die Felder in IngredientResponse
+    private static final List<String> RESPONSE_COLUMNS = List.of("id", "title", "amount", "unit");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public IngredientUpsertResponse upsert(Long recipeId, Collection<IngredientRequest> ingredients) {
+        List<IngredientRequest> rows = new ArrayList<>(ingredients);
+        boolean postgres = isPostgres();
+        // Wie @Modifying(flushAutomatically, clearAutomatically): offene Änderungen vorher
+        // schreiben, danach keine veralteten Zutaten im Persistence Context lassen
+        entityManager.flush();
+        int inserted = 0;
+        int updated = 0;
+
+        for (int from = 0; from < rows.size(); from += CHUNK_SIZE) {
+            List<IngredientRequest> chunk = rows.subList(from, Math.min(from + CHUNK_SIZE, rows.size()));
+            int chunkInserted = postgres ? upsertPostgres(recipeId, chunk) : mergeH2(recipeId, chunk);
+            inserted += chunkInserted;
+            updated += chunk.size() - chunkInserted;
+        }
+        entityManager.clear();
+        evictSecondLevelCache(recipeId);
+        return new IngredientUpsertResponse(inserted, updated);
+    }
+
+    @Override
+    public void insertAll(Collection<Ingredient> ingredients) {
+        if (ingredients.isEmpty()) {
+            return;
+        }
+        // Die Rezepte müssen schon in der Datenbank stehen (Fremdschlüssel)
+        entityManager.flush();
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "INSERT INTO ingredients (recipe_id, title, amount, unit) VALUES (?, ?, ?, ?)")) {
+                int pending = 0;
+                for (Ingredient ingredient : ingredients) {
+                    statement.setLong(1, ingredient.getRecipe().getId());
+                    statement.setString(2, ingredient.getTitle());
+                    if (ingredient.getAmount() != null) {
+                        statement.setDouble(3, ingredient.getAmount());
+                    } else {
+                        statement.setNull(3, Types.DOUBLE);
+                    }
+                    statement.setString(4, ingredient.getUnit().name());
+                    statement.addBatch();
+                    if (++pending == CHUNK_SIZE) {
+                        statement.executeBatch();
+                        pending = 0;
+                    }
+                }
+                if (pending > 0) {
+                    statement.executeBatch();
+                }
+            }
+        });
+
+        // Neue Zeilen: keine Entities im Cache, nur Collections und Query-Cache verwerfen
+        Cache cache = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getCache();
+        ingredients.stream()
+                .map(ingredient -> ingredient.getRecipe().getId())
+                .distinct()
+                .forEach(recipeId -> cache.evictCollectionData(Recipe.class.getName() + ".ingredients", recipeId));
+        cache.evictQueryRegion(IngredientRepository.BY_RECIPE_REGION);
+    }
+
+    @Override
+    public List<IngredientResponse> findResponses(Long recipeId, FieldSelection fields) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Ingredient> ingredient = query.from(Ingredient.class);
+
+        List<String> columns = RESPONSE_COLUMNS.stream()
+                .filter(column -> column.equals("id") || fields.includes(column))
+                .toList();
+        query.multiselect(columns.stream().<Selection<?>>map(column -> ingredient.get(column).alias(column)).toList());
+        query.where(cb.equal(ingredient.get("recipe").get("id"), recipeId));
+        query.orderBy(cb.asc(ingredient.get("id")));
+
+        return entityManager.createQuery(query).getResultList().stream()
+                .map(RecipeRepositoryCustomImpl::asMap)
+                .map(row -> new IngredientResponse((Long) row.get("id"), (String) row.get("title"),
+                        (Double) row.get("amount"), (Unit) row.get("unit")))
+                .toList();
+    }
+
+    /**
+     * Natives SQL geht am Second-Level-Cache vorbei: Zutaten des Rezepts,
+     * die Collection und den Query-Cache für findByRecipeId verwerfen
+     */
+    private void evictSecondLevelCache(Long recipeId) {
+        Cache cache = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getCache();
+        List<?> ingredientIds = entityManager.createNativeQuery("SELECT id FROM ingredients WHERE recipe_id = ?1")
+                .setParameter(1, recipeId)
+                .getResultList();
+        for (Object ingredientId : ingredientIds) {
+            cache.evictEntityData(Ingredient.class, ((Number) ingredientId).longValue());
+        }
+        cache.evictCollectionData(Recipe.class.getName() + ".ingredients", recipeId);
+        cache.evictQueryRegion(IngredientRepository.BY_RECIPE_REGION);
+    }
+
+    /**
+     * @return Anzahl neu eingefügter Zeilen
+     */
+    private int upsertPostgres(Long recipeId, List<IngredientRequest> chunk) {
+        String sql = "INSERT INTO ingredients (recipe_id, title, amount, unit) VALUES "
+                + String.join(", ", Collections.nCopies(chunk.size(), "(?, ?, CAST(? AS DOUBLE PRECISION), ?)"))
+                + " ON CONFLICT (recipe_id, title) DO UPDATE"
+                + " SET amount = EXCLUDED.amount, unit = EXCLUDED.unit"
+                + " RETURNING (xmax = 0)";
+        List<?> insertedFlags = bind(entityManager.createNativeQuery(sql), recipeId, chunk).getResultList();
+        return (int) insertedFlags.stream().filter(Boolean.TRUE::equals).count();
+    }
+
+    private int mergeH2(Long recipeId, List<IngredientRequest> chunk) {
+        Query existing = entityManager.createNativeQuery(
+                "SELECT COUNT(*) FROM ingredients WHERE recipe_id = ?1 AND title IN (?2)");
+        existing.setParameter(1, recipeId);
+        existing.setParameter(2, chunk.stream().map(IngredientRequest::getTitle).toList());
+        int alreadyThere = ((Number) existing.getSingleResult()).intValue();
+
+        String sql = "MERGE INTO ingredients t USING (VALUES "
+                + String.join(", ", Collections.nCopies(chunk.size(),
+                        "(CAST(? AS BIGINT), CAST(? AS VARCHAR), CAST(? AS DOUBLE PRECISION), CAST(? AS VARCHAR))"))
+                + ") AS s(recipe_id, title, amount, unit)"
+                + " ON t.recipe_id = s.recipe_id AND t.title = s.title"
+                + " WHEN MATCHED THEN UPDATE SET amount = s.amount, unit = s.unit"
+                + " WHEN NOT MATCHED THEN INSERT (recipe_id, title, amount, unit)"
+                + " VALUES (s.recipe_id, s.title, s.amount, s.unit)";
+        bind(entityManager.createNativeQuery(sql), recipeId, chunk)
+                .unwrap(NativeQuery.class)
+                // sonst verwirft Hibernate nach nativen Updates alle Cache-Regionen
+                .addSynchronizedEntityClass(Ingredient.class)
+                .executeUpdate();
+        return chunk.size() - alreadyThere;
+    }
+
+    private static Query bind(Query query, Long recipeId, List<IngredientRequest> chunk) {
+        int position = 1;
+        for (IngredientRequest ingredient : chunk) {
+            query.setParameter(position++, recipeId);
+            query.setParameter(position++, ingredient.getTitle());
+            query.setParameter(position++, new TypedParameterValue<>(StandardBasicTypes.DOUBLE, ingredient.getAmount()));
+            query.setParameter(position++, ingredient.getUnit().name());
+        }
+        return query;
+    }
+
+    private boolean isPostgres() {
+        return entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect() instanceof PostgreSQLDialect;
+    }
+}
@@ -0,0 +1,10 @@
+package com.recipemanager.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.recipemanager.model.NutritionReference;
+
+@Repository
+public interface NutritionReferenceRepository extends JpaRepository<NutritionReference, Long> {
+}
@@ -0,0 +1,89 @@
+package com.recipemanager.repository;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+
+import com.recipemanager.dto.IngredientResponse;
+import com.recipemanager.dto.RecipeDetailResponse;
+import com.recipemanager.dto.RecipeResponse;
+import com.recipemanager.enums.Unit;
+import com.recipemanager.sharding.ShardDatabaseClients;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Nicht-blockierende Lesezugriffe (R2DBC) auf recipes/ingredients.
+ * Geschrieben wird weiterhin ausschließlich über JPA.
+ * Soft-gelöschte Rezepte (deleted_at) filtert das SQL selbst, @SQLRestriction gilt hier nicht.
+ * Mit Sharding: einzelne Rezepte von ihrer Shard, die Liste über alle Shards nach ID gemischt.
+ */
+@Repository
+public class ReactiveRecipeReadRepository {
+
+    @Autowired
+    private ShardDatabaseClients shardDatabaseClients;
+
+    /**
+     * Alle Rezepte als Stream (Backpressure kommt vom Treiber), nach ID sortiert
+     */
+    @SuppressWarnings("unchecked")
+    public Flux<RecipeResponse> findAll() {
+        return Flux.mergeComparing(Comparator.comparing(RecipeResponse::getId), shardDatabaseClients.all()
+                .stream()
+                .map(ReactiveRecipeReadRepository::findAll)
+                .toArray(Flux[]::new));
+    }
+
+    /**
+     * Ein Rezept mit Zutaten, leer wenn es nicht existiert
+     */
+    public Mono<RecipeDetailResponse> findDetailById(Long id) {
+        Mono<RecipeDetailResponse> recipe = shardDatabaseClients.forRecipe(id)
+                .sql("SELECT id, title, description, created_at FROM recipes WHERE id = :id AND deleted_at IS NULL")
+                .bind("id", id)
+                .map((row, meta) -> new RecipeDetailResponse(
+                        row.get("id", Long.class),
+                        row.get("title", String.class),
+                        row.get("description", String.class),
+                        row.get("created_at", LocalDateTime.class),
+                        null))
+                .one();
+
+        return recipe.flatMap(detail -> findIngredientsByRecipeId(id)
+                .collectList()
+                .map(ingredients -> {
+                    detail.setIngredients(ingredients);
+                    return detail;
+                }));
+    }
+
+    public Flux<IngredientResponse> findIngredientsByRecipeId(Long recipeId) {
+        return shardDatabaseClients.forRecipe(recipeId)
+                .sql("SELECT id, title, amount, unit FROM ingredients WHERE recipe_id = :recipeId"
+                        + " AND recipe_id IN (SELECT id FROM recipes WHERE deleted_at IS NULL) ORDER BY id")
+                .bind("recipeId", recipeId)
+                .map((row, meta) -> new IngredientResponse(
+                        row.get("id", Long.class),
+                        row.get("title", String.class),
+                        row.get("amount", Double.class),
+                        Unit.valueOf(row.get("unit", String.class))))
+                .all();
+    }
+
+    // ========== Helper ==========
+
+    private static Flux<RecipeResponse> findAll(DatabaseClient databaseClient) {
+        return databaseClient.sql("SELECT id, title, created_at, ingredient_count FROM recipes WHERE deleted_at IS NULL ORDER BY id")
+                .map((row, meta) -> new RecipeResponse(
+                        row.get("id", Long.class),
+                        row.get("title", String.class),
+                        row.get("created_at", LocalDateTime.class),
+                        row.get("ingredient_count", Integer.class)))
+                .all();
+    }
+}
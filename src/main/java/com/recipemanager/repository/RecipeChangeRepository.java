@@ -0,0 +1,35 @@
+package com.recipemanager.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.recipemanager.model.RecipeChange;
+
+@Repository
+public interface RecipeChangeRepository extends JpaRepository<RecipeChange, Long> {
+    List<RecipeChange> findBySeqGreaterThanOrderBySeqAsc(Long since, Limit limit);
+
+    /**
+     * Sequenz aus der ID ableiten: seq = id + shift
+     */
+    @Modifying
+    @Query("update RecipeChange c set c.seq = c.id + :shift where c.id in :ids")
+    int assignSeq(@Param("ids") Collection<Long> ids, @Param("shift") long shift);
+
+    /**
+     * Einträge aus der Zeit vor der Commit-Sequenz übernehmen ihre ID
+     */
+    @Modifying
+    @Query("update RecipeChange c set c.seq = c.id where c.seq is null")
+    int backfillSeq();
+
+    @Query("select coalesce(max(c.seq), 0) from RecipeChange c")
+    long maxSeq();
+}
@@ -0,0 +1,25 @@
+package com.recipemanager.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.recipemanager.model.RecipeNutrition;
+
+import jakarta.persistence.LockModeType;
+
+@Repository
+public interface RecipeNutritionRepository extends JpaRepository<RecipeNutrition, Long> {
+
+    /**
+     * Summen mit Zeilensperre (SELECT ... FOR UPDATE): parallele Zutaten-Änderungen
+     * am selben Rezept werden nacheinander verrechnet, keine geht verloren
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select n from RecipeNutrition n where n.recipeId = :recipeId")
+    Optional<RecipeNutrition> findForUpdate(@Param("recipeId") Long recipeId);
+}
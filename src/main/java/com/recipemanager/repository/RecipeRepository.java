@@ -1,11 +1,82 @@
 package com.recipemanager.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 import com.recipemanager.model.Recipe;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface RecipeRepository extends JpaRepository<Recipe, Long> {
+public interface RecipeRepository extends JpaRepository<Recipe, Long>, RecipeRepositoryCustom {
     // Django: Recipe.objects.filter(title__contains="Pasta")
     // Spring: findByTitleContaining("Pasta")
+
+    /**
+     * Zeilensperre auf das Rezept (vor dem Laden), damit Zutaten-Schreibzugriffe
+     * auf dasselbe Rezept nacheinander laufen und ingredient_count stimmt
+     *
+     * @return Leer, wenn das Rezept nicht existiert oder gelöscht ist
+     */
+    @Query(value = "SELECT id FROM recipes WHERE id = :id AND deleted_at IS NULL FOR UPDATE", nativeQuery = true)
+    Optional<Long> lockById(@Param("id") Long id);
+
+    /**
+     * Dublettenprüfung, eine Abfrage über uk_recipes_content_fingerprint
+     */
+    @Query("select r.id from Recipe r where r.contentFingerprint = :fingerprint")
+    Optional<Long> findIdByContentFingerprint(@Param("fingerprint") String fingerprint);
+
+    // ========== Reparatur der Summenspalten ==========
+
+    @Query("select r.id from Recipe r where r.id > :after order by r.id")
+    List<Long> findIdsAfter(@Param("after") Long after, Limit limit);
+
+    @Query("select r.id from Recipe r where r.id between :from and :to "
+            + "and r.ingredientCount <> (select count(i) from Ingredient i where i.recipe.id = r.id)")
+    List<Long> findIngredientCountMismatches(@Param("from") Long from, @Param("to") Long to);
+
+    @Modifying
+    @Query("update Recipe r set r.ingredientCount = "
+            + "cast((select count(i) from Ingredient i where i.recipe.id = r.id) as Integer) "
+            + "where r.id in :ids")
+    int recalculateIngredientCounts(@Param("ids") Collection<Long> ids);
+
+    // ========== Katalog-Snapshot ==========
+
+    /**
+     * Spalten für CatalogSnapshot, direkt aus der Tabelle (nicht aus dem Second-Level-Cache)
+     *
+     * @return [id, title, description, createdAt, servings], nach id sortiert
+     */
+    @Query("select r.id, r.title, r.description, r.createdAt, r.servings from Recipe r "
+            + "where r.id in :ids order by r.id")
+    List<Object[]> findCatalogRows(@Param("ids") Collection<Long> ids);
+
+    // ========== GraphQL ==========
+
+    /**
+     * Beschreibungen mehrerer Rezepte in einer Abfrage (nur wenn das Feld angefragt ist)
+     *
+     * @return [id, description]
+     */
+    @Query("select r.id, r.description from Recipe r where r.id in :ids")
+    List<Object[]> findDescriptions(@Param("ids") Collection<Long> ids);
+
+    // ========== Soft-Delete / Purge ==========
+
+    /**
+     * Gelöschte Rezepte, die vor cutoff markiert wurden (nativ: @SQLRestriction blendet sie sonst aus)
+     */
+    @Query(value = "SELECT id FROM recipes WHERE deleted_at < :cutoff ORDER BY id", nativeQuery = true)
+    List<Long> findPurgeableIds(@Param("cutoff") LocalDateTime cutoff, Limit limit);
+
+    @Query(value = "SELECT COUNT(*) FROM recipes WHERE deleted_at IS NOT NULL", nativeQuery = true)
+    long countDeleted();
 }
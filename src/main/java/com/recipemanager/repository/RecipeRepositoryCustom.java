@@ -0,0 +1,47 @@
+package com.recipemanager.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.recipemanager.dto.RecipeListFilter;
+import com.recipemanager.dto.RecipeResponse;
+
+public interface RecipeRepositoryCustom {
+
+    /**
+     * Rezept-Liste gefiltert und sortiert in der Datenbank,
+     * direkt als RecipeResponse (ohne Entities und Zutaten, nur Spalten aus filter.getFields())
+     */
+    List<RecipeResponse> findList(RecipeListFilter filter);
+
+    /**
+     * Nur die genannten Attribute eines Rezepts (Projektion für ?fields=)
+     *
+     * @return Attribut -> Wert, leer wenn das Rezept nicht existiert
+     */
+    Optional<Map<String, Object>> findAttributes(Long id, Collection<String> attributes);
+
+    /**
+     * Detail-Antwort eines Rezepts als fertiges JSON, gerendert von der Datenbank in einem
+     * Statement (ohne Entities und DTOs), Felder wie RecipeDetailResponse
+     *
+     * @return UTF-8 Bytes, leer wenn das Rezept nicht existiert
+     */
+    Optional<byte[]> findDetailJson(Long id);
+
+    /**
+     * Soft-gelöschte Rezepte mit Zutaten und Nährwerten physisch entfernen
+     * (per JDBC am Second-Level-Cache vorbei, die Einträge sind seit dem Soft-Delete raus)
+     *
+     * @return Anzahl entfernter Rezepte (nur solche mit deleted_at)
+     */
+    int purge(Collection<Long> ids);
+
+    /**
+     * Partiellen Index für den Purge anlegen (nur PostgreSQL, nur die wenigen gelöschten Zeilen).
+     * Als normaler @Index wählen Planer ohne Statistik (H2) ihn für jedes deleted_at IS NULL.
+     */
+    void createPurgeIndex();
+}
@@ -0,0 +1,241 @@
+package com.recipemanager.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.hibernate.Session;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.recipemanager.dto.RecipeListFilter;
+import com.recipemanager.dto.RecipeResponse;
+import com.recipemanager.model.Recipe;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+/**
+ * Criteria-Query für die Rezept-Liste: Filter aus RecipeSpecifications,
+ * nur die angefragten Spalten (?fields=) als Tuple, Sortierung mit id als
+ * Tie-Breaker (passend zu den Indizes (spalte, id) auf recipes).
+ * Purge per JDBC: ein natives DELETE über Hibernate würde danach alle Cache-Regionen verwerfen.
+ * Detail-JSON per JDBC in einem Statement: PostgreSQL mit json_build_object/json_agg,
+ * H2 (Tests) mit JSON_OBJECT/JSON_ARRAYAGG aus dem SQL-Standard.
+ */
+class RecipeRepositoryCustomImpl implements RecipeRepositoryCustom {
+
+    // Spalten der Liste, gleich benannt wie die Felder in RecipeResponse
+    private static final List<String> LIST_COLUMNS = List.of("id", "title", "createdAt", "ingredientCount");
+
+    // Spalten von recipe_nutrition, gleich benannt wie die Felder in NutrientsResponse
+    private static final List<String> NUTRIENT_COLUMNS = List.of("kcal", "protein", "fat", "carbohydrates");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<RecipeResponse> findList(RecipeListFilter filter) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Recipe> recipe = query.from(Recipe.class);
+
+        List<String> columns = LIST_COLUMNS.stream()
+                .filter(column -> column.equals("id") || filter.getFields().includes(column))
+                .toList();
+        query.multiselect(columns.stream().<Selection<?>>map(column -> recipe.get(column).alias(column)).toList());
+
+        Predicate where = specificationOf(filter).toPredicate(recipe, query, cb);
+        if (where != null) {
+            query.where(where);
+        }
+
+        String attribute = filter.getSort().getAttribute();
+        List<Order> order = filter.isDescending()
+                ? List.of(cb.desc(recipe.get(attribute)), cb.desc(recipe.get("id")))
+                : List.of(cb.asc(recipe.get(attribute)), cb.asc(recipe.get("id")));
+        query.orderBy(order);
+
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+        if (filter.getLimit() != null) {
+            typedQuery.setMaxResults(filter.getLimit());
+        }
+        return typedQuery.getResultList().stream()
+                .map(row -> toResponse(asMap(row)))
+                .toList();
+    }
+
+    @Override
+    public Optional<Map<String, Object>> findAttributes(Long id, Collection<String> attributes) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Recipe> recipe = query.from(Recipe.class);
+        query.multiselect(attributes.stream().<Selection<?>>map(attribute -> recipe.get(attribute).alias(attribute)).toList());
+        query.where(cb.equal(recipe.get("id"), id));
+
+        return entityManager.createQuery(query).getResultList().stream()
+                .findFirst()
+                .map(RecipeRepositoryCustomImpl::asMap);
+    }
+
+    @Override
+    public int purge(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        Long[] idArray = ids.toArray(Long[]::new);
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            Array recipeIds = connection.createArrayOf("BIGINT", idArray);
+            try {
+                // Nur bereits markierte Rezepte, Zutaten zuerst (Fremdschlüssel)
+                String deleted = "SELECT id FROM recipes WHERE id = ANY(?) AND deleted_at IS NOT NULL";
+                execute(connection.prepareStatement(
+                        "DELETE FROM ingredients WHERE recipe_id IN (" + deleted + ")"), recipeIds);
+                execute(connection.prepareStatement(
+                        "DELETE FROM recipe_nutrition WHERE recipe_id IN (" + deleted + ")"), recipeIds);
+                return execute(connection.prepareStatement(
+                        "DELETE FROM recipes WHERE id = ANY(?) AND deleted_at IS NOT NULL"), recipeIds);
+            } finally {
+                recipeIds.free();
+            }
+        });
+    }
+
+    @Override
+    public void createPurgeIndex() {
+        if (!isPostgres()) {
+            return;
+        }
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE INDEX IF NOT EXISTS idx_recipes_deleted_at"
+                        + " ON recipes (deleted_at) WHERE deleted_at IS NOT NULL");
+            }
+        });
+    }
+
+    @Override
+    public Optional<byte[]> findDetailJson(Long id) {
+        String sql = isPostgres() ? detailJsonPostgres() : detailJsonH2();
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                statement.setLong(1, id);
+                try (ResultSet result = statement.executeQuery()) {
+                    return result.next()
+                            ? Optional.of(result.getString(1).getBytes(StandardCharsets.UTF_8))
+                            : Optional.<byte[]>empty();
+                }
+            }
+        });
+    }
+
+    /**
+     * Felder und Reihenfolge wie RecipeDetailResponse, Nährwerte gerundet wie NutrientsResponse
+     */
+    private static String detailJsonPostgres() {
+        return "SELECT json_build_object("
+                + "'id', r.id, 'title', r.title, 'description', r.description, 'createdAt', r.created_at,"
+                + " 'ingredients', COALESCE((SELECT json_agg(json_build_object("
+                + "'id', i.id, 'title', i.title, 'amount', i.amount, 'unit', i.unit) ORDER BY i.id)"
+                + " FROM ingredients i WHERE i.recipe_id = r.id), '[]'::json),"
+                + " 'nutrition', CASE WHEN n.recipe_id IS NOT NULL THEN json_build_object("
+                + "'servings', r.servings,"
+                + " 'total', " + nutrientsPostgres("") + ","
+                + " 'perServing', CASE WHEN r.servings >= 1 THEN " + nutrientsPostgres(" / r.servings") + " END,"
+                + " 'unmatchedIngredients', n.unmatched_ingredients) END)"
+                + " FROM recipes r LEFT JOIN recipe_nutrition n ON n.recipe_id = r.id"
+                + " WHERE r.id = ? AND r.deleted_at IS NULL";
+    }
+
+    private static String nutrientsPostgres(String divisor) {
+        return "json_build_object(" + String.join(", ", NUTRIENT_COLUMNS.stream()
+                .map(column -> "'" + column + "', GREATEST(0, ROUND(CAST(n." + column + divisor
+                        + " AS NUMERIC), 1))")
+                .toList()) + ")";
+    }
+
+    private static String detailJsonH2() {
+        return "SELECT JSON_OBJECT("
+                + "'id' VALUE r.id, 'title' VALUE r.title, 'description' VALUE r.description,"
+                + " 'createdAt' VALUE REPLACE(CAST(r.created_at AS VARCHAR), ' ', 'T'),"
+                + " 'ingredients' VALUE COALESCE((SELECT JSON_ARRAYAGG(JSON_OBJECT("
+                + "'id' VALUE i.id, 'title' VALUE i.title, 'amount' VALUE i.amount, 'unit' VALUE i.unit)"
+                + " ORDER BY i.id) FROM ingredients i WHERE i.recipe_id = r.id), JSON '[]'),"
+                + " 'nutrition' VALUE CASE WHEN n.recipe_id IS NOT NULL THEN JSON_OBJECT("
+                + "'servings' VALUE r.servings,"
+                + " 'total' VALUE " + nutrientsH2("") + ","
+                + " 'perServing' VALUE CASE WHEN r.servings >= 1 THEN " + nutrientsH2(" / r.servings") + " END,"
+                + " 'unmatchedIngredients' VALUE n.unmatched_ingredients) END)"
+                + " FROM recipes r LEFT JOIN recipe_nutrition n ON n.recipe_id = r.id"
+                + " WHERE r.id = ? AND r.deleted_at IS NULL";
+    }
+
+    private static String nutrientsH2(String divisor) {
+        return "JSON_OBJECT(" + String.join(", ", NUTRIENT_COLUMNS.stream()
+                .map(column -> "'" + column + "' VALUE GREATEST(0.0, ROUND(n." + column + divisor + ", 1))")
+                .toList()) + ")";
+    }
+
+    private boolean isPostgres() {
+        return entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect() instanceof PostgreSQLDialect;
+    }
+
+    private static int execute(PreparedStatement statement, Array ids) throws SQLException {
+        try (statement) {
+            statement.setArray(1, ids);
+            return statement.executeUpdate();
+        }
+    }
+
+    private static RecipeResponse toResponse(Map<String, Object> row) {
+        Integer ingredientCount = (Integer) row.get("ingredientCount");
+        return new RecipeResponse((Long) row.get("id"), (String) row.get("title"),
+                (LocalDateTime) row.get("createdAt"), ingredientCount != null ? ingredientCount : 0);
+    }
+
+    static Map<String, Object> asMap(Tuple row) {
+        Map<String, Object> values = new HashMap<>();
+        for (TupleElement<?> element : row.getElements()) {
+            values.put(element.getAlias(), row.get(element));
+        }
+        return values;
+    }
+
+    private static Specification<Recipe> specificationOf(RecipeListFilter filter) {
+        List<Specification<Recipe>> specifications = new ArrayList<>();
+        if (filter.getTitlePrefix() != null && !filter.getTitlePrefix().isEmpty()) {
+            specifications.add(RecipeSpecifications.titleStartsWith(filter.getTitlePrefix()));
+        }
+        if (filter.getCreatedFrom() != null) {
+            specifications.add(RecipeSpecifications.createdFrom(filter.getCreatedFrom()));
+        }
+        if (filter.getCreatedTo() != null) {
+            specifications.add(RecipeSpecifications.createdTo(filter.getCreatedTo()));
+        }
+        if (filter.getIngredient() != null && !filter.getIngredient().isEmpty()) {
+            specifications.add(RecipeSpecifications.hasIngredient(filter.getIngredient()));
+        }
+        return Specification.allOf(specifications);
+    }
+}
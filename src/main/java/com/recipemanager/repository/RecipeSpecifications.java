@@ -0,0 +1,62 @@
+package com.recipemanager.repository;
+
+import java.time.LocalDate;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.recipemanager.model.Ingredient;
+import com.recipemanager.model.Recipe;
+
+import jakarta.persistence.criteria.Subquery;
+
+/**
+ * Filter für die Rezept-Liste. Jeder Filter ist so formuliert, dass er einen Index
+ * nutzen kann: keine Funktionen auf Spalten, Präfix statt Teilstring, Bereich statt
+ * Datumsfunktion, Subquery statt JOIN + DISTINCT.
+ */
+public final class RecipeSpecifications {
+
+    private RecipeSpecifications() {
+    }
+
+    /**
+     * Titel beginnt mit prefix (Groß-/Kleinschreibung beachtet, idx_recipes_title)
+     */
+    public static Specification<Recipe> titleStartsWith(String prefix) {
+        return (root, query, cb) -> cb.like(root.get("title"), escapeLike(prefix) + "%", '\\');
+    }
+
+    /**
+     * Angelegt am oder nach from (idx_recipes_created_at)
+     */
+    public static Specification<Recipe> createdFrom(LocalDate from) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("createdAt"), from.atStartOfDay());
+    }
+
+    /**
+     * Angelegt am oder vor to, als halboffener Bereich bis zum Folgetag
+     */
+    public static Specification<Recipe> createdTo(LocalDate to) {
+        return (root, query, cb) -> cb.lessThan(root.get("createdAt"), to.plusDays(1).atStartOfDay());
+    }
+
+    /**
+     * Rezept hat eine Zutat mit genau diesem Titel (idx_ingredients_title_recipe_id)
+     *
+     * Nicht korreliert: die Rezept-IDs kommen über den Titel aus dem Index, statt pro
+     * Rezept über uk_ingredients_recipe_id_title nachzusehen.
+     */
+    public static Specification<Recipe> hasIngredient(String title) {
+        return (root, query, cb) -> {
+            Subquery<Long> ingredient = query.subquery(Long.class);
+            var ingredientRoot = ingredient.from(Ingredient.class);
+            ingredient.select(ingredientRoot.get("recipe").get("id"))
+                    .where(cb.equal(ingredientRoot.get("title"), title));
+            return root.get("id").in(ingredient);
+        };
+    }
+
+    static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
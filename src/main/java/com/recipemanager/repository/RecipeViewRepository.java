@@ -0,0 +1,26 @@
+package com.recipemanager.repository;
+
+import java.util.Collection;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.recipemanager.model.RecipeView;
+
+@Repository
+public interface RecipeViewRepository extends JpaRepository<RecipeView, Long> {
+
+    @Modifying
+    @Query("delete from RecipeView v where v.recipeId in :ids")
+    int deleteByRecipeIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Zeilen ohne (sichtbares) Rezept entfernen, z.B. nach Löschungen bei abgeschaltetem Lesemodell
+     */
+    @Modifying
+    @Query("delete from RecipeView v where not exists (select r.id from Recipe r where r.id = v.recipeId)")
+    int deleteOrphans();
+}
@@ -0,0 +1,83 @@
+package com.recipemanager.service;
+
+import java.util.Arrays;
+import java.util.StringJoiner;
+
+/**
+ * Cursor des Change-Feeds: pro Shard die zuletzt gelieferte Sequenz.
+ *
+ * Die Sequenzen der Shards laufen unabhängig voneinander, ein einzelner Wert würde
+ * Einträge einer nachhinkenden Shard überspringen. Als Text "0:42,1:17,2:5"
+ * (Shard:Sequenz), ohne Sharding nur "42". Eine Zahl ohne Shard gilt für alle
+ * Shards (since=0: von Anfang an), fehlende Shards beginnen bei 0.
+ */
+final class ChangeFeedCursor {
+
+    private final long[] seqs;
+
+    private ChangeFeedCursor(long[] seqs) {
+        this.seqs = seqs;
+    }
+
+    /**
+     * @throws IllegalArgumentException bei ungültigem Format oder unbekannter Shard
+     */
+    static ChangeFeedCursor parse(String value, int shardCount) {
+        long[] seqs = new long[shardCount];
+        if (value == null || value.isBlank()) {
+            return new ChangeFeedCursor(seqs);
+        }
+        if (value.indexOf(':') < 0) {
+            Arrays.fill(seqs, parseSeq(value));
+            return new ChangeFeedCursor(seqs);
+        }
+
+        boolean[] seen = new boolean[shardCount];
+        for (String part : value.split(",")) {
+            int separator = part.indexOf(':');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Cursor-Teil ohne Shard: " + part);
+            }
+            int shard = Integer.parseInt(part.substring(0, separator).trim());
+            if (shard < 0 || shard >= shardCount || seen[shard]) {
+                throw new IllegalArgumentException("Ungültige Shard im Cursor: " + shard);
+            }
+            seen[shard] = true;
+            seqs[shard] = parseSeq(part.substring(separator + 1));
+        }
+        return new ChangeFeedCursor(seqs);
+    }
+
+    long get(int shard) {
+        return seqs[shard];
+    }
+
+    /**
+     * Neuer Cursor, eine Shard weitergestellt
+     */
+    ChangeFeedCursor with(int shard, long seq) {
+        long[] next = seqs.clone();
+        next[shard] = seq;
+        return new ChangeFeedCursor(next);
+    }
+
+    @Override
+    public String toString() {
+        if (seqs.length == 1) {
+            return String.valueOf(seqs[0]);
+        }
+        StringJoiner joiner = new StringJoiner(",");
+        for (int shard = 0; shard < seqs.length; shard++) {
+            joiner.add(shard + ":" + seqs[shard]);
+        }
+        return joiner.toString();
+    }
+
+    private static long parseSeq(String value) {
+        long seq = Long.parseLong(value.trim());
+        if (seq < 0) {
+            throw new IllegalArgumentException("Negative Sequenz im Cursor: " + seq);
+        }
+        return seq;
+    }
+}
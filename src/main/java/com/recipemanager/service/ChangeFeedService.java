@@ -0,0 +1,273 @@
+package com.recipemanager.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.recipemanager.dto.RecipeChangeResponse;
+import com.recipemanager.dto.RecipeChangesResponse;
+import com.recipemanager.dto.RecipeResponse;
+import com.recipemanager.enums.ChangeType;
+import com.recipemanager.model.ChangeFeedClock;
+import com.recipemanager.model.Recipe;
+import com.recipemanager.model.RecipeChange;
+import com.recipemanager.repository.ChangeFeedClockRepository;
+import com.recipemanager.repository.RecipeChangeRepository;
+import com.recipemanager.repository.RecipeRepository;
+import com.recipemanager.sharding.ShardRouter;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Change-Feed: jeder Schreibzugriff auf ein Rezept oder seine Zutaten erzeugt
+ * einen Eintrag mit monotoner Sequenz, Löschungen bleiben als Tombstone erhalten.
+ *
+ * Die Sequenz (Cursor) wird erst kurz vor dem Commit vergeben: die Transaktion sperrt
+ * die Zeile in change_feed_clock, stellt sie weiter und hält die Sperre bis zum Commit.
+ * Eine kleinere Sequenz ist damit immer schon committet (oder zurückgerollt), wenn eine
+ * größere sichtbar wird - der Cursor kann nichts überspringen, ohne Wartezeit.
+ * Die Sperre serialisiert nur die Commits schreibender Transaktionen, nicht ihre Arbeit.
+ */
+@Service
+public class ChangeFeedService {
+
+    @Autowired
+    private RecipeChangeRepository recipeChangeRepository;
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    @Autowired
+    private ChangeFeedClockRepository changeFeedClockRepository;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${recipemanager.changes.max-limit:1000}")
+    private int maxLimit;
+
+    /**
+     * Uhr auf jeder Shard anlegen. Beim ersten Start übernehmen vorhandene Einträge ihre ID als Sequenz.
+     * Erst nach dem Start (nicht im Konstruktor-Lauf, z.B. beim CDS-Training ohne Datenbank)
+     * und vor den übrigen Start-Listenern, die schon schreiben könnten.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void initClocks() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        shardRouter.onEachShard(() -> {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    if (!changeFeedClockRepository.existsById(ChangeFeedClock.ID)) {
+                        recipeChangeRepository.backfillSeq();
+                        changeFeedClockRepository.save(new ChangeFeedClock(recipeChangeRepository.maxSeq()));
+                    }
+                });
+            } catch (DataIntegrityViolationException e) {
+                // Parallel von einer anderen Instanz angelegt
+            }
+            return null;
+        });
+    }
+
+    // ========== RECORD ==========
+
+    /**
+     * Änderung protokollieren und Rezept mit updatedAt stempeln
+     * (läuft in der Transaktion des Schreibzugriffs, changeSeq folgt beim Commit)
+     *
+     * @return Der Eintrag, seine Sequenz ist ab dem Commit gesetzt
+     */
+    @Transactional
+    public RecipeChange record(Recipe recipe, ChangeType type) {
+        RecipeChange change = recipeChangeRepository.save(new RecipeChange(recipe.getId(), type));
+        recipe.setUpdatedAt(change.getChangedAt());
+        pending().put(change, recipe);
+        return change;
+    }
+
+    /**
+     * Tombstone für ein gelöschtes Rezept
+     *
+     * @return Der Tombstone, seine Sequenz ist ab dem Commit gesetzt
+     */
+    @Transactional
+    public RecipeChange recordDeleted(Long recipeId) {
+        RecipeChange change = recipeChangeRepository.save(new RecipeChange(recipeId, ChangeType.DELETED));
+        pending().put(change, null);
+        return change;
+    }
+
+    /**
+     * Einträge der laufenden Transaktion (mit ihrem Rezept, null bei Tombstones);
+     * beim ersten Aufruf wird die Vergabe der Sequenzen vor dem Commit registriert
+     */
+    @SuppressWarnings("unchecked")
+    private Map<RecipeChange, Recipe> pending() {
+        Map<RecipeChange, Recipe> pending =
+                (Map<RecipeChange, Recipe>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Map<RecipeChange, Recipe> changes = new LinkedHashMap<>();
+            TransactionSynchronizationManager.bindResource(this, changes);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    assignSeq(changes);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ChangeFeedService.this);
+                }
+            });
+            pending = changes;
+        }
+        return pending;
+    }
+
+    /**
+     * Uhr sperren und um die ID-Spanne der Einträge weiterstellen: seq = id + shift.
+     * Die Reihenfolge innerhalb der Transaktion bleibt erhalten, Lücken sind erlaubt.
+     */
+    private void assignSeq(Map<RecipeChange, Recipe> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        long minId = changes.keySet().stream().mapToLong(RecipeChange::getId).min().getAsLong();
+        long maxId = changes.keySet().stream().mapToLong(RecipeChange::getId).max().getAsLong();
+        if (changeFeedClockRepository.advance(maxId - minId + 1) != 1) {
+            throw new IllegalStateException("change_feed_clock ohne Zeile " + ChangeFeedClock.ID);
+        }
+        long shift = changeFeedClockRepository.current() - maxId;
+
+        List<Long> detached = new ArrayList<>();
+        changes.forEach((change, recipe) -> {
+            long seq = change.getId() + shift;
+            change.setSeq(seq);
+            if (!entityManager.contains(change)) {
+                // z.B. nach einem clear() im Repository: Spalte direkt setzen
+                detached.add(change.getId());
+            }
+            if (recipe != null) {
+                recipe.setChangeSeq(seq);
+            }
+        });
+        if (!detached.isEmpty()) {
+            recipeChangeRepository.assignSeq(detached, shift);
+        }
+    }
+
+    // ========== GET ==========
+
+    /**
+     * Alle Rezepte, die nach dem Cursor geändert wurden (pro Rezept nur der letzte Stand)
+     *
+     * Mit Sharding liest jede Shard ab ihrer eigenen Sequenz im Cursor, die Seiten werden
+     * nach Änderungszeit zusammengeführt. Innerhalb einer Shard bleibt die Reihenfolge der
+     * Sequenz erhalten, so kann der Cursor pro Shard nichts überspringen.
+     *
+     * @param since Cursor aus der letzten Antwort (0 = von Anfang an), siehe ChangeFeedCursor
+     * @param limit Max. Anzahl gelesener Feed-Einträge
+     * @throws IllegalArgumentException bei ungültigem Cursor
+     */
+    @Transactional(readOnly = true)
+    public RecipeChangesResponse getChangesSince(String since, int limit) {
+        ChangeFeedCursor cursor = ChangeFeedCursor.parse(since, shardRouter.getShardCount());
+        int pageSize = Math.max(1, Math.min(limit, maxLimit));
+        List<List<RecipeChange>> pages = shardRouter.onEachShard(shard -> recipeChangeRepository
+                .findBySeqGreaterThanOrderBySeqAsc(cursor.get(shard), Limit.of(pageSize + 1)));
+
+        int[] taken = new int[pages.size()];
+        List<RecipeChange> entries = new ArrayList<>();
+        ChangeFeedCursor next = cursor;
+        while (entries.size() < pageSize) {
+            int shard = nextShard(pages, taken);
+            if (shard < 0) {
+                break;
+            }
+            RecipeChange change = pages.get(shard).get(taken[shard]++);
+            entries.add(change);
+            next = next.with(shard, change.getSeq());
+        }
+        boolean hasMore = IntStream.range(0, pages.size()).anyMatch(shard -> taken[shard] < pages.get(shard).size());
+
+        // Pro Rezept nur die letzte Änderung, in Reihenfolge der Sequenz
+        Map<Long, RecipeChange> latest = new LinkedHashMap<>();
+        for (RecipeChange change : entries) {
+            latest.remove(change.getRecipeId());
+            latest.put(change.getRecipeId(), change);
+        }
+
+        List<Long> liveIds = latest.values().stream()
+                .filter(change -> change.getType() != ChangeType.DELETED)
+                .map(RecipeChange::getRecipeId)
+                .collect(Collectors.toList());
+        Map<Long, Recipe> recipes = shardRouter.onEachShard(liveIds, recipeRepository::findAllById)
+                .stream()
+                .flatMap(List::stream)
+                .collect(Collectors.toMap(Recipe::getId, Function.identity()));
+
+        List<RecipeChangeResponse> changes = latest.values()
+                .stream()
+                .map(change -> {
+                    Recipe recipe = recipes.get(change.getRecipeId());
+                    if (recipe == null) {
+                        // Inzwischen gelöscht, der Tombstone folgt in einer späteren Seite
+                        return new RecipeChangeResponse(change.getRecipeId(), change.getSeq(),
+                                ChangeType.DELETED, change.getChangedAt(), null);
+                    }
+                    return new RecipeChangeResponse(change.getRecipeId(), change.getSeq(),
+                            change.getType(), change.getChangedAt(),
+                            new RecipeResponse(recipe.getId(), recipe.getTitle(), recipe.getCreatedAt(),
+                                    recipe.getIngredientCount()));
+                })
+                .collect(Collectors.toList());
+
+        return new RecipeChangesResponse(next.toString(), hasMore, changes);
+    }
+
+    // ========== Helper ==========
+
+    /**
+     * Shard mit dem ältesten noch nicht übernommenen Eintrag, -1 wenn alle Seiten leer sind
+     */
+    private static int nextShard(List<List<RecipeChange>> pages, int[] taken) {
+        int next = -1;
+        for (int shard = 0; shard < pages.size(); shard++) {
+            if (taken[shard] >= pages.get(shard).size()) {
+                continue;
+            }
+            if (next < 0 || pages.get(shard).get(taken[shard]).getChangedAt()
+                    .isBefore(pages.get(next).get(taken[next]).getChangedAt())) {
+                next = shard;
+            }
+        }
+        return next;
+    }
+}
@@ -0,0 +1,24 @@
+package com.recipemanager.service;
+
+/**
+ * Ein Rezept mit gleichem Inhalt (normalisierter Titel + Zutaten) existiert bereits.
+ */
+public class DuplicateRecipeException extends RuntimeException {
+
+    private final String fingerprint;
+    private final Long existingId; // null, wenn der Treffer erst beim Insert auffiel
+
+    public DuplicateRecipeException(String fingerprint, Long existingId) {
+        super("Rezept mit gleichem Inhalt existiert bereits" + (existingId != null ? ": " + existingId : ""));
+        this.fingerprint = fingerprint;
+        this.existingId = existingId;
+    }
+
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    public Long getExistingId() {
+        return existingId;
+    }
+}
@@ -1,15 +1,38 @@
 package com.recipemanager.service;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import com.recipemanager.cache.SingleFlight;
+import com.recipemanager.dto.FieldSelection;
 import com.recipemanager.dto.IngredientRequest;
+import com.recipemanager.dto.IngredientResponse;
+import com.recipemanager.dto.IngredientUpsertResponse;
+import com.recipemanager.enums.ChangeType;
+import com.recipemanager.enums.Unit;
+import com.recipemanager.event.RecipeChangedEvent;
 import com.recipemanager.model.Ingredient;
 import com.recipemanager.model.Recipe;
+import com.recipemanager.model.RecipeChange;
 import com.recipemanager.repository.IngredientRepository;
 import com.recipemanager.repository.RecipeRepository;
+import com.recipemanager.service.NutritionCalculator.Contribution;
+import com.recipemanager.sharding.ShardKey;
+import com.recipemanager.sharding.ShardRouter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 
 @Service
 public class IngredientService {
@@ -20,16 +43,73 @@ public class IngredientService {
     @Autowired
     private RecipeRepository recipeRepository;
 
+    @Autowired
+    private RecipeService recipeService;
+
+    @Autowired
+    private ChangeFeedService changeFeedService;
+
+    @Autowired
+    private NutritionService nutritionService;
+
+    @Autowired
+    private NutritionCalculator nutritionCalculator;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    private SingleFlight<Long, List<Ingredient>> ingredientsFlight;
+
+    @PostConstruct
+    void init() {
+        ingredientsFlight = new SingleFlight<>("recipe-ingredients", meterRegistry,
+                ingredients -> ingredients.stream().map(Ingredient::copy).toList());
+    }
+
     // ========== GET ==========
 
     /**
      * Alle Zutaten eines Rezepts finden
+     * Gleichzeitige Aufrufe für dasselbe Rezept teilen sich eine Abfrage (SingleFlight).
      * 
      * @param recipeId Die ID des Rezepts
-     * @return Liste aller Zutaten
+     * @return Liste aller Zutaten (nicht veränderbar)
      */
-    public List<Ingredient> getIngredientsByRecipeId(Long recipeId) {
-        return ingredientRepository.findByRecipeId(recipeId);
+    public List<Ingredient> getIngredientsByRecipeId(@ShardKey Long recipeId) {
+        return ingredientsFlight.load(recipeId,
+                () -> List.copyOf(ingredientRepository.findByRecipeId(recipeId)));
+    }
+
+    /**
+     * Zutaten eines Rezepts, nur die gewählten Felder aus der Datenbank gelesen
+     *
+     * @param fields Auswahl aus ?fields= (nicht ALL)
+     */
+    @Transactional(readOnly = true)
+    public List<IngredientResponse> getIngredientResponses(@ShardKey Long recipeId, FieldSelection fields) {
+        return ingredientRepository.findResponses(recipeId, fields);
+    }
+
+    /**
+     * Zutaten mehrerer Rezepte in einer Abfrage (IN über die Rezept-IDs, pro Shard)
+     *
+     * @return Rezept-ID -> Zutaten nach id, Rezepte ohne Zutaten fehlen
+     */
+    public Map<Long, List<IngredientResponse>> getIngredientResponsesByRecipeIds(Collection<Long> recipeIds) {
+        Map<Long, List<IngredientResponse>> byRecipe = new HashMap<>();
+        for (List<Object[]> rows : shardRouter.onEachShard(recipeIds, ingredientRepository::findCatalogRows)) {
+            for (Object[] row : rows) {
+                byRecipe.computeIfAbsent((Long) row[0], id -> new ArrayList<>())
+                        .add(new IngredientResponse((Long) row[1], (String) row[2], (Double) row[3], (Unit) row[4]));
+            }
+        }
+        return byRecipe;
     }
 
     // ========== CREATE ==========
@@ -41,8 +121,11 @@ public class IngredientService {
      * @param request  IngredientRequest mit Daten
      * @return Die gespeicherte Zutat
      * @throws IllegalArgumentException wenn Rezept nicht existiert
+     * @throws DuplicateRecipeException wenn das Rezept danach einem anderen gleicht
      */
-    public Ingredient createIngredient(Long recipeId, IngredientRequest request) {
+    @Transactional
+    public Ingredient createIngredient(@ShardKey Long recipeId, IngredientRequest request) {
+        recipeRepository.lockById(recipeId);
         @SuppressWarnings("null")
         Recipe recipe = recipeRepository.findById(recipeId)
                 .orElseThrow(() -> new IllegalArgumentException(
@@ -54,7 +137,46 @@ public class IngredientService {
                 request.getUnit(),
                 recipe);
 
-        return ingredientRepository.save(ingredient);
+        Ingredient savedIngredient = ingredientRepository.save(ingredient);
+        recipe.setIngredientCount((int) ingredientRepository.countByRecipeId(recipeId));
+        recipeService.assignFingerprint(recipe, ingredientRepository.findTitlesByRecipeId(recipeId));
+        nutritionService.applyChange(recipeId, Contribution.ZERO, nutritionCalculator.contributionOf(savedIngredient));
+        RecipeChange change = changeFeedService.record(recipe, ChangeType.UPDATED);
+        eventPublisher.publishEvent(new RecipeChangedEvent(
+                recipeId, savedIngredient.getId(), ChangeType.CREATED, change));
+        return savedIngredient;
+    }
+
+    /**
+     * Zutaten eines Rezepts per Titel einfügen oder aktualisieren (Menge, Einheit),
+     * in einem Statement statt findByTitleAndRecipeId + save pro Zutat.
+     * Kommt ein Titel mehrfach vor, gilt der letzte Eintrag.
+     *
+     * @param recipeId Die ID des Rezepts
+     * @param requests Die Zutaten
+     * @return Anzahl neuer und geänderter Zutaten
+     * @throws IllegalArgumentException wenn Rezept nicht existiert
+     * @throws DuplicateRecipeException wenn das Rezept danach einem anderen gleicht
+     */
+    @Transactional
+    public IngredientUpsertResponse upsertIngredients(@ShardKey Long recipeId, List<IngredientRequest> requests) {
+        recipeRepository.lockById(recipeId)
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "Rezept mit ID " + recipeId + " nicht gefunden"));
+
+        Map<String, IngredientRequest> byTitle = new LinkedHashMap<>();
+        requests.forEach(request -> byTitle.put(request.getTitle(), request));
+        IngredientUpsertResponse result = ingredientRepository.upsert(recipeId, byTitle.values());
+
+        @SuppressWarnings("null")
+        Recipe recipe = recipeRepository.findById(recipeId).orElseThrow();
+        List<Ingredient> ingredients = ingredientRepository.findByRecipeId(recipeId);
+        recipe.setIngredientCount(ingredients.size());
+        recipeService.assignFingerprint(recipe, ingredients.stream().map(Ingredient::getTitle).toList());
+        nutritionService.recalculate(recipeId, ingredients);
+        RecipeChange change = changeFeedService.record(recipe, ChangeType.UPDATED);
+        eventPublisher.publishEvent(new RecipeChangedEvent(recipeId, null, ChangeType.UPDATED, change));
+        return result;
     }
 
     // ========== UPDATE ==========
@@ -66,18 +188,35 @@ public class IngredientService {
      * @param request Die neuen Daten
      * @return Die aktualisierte Zutat
      * @throws IllegalArgumentException wenn Zutat nicht existiert
+     * @throws DuplicateRecipeException wenn das Rezept danach einem anderen gleicht
      */
-    public Ingredient updateIngredient(Long id, IngredientRequest request) {
+    @Transactional
+    public Ingredient updateIngredient(@ShardKey Long id, IngredientRequest request) {
+        // Rezept sperren, bevor die Zutat gelesen wird: Nährwert-Delta und Fingerprint
+        // gehen dann vom committeten Stand aus, wie beim Anlegen und Löschen
+        Long recipeId = ingredientRepository.findRecipeIdById(id)
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "Zutat mit ID " + id + " nicht gefunden"));
+        recipeRepository.lockById(recipeId);
         @SuppressWarnings("null")
         Ingredient ingredient = ingredientRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException(
                         "Zutat mit ID " + id + " nicht gefunden"));
 
+        Contribution before = nutritionCalculator.contributionOf(ingredient);
         ingredient.setTitle(request.getTitle());
         ingredient.setAmount(request.getAmount());
         ingredient.setUnit(request.getUnit());
 
-        return ingredientRepository.save(ingredient);
+        Ingredient savedIngredient = ingredientRepository.save(ingredient);
+        recipeService.assignFingerprint(ingredient.getRecipe(),
+                ingredientRepository.findTitlesByRecipeId(ingredient.getRecipe().getId()));
+        nutritionService.applyChange(ingredient.getRecipe().getId(), before,
+                nutritionCalculator.contributionOf(savedIngredient));
+        RecipeChange change = changeFeedService.record(ingredient.getRecipe(), ChangeType.UPDATED);
+        eventPublisher.publishEvent(new RecipeChangedEvent(
+                ingredient.getRecipe().getId(), id, ChangeType.UPDATED, change));
+        return savedIngredient;
     }
 
     // ========== DELETE ==========
@@ -87,15 +226,43 @@ public class IngredientService {
      * 
      * @param id Die ID der Zutat
      * @throws IllegalArgumentException wenn Zutat nicht existiert
+     * @throws DuplicateRecipeException wenn das Rezept danach einem anderen gleicht
      */
-    @SuppressWarnings("null")
-    public void deleteIngredient(Long id) {
-        if (!ingredientRepository.existsById(id)) {
-            throw new IllegalArgumentException(
-                    "Zutat mit ID " + id + " nicht gefunden");
-        }
+    @Transactional
+    public void deleteIngredient(@ShardKey Long id) {
+        @SuppressWarnings("null")
+        Ingredient ingredient = ingredientRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "Zutat mit ID " + id + " nicht gefunden"));
+
+        Recipe recipe = ingredient.getRecipe();
+        Long recipeId = recipe.getId();
+        recipeRepository.lockById(recipeId);
+        recipe.getIngredients().remove(ingredient);
+        ingredientRepository.delete(ingredient);
+        recipe.setIngredientCount((int) ingredientRepository.countByRecipeId(recipeId));
+        recipeService.assignFingerprint(recipe, ingredientRepository.findTitlesByRecipeId(recipeId));
+        nutritionService.applyChange(recipeId, nutritionCalculator.contributionOf(ingredient), Contribution.ZERO);
+        RecipeChange change = changeFeedService.record(recipe, ChangeType.UPDATED);
+        eventPublisher.publishEvent(new RecipeChangedEvent(recipeId, id, ChangeType.DELETED, change));
+    }
+
+    // ========== EVENTS ==========
 
-        ingredientRepository.deleteById(id);
+    /**
+     * Laufende Abfragen nach einem Schreibzugriff sofort abkoppeln (noch vor dem Commit)
+     */
+    @EventListener
+    public void onRecipeChanged(RecipeChangedEvent event) {
+        ingredientsFlight.forget(event.getRecipeId());
+    }
+
+    /**
+     * Nochmal nach dem Commit: Abfragen, die zwischen Schreiben und Commit gestartet sind
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRecipeChangeCommitted(RecipeChangedEvent event) {
+        ingredientsFlight.forget(event.getRecipeId());
     }
 
 }
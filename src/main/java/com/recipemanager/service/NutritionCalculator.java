@@ -0,0 +1,202 @@
+package com.recipemanager.service;
+
+import java.text.Normalizer;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.recipemanager.enums.Unit;
+import com.recipemanager.model.Ingredient;
+import com.recipemanager.model.NutritionReference;
+import com.recipemanager.repository.NutritionReferenceRepository;
+
+/**
+ * Rechnet eine Zutat (Menge + Einheit) in Gramm um und liefert ihren Nährwert-Beitrag.
+ *
+ * Die Referenzwerte liegen komplett im Speicher (wenige hundert Zeilen) und werden
+ * über reload() nach Änderungen an nutrition_reference neu geladen.
+ */
+@Component
+public class NutritionCalculator {
+
+    /** Feste Gewichte für Einheiten ohne Volumen */
+    private static final Map<Unit, Double> GRAMS_PER_UNIT = new EnumMap<>(Map.of(
+            Unit.G, 1.0,
+            Unit.KG, 1000.0,
+            Unit.PRISE, 0.5,
+            Unit.MESSERSPITZE, 0.3));
+
+    /** Volumen-Einheiten in ml, Umrechnung in g über die Dichte der Zutat */
+    private static final Map<Unit, Double> MILLILITERS_PER_UNIT = new EnumMap<>(Map.of(
+            Unit.ML, 1.0,
+            Unit.L, 1000.0,
+            Unit.TL, 5.0,
+            Unit.EL, 15.0,
+            Unit.TASSE, 150.0,
+            Unit.GLAS, 200.0));
+
+    @Autowired
+    private NutritionReferenceRepository nutritionReferenceRepository;
+
+    private volatile Map<String, NutritionReference> references;
+
+    // ========== CALCULATE ==========
+
+    /**
+     * Nährwert-Beitrag einer Zutat
+     */
+    public Contribution contributionOf(Ingredient ingredient) {
+        return contributionOf(ingredient.getTitle(), ingredient.getAmount(), ingredient.getUnit());
+    }
+
+    public Contribution contributionOf(String title, Double amount, Unit unit) {
+        Optional<NutritionReference> reference = findReference(title);
+        if (reference.isEmpty()) {
+            return Contribution.UNMATCHED;
+        }
+        if (amount == null) {
+            // "nach Geschmack": bekannt, aber ohne Menge
+            return Contribution.ZERO;
+        }
+
+        double factor = toGrams(amount, unit, reference.get().getDensity()) / 100.0;
+        return new Contribution(
+                reference.get().getKcalPer100g() * factor,
+                reference.get().getProteinPer100g() * factor,
+                reference.get().getFatPer100g() * factor,
+                reference.get().getCarbohydratesPer100g() * factor,
+                0);
+    }
+
+    /**
+     * Summe über alle Zutaten (für Neuberechnung und Reparatur)
+     */
+    public Contribution totalOf(List<Ingredient> ingredients) {
+        Contribution total = Contribution.ZERO;
+        for (Ingredient ingredient : ingredients) {
+            total = total.plus(contributionOf(ingredient));
+        }
+        return total;
+    }
+
+    /**
+     * Menge in Gramm
+     *
+     * @param density g pro ml, nur für Volumen-Einheiten relevant
+     */
+    public static double toGrams(double amount, Unit unit, double density) {
+        Double grams = GRAMS_PER_UNIT.get(unit);
+        if (grams != null) {
+            return amount * grams;
+        }
+        return amount * MILLILITERS_PER_UNIT.get(unit) * density;
+    }
+
+    // ========== REFERENCE ==========
+
+    /**
+     * Referenz zum Zutat-Namen: erst der ganze normalisierte Name,
+     * dann das letzte und das erste Wort ("Spaghetti No. 5" -> "spaghetti")
+     */
+    public Optional<NutritionReference> findReference(String title) {
+        String normalized = normalize(title);
+        Map<String, NutritionReference> byName = references();
+
+        NutritionReference reference = byName.get(normalized);
+        if (reference == null && normalized.contains(" ")) {
+            reference = byName.get(normalized.substring(normalized.lastIndexOf(' ') + 1));
+            if (reference == null) {
+                reference = byName.get(normalized.substring(0, normalized.indexOf(' ')));
+            }
+        }
+        return Optional.ofNullable(reference);
+    }
+
+    /**
+     * Kleinbuchstaben, Umlaute ausgeschrieben, nur Buchstaben/Ziffern, einfache Leerzeichen
+     */
+    public static String normalize(String title) {
+        if (title == null) {
+            return "";
+        }
+        String lower = title.toLowerCase(Locale.GERMAN)
+                .replace("ä", "ae")
+                .replace("ö", "oe")
+                .replace("ü", "ue")
+                .replace("ß", "ss");
+        String ascii = Normalizer.normalize(lower, Normalizer.Form.NFD).replaceAll("\\p{M}", "");
+        return ascii.replaceAll("[^a-z0-9]+", " ").trim();
+    }
+
+    public void reload() {
+        references = nutritionReferenceRepository.findAll().stream()
+                .collect(Collectors.toMap(NutritionReference::getNormalizedName, Function.identity()));
+    }
+
+    private Map<String, NutritionReference> references() {
+        if (references == null) {
+            reload();
+        }
+        return references;
+    }
+
+    /**
+     * Nährwerte einer Zutat oder Summe, unveränderlich
+     */
+    public static class Contribution {
+
+        public static final Contribution ZERO = new Contribution(0, 0, 0, 0, 0);
+        public static final Contribution UNMATCHED = new Contribution(0, 0, 0, 0, 1);
+
+        private final double kcal;
+        private final double protein;
+        private final double fat;
+        private final double carbohydrates;
+        private final int unmatched;
+
+        public Contribution(double kcal, double protein, double fat, double carbohydrates, int unmatched) {
+            this.kcal = kcal;
+            this.protein = protein;
+            this.fat = fat;
+            this.carbohydrates = carbohydrates;
+            this.unmatched = unmatched;
+        }
+
+        public Contribution plus(Contribution other) {
+            return new Contribution(kcal + other.kcal, protein + other.protein, fat + other.fat,
+                    carbohydrates + other.carbohydrates, unmatched + other.unmatched);
+        }
+
+        public Contribution minus(Contribution other) {
+            return new Contribution(kcal - other.kcal, protein - other.protein, fat - other.fat,
+                    carbohydrates - other.carbohydrates, unmatched - other.unmatched);
+        }
+
+        public double getKcal() {
+            return kcal;
+        }
+
+        public double getProtein() {
+            return protein;
+        }
+
+        public double getFat() {
+            return fat;
+        }
+
+        public double getCarbohydrates() {
+            return carbohydrates;
+        }
+
+        public int getUnmatched() {
+            return unmatched;
+        }
+    }
+}
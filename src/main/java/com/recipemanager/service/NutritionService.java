@@ -0,0 +1,165 @@
+package com.recipemanager.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.recipemanager.dto.NutrientsResponse;
+import com.recipemanager.dto.NutritionResponse;
+import com.recipemanager.model.Ingredient;
+import com.recipemanager.model.NutritionReference;
+import com.recipemanager.model.RecipeNutrition;
+import com.recipemanager.repository.IngredientRepository;
+import com.recipemanager.repository.NutritionReferenceRepository;
+import com.recipemanager.repository.RecipeNutritionRepository;
+import com.recipemanager.service.NutritionCalculator.Contribution;
+
+/**
+ * Materialisierte Nährwert-Summen pro Rezept.
+ *
+ * Rezept anlegen/ersetzen rechnet einmal komplett, jede einzelne Zutaten-Änderung
+ * verschiebt die Summen nur um die Differenz (alter Beitrag raus, neuer rein),
+ * unter Zeilensperre auf recipe_nutrition.
+ * Lesen ist damit ein einfacher Lookup per Primärschlüssel.
+ */
+@Service
+public class NutritionService {
+
+    private static final String REFERENCE_DATA = "nutrition-reference.csv";
+
+    @Autowired
+    private RecipeNutritionRepository recipeNutritionRepository;
+
+    @Autowired
+    private NutritionReferenceRepository nutritionReferenceRepository;
+
+    @Autowired
+    private IngredientRepository ingredientRepository;
+
+    @Autowired
+    private NutritionCalculator nutritionCalculator;
+
+    // ========== GET ==========
+
+    /**
+     * Nährwerte eines Rezepts
+     *
+     * @param recipeId Die ID des Rezepts
+     * @param servings Portionen (null: kein Wert pro Portion)
+     * @return Leer, wenn für das Rezept noch keine Summen existieren
+     */
+    public Optional<NutritionResponse> getNutrition(Long recipeId, Integer servings) {
+        return recipeNutritionRepository.findById(recipeId)
+                .map(nutrition -> toResponse(nutrition, servings));
+    }
+
+    /**
+     * Gespeicherte Summen als Antwort, mit Werten pro Portion wenn servings gesetzt ist
+     */
+    public static NutritionResponse toResponse(RecipeNutrition nutrition, Integer servings) {
+        NutrientsResponse total = new NutrientsResponse(
+                nutrition.getKcal(), nutrition.getProtein(),
+                nutrition.getFat(), nutrition.getCarbohydrates());
+        NutrientsResponse perServing = servings == null || servings < 1 ? null
+                : new NutrientsResponse(
+                        nutrition.getKcal() / servings, nutrition.getProtein() / servings,
+                        nutrition.getFat() / servings, nutrition.getCarbohydrates() / servings);
+        return new NutritionResponse(servings, total, perServing, nutrition.getUnmatchedIngredients());
+    }
+
+    // ========== UPDATE ==========
+
+    /**
+     * Summen komplett neu berechnen (neues Rezept, Zutaten ersetzt, Reparatur)
+     */
+    @Transactional
+    public void recalculate(Long recipeId, List<Ingredient> ingredients) {
+        Contribution total = nutritionCalculator.totalOf(ingredients);
+        RecipeNutrition nutrition = recipeNutritionRepository.findById(recipeId)
+                .orElseGet(() -> new RecipeNutrition(recipeId));
+
+        nutrition.setKcal(total.getKcal());
+        nutrition.setProtein(total.getProtein());
+        nutrition.setFat(total.getFat());
+        nutrition.setCarbohydrates(total.getCarbohydrates());
+        nutrition.setUnmatchedIngredients(total.getUnmatched());
+        nutrition.setUpdatedAt(LocalDateTime.now());
+        recipeNutritionRepository.save(nutrition);
+    }
+
+    /**
+     * Eine Zutat wurde angelegt, geändert oder gelöscht: Summen um die Differenz verschieben
+     *
+     * @param removed Beitrag vor der Änderung (ZERO beim Anlegen)
+     * @param added   Beitrag nach der Änderung (ZERO beim Löschen)
+     */
+    @Transactional
+    public void applyChange(Long recipeId, Contribution removed, Contribution added) {
+        Optional<RecipeNutrition> locked = recipeNutritionRepository.findForUpdate(recipeId);
+        if (locked.isEmpty()) {
+            // Rezept von vor der Nährwert-Tabelle: einmal komplett rechnen
+            recalculate(recipeId, ingredientRepository.findByRecipeId(recipeId));
+            return;
+        }
+
+        RecipeNutrition nutrition = locked.get();
+        Contribution delta = added.minus(removed);
+        nutrition.setKcal(nutrition.getKcal() + delta.getKcal());
+        nutrition.setProtein(nutrition.getProtein() + delta.getProtein());
+        nutrition.setFat(nutrition.getFat() + delta.getFat());
+        nutrition.setCarbohydrates(nutrition.getCarbohydrates() + delta.getCarbohydrates());
+        nutrition.setUnmatchedIngredients(nutrition.getUnmatchedIngredients() + delta.getUnmatched());
+        nutrition.setUpdatedAt(LocalDateTime.now());
+    }
+
+    @Transactional
+    public void delete(Long recipeId) {
+        recipeNutritionRepository.deleteById(recipeId);
+    }
+
+    // ========== REFERENCE DATA ==========
+
+    /**
+     * Referenzwerte aus nutrition-reference.csv laden, wenn die Tabelle leer ist
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void seedReferenceData() {
+        if (nutritionReferenceRepository.count() == 0) {
+            nutritionReferenceRepository.saveAll(readReferenceData());
+        }
+        nutritionCalculator.reload();
+    }
+
+    private static List<NutritionReference> readReferenceData() {
+        ClassPathResource resource = new ClassPathResource(REFERENCE_DATA);
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            return reader.lines()
+                    .filter(line -> !line.isBlank() && !line.startsWith("#"))
+                    .map(line -> line.split(";"))
+                    .map(columns -> new NutritionReference(
+                            NutritionCalculator.normalize(columns[0]),
+                            Double.parseDouble(columns[1]),
+                            Double.parseDouble(columns[2]),
+                            Double.parseDouble(columns[3]),
+                            Double.parseDouble(columns[4]),
+                            Double.parseDouble(columns[5])))
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.recipemanager.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.recipemanager.dto.IngredientRequest;
+import com.recipemanager.dto.RecipeRequest;
+
+/**
+ * Inhalts-Fingerprint eines Rezepts: SHA-256 über den normalisierten Titel und die
+ * sortierte, deduplizierte Menge der normalisierten Zutaten-Namen.
+ *
+ * Mengen, Einheiten und Reihenfolge zählen nicht - "Pfannkuchen" mit "Mehl, Eier"
+ * und "pfannkuchen" mit "Eier, Mehl, Mehl" sind dasselbe Rezept.
+ */
+public final class RecipeFingerprint {
+
+    private RecipeFingerprint() {
+    }
+
+    /**
+     * Fingerprint des Rezepts, das der Request anlegen würde
+     */
+    public static String of(RecipeRequest request) {
+        return of(request.getTitle(), request.getIngredients() == null ? List.of()
+                : request.getIngredients().stream().map(IngredientRequest::getTitle).toList());
+    }
+
+    /**
+     * @return 64 Hex-Zeichen
+     */
+    public static String of(String title, Collection<String> ingredientTitles) {
+        String ingredients = ingredientTitles.stream()
+                .map(NutritionCalculator::normalize)
+                .filter(name -> !name.isEmpty())
+                .distinct()
+                .sorted()
+                .collect(Collectors.joining("\n"));
+        String content = NutritionCalculator.normalize(title) + "\n\n" + ingredients;
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
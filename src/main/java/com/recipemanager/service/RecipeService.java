@@ -1,20 +1,46 @@
 package com.recipemanager.service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.recipemanager.cache.CatalogSnapshotService;
+import com.recipemanager.cache.SingleFlight;
+import com.recipemanager.dto.FieldSelection;
+import com.recipemanager.dto.IngredientRequest;
 import com.recipemanager.dto.IngredientResponse;
 import com.recipemanager.dto.RecipeDetailResponse;
+import com.recipemanager.dto.RecipeListFilter;
 import com.recipemanager.dto.RecipeRequest;
 import com.recipemanager.dto.RecipeResponse;
+import com.recipemanager.enums.ChangeType;
+import com.recipemanager.event.RecipeChangedEvent;
 import com.recipemanager.model.Ingredient;
 import com.recipemanager.model.Recipe;
+import com.recipemanager.model.RecipeChange;
 import com.recipemanager.repository.IngredientRepository;
 import com.recipemanager.repository.RecipeRepository;
+import com.recipemanager.sharding.ShardKey;
+import com.recipemanager.sharding.ShardRouter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 
 @Service
 public class RecipeService {
@@ -25,26 +51,170 @@ public class RecipeService {
     @Autowired
     private IngredientRepository ingredientRepository;
 
+    @Autowired
+    private ChangeFeedService changeFeedService;
+
+    @Autowired
+    private CatalogSnapshotService catalogSnapshotService;
+
+    @Autowired
+    private NutritionService nutritionService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    private SingleFlight<Long, Optional<RecipeDetailResponse>> detailFlight;
+    private TransactionTemplate readTransaction;
+
+    @PostConstruct
+    void init() {
+        detailFlight = new SingleFlight<>("recipe-detail", meterRegistry,
+                detail -> detail.map(RecipeDetailResponse::copy));
+        readTransaction = new TransactionTemplate(transactionManager);
+        readTransaction.setReadOnly(true);
+    }
+
     // ========== GET ==========
 
     /**
-     * Alle Rezepte (id, title, createdAt)
+     * Alle Rezepte (id, title, createdAt, ingredientCount), älteste zuerst
      */
     public List<RecipeResponse> getAllRecipes() {
-        return recipeRepository.findAll()
+        return getRecipes(new RecipeListFilter());
+    }
+
+    /**
+     * Rezepte gefiltert und sortiert, komplett in der Datenbank
+     *
+     * Mit Sharding liefert jede Shard ihre ersten limit Treffer, die Listen werden
+     * nach derselben Sortierung zusammengeführt.
+     */
+    public List<RecipeResponse> getRecipes(RecipeListFilter filter) {
+        if (filter.isUnfiltered() && catalogSnapshotService.isServing()) {
+            return catalogSnapshotService.list(filter.getLimit());
+        }
+        if (!shardRouter.isSharded()) {
+            return recipeRepository.findList(filter);
+        }
+
+        // Sortierspalte fürs Zusammenführen mitlesen, beim Serialisieren fällt sie wieder weg
+        RecipeListFilter shardFilter = filter.withFields(filter.getFields().plus(filter.getSort().getAttribute()));
+        return shardRouter.onEachShard(() -> recipeRepository.findList(shardFilter))
                 .stream()
-                .map(recipe -> new RecipeResponse(
-                        recipe.getId(),
-                        recipe.getTitle(),
-                        recipe.getCreatedAt()))
-                .collect(Collectors.toList());
+                .flatMap(List::stream)
+                .sorted(orderOf(filter))
+                .limit(filter.getLimit() != null ? filter.getLimit() : Long.MAX_VALUE)
+                .toList();
+    }
+
+    /**
+     * Ein Rezept als Listen-Eintrag (id, title, createdAt, ingredientCount)
+     */
+    @Transactional(readOnly = true)
+    public Optional<RecipeResponse> getRecipeSummary(@ShardKey Long id) {
+        return recipeRepository.findAttributes(id, RecipeResponse.FIELDS).map(row -> new RecipeResponse(
+                (Long) row.get("id"),
+                (String) row.get("title"),
+                (LocalDateTime) row.get("createdAt"),
+                (Integer) row.get("ingredientCount")));
+    }
+
+    /**
+     * Beschreibungen mehrerer Rezepte, eine Abfrage (pro Shard)
+     *
+     * @return Rezept-ID -> Beschreibung (fehlt für unbekannte IDs)
+     */
+    public Map<Long, String> getDescriptions(Collection<Long> ids) {
+        Map<Long, String> descriptions = new HashMap<>();
+        shardRouter.onEachShard(ids, group -> readTransaction.execute(status -> recipeRepository.findDescriptions(group)))
+                .forEach(rows -> rows.forEach(row -> descriptions.put((Long) row[0], (String) row[1])));
+        return descriptions;
+    }
+
+    /**
+     * Das Rezept selbst (z.B. als Antwort auf eine Dublette)
+     */
+    @Transactional(readOnly = true)
+    public Optional<Recipe> findRecipe(@ShardKey Long id) {
+        return recipeRepository.findById(id);
     }
 
     /**
      * Ein Rezept mit allen Details + Zutaten
+     *
+     * Gleichzeitige Aufrufe für dieselbe ID teilen sich einen Ladevorgang (SingleFlight).
+     * Mit recipemanager.catalog.enabled kommt die Antwort aus dem CatalogSnapshot.
+     */
+    public Optional<RecipeDetailResponse> getRecipeById(@ShardKey Long id) {
+        if (catalogSnapshotService.isServing()) {
+            return catalogSnapshotService.detail(id);
+        }
+        return detailFlight.load(id, () -> readTransaction.execute(status -> loadRecipeDetail(id)));
+    }
+
+    /**
+     * Ein Rezept mit den gewählten Feldern (?fields=)
+     *
+     * Liest nur die angefragten Spalten, Zutaten und Nährwerte nur bei Bedarf.
+     * Aus dem CatalogSnapshot kommt das ganze Rezept, gekürzt wird dann beim Serialisieren.
      */
+    public Optional<RecipeDetailResponse> getRecipeById(@ShardKey Long id, FieldSelection fields) {
+        if (fields.isAll() || catalogSnapshotService.isServing()) {
+            return getRecipeById(id);
+        }
+        return readTransaction.execute(status -> loadRecipeDetail(id, fields));
+    }
+
+    /**
+     * Ein Rezept mit allen Details + Zutaten als fertiges JSON, von der Datenbank gerendert
+     * (ein Statement, keine Entities, kein Jackson) - Alternative zu getRecipeById
+     */
+    @Transactional(readOnly = true)
+    public Optional<byte[]> getRecipeDetailJson(@ShardKey Long id) {
+        return recipeRepository.findDetailJson(id);
+    }
+
+    private Optional<RecipeDetailResponse> loadRecipeDetail(Long id, FieldSelection fields) {
+        List<String> attributes = new ArrayList<>(List.of("id"));
+        for (String attribute : List.of("title", "description", "createdAt")) {
+            if (fields.includes(attribute)) {
+                attributes.add(attribute);
+            }
+        }
+        if (fields.includes("nutrition")) {
+            attributes.add("servings");
+        }
+
+        return recipeRepository.findAttributes(id, attributes)
+                .map(row -> {
+                    RecipeDetailResponse detail = new RecipeDetailResponse(
+                            id,
+                            (String) row.get("title"),
+                            (String) row.get("description"),
+                            (LocalDateTime) row.get("createdAt"),
+                            fields.includes("ingredients")
+                                    ? ingredientRepository.findResponses(id, fields.nested("ingredients"))
+                                    : null);
+                    if (fields.includes("nutrition")) {
+                        detail.setNutrition(nutritionService
+                                .getNutrition(id, (Integer) row.get("servings"))
+                                .orElse(null));
+                    }
+                    return detail;
+                });
+    }
+
     @SuppressWarnings("null")
-    public Optional<RecipeDetailResponse> getRecipeById(Long id) {
+    private Optional<RecipeDetailResponse> loadRecipeDetail(Long id) {
         return recipeRepository.findById(id)
                 .map(recipe -> {
                     List<IngredientResponse> ingredients = recipe.getIngredients()
@@ -56,12 +226,16 @@ public class RecipeService {
                                     ing.getUnit()))
                             .collect(Collectors.toList());
 
-                    return new RecipeDetailResponse(
+                    RecipeDetailResponse detail = new RecipeDetailResponse(
                             recipe.getId(),
                             recipe.getTitle(),
                             recipe.getDescription(),
                             recipe.getCreatedAt(),
                             ingredients);
+                    detail.setNutrition(nutritionService
+                            .getNutrition(recipe.getId(), recipe.getServings())
+                            .orElse(null));
+                    return detail;
                 });
     }
 
@@ -69,11 +243,23 @@ public class RecipeService {
 
     /**
      * Neues Rezept mit Zutaten erstellen
+     *
+     * @throws DuplicateRecipeException wenn es ein Rezept mit gleichem Titel und gleichen Zutaten gibt
      */
     @SuppressWarnings("null")
-    public Recipe createRecipe(RecipeRequest request) {
+    @Transactional
+    public Recipe createRecipe(@ShardKey RecipeRequest request) {
         Recipe recipe = new Recipe(request.getTitle(), request.getDescription());
-        Recipe savedRecipe = recipeRepository.save(recipe);
+        recipe.setServings(request.getServings());
+        assignFingerprint(recipe, ingredientTitlesOf(request));
+
+        Recipe savedRecipe;
+        try {
+            savedRecipe = recipeRepository.save(recipe);
+        } catch (DataIntegrityViolationException e) {
+            // Gleichzeitiger Insert mit demselben Fingerprint, der Unique-Index hat entschieden
+            throw new DuplicateRecipeException(recipe.getContentFingerprint(), null);
+        }
 
         if (request.getIngredients() != null && !request.getIngredients().isEmpty()) {
             List<Ingredient> ingredients = request.getIngredients()
@@ -86,18 +272,69 @@ public class RecipeService {
                     .collect(Collectors.toList());
 
             ingredientRepository.saveAll(ingredients);
-            savedRecipe.setIngredients(ingredients);
+            savedRecipe.getIngredients().addAll(ingredients);
         }
+        savedRecipe.setIngredientCount(savedRecipe.getIngredients().size());
+        nutritionService.recalculate(savedRecipe.getId(), savedRecipe.getIngredients());
 
+        RecipeChange change = changeFeedService.record(savedRecipe, ChangeType.CREATED);
+        eventPublisher.publishEvent(new RecipeChangedEvent(savedRecipe.getId(), null, ChangeType.CREATED, change));
         return savedRecipe;
     }
 
+    /**
+     * Mehrere Rezepte in einer Transaktion anlegen (ein Chunk eines Import-Jobs)
+     *
+     * Wie createRecipe, aber die Zutaten aller Rezepte gehen als ein JDBC-Batch raus.
+     * Scheitert ein Rezept (Dublette, doppelte Zutat), wird der ganze Chunk zurückgerollt.
+     * Mit Sharding müssen alle Rezepte auf die Shard des Aufrufers gehören (ShardRouter.onShard).
+     *
+     * @return Die angelegten Rezepte in Reihenfolge der Requests
+     * @throws DuplicateRecipeException wenn ein Rezept schon existiert oder im Chunk doppelt ist
+     */
+    @Transactional
+    public List<Recipe> importRecipes(List<RecipeRequest> requests) {
+        List<Recipe> recipes = new ArrayList<>(requests.size());
+        List<List<Ingredient>> ingredientsPerRecipe = new ArrayList<>(requests.size());
+
+        for (RecipeRequest request : requests) {
+            Recipe recipe = new Recipe(request.getTitle(), request.getDescription());
+            recipe.setServings(request.getServings());
+            assignFingerprint(recipe, ingredientTitlesOf(request));
+            recipe.setIngredientCount(request.getIngredients() != null ? request.getIngredients().size() : 0);
+            Recipe savedRecipe = recipeRepository.save(recipe);
+
+            recipes.add(savedRecipe);
+            ingredientsPerRecipe.add(request.getIngredients() == null ? List.of()
+                    : request.getIngredients().stream()
+                            .map(ingRequest -> new Ingredient(
+                                    ingRequest.getTitle(),
+                                    ingRequest.getAmount(),
+                                    ingRequest.getUnit(),
+                                    savedRecipe))
+                            .toList());
+        }
+        ingredientRepository.insertAll(ingredientsPerRecipe.stream().flatMap(List::stream).toList());
+
+        for (int i = 0; i < recipes.size(); i++) {
+            Recipe recipe = recipes.get(i);
+            nutritionService.recalculate(recipe.getId(), ingredientsPerRecipe.get(i));
+            RecipeChange change = changeFeedService.record(recipe, ChangeType.CREATED);
+            eventPublisher.publishEvent(new RecipeChangedEvent(recipe.getId(), null, ChangeType.CREATED, change));
+        }
+        return recipes;
+    }
+
     // ========== UPDATE ==========
 
     /**
      * Rezept mit Zutaten aktualisieren
+     *
+     * @throws DuplicateRecipeException wenn das Rezept danach einem anderen gleicht
      */
-    public Recipe updateRecipe(Long id, RecipeRequest request) {
+    @Transactional
+    public Recipe updateRecipe(@ShardKey Long id, RecipeRequest request) {
+        recipeRepository.lockById(id);
         @SuppressWarnings("null")
         Recipe recipe = recipeRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException(
@@ -105,9 +342,16 @@ public class RecipeService {
 
         recipe.setTitle(request.getTitle());
         recipe.setDescription(request.getDescription());
+        recipe.setServings(request.getServings());
+        assignFingerprint(recipe, request.getIngredients() != null
+                ? ingredientTitlesOf(request)
+                : recipe.getIngredients().stream().map(Ingredient::getTitle).toList());
 
         if (request.getIngredients() != null) {
             recipe.getIngredients().clear();
+            // Löschen vor den Inserts ausführen (Hibernate sortiert Inserts sonst zuerst),
+            // sonst kollidieren gleich benannte Zutaten mit uk_ingredients_recipe_id_title
+            recipeRepository.flush();
 
             List<Ingredient> newIngredients = request.getIngredients()
                     .stream()
@@ -118,16 +362,116 @@ public class RecipeService {
                             recipe))
                     .collect(Collectors.toList());
 
-            recipe.setIngredients(newIngredients);
+            // Collection nicht ersetzen: orphanRemoval braucht dieselbe Instanz
+            recipe.getIngredients().addAll(newIngredients);
+            recipe.setIngredientCount(newIngredients.size());
+            nutritionService.recalculate(id, recipe.getIngredients());
         }
 
-        return recipeRepository.save(recipe);
+        RecipeChange change = changeFeedService.record(recipe, ChangeType.UPDATED);
+        Recipe savedRecipe = recipeRepository.save(recipe);
+        eventPublisher.publishEvent(new RecipeChangedEvent(id, null, ChangeType.UPDATED, change));
+        return savedRecipe;
+    }
+
+    /**
+     * Inhalts-Fingerprint setzen (eine Abfrage über den Unique-Index)
+     *
+     * @throws DuplicateRecipeException wenn er schon zu einem anderen Rezept gehört
+     */
+    public void assignFingerprint(Recipe recipe, Collection<String> ingredientTitles) {
+        String fingerprint = RecipeFingerprint.of(recipe.getTitle(), ingredientTitles);
+        Optional<Long> existing = findIdByFingerprint(fingerprint);
+        if (existing.isPresent() && !existing.get().equals(recipe.getId())) {
+            throw new DuplicateRecipeException(fingerprint, existing.get());
+        }
+        recipe.setContentFingerprint(fingerprint);
+    }
+
+    /**
+     * ID des Rezepts mit gleichem Inhalt wie der Request
+     */
+    public Optional<Long> findDuplicate(@ShardKey RecipeRequest request) {
+        return findIdByFingerprint(RecipeFingerprint.of(request));
+    }
+
+    /**
+     * Rezept mit diesem Fingerprint, zuerst auf der aktuellen Shard, dann auf allen
+     *
+     * Neue Rezepte liegen auf der Shard ihres Fingerprints, bearbeitete bleiben aber auf
+     * der Shard ihrer ID - ihr neuer Fingerprint kann also auf jeder Shard stehen.
+     * Der Unique-Index gilt nur pro Shard, über Shards hinweg entscheidet diese Abfrage.
+     */
+    private Optional<Long> findIdByFingerprint(String fingerprint) {
+        Optional<Long> local = recipeRepository.findIdByContentFingerprint(fingerprint);
+        if (local.isPresent() || !shardRouter.isSharded()) {
+            return local;
+        }
+        return shardRouter.onEachShard(() -> recipeRepository.findIdByContentFingerprint(fingerprint))
+                .stream()
+                .flatMap(Optional::stream)
+                .findFirst();
+    }
+
+    private static Comparator<RecipeResponse> orderOf(RecipeListFilter filter) {
+        Comparator<RecipeResponse> order = switch (filter.getSort()) {
+            case CREATED_AT -> Comparator.comparing(RecipeResponse::getCreatedAt);
+            case TITLE -> Comparator.comparing(RecipeResponse::getTitle);
+            case INGREDIENT_COUNT -> Comparator.comparing(RecipeResponse::getIngredientCount);
+        };
+        order = order.thenComparing(RecipeResponse::getId);
+        return filter.isDescending() ? order.reversed() : order;
+    }
+
+    private static List<String> ingredientTitlesOf(RecipeRequest request) {
+        if (request.getIngredients() == null) {
+            return List.of();
+        }
+        return request.getIngredients().stream().map(IngredientRequest::getTitle).toList();
     }
 
     // ========== DELETE ==========
 
+    /**
+     * Rezept als gelöscht markieren (Soft-Delete)
+     *
+     * Ab dem Commit ist es für alle Abfragen unsichtbar, Zutaten und Nährwerte
+     * entfernt RecipePurgeJob später in kleinen Batches. Der Fingerprint wird frei,
+     * damit dasselbe Rezept wieder angelegt werden kann.
+     */
     @SuppressWarnings("null")
-    public void deleteRecipe(Long id) {
-        recipeRepository.deleteById(id);
+    @Transactional
+    public void deleteRecipe(@ShardKey Long id) {
+        RecipeChange change = null;
+        if (recipeRepository.lockById(id).isPresent()) {
+            Recipe recipe = recipeRepository.findById(id).orElseThrow();
+            recipe.setDeletedAt(LocalDateTime.now());
+            recipe.setContentFingerprint(null);
+            change = changeFeedService.recordDeleted(id);
+        }
+        eventPublisher.publishEvent(new RecipeChangedEvent(id, null, ChangeType.DELETED, change));
+    }
+
+    // ========== EVENTS ==========
+
+    /**
+     * Laufende Ladevorgänge nach einem Schreibzugriff sofort abkoppeln (noch vor dem Commit),
+     * damit neue Leser nicht auf einen Stand von vor der Änderung warten
+     */
+    @EventListener
+    public void onRecipeChanged(RecipeChangedEvent event) {
+        detailFlight.forget(event.getRecipeId());
+    }
+
+    /**
+     * Nochmal nach dem Commit: Leser, die zwischen Schreiben und Commit gestartet sind
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRecipeChangeCommitted(RecipeChangedEvent event) {
+        detailFlight.forget(event.getRecipeId());
+    }
+
+    SingleFlight<Long, Optional<RecipeDetailResponse>> getDetailFlight() {
+        return detailFlight;
     }
 }
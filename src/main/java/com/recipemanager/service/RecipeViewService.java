@@ -0,0 +1,203 @@
+package com.recipemanager.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.recipemanager.dto.IngredientResponse;
+import com.recipemanager.dto.RecipeDetailResponse;
+import com.recipemanager.enums.Unit;
+import com.recipemanager.event.RecipeChangedEvent;
+import com.recipemanager.model.RecipeNutrition;
+import com.recipemanager.model.RecipeView;
+import com.recipemanager.repository.IngredientRepository;
+import com.recipemanager.repository.RecipeNutritionRepository;
+import com.recipemanager.repository.RecipeRepository;
+import com.recipemanager.repository.RecipeViewRepository;
+import com.recipemanager.sharding.ShardKey;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Lesemodell recipe_view: pro Rezept eine Zeile mit der fertigen Detail-Antwort (JSON).
+ *
+ * Jeder Schreibzugriff über RecipeService/IngredientService veröffentlicht ein
+ * RecipeChangedEvent; die betroffenen Rezepte werden gesammelt und kurz vor dem Commit
+ * in derselben Transaktion neu gerendert (ein Durchlauf pro Transaktion, auch beim Import).
+ * Scheitert das Rendern, wird der Schreibzugriff mit zurückgerollt.
+ * GET /api/recipes/{id} ist damit ein Lookup per Primärschlüssel.
+ *
+ * Nur mit recipemanager.recipe-view.enabled. Schreibzugriffe an den Services vorbei
+ * (SQL-Konsole, Migrationen, neue Referenzwerte für Nährwerte) und Änderungen bei
+ * abgeschaltetem Lesemodell holt erst RecipeViewRebuildJob nach.
+ */
+@Service
+public class RecipeViewService {
+
+    @Autowired
+    private RecipeViewRepository recipeViewRepository;
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    @Autowired
+    private IngredientRepository ingredientRepository;
+
+    @Autowired
+    private RecipeNutritionRepository recipeNutritionRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${recipemanager.recipe-view.enabled:false}")
+    private boolean enabled;
+
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public boolean isServing() {
+        return enabled;
+    }
+
+    // ========== GET ==========
+
+    /**
+     * Fertiges Detail-JSON eines Rezepts
+     *
+     * @return UTF-8 Bytes oder leer, wenn für das Rezept (noch) keine Zeile existiert
+     */
+    @Transactional(readOnly = true)
+    public Optional<byte[]> getJson(@ShardKey Long recipeId) {
+        return recipeViewRepository.findById(recipeId)
+                .map(view -> view.getJson().getBytes(StandardCharsets.UTF_8));
+    }
+
+    // ========== UPDATE ==========
+
+    /**
+     * Zeilen mehrerer Rezepte neu schreiben, in der laufenden Transaktion
+     * (Rezepte, die es nicht mehr gibt: Zeile löschen)
+     *
+     * @return Anzahl geschriebener Zeilen
+     */
+    @Transactional
+    public int render(Collection<Long> recipeIds) {
+        List<Object[]> recipes = recipeRepository.findCatalogRows(recipeIds);
+        Map<Long, List<IngredientResponse>> ingredients = new HashMap<>();
+        for (Object[] row : ingredientRepository.findCatalogRows(recipeIds)) {
+            ingredients.computeIfAbsent((Long) row[0], id -> new ArrayList<>())
+                    .add(new IngredientResponse((Long) row[1], (String) row[2], (Double) row[3], (Unit) row[4]));
+        }
+        Map<Long, RecipeNutrition> nutrition = recipeNutritionRepository.findAllById(recipeIds)
+                .stream()
+                .collect(Collectors.toMap(RecipeNutrition::getRecipeId, Function.identity()));
+        Map<Long, RecipeView> views = recipeViewRepository.findAllById(recipeIds)
+                .stream()
+                .collect(Collectors.toMap(RecipeView::getRecipeId, Function.identity()));
+
+        Set<Long> missing = new HashSet<>(recipeIds);
+        List<RecipeView> rendered = new ArrayList<>(recipes.size());
+        for (Object[] recipe : recipes) {
+            Long id = (Long) recipe[0];
+            missing.remove(id);
+
+            RecipeDetailResponse detail = new RecipeDetailResponse(
+                    id,
+                    (String) recipe[1],
+                    (String) recipe[2],
+                    (LocalDateTime) recipe[3],
+                    ingredients.getOrDefault(id, new ArrayList<>()));
+            RecipeNutrition totals = nutrition.get(id);
+            if (totals != null) {
+                detail.setNutrition(NutritionService.toResponse(totals, (Integer) recipe[4]));
+            }
+
+            RecipeView view = views.computeIfAbsent(id, RecipeView::new);
+            view.setJson(serialize(detail));
+            view.setUpdatedAt(LocalDateTime.now());
+            rendered.add(view);
+        }
+
+        recipeViewRepository.saveAll(rendered);
+        if (!missing.isEmpty()) {
+            recipeViewRepository.deleteByRecipeIds(missing);
+        }
+        return rendered.size();
+    }
+
+    // ========== EVENTS ==========
+
+    /**
+     * Geändertes Rezept für den Durchlauf vor dem Commit vormerken
+     * (ohne Transaktion sofort in einer eigenen)
+     */
+    @EventListener
+    public void onRecipeChanged(RecipeChangedEvent event) {
+        if (!enabled || event.getRecipeId() == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            transactionTemplate.executeWithoutResult(status -> render(List.of(event.getRecipeId())));
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        Set<Long> pending = (Set<Long>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Set<Long> recipeIds = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(this, recipeIds);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    render(recipeIds);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(RecipeViewService.this);
+                }
+            });
+            pending = recipeIds;
+        }
+        pending.add(event.getRecipeId());
+    }
+
+    // ========== Helper ==========
+
+    private String serialize(RecipeDetailResponse detail) {
+        try {
+            return objectMapper.writeValueAsString(detail);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Rezept " + detail.getId() + " nicht serialisierbar", e);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.recipemanager.sharding;
+
+/**
+ * Shard des laufenden Threads, ausgewertet von ShardRoutingDataSource beim Holen
+ * einer Verbindung - also beim Start einer Transaktion. Ohne Eintrag: Shard 0.
+ */
+final class ShardContext {
+
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    static Integer current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * @return Der vorherige Eintrag, für restore
+     */
+    static Integer enter(int shard) {
+        Integer previous = CURRENT.get();
+        CURRENT.set(shard);
+        return previous;
+    }
+
+    static void restore(Integer previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
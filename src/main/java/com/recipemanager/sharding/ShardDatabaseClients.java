@@ -0,0 +1,131 @@
+package com.recipemanager.sharding;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import org.springframework.boot.r2dbc.ConnectionFactoryBuilder;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactory;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * R2DBC-Gegenstück zur ShardRoutingDataSource: ein DatabaseClient pro Shard.
+ *
+ * Shard 0 ist spring.r2dbc, die weiteren kommen aus recipemanager.sharding.r2dbc-urls
+ * (gleiche Reihenfolge wie recipemanager.sharding.urls) mit den Zugangsdaten und
+ * Pool-Einstellungen aus spring.r2dbc. Ohne diese URLs bleiben die reaktiven
+ * Endpoints mit Sharding abgeschaltet.
+ */
+@Component
+public class ShardDatabaseClients {
+
+    private static final Logger log = LoggerFactory.getLogger(ShardDatabaseClients.class);
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Autowired
+    private R2dbcProperties r2dbcProperties;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Value("${recipemanager.sharding.r2dbc-urls:}")
+    private List<String> urls;
+
+    private final List<DatabaseClient> clients = new ArrayList<>();
+    private final List<ConnectionPool> pools = new ArrayList<>();
+
+    @PostConstruct
+    void init() {
+        clients.add(databaseClient);
+        if (!shardRouter.isSharded()) {
+            return;
+        }
+        if (urls.isEmpty()) {
+            log.warn("Sharding ohne recipemanager.sharding.r2dbc-urls: reaktive Endpoints antworten mit 501");
+            return;
+        }
+        if (urls.size() != shardRouter.getShardCount() - 1) {
+            throw new IllegalStateException("recipemanager.sharding.r2dbc-urls braucht " + (shardRouter.getShardCount() - 1)
+                    + " URLs (eine pro weiterer Shard), gefunden: " + urls.size());
+        }
+        for (String url : urls) {
+            ConnectionPool pool = pool(url.trim());
+            pools.add(pool);
+            clients.add(DatabaseClient.create(pool));
+        }
+    }
+
+    @PreDestroy
+    void close() {
+        pools.forEach(ConnectionPool::dispose);
+    }
+
+    /**
+     * Alle Shards erreichbar (ohne Sharding immer)
+     */
+    public boolean isAvailable() {
+        return clients.size() == shardRouter.getShardCount();
+    }
+
+    public DatabaseClient forShard(int shard) {
+        return clients.get(shard);
+    }
+
+    /**
+     * Client der Shard eines Rezepts
+     */
+    public DatabaseClient forRecipe(Long recipeId) {
+        return forShard(shardRouter.shardOf(recipeId));
+    }
+
+    /**
+     * @return Ein Client pro Shard, in Reihenfolge der Shards
+     */
+    public List<DatabaseClient> all() {
+        return List.copyOf(clients);
+    }
+
+    // ========== Helper ==========
+
+    private ConnectionPool pool(String url) {
+        ConnectionFactoryBuilder builder = ConnectionFactoryBuilder.withUrl(url);
+        if (r2dbcProperties.getUsername() != null) {
+            builder.username(r2dbcProperties.getUsername());
+        }
+        if (r2dbcProperties.getPassword() != null) {
+            builder.password(r2dbcProperties.getPassword());
+        }
+        ConnectionFactory connectionFactory = builder.build();
+
+        R2dbcProperties.Pool settings = r2dbcProperties.getPool();
+        ConnectionPoolConfiguration.Builder configuration = ConnectionPoolConfiguration.builder(connectionFactory)
+                .initialSize(settings.getInitialSize())
+                .maxSize(settings.getMaxSize())
+                .minIdle(settings.getMinIdle());
+        if (settings.getMaxIdleTime() != null) {
+            configuration.maxIdleTime(settings.getMaxIdleTime());
+        }
+        if (settings.getMaxLifeTime() != null) {
+            configuration.maxLifeTime(settings.getMaxLifeTime());
+        }
+        if (settings.getMaxAcquireTime() != null) {
+            configuration.maxAcquireTime(settings.getMaxAcquireTime());
+        }
+        if (settings.getValidationQuery() != null) {
+            configuration.validationQuery(settings.getValidationQuery());
+        }
+        return new ConnectionPool(configuration.build());
+    }
+}
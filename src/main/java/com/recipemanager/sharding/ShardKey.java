@@ -0,0 +1,19 @@
+package com.recipemanager.sharding;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Erster Parameter einer Service-Methode, nach dem der Aufruf auf eine Shard geroutet wird
+ * (Rezept- oder Zutaten-ID, RecipeRequest für neue Rezepte), siehe ShardRouter.shardOf.
+ *
+ * Der Aufruf läuft samt Transaktion und Commit-Listenern auf dieser Shard.
+ */
+@Documented
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ShardKey {
+}
@@ -0,0 +1,256 @@
+package com.recipemanager.sharding;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.recipemanager.dto.RecipeRequest;
+import com.recipemanager.service.RecipeFingerprint;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Hash-Sharding nach Rezept-ID (recipemanager.sharding.urls, leer = eine Datenbank).
+ *
+ * Alles, was an einem Rezept hängt (recipes, ingredients, recipe_nutrition,
+ * recipe_changes), liegt auf Shard id mod N. Dafür vergeben die Identity-Spalten
+ * jeder Shard nur IDs ihrer Restklasse (INCREMENT BY N), so sind auch Zutaten-IDs
+ * und Change-Sequenzen global eindeutig und zeigen auf ihre Shard - der
+ * Second-Level-Cache bleibt gemeinsam. Neue Rezepte landen auf der Shard ihres
+ * Inhalts-Fingerprints: gleichzeitig angelegte Dubletten treffen denselben Unique-Index.
+ * Bearbeitete Rezepte bleiben auf ihrer Shard, ihren Fingerprint sucht RecipeService
+ * deshalb auf allen Shards.
+ *
+ * Geroutet wird pro Transaktion (ShardKey an der Service-Methode oder onShard),
+ * Abfragen über alle Rezepte laufen parallel auf allen Shards (onEachShard).
+ */
+@Component
+public class ShardRouter {
+
+    private static final Logger log = LoggerFactory.getLogger(ShardRouter.class);
+
+    // Tabellen mit Identity-Spalte, die pro Shard verteilt liegen
+    private static final List<String> SHARDED_TABLES = List.of("recipes", "ingredients", "recipe_changes");
+
+    @Autowired
+    private DataSource dataSource;
+
+    // Schema muss stehen, bevor die Identity-Spalten angepasst werden
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("shard-", 0).factory());
+
+    private int shardCount = 1;
+
+    @PostConstruct
+    void init() {
+        if (dataSource instanceof ShardRoutingDataSource shards) {
+            shardCount = shards.getShardCount();
+            for (int shard = 0; shard < shardCount; shard++) {
+                alignIdentities(shards.getShard(shard), shard);
+            }
+            log.info("Sharding aktiv: {} Shards", shardCount);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    public boolean isSharded() {
+        return shardCount > 1;
+    }
+
+    /**
+     * Shard zu einem Schlüssel: Rezept-, Zutaten- oder Change-ID, für neue Rezepte der Request
+     *
+     * @throws IllegalArgumentException bei anderen Typen oder null
+     */
+    public int shardOf(Object key) {
+        if (key instanceof Number id) {
+            return Math.floorMod(id.longValue(), shardCount);
+        }
+        if (key instanceof RecipeRequest request) {
+            // Die ersten 32 Bit des SHA-256 sind gleichverteilt
+            return (int) (Long.parseLong(RecipeFingerprint.of(request).substring(0, 8), 16) % shardCount);
+        }
+        throw new IllegalArgumentException("Kein Shard-Schlüssel: " + key);
+    }
+
+    // ========== ROUTING ==========
+
+    /**
+     * Arbeit auf einer Shard ausführen - Transaktionen müssen darin beginnen
+     */
+    public <T> T onShard(int shard, Supplier<T> work) {
+        Integer previous = ShardContext.enter(shard);
+        try {
+            return work.get();
+        } finally {
+            ShardContext.restore(previous);
+        }
+    }
+
+    /**
+     * Scatter-Gather: Arbeit auf allen Shards parallel ausführen (ohne Sharding im
+     * aufrufenden Thread)
+     *
+     * @return Ergebnis pro Shard, in Reihenfolge der Shards
+     */
+    public <T> List<T> onEachShard(Supplier<T> work) {
+        return onEachShard(shard -> work.get());
+    }
+
+    /**
+     * Wie onEachShard(Supplier), die Arbeit bekommt die Nummer ihrer Shard
+     * (z.B. für einen Cursor pro Shard)
+     *
+     * @return Ergebnis pro Shard, in Reihenfolge der Shards
+     */
+    public <T> List<T> onEachShard(IntFunction<T> work) {
+        if (!isSharded()) {
+            return Collections.singletonList(onShard(0, () -> work.apply(0)));
+        }
+        List<Callable<T>> tasks = new ArrayList<>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            int target = shard;
+            tasks.add(() -> onShard(target, () -> work.apply(target)));
+        }
+        return invokeAll(tasks);
+    }
+
+    /**
+     * IDs nach Shard gruppieren und jede Gruppe auf ihrer Shard verarbeiten (parallel)
+     *
+     * @return Ergebnis pro Shard mit IDs
+     */
+    public <T> List<T> onEachShard(Collection<Long> ids, Function<List<Long>, T> work) {
+        Map<Integer, List<Long>> byShard = new TreeMap<>();
+        for (Long id : ids) {
+            byShard.computeIfAbsent(shardOf(id), shard -> new ArrayList<>()).add(id);
+        }
+        if (byShard.size() <= 1) {
+            return byShard.entrySet().stream()
+                    .map(group -> onShard(group.getKey(), () -> work.apply(group.getValue())))
+                    .toList();
+        }
+        List<Callable<T>> tasks = new ArrayList<>(byShard.size());
+        byShard.forEach((shard, group) -> tasks.add(() -> onShard(shard, () -> work.apply(group))));
+        return invokeAll(tasks);
+    }
+
+    // ========== Helper ==========
+
+    private <T> List<T> invokeAll(List<Callable<T>> tasks) {
+        try {
+            List<T> results = new ArrayList<>(tasks.size());
+            for (Future<T> future : executor.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Abfrage über die Shards unterbrochen", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Abfrage auf einer Shard fehlgeschlagen", e.getCause());
+        }
+    }
+
+    /**
+     * Identity-Spalten auf INCREMENT BY N umstellen, Start in der Restklasse der Shard.
+     * Nur wenn noch nicht umgestellt - beim ersten Start mit Sharding dürfen die
+     * Rezepte der Shard also schon nach id mod N passen (sonst: vorher umverteilen).
+     */
+    private void alignIdentities(DataSource shardDataSource, int shard) {
+        try (Connection connection = shardDataSource.getConnection()) {
+            for (String table : SHARDED_TABLES) {
+                if (identityIncrementOf(connection, table) == shardCount) {
+                    continue;
+                }
+                if (table.equals("recipes") && countMisplaced(connection, shard) > 0) {
+                    throw new IllegalStateException("Shard " + shard + " enthält Rezepte, die nach id mod "
+                            + shardCount + " auf andere Shards gehören");
+                }
+                long next = nextInResidueClass(maxId(connection, table), shard);
+                try (PreparedStatement statement = connection.prepareStatement("ALTER TABLE " + table
+                        + " ALTER COLUMN id SET INCREMENT BY " + shardCount + " RESTART WITH " + next)) {
+                    statement.execute();
+                }
+                log.info("Shard {}: {}.id ab {} in Schritten von {}", shard, table, next, shardCount);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Identity-Spalten auf Shard " + shard + " nicht anpassbar", e);
+        }
+    }
+
+    private long nextInResidueClass(long maxId, int shard) {
+        long next = maxId + 1;
+        return next + Math.floorMod(shard - next, (long) shardCount);
+    }
+
+    private static long identityIncrementOf(Connection connection, String table) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT identity_increment FROM information_schema.columns WHERE table_schema = CURRENT_SCHEMA "
+                        + "AND LOWER(table_name) = ? AND LOWER(column_name) = 'id'")) {
+            statement.setString(1, table);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                String increment = resultSet.next() ? resultSet.getString(1) : null;
+                return increment != null ? Long.parseLong(increment) : 1;
+            }
+        }
+    }
+
+    private static long maxId(Connection connection, String table) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT COALESCE(MAX(id), 0) FROM " + table);
+                ResultSet resultSet = statement.executeQuery()) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private long countMisplaced(Connection connection, int shard) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT COUNT(*) FROM recipes WHERE MOD(id, ?) <> ?")) {
+            statement.setInt(1, shardCount);
+            statement.setInt(2, shard);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getLong(1);
+            }
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.recipemanager.sharding;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Setzt den ShardContext für Methoden mit @ShardKey am ersten Parameter.
+ *
+ * Läuft vor dem Transaktions-Advice (höchste Priorität), damit die Transaktion
+ * ihre Verbindung schon von der richtigen Shard holt.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+class ShardRoutingAspect {
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Around("execution(* com.recipemanager..*(@com.recipemanager.sharding.ShardKey (*), ..))")
+    Object route(ProceedingJoinPoint joinPoint) throws Throwable {
+        int shard = shardRouter.shardOf(joinPoint.getArgs()[0]);
+        Integer previous = ShardContext.current();
+        if (previous != null && previous != shard && TransactionSynchronizationManager.isActualTransactionActive()) {
+            // Die laufende Transaktion hält schon eine Verbindung zu einer anderen Shard
+            throw new IllegalStateException("Zugriff auf Shard " + shard + " in einer Transaktion auf Shard "
+                    + previous + ": " + joinPoint.getSignature().toShortString());
+        }
+
+        ShardContext.enter(shard);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            ShardContext.restore(previous);
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package com.recipemanager.similarity;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * MinHash-Signaturen pro Rezept plus LSH-Banding für die Kandidatensuche.
+ *
+ * Jede Zutatenmenge wird auf hashes Minima abgebildet; zwei Signaturen stimmen
+ * an einer Stelle mit Wahrscheinlichkeit = Jaccard-Ähnlichkeit überein. Die Signatur
+ * ist in bands Bänder zerlegt, Rezepte mit einem gleichen Band landen im selben
+ * Bucket. Abgefragt werden nur diese Kandidaten, sortiert nach exakter Jaccard-
+ * Ähnlichkeit der (gehashten) Zutatenmengen.
+ *
+ * Wahrscheinlichkeit, Kandidat zu werden: 1 - (1 - J^rows)^bands, bei 128/64
+ * z.B. 93 % für J = 0.2 und 15 % für J = 0.05.
+ */
+public class MinHashIndex {
+
+    private final int hashes;
+    private final int bands;
+    private final int rows;
+    private final long[] seeds;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final List<Map<Long, Set<Long>>> buckets;
+
+    public MinHashIndex(int hashes, int bands) {
+        if (bands < 1 || hashes % bands != 0) {
+            throw new IllegalArgumentException("hashes muss ein Vielfaches von bands sein: " + hashes + "/" + bands);
+        }
+        this.hashes = hashes;
+        this.bands = bands;
+        this.rows = hashes / bands;
+        // Fester Seed: Signaturen sind zwischen Instanzen und Neustarts vergleichbar
+        this.seeds = new SplittableRandom(0x5EED_2024L).longs(hashes).toArray();
+        this.buckets = new ArrayList<>(bands);
+        for (int b = 0; b < bands; b++) {
+            buckets.add(new ConcurrentHashMap<>());
+        }
+    }
+
+    // ========== UPDATE ==========
+
+    /**
+     * Zutatenmenge eines Rezepts setzen (ersetzt den alten Stand)
+     *
+     * @param elements Normalisierte Zutaten-Namen, leer = Rezept entfernen
+     */
+    public synchronized void put(long recipeId, Collection<String> elements) {
+        remove(recipeId);
+        if (elements.isEmpty()) {
+            return;
+        }
+
+        int[] elementHashes = elements.stream()
+                .mapToInt(element -> (int) mix(element.hashCode()))
+                .distinct()
+                .sorted()
+                .toArray();
+        int[] signature = signatureOf(elementHashes);
+        Entry entry = new Entry(signature, elementHashes, bandKeysOf(signature));
+
+        entries.put(recipeId, entry);
+        for (int b = 0; b < bands; b++) {
+            buckets.get(b).computeIfAbsent(entry.bandKeys[b], key -> ConcurrentHashMap.newKeySet()).add(recipeId);
+        }
+    }
+
+    public synchronized void remove(long recipeId) {
+        Entry old = entries.remove(recipeId);
+        if (old == null) {
+            return;
+        }
+        for (int b = 0; b < bands; b++) {
+            Map<Long, Set<Long>> band = buckets.get(b);
+            band.computeIfPresent(old.bandKeys[b], (key, ids) -> {
+                ids.remove(recipeId);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        buckets.forEach(Map::clear);
+    }
+
+    // ========== QUERY ==========
+
+    /**
+     * Ähnlichste Rezepte über die LSH-Buckets
+     *
+     * @return Höchstens limit Treffer mit Ähnlichkeit > 0, beste zuerst
+     */
+    public List<Match> query(long recipeId, int limit) {
+        Entry entry = entries.get(recipeId);
+        if (entry == null) {
+            return List.of();
+        }
+
+        Set<Long> candidates = new HashSet<>();
+        for (int b = 0; b < bands; b++) {
+            Set<Long> bucket = buckets.get(b).get(entry.bandKeys[b]);
+            if (bucket != null) {
+                candidates.addAll(bucket);
+            }
+        }
+        candidates.remove(recipeId);
+        return rank(entry, candidates, limit);
+    }
+
+    /**
+     * Vergleich gegen alle Rezepte (Referenz für Tests und Benchmark)
+     */
+    public List<Match> bruteForce(long recipeId, int limit) {
+        Entry entry = entries.get(recipeId);
+        if (entry == null) {
+            return List.of();
+        }
+        Set<Long> all = new HashSet<>(entries.keySet());
+        all.remove(recipeId);
+        return rank(entry, all, limit);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public boolean contains(long recipeId) {
+        return entries.containsKey(recipeId);
+    }
+
+    /**
+     * Geschätzte Ähnlichkeit aus den Signaturen (Anteil gleicher Minima)
+     */
+    public double estimate(long first, long second) {
+        Entry a = entries.get(first);
+        Entry b = entries.get(second);
+        if (a == null || b == null) {
+            return 0;
+        }
+        int equal = 0;
+        for (int i = 0; i < hashes; i++) {
+            if (a.signature[i] == b.signature[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / hashes;
+    }
+
+    // ========== Helper ==========
+
+    private List<Match> rank(Entry entry, Collection<Long> candidates, int limit) {
+        List<Match> matches = new ArrayList<>();
+        for (Long candidate : candidates) {
+            Entry other = entries.get(candidate);
+            if (other == null) {
+                continue;
+            }
+            double similarity = jaccard(entry.elements, other.elements);
+            if (similarity > 0) {
+                matches.add(new Match(candidate, similarity));
+            }
+        }
+        matches.sort(Comparator.comparingDouble(Match::getSimilarity).reversed()
+                .thenComparingLong(Match::getRecipeId));
+        return matches.size() > limit ? List.copyOf(matches.subList(0, limit)) : matches;
+    }
+
+    private int[] signatureOf(int[] elementHashes) {
+        int[] signature = new int[hashes];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        for (int element : elementHashes) {
+            for (int i = 0; i < hashes; i++) {
+                int value = (int) (mix(element ^ seeds[i]) >>> 33);
+                if (value < signature[i]) {
+                    signature[i] = value;
+                }
+            }
+        }
+        return signature;
+    }
+
+    private long[] bandKeysOf(int[] signature) {
+        long[] keys = new long[bands];
+        for (int b = 0; b < bands; b++) {
+            long key = 0;
+            for (int r = 0; r < rows; r++) {
+                key = key * 0x9E3779B97F4A7C15L + signature[b * rows + r];
+            }
+            keys[b] = mix(key);
+        }
+        return keys;
+    }
+
+    /**
+     * Exakte Jaccard-Ähnlichkeit zweier sortierter Mengen
+     */
+    static double jaccard(int[] a, int[] b) {
+        int i = 0;
+        int j = 0;
+        int intersection = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] == b[j]) {
+                intersection++;
+                i++;
+                j++;
+            } else if (a[i] < b[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return (double) intersection / (a.length + b.length - intersection);
+    }
+
+    /**
+     * 64-Bit-Finalizer aus MurmurHash3
+     */
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xFF51AFD7ED558CCDL;
+        value ^= value >>> 33;
+        value *= 0xC4CEB93FE1AC53CDL;
+        value ^= value >>> 33;
+        return value;
+    }
+
+    private static final class Entry {
+
+        private final int[] signature;
+        private final int[] elements;
+        private final long[] bandKeys;
+
+        private Entry(int[] signature, int[] elements, long[] bandKeys) {
+            this.signature = signature;
+            this.elements = elements;
+            this.bandKeys = bandKeys;
+        }
+    }
+
+    /**
+     * Ein Treffer: Rezept-ID und exakte Jaccard-Ähnlichkeit
+     */
+    public static final class Match {
+
+        private final long recipeId;
+        private final double similarity;
+
+        public Match(long recipeId, double similarity) {
+            this.recipeId = recipeId;
+            this.similarity = similarity;
+        }
+
+        public long getRecipeId() {
+            return recipeId;
+        }
+
+        public double getSimilarity() {
+            return similarity;
+        }
+    }
+}
@@ -0,0 +1,292 @@
+package com.recipemanager.similarity;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.recipemanager.dto.SimilarRecipeResponse;
+import com.recipemanager.event.RecipeChangedEvent;
+import com.recipemanager.invalidation.RemoteInvalidationEvent;
+import com.recipemanager.model.Recipe;
+import com.recipemanager.repository.IngredientRepository;
+import com.recipemanager.repository.RecipeRepository;
+import com.recipemanager.sharding.ShardRouter;
+import com.recipemanager.service.NutritionCalculator;
+import com.recipemanager.similarity.MinHashIndex.Match;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * "Ähnliche Rezepte" über die Zutaten: hält den MinHashIndex aktuell und beantwortet
+ * Abfragen daraus. Zutaten-Namen werden wie bei den Nährwerten normalisiert
+ * ("Möhren" und "moehren" sind dieselbe Zutat).
+ *
+ * Aufbau beim Start in Batches, danach nach jedem Commit nur das geänderte Rezept
+ * (lokal über RecipeChangedEvent, von anderen Instanzen über RemoteInvalidationEvent).
+ * Kompletter Neuaufbau (Start, Verwerfen aller Caches) läuft im eigenen Thread in einen
+ * neuen Index, der erst fertig eingesetzt wird - bis dahin antwortet der alte. Rezepte,
+ * die sich währenddessen ändern, werden nach dem Tausch noch einmal gelesen.
+ *
+ * Abschaltbar mit recipemanager.similar.enabled=false (kein Index, kein Speicher).
+ */
+@Service
+public class SimilarRecipeService {
+
+    private static final Logger log = LoggerFactory.getLogger(SimilarRecipeService.class);
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    @Autowired
+    private IngredientRepository ingredientRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Value("${recipemanager.similar.enabled:true}")
+    private boolean enabled;
+
+    @Value("${recipemanager.similar.hashes:128}")
+    private int hashes;
+
+    @Value("${recipemanager.similar.bands:64}")
+    private int bands;
+
+    @Value("${recipemanager.similar.batch-size:1000}")
+    private int batchSize;
+
+    private final ExecutorService rebuilder = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "similar-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Object rebuildLock = new Object();
+
+    private volatile MinHashIndex index;
+    private volatile boolean ready;
+    private TransactionTemplate readTransaction;
+    private Timer queryTimer;
+
+    // Unter this: geänderte Rezepte während eines Neuaufbaus (null = kein Neuaufbau)
+    private Set<Long> changedDuringRebuild;
+    // Unter this: angestoßener, noch nicht gestarteter Neuaufbau
+    private CompletableFuture<Void> queuedRebuild;
+
+    @PostConstruct
+    void init() {
+        index = new MinHashIndex(hashes, bands);
+        readTransaction = new TransactionTemplate(transactionManager);
+        readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        readTransaction.setReadOnly(true);
+
+        queryTimer = meterRegistry.timer("recipemanager.similar.query");
+        Gauge.builder("recipemanager.similar.indexed", this, service -> service.index.size())
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (enabled) {
+            rebuildAsync();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        rebuilder.shutdownNow();
+    }
+
+    // ========== GET ==========
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Index mindestens einmal komplett aufgebaut
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Die limit ähnlichsten Rezepte
+     *
+     * @return Leer, wenn das Rezept nicht existiert
+     */
+    public Optional<List<SimilarRecipeResponse>> findSimilar(Long recipeId, int limit) {
+        if (!shardRouter.onShard(shardRouter.shardOf(recipeId), () -> recipeRepository.existsById(recipeId))) {
+            return Optional.empty();
+        }
+
+        List<Match> matches = queryTimer.record(() -> index.query(recipeId, limit));
+        Map<Long, String> titles = shardRouter
+                .onEachShard(matches.stream().map(Match::getRecipeId).toList(), recipeRepository::findAllById)
+                .stream()
+                .flatMap(List::stream)
+                .collect(Collectors.toMap(Recipe::getId, Recipe::getTitle));
+
+        return Optional.of(matches.stream()
+                .filter(match -> titles.containsKey(match.getRecipeId()))
+                .map(match -> new SimilarRecipeResponse(
+                        match.getRecipeId(), titles.get(match.getRecipeId()), match.getSimilarity()))
+                .toList());
+    }
+
+    // ========== INDEX ==========
+
+    /**
+     * Neuen Index aufbauen und gegen den alten tauschen (im aufrufenden Thread)
+     */
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            MinHashIndex next = new MinHashIndex(hashes, bands);
+            synchronized (this) {
+                changedDuringRebuild = new HashSet<>();
+            }
+            shardRouter.onEachShard(() -> loadAll(next));
+
+            Set<Long> missed;
+            synchronized (this) {
+                index = next;
+                missed = changedDuringRebuild;
+                changedDuringRebuild = null;
+            }
+            ready = true;
+            // Batches können älter sein als ein währenddessen in den alten Index gelesener Stand
+            if (!missed.isEmpty()) {
+                refresh(missed);
+            }
+            log.info("MinHash-Index aufgebaut: {} Rezepte", next.size());
+        }
+    }
+
+    /**
+     * Neuaufbau im eigenen Thread; mehrere Anstöße vor dem Start ergeben einen Neuaufbau
+     */
+    public synchronized CompletableFuture<Void> rebuildAsync() {
+        if (queuedRebuild != null) {
+            return queuedRebuild;
+        }
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        queuedRebuild = future;
+        rebuilder.execute(() -> {
+            synchronized (this) {
+                queuedRebuild = null;
+            }
+            try {
+                rebuild();
+                future.complete(null);
+            } catch (RuntimeException e) {
+                log.warn("Aufbau des MinHash-Index fehlgeschlagen", e);
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Zutaten der Rezepte neu lesen (Rezepte ohne Zutaten fallen aus dem Index)
+     */
+    public void refresh(Collection<Long> recipeIds) {
+        synchronized (this) {
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.addAll(recipeIds);
+            }
+        }
+        // Erst nach dem Merken lesen: ein Tausch danach liest die Rezepte erneut
+        MinHashIndex target = index;
+        shardRouter.onEachShard(recipeIds, group -> readTransaction.execute(status -> {
+            load(group, target);
+            return group;
+        }));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRecipeChangeCommitted(RecipeChangedEvent event) {
+        if (enabled) {
+            refresh(Set.of(event.getRecipeId()));
+        }
+    }
+
+    @EventListener
+    public void onRemoteInvalidation(RemoteInvalidationEvent event) {
+        if (!enabled) {
+            return;
+        }
+        if (event.isAll()) {
+            rebuildAsync();
+        } else {
+            refresh(event.getRecipeIds());
+        }
+    }
+
+    MinHashIndex getIndex() {
+        return index;
+    }
+
+    // ========== Helper ==========
+
+    private Void loadAll(MinHashIndex target) {
+        long after = 0;
+        while (true) {
+            long from = after;
+            List<Long> ids = readTransaction.execute(status -> {
+                List<Long> batch = recipeRepository.findIdsAfter(from, Limit.of(batchSize));
+                if (!batch.isEmpty()) {
+                    load(batch, target);
+                }
+                return batch;
+            });
+            if (ids.isEmpty()) {
+                return null;
+            }
+            after = ids.get(ids.size() - 1);
+        }
+    }
+
+    private void load(Collection<Long> recipeIds, MinHashIndex target) {
+        Map<Long, List<String>> ingredients = new HashMap<>();
+        for (Long recipeId : recipeIds) {
+            ingredients.put(recipeId, new ArrayList<>());
+        }
+        // [recipeId, id, title, amount, unit]
+        for (Object[] row : ingredientRepository.findCatalogRows(recipeIds)) {
+            ingredients.get((Long) row[0]).add(NutritionCalculator.normalize((String) row[2]));
+        }
+        ingredients.forEach(target::put);
+    }
+}
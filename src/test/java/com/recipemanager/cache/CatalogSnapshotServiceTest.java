@@ -0,0 +1,129 @@
+package com.recipemanager.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.recipemanager.dto.IngredientRequest;
+import com.recipemanager.dto.RecipeRequest;
+import com.recipemanager.enums.Unit;
+import com.recipemanager.invalidation.RemoteInvalidationEvent;
+import com.recipemanager.model.Recipe;
+import com.recipemanager.repository.IngredientRepository;
+import com.recipemanager.repository.RecipeRepository;
+import com.recipemanager.service.IngredientService;
+import com.recipemanager.service.RecipeService;
+
+/**
+ * Ohne @Transactional: der Snapshot wird erst nach dem Commit gepatcht
+ * und nur außerhalb von Transaktionen ausgeliefert.
+ */
+@SpringBootTest(properties = "recipemanager.catalog.enabled=true")
+@ActiveProfiles("test")
+class CatalogSnapshotServiceTest {
+
+    @Autowired
+    private CatalogSnapshotService catalogSnapshotService;
+
+    @Autowired
+    private RecipeService recipeService;
+
+    @Autowired
+    private IngredientService ingredientService;
+
+    @Autowired
+    private RecipeDetailJsonCache recipeDetailJsonCache;
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    @Autowired
+    private IngredientRepository ingredientRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @BeforeEach
+    void setUp() {
+        ingredientRepository.deleteAll();
+        recipeRepository.deleteAll();
+        catalogSnapshotService.reload();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ingredientRepository.deleteAll();
+        recipeRepository.deleteAll();
+    }
+
+    @Test
+    void testLocalWrites_ShouldBePatchedIntoSnapshot() {
+        // Arrange
+        Recipe recipe = recipeService.createRecipe(request("Gulasch"));
+        assertTrue(catalogSnapshotService.current().contains(recipe.getId()));
+
+        // Act
+        ingredientService.createIngredient(recipe.getId(), ingredientRequest("Paprika"));
+
+        // Assert: Detail-Cache liefert den neuen Stand aus dem Snapshot
+        assertTrue(catalogSnapshotService.isServing());
+        String json = new String(recipeDetailJsonCache.get(recipe.getId()).orElseThrow().getJson());
+        assertTrue(json.contains("Paprika"), json);
+        assertEquals(1, recipeService.getAllRecipes().get(0).getIngredientCount());
+
+        // Act: Löschen entfernt das Rezept aus dem Snapshot
+        recipeService.deleteRecipe(recipe.getId());
+
+        // Assert
+        assertFalse(catalogSnapshotService.current().contains(recipe.getId()));
+        assertTrue(recipeService.getRecipeById(recipe.getId()).isEmpty());
+    }
+
+    @Test
+    void testRemoteInvalidation_ShouldReloadChangedRecipes() {
+        // Arrange: Änderung an den Services vorbei, wie von einer anderen Instanz
+        Recipe recipe = recipeService.createRecipe(request("Gulasch"));
+        recipeRepository.save(renamed(recipe.getId(), "Szegediner Gulasch"));
+        assertEquals("Gulasch", catalogSnapshotService.detail(recipe.getId()).orElseThrow().getTitle());
+
+        // Act
+        eventPublisher.publishEvent(RemoteInvalidationEvent.of(Set.of(recipe.getId())));
+
+        // Assert
+        assertEquals("Szegediner Gulasch", catalogSnapshotService.detail(recipe.getId()).orElseThrow().getTitle());
+        assertEquals(List.of("Szegediner Gulasch"),
+                recipeService.getAllRecipes().stream().map(r -> r.getTitle()).toList());
+    }
+
+    private Recipe renamed(Long id, String title) {
+        Recipe recipe = recipeRepository.findById(id).orElseThrow();
+        recipe.setTitle(title);
+        return recipe;
+    }
+
+    private RecipeRequest request(String title) {
+        RecipeRequest request = new RecipeRequest();
+        request.setTitle(title);
+        request.setDescription("Beschreibung");
+        return request;
+    }
+
+    private IngredientRequest ingredientRequest(String title) {
+        IngredientRequest request = new IngredientRequest();
+        request.setTitle(title);
+        request.setAmount(2.0);
+        request.setUnit(Unit.G);
+        return request;
+    }
+}
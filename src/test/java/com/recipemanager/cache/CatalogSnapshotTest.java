@@ -0,0 +1,113 @@
+package com.recipemanager.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.recipemanager.dto.RecipeDetailResponse;
+import com.recipemanager.dto.RecipeResponse;
+import com.recipemanager.enums.Unit;
+
+class CatalogSnapshotTest {
+
+    private static final LocalDateTime MARCH = LocalDateTime.of(2024, 3, 1, 12, 0, 0, 123_456_000);
+    private static final LocalDateTime JANUARY = LocalDateTime.of(2024, 1, 15, 8, 30);
+
+    @Test
+    void testDetail_ShouldRestoreAllColumns() {
+        // Arrange
+        CatalogSnapshot snapshot = new CatalogSnapshot.Builder()
+                .addRecipe(1, "Pfannkuchen", "Dünn ausbacken", MARCH, 4)
+                .nutrition(1200, 40, 30, 180, 1)
+                .addIngredient(10, "Mehl", 250.0, Unit.G)
+                .addIngredient(11, "Salz", null, Unit.PRISE)
+                .build();
+
+        // Act
+        RecipeDetailResponse detail = snapshot.detail(1).orElseThrow();
+
+        // Assert
+        assertEquals("Pfannkuchen", detail.getTitle());
+        assertEquals("Dünn ausbacken", detail.getDescription());
+        assertEquals(MARCH, detail.getCreatedAt());
+        assertEquals(2, detail.getIngredients().size());
+        assertEquals(250.0, detail.getIngredients().get(0).getAmount());
+        assertNull(detail.getIngredients().get(1).getAmount());
+        assertEquals(Unit.PRISE, detail.getIngredients().get(1).getUnit());
+        assertEquals(4, detail.getNutrition().getServings());
+        assertEquals(1, detail.getNutrition().getUnmatchedIngredients());
+        assertTrue(snapshot.detail(2).isEmpty());
+    }
+
+    @Test
+    void testList_ShouldSortByCreatedAtAndCountIngredients() {
+        // Arrange
+        CatalogSnapshot snapshot = new CatalogSnapshot.Builder()
+                .addRecipe(1, "Pfannkuchen", null, MARCH, null)
+                .addIngredient(10, "Mehl", 250.0, Unit.G)
+                .addRecipe(2, "Suppe", null, JANUARY, null)
+                .build();
+
+        // Act
+        List<RecipeResponse> recipes = snapshot.list(null);
+
+        // Assert
+        assertEquals(List.of(2L, 1L), recipes.stream().map(RecipeResponse::getId).toList());
+        assertEquals(0, recipes.get(0).getIngredientCount());
+        assertEquals(1, recipes.get(1).getIngredientCount());
+        assertEquals(1, snapshot.list(1).size());
+    }
+
+    @Test
+    void testBuilder_ShouldDeduplicateStrings() {
+        // Arrange & Act
+        CatalogSnapshot snapshot = new CatalogSnapshot.Builder()
+                .addRecipe(1, "Carbonara", null, MARCH, null)
+                .addIngredient(10, "Ei", 2.0, Unit.G)
+                .addRecipe(2, "Pfannkuchen", null, MARCH, null)
+                .addIngredient(20, "Ei", 3.0, Unit.G)
+                .build();
+
+        // Assert
+        assertEquals(3, snapshot.getStringCount());
+        assertThrows(IllegalArgumentException.class,
+                () -> new CatalogSnapshot.Builder().addRecipe(2, "B", null, MARCH, null).addRecipe(1, "A", null, MARCH, null));
+    }
+
+    @Test
+    void testWithChanges_ShouldReplaceAddAndRemove() {
+        // Arrange
+        CatalogSnapshot snapshot = new CatalogSnapshot.Builder()
+                .addRecipe(1, "Alt", null, MARCH, null)
+                .addIngredient(10, "Mehl", 100.0, Unit.G)
+                .addRecipe(2, "Gelöscht", null, MARCH, null)
+                .addRecipe(3, "Bleibt", null, JANUARY, null)
+                .build();
+        CatalogSnapshot changes = new CatalogSnapshot.Builder()
+                .addRecipe(1, "Neu", null, MARCH, null)
+                .addRecipe(4, "Dazu", null, MARCH, null)
+                .build();
+
+        // Act
+        CatalogSnapshot patched = snapshot.withChanges(Set.of(1L, 2L, 4L), changes);
+
+        // Assert
+        assertEquals(3, patched.getRecipeCount());
+        assertEquals("Neu", patched.detail(1).orElseThrow().getTitle());
+        assertTrue(patched.detail(1).orElseThrow().getIngredients().isEmpty());
+        assertFalse(patched.contains(2));
+        assertEquals("Bleibt", patched.detail(3).orElseThrow().getTitle());
+        assertTrue(patched.contains(4));
+        // Alter Snapshot unverändert, "Mehl" und "Alt" sind aus dem Pool verschwunden
+        assertEquals("Alt", snapshot.detail(1).orElseThrow().getTitle());
+        assertEquals(3, patched.getStringCount());
+    }
+}
@@ -0,0 +1,98 @@
+package com.recipemanager.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.recipemanager.cache.RecipeDetailJsonCache.CachedJson;
+import com.recipemanager.model.Recipe;
+import com.recipemanager.repository.IngredientRepository;
+import com.recipemanager.repository.RecipeRepository;
+
+/**
+ * Ohne @Transactional: die Version wird auch nach dem Commit erhöht
+ */
+@SpringBootTest(properties = "recipemanager.detail-cache.max-entries=2")
+@ActiveProfiles("test")
+class RecipeDetailJsonCacheTest {
+
+    @Autowired
+    private RecipeDetailJsonCache recipeDetailJsonCache;
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    @Autowired
+    private IngredientRepository ingredientRepository;
+
+    @BeforeEach
+    void setUp() {
+        tearDown();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ingredientRepository.deleteAll();
+        recipeRepository.deleteAll();
+        recipeDetailJsonCache.invalidateAll();
+    }
+
+    @Test
+    void testGet_ShouldEvictLeastRecentlyUsed() {
+        // Arrange
+        Long salat = recipeRepository.save(new Recipe("Salat", "Grün")).getId();
+        Long suppe = recipeRepository.save(new Recipe("Suppe", "Warm")).getId();
+        Long brot = recipeRepository.save(new Recipe("Brot", "Frisch")).getId();
+        CachedJson first = recipeDetailJsonCache.get(salat).orElseThrow();
+        recipeDetailJsonCache.get(suppe);
+
+        // Act: Salat erneut lesen, dann Brot -> Suppe ist am längsten unbenutzt
+        assertSame(first, recipeDetailJsonCache.get(salat).orElseThrow());
+        recipeDetailJsonCache.get(brot);
+
+        // Assert
+        assertEquals(2, recipeDetailJsonCache.size());
+        assertSame(first, recipeDetailJsonCache.get(salat).orElseThrow());
+    }
+
+    @Test
+    void testInvalidate_ShouldStayBoundedForManyIds() {
+        // Act: Invalidierungen für Rezepte, die nie gelesen werden
+        for (long id = 1; id <= 100; id++) {
+            recipeDetailJsonCache.invalidate(id);
+        }
+
+        // Assert: Versionen werden mit ihren Einträgen verdrängt
+        assertEquals(2, recipeDetailJsonCache.size());
+    }
+
+    @Test
+    void testInvalidate_EvictedVersion_ShouldNotServeStaleJson() {
+        // Arrange
+        Recipe recipe = recipeRepository.save(new Recipe("Salat", "Grün"));
+        CachedJson before = recipeDetailJsonCache.get(recipe.getId()).orElseThrow();
+
+        // Act: Änderung, dann Version des Rezepts aus der LRU verdrängen
+        recipe.setTitle("Salat Neu");
+        recipeRepository.save(recipe);
+        recipeDetailJsonCache.invalidate(recipe.getId());
+        recipeDetailJsonCache.invalidate(-1L);
+        recipeDetailJsonCache.invalidate(-2L);
+
+        // Assert
+        CachedJson after = recipeDetailJsonCache.get(recipe.getId()).orElseThrow();
+        assertNotSame(before, after);
+        assertTrue(after.getVersion() > before.getVersion());
+        assertTrue(new String(after.getJson(), StandardCharsets.UTF_8).contains("Salat Neu"));
+    }
+}
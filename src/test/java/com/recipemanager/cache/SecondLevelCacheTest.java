@@ -0,0 +1,138 @@
+package com.recipemanager.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.recipemanager.enums.Unit;
+import com.recipemanager.model.Ingredient;
+import com.recipemanager.model.Recipe;
+import com.recipemanager.repository.IngredientRepository;
+import com.recipemanager.repository.RecipeRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Ohne @Transactional: der Cache wird erst nach dem Commit befüllt
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class SecondLevelCacheTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    @Autowired
+    private IngredientRepository ingredientRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Statistics statistics;
+    private Long recipeId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        Recipe recipe = recipeRepository.save(new Recipe("Pasta Carbonara", "Italienische Pasta"));
+        ingredientRepository.save(new Ingredient("Spaghetti", 500.0, Unit.G, recipe));
+        ingredientRepository.save(new Ingredient("Pecorino", 100.0, Unit.G, recipe));
+        recipeId = recipe.getId();
+
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ingredientRepository.deleteAll();
+        recipeRepository.deleteAll();
+    }
+
+    @Test
+    void testRecipeWithIngredients_SecondLoadShouldNotHitDatabase() {
+        int first = loadIngredientCount();
+        long statementsAfterFirst = statistics.getPrepareStatementCount();
+
+        int second = loadIngredientCount();
+
+        assertEquals(2, first);
+        assertEquals(2, second);
+        assertEquals(statementsAfterFirst, statistics.getPrepareStatementCount());
+        assertTrue(statistics.getCacheRegionStatistics(Recipe.class.getName()).getHitCount() > 0);
+        assertTrue(statistics.getCacheRegionStatistics(Recipe.class.getName() + ".ingredients").getHitCount() > 0);
+    }
+
+    @Test
+    void testFindByRecipeId_ShouldUseQueryCache() {
+        ingredientRepository.findByRecipeId(recipeId);
+        long statementsAfterFirst = statistics.getPrepareStatementCount();
+
+        assertEquals(2, ingredientRepository.findByRecipeId(recipeId).size());
+
+        assertEquals(statementsAfterFirst, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getQueryCacheHitCount());
+    }
+
+    @Test
+    void testFindByRecipeId_ShouldSeeNewIngredientAfterWrite() {
+        ingredientRepository.findByRecipeId(recipeId);
+
+        Recipe recipe = recipeRepository.findById(recipeId).orElseThrow();
+        ingredientRepository.save(new Ingredient("Speck", 150.0, Unit.G, recipe));
+
+        assertEquals(3, ingredientRepository.findByRecipeId(recipeId).size());
+    }
+
+    @Test
+    void testIngredientsCollection_ShouldBeEvictedWhenIngredientSavedDirectly() {
+        loadIngredientCount();
+
+        Recipe recipe = recipeRepository.findById(recipeId).orElseThrow();
+        ingredientRepository.save(new Ingredient("Speck", 150.0, Unit.G, recipe));
+
+        assertEquals(3, loadIngredientCount());
+    }
+
+    @Test
+    void testActuatorEndpoint_ShouldExposeRegionStatistics() throws Exception {
+        loadIngredientCount();
+        loadIngredientCount();
+
+        mockMvc.perform(get("/actuator/hibernatecache"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.enabled").value(true))
+                .andExpect(jsonPath("$.regions['com.recipemanager.model.Recipe'].hits").value(1));
+
+        mockMvc.perform(get("/actuator/hibernatecache/com.recipemanager.model.Ingredient"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.puts").value(2));
+    }
+
+    private int loadIngredientCount() {
+        return transactionTemplate.execute(status ->
+                recipeRepository.findById(recipeId).orElseThrow().getIngredients().size());
+    }
+}
@@ -0,0 +1,183 @@
+package com.recipemanager.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SingleFlightTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SingleFlight<Long, String> flight = new SingleFlight<>("test", meterRegistry);
+
+    @Test
+    void testLoad_ConcurrentCallersShouldShareOneLoad() throws Exception {
+        int callers = 16;
+        AtomicInteger loaderCalls = new AtomicInteger();
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            results.add(executor.submit(() -> flight.load(1L, () -> {
+                loaderCalls.incrementAndGet();
+                loaderStarted.countDown();
+                await(releaseLoader);
+                return new String("Pasta");
+            })));
+            assertTrue(loaderStarted.await(5, TimeUnit.SECONDS));
+
+            for (int i = 1; i < callers; i++) {
+                results.add(executor.submit(() -> flight.load(1L, () -> {
+                    loaderCalls.incrementAndGet();
+                    return "falsch";
+                })));
+            }
+            waitForCollapsed(callers - 1);
+            releaseLoader.countDown();
+
+            String first = results.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<String> result : results) {
+                assertSame(first, result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, loaderCalls.get());
+        assertEquals(1.0, counter("recipemanager.singleflight.loads"));
+        assertEquals(callers - 1, counter("recipemanager.singleflight.collapsed"));
+        assertEquals(0, flight.getInFlightCount());
+    }
+
+    @Test
+    void testLoad_WithCopy_WaitersShouldGetOwnInstance() throws Exception {
+        SingleFlight<Long, List<String>> copying = new SingleFlight<>("copy", meterRegistry, ArrayList::new);
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<List<String>> leader = executor.submit(() -> copying.load(1L, () -> {
+                loaderStarted.countDown();
+                await(releaseLoader);
+                return new ArrayList<>(List.of("Pasta"));
+            }));
+            assertTrue(loaderStarted.await(5, TimeUnit.SECONDS));
+            Future<List<String>> follower = executor.submit(() -> copying.load(1L, List::of));
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (meterRegistry.get("recipemanager.singleflight.collapsed").tag("name", "copy").counter().count() < 1
+                    && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            releaseLoader.countDown();
+
+            List<String> own = leader.get(5, TimeUnit.SECONDS);
+            List<String> copy = follower.get(5, TimeUnit.SECONDS);
+            assertEquals(own, copy);
+            assertNotSame(own, copy);
+            own.add("geändert");
+            assertEquals(List.of("Pasta"), copy);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testLoad_SequentialCallsShouldLoadAgain() {
+        AtomicInteger loaderCalls = new AtomicInteger();
+
+        flight.load(1L, () -> "v" + loaderCalls.incrementAndGet());
+        String second = flight.load(1L, () -> "v" + loaderCalls.incrementAndGet());
+
+        assertEquals("v2", second);
+        assertEquals(0.0, counter("recipemanager.singleflight.collapsed"));
+    }
+
+    @Test
+    void testLoad_ExceptionShouldReachAllWaiters() throws Exception {
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> leader = executor.submit(() -> flight.load(1L, () -> {
+                loaderStarted.countDown();
+                await(releaseLoader);
+                throw new IllegalStateException("DB weg");
+            }));
+            assertTrue(loaderStarted.await(5, TimeUnit.SECONDS));
+            Future<String> follower = executor.submit(() -> flight.load(1L, () -> "falsch"));
+            waitForCollapsed(1);
+            releaseLoader.countDown();
+
+            Exception leaderError = assertThrows(Exception.class, () -> leader.get(5, TimeUnit.SECONDS));
+            Exception followerError = assertThrows(Exception.class, () -> follower.get(5, TimeUnit.SECONDS));
+            assertTrue(leaderError.getCause() instanceof IllegalStateException);
+            assertTrue(followerError.getCause() instanceof IllegalStateException);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(0, flight.getInFlightCount());
+    }
+
+    @Test
+    void testForget_ShouldStartNewLoad() throws Exception {
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> stale = executor.submit(() -> flight.load(1L, () -> {
+                loaderStarted.countDown();
+                await(releaseLoader);
+                return "alt";
+            }));
+            assertTrue(loaderStarted.await(5, TimeUnit.SECONDS));
+
+            flight.forget(1L);
+            assertEquals("neu", flight.load(1L, () -> "neu"));
+
+            releaseLoader.countDown();
+            assertEquals("alt", stale.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private double counter(String name) {
+        return meterRegistry.get(name).tag("name", "test").counter().count();
+    }
+
+    private void waitForCollapsed(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (counter("recipemanager.singleflight.collapsed") < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(expected, counter("recipemanager.singleflight.collapsed"));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
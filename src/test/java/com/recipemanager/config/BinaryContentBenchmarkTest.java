@@ -0,0 +1,156 @@
+package com.recipemanager.config;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.recipemanager.dto.IngredientResponse;
+import com.recipemanager.dto.NutrientsResponse;
+import com.recipemanager.dto.NutritionResponse;
+import com.recipemanager.dto.RecipeDetailResponse;
+import com.recipemanager.dto.RecipeResponse;
+import com.recipemanager.enums.Unit;
+
+/**
+ * Payload-Größe und CPU für Encode/Decode: JSON gegen CBOR und Smile,
+ * jeweils mit den Mappern, die auch die Controller benutzen.
+ * Läuft nicht im normalen Build: mvn -Pbenchmark test
+ *
+ * Nutzlast: eine Liste mit 1.000 Rezepten (GET /api/recipes) und 1.000 einzelne
+ * Detail-Antworten mit 6-14 Zutaten aus 300 Namen.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class BinaryContentBenchmarkTest {
+
+    private static final int RECIPES = 1_000;
+    private static final int ROUNDS = 20;
+
+    @Autowired
+    private ObjectMapper jsonMapper;
+
+    @Autowired
+    private MappingJackson2CborHttpMessageConverter cborConverter;
+
+    @Autowired
+    private MappingJackson2SmileHttpMessageConverter smileConverter;
+
+    @Test
+    void benchmarkBinaryFormatsAgainstJson() throws Exception {
+        SplittableRandom random = new SplittableRandom(42);
+        List<RecipeDetailResponse> details = new ArrayList<>();
+        List<RecipeResponse> list = new ArrayList<>();
+        for (long id = 1; id <= RECIPES; id++) {
+            RecipeDetailResponse detail = randomDetail(id, random);
+            details.add(detail);
+            list.add(new RecipeResponse(id, detail.getTitle(), detail.getCreatedAt(), detail.getIngredients().size()));
+        }
+
+        Map<String, ObjectMapper> mappers = new LinkedHashMap<>();
+        mappers.put("JSON", jsonMapper);
+        mappers.put("CBOR", cborConverter.getObjectMapper());
+        mappers.put("Smile", smileConverter.getObjectMapper());
+
+        Map<String, Result> results = new LinkedHashMap<>();
+        for (Map.Entry<String, ObjectMapper> mapper : mappers.entrySet()) {
+            // Aufwärmen
+            measure(mapper.getValue(), details, list, 5);
+            results.put(mapper.getKey(), measure(mapper.getValue(), details, list, ROUNDS));
+        }
+
+        Result json = results.get("JSON");
+        for (Map.Entry<String, Result> result : results.entrySet()) {
+            Result r = result.getValue();
+            System.out.printf("%-5s Detail: %6.0f B (%3.0f %%), Encode %5.1f µs, Decode %5.1f µs | "
+                    + "Liste: %7d B (%3.0f %%), Encode %6.0f µs, Decode %6.0f µs%n",
+                    result.getKey(),
+                    r.detailBytes, 100.0 * r.detailBytes / json.detailBytes, r.detailEncodeMicros, r.detailDecodeMicros,
+                    r.listBytes, 100.0 * r.listBytes / json.listBytes, r.listEncodeMicros, r.listDecodeMicros);
+        }
+
+        assertTrue(results.get("CBOR").detailBytes < json.detailBytes);
+        assertTrue(results.get("Smile").detailBytes < json.detailBytes);
+        assertTrue(results.get("Smile").listBytes < json.listBytes);
+    }
+
+    private static Result measure(ObjectMapper mapper, List<RecipeDetailResponse> details,
+            List<RecipeResponse> list, int rounds) throws Exception {
+        Result result = new Result();
+        long encodeNanos = 0;
+        long decodeNanos = 0;
+        long bytes = 0;
+        for (int round = 0; round < rounds; round++) {
+            for (RecipeDetailResponse detail : details) {
+                long start = System.nanoTime();
+                byte[] encoded = mapper.writeValueAsBytes(detail);
+                encodeNanos += System.nanoTime() - start;
+
+                start = System.nanoTime();
+                mapper.readValue(encoded, RecipeDetailResponse.class);
+                decodeNanos += System.nanoTime() - start;
+                bytes += encoded.length;
+            }
+        }
+        long payloads = (long) rounds * details.size();
+        result.detailBytes = (double) bytes / payloads;
+        result.detailEncodeMicros = encodeNanos / 1000.0 / payloads;
+        result.detailDecodeMicros = decodeNanos / 1000.0 / payloads;
+
+        encodeNanos = 0;
+        decodeNanos = 0;
+        for (int round = 0; round < rounds; round++) {
+            long start = System.nanoTime();
+            byte[] encoded = mapper.writeValueAsBytes(list);
+            encodeNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            mapper.readValue(encoded, RecipeResponse[].class);
+            decodeNanos += System.nanoTime() - start;
+            result.listBytes = encoded.length;
+        }
+        result.listEncodeMicros = encodeNanos / 1000.0 / rounds;
+        result.listDecodeMicros = decodeNanos / 1000.0 / rounds;
+        return result;
+    }
+
+    private static RecipeDetailResponse randomDetail(long id, SplittableRandom random) {
+        Unit[] units = Unit.values();
+        List<IngredientResponse> ingredients = new ArrayList<>();
+        int size = 6 + random.nextInt(9);
+        for (int i = 0; i < size; i++) {
+            ingredients.add(new IngredientResponse(id * 100 + i, "Zutat " + random.nextInt(300),
+                    Math.round(random.nextDouble(1, 500) * 10) / 10.0, units[random.nextInt(units.length)]));
+        }
+        RecipeDetailResponse detail = new RecipeDetailResponse(id, "Rezept Nummer " + id,
+                "Alles vorbereiten, dann nach und nach zugeben und garen. ".repeat(1 + random.nextInt(4)),
+                LocalDateTime.of(2024, 1, 1, 12, 0).plusMinutes(id * 37), ingredients);
+        NutrientsResponse total = new NutrientsResponse(random.nextDouble(200, 2000), random.nextDouble(5, 80),
+                random.nextDouble(5, 90), random.nextDouble(10, 250));
+        detail.setNutrition(new NutritionResponse(4, total, null, random.nextInt(3)));
+        return detail;
+    }
+
+    private static final class Result {
+        private double detailBytes;
+        private double detailEncodeMicros;
+        private double detailDecodeMicros;
+        private long listBytes;
+        private double listEncodeMicros;
+        private double listDecodeMicros;
+    }
+}
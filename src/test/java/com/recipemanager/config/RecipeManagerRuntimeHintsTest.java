@@ -0,0 +1,144 @@
+package com.recipemanager.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.RegexPatternTypeFilter;
+
+import com.recipemanager.dto.FieldSelection;
+import com.recipemanager.dto.IngredientResponse;
+import com.recipemanager.dto.RecipeChangesResponse;
+import com.recipemanager.dto.RecipeDetailResponse;
+import com.recipemanager.dto.RecipeListFilter;
+import com.recipemanager.dto.RecipeRequest;
+import com.recipemanager.dto.SimilarRecipeResponse;
+import com.recipemanager.enums.Unit;
+import com.recipemanager.model.Ingredient;
+import com.recipemanager.model.Recipe;
+import com.recipemanager.model.RecipeView;
+
+class RecipeManagerRuntimeHintsTest {
+
+    private RuntimeHints hints;
+
+    @BeforeEach
+    void setUp() {
+        hints = new RuntimeHints();
+        new RecipeManagerRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void testEntities_ShouldBeRegisteredForReflection() {
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onType(Recipe.class)
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)
+                .test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onType(Ingredient.class)
+                .withMemberCategory(MemberCategory.DECLARED_FIELDS)
+                .test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onType(RecipeView.class)
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)
+                .test(hints));
+    }
+
+    @Test
+    void testDtos_ShouldBeRegisteredForBinding() throws Exception {
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onMethod(RecipeRequest.class.getMethod("setTitle", String.class))
+                .test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onMethod(RecipeDetailResponse.class.getMethod("getIngredients"))
+                .test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onMethod(IngredientResponse.class.getMethod("getUnit"))
+                .test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onMethod(RecipeChangesResponse.class.getMethod("getChanges"))
+                .test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onMethod(SimilarRecipeResponse.class.getMethod("getSimilarity"))
+                .test(hints));
+    }
+
+    @Test
+    void testUnitEnum_ShouldBeRegisteredForSerialization() {
+        assertTrue(RuntimeHintsPredicates.serialization().onType(Unit.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onType(Unit.class)
+                .withMemberCategory(MemberCategory.PUBLIC_FIELDS)
+                .test(hints));
+    }
+
+    @Test
+    void testResources_ShouldBeRegistered() {
+        assertTrue(RuntimeHintsPredicates.resource().forResource("ehcache.xml").test(hints));
+        assertTrue(RuntimeHintsPredicates.resource().forResource("nutrition-reference.csv").test(hints));
+    }
+
+    @Test
+    void testSecondLevelCache_ShouldBeRegistered() {
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onType(JCacheRegionFactory.class)
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)
+                .test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onType(EhcacheCachingProvider.class)
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)
+                .test(hints));
+        assertTrue(RuntimeHintsPredicates.resource().forResource("ehcache-core.xsd").test(hints));
+        assertTrue(RuntimeHintsPredicates.resource().forResource("ehcache-107-ext.xsd").test(hints));
+        assertTrue(RuntimeHintsPredicates.resource()
+                .forResource("META-INF/services/javax.cache.spi.CachingProvider").test(hints));
+    }
+
+    // ========== Vollständigkeit ==========
+
+    @Test
+    void testEveryEntity_ShouldBeListed() {
+        assertEquals(classesIn("com.recipemanager.model"), names(RecipeManagerRuntimeHints.ENTITIES));
+    }
+
+    @Test
+    void testEveryDto_ShouldBeListed() {
+        // FieldSelection und RecipeListFilter baut der Controller selbst, Jackson sieht sie nie
+        Set<String> expected = classesIn("com.recipemanager.dto");
+        expected.removeAll(List.of(FieldSelection.class.getName(), RecipeListFilter.class.getName()));
+        assertEquals(expected, names(RecipeManagerRuntimeHints.DTOS));
+    }
+
+    @Test
+    void testEveryEnum_ShouldBeListed() {
+        assertEquals(classesIn("com.recipemanager.enums"), names(RecipeManagerRuntimeHints.ENUMS));
+    }
+
+    // ========== Helper ==========
+
+    private static Set<String> classesIn(String basePackage) {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new RegexPatternTypeFilter(Pattern.compile("[^$]*")));
+        return scanner.findCandidateComponents(basePackage).stream()
+                .map(definition -> definition.getBeanClassName())
+                .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    private static Set<String> names(Class<?>[] types) {
+        return Arrays.stream(types).map(Class::getName).collect(Collectors.toCollection(TreeSet::new));
+    }
+}
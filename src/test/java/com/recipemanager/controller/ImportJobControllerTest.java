@@ -0,0 +1,121 @@
+package com.recipemanager.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.jayway.jsonpath.JsonPath;
+import com.recipemanager.jobs.ImportJob;
+import com.recipemanager.jobs.ImportJobService;
+import com.recipemanager.repository.IngredientRepository;
+import com.recipemanager.repository.RecipeNutritionRepository;
+import com.recipemanager.repository.RecipeRepository;
+
+/**
+ * Ohne @Transactional: der Import läuft im Hintergrund und committet selbst.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ImportJobControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ImportJobService importJobService;
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    @Autowired
+    private IngredientRepository ingredientRepository;
+
+    @Autowired
+    private RecipeNutritionRepository recipeNutritionRepository;
+
+    @AfterEach
+    void tearDown() {
+        ingredientRepository.deleteAll();
+        recipeNutritionRepository.deleteAll();
+        recipeRepository.deleteAll();
+    }
+
+    // ========== POST /api/jobs/imports ==========
+
+    @Test
+    void testSubmitImport_ShouldReturnAcceptedAndFinish() throws Exception {
+        // Arrange
+        String payload = """
+                [
+                  {"title": "Carbonara", "ingredients": [{"title": "Spaghetti", "amount": 200, "unit": "G"}]},
+                  {"title": ""}
+                ]
+                """;
+
+        // Act
+        String body = mockMvc.perform(post("/api/jobs/imports")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(payload))
+                .andExpect(status().isAccepted())
+                .andExpect(header().exists("Location"))
+                .andExpect(jsonPath("$.total").value(2))
+                .andReturn().getResponse().getContentAsString();
+        String id = JsonPath.read(body, "$.id");
+        awaitFinished(id);
+
+        // Assert
+        mockMvc.perform(get("/api/jobs/" + id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("COMPLETED"))
+                .andExpect(jsonPath("$.succeeded").value(1))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.errors[0].index").value(1));
+    }
+
+    @Test
+    void testSubmitImport_EmptyPayload_ShouldReturn400() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/jobs/imports")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[]"))
+                .andExpect(status().isBadRequest());
+    }
+
+    // ========== GET / DELETE /api/jobs/{id} ==========
+
+    @Test
+    void testGetJob_Unknown_ShouldReturn404() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/jobs/unbekannt"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testCancelJob_Unknown_ShouldReturn404() throws Exception {
+        // Act & Assert
+        mockMvc.perform(delete("/api/jobs/unbekannt"))
+                .andExpect(status().isNotFound());
+    }
+
+    // ========== Helper ==========
+
+    private void awaitFinished(String id) throws InterruptedException {
+        ImportJob job = importJobService.getJob(id).orElseThrow();
+        for (int i = 0; i < 500 && !job.isFinished(); i++) {
+            Thread.sleep(20);
+        }
+    }
+}
@@ -9,6 +9,8 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -106,6 +108,17 @@ class IngredientControllerTest {
                 .andExpect(jsonPath("$[*].title", hasItems("Mehl", "Eier", "Speck")));
     }
 
+    @Test
+    void testGetIngredientsByRecipe_Fields_ShouldReturnOnlyTitles() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/recipes/" + testRecipe.getId() + "/ingredients?fields=title"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].title").value("Mehl"))
+                .andExpect(jsonPath("$[0].id").doesNotExist())
+                .andExpect(jsonPath("$[0].amount").doesNotExist())
+                .andExpect(jsonPath("$[0].unit").doesNotExist());
+    }
+
     // ========== CREATE Tests ==========
 
     @Test
@@ -287,4 +300,50 @@ class IngredientControllerTest {
         // Assert: Rezept sollte noch existieren!
         assert recipeRepository.existsById(testRecipe.getId());
     }
+
+    // ========== UPSERT Tests ==========
+
+    @Test
+    void testUpsertIngredients_ShouldReturnCounts() throws Exception {
+        // Arrange
+        IngredientRequest mehl = request("Mehl", 500.0, Unit.G);
+        IngredientRequest salz = request("Salz", 1.0, Unit.PRISE);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/recipes/" + testRecipe.getId() + "/ingredients/upsert")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(mehl, salz))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.inserted").value(1))
+                .andExpect(jsonPath("$.updated").value(1));
+
+        mockMvc.perform(get("/api/recipes/" + testRecipe.getId() + "/ingredients"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[?(@.title == 'Mehl')].amount").value(hasItems(500.0)));
+    }
+
+    @Test
+    void testUpsertIngredients_RecipeNotFound() throws Exception {
+        mockMvc.perform(post("/api/recipes/999999/ingredients/upsert")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(request("Mehl", 1.0, Unit.G)))))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testCreateIngredient_DuplicateTitle_ShouldReturnConflict() throws Exception {
+        mockMvc.perform(post("/api/recipes/" + testRecipe.getId() + "/ingredients")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request("Mehl", 1.0, Unit.G))))
+                .andExpect(status().isConflict());
+    }
+
+    private static IngredientRequest request(String title, Double amount, Unit unit) {
+        IngredientRequest request = new IngredientRequest();
+        request.setTitle(title);
+        request.setAmount(amount);
+        request.setUnit(unit);
+        return request;
+    }
 }
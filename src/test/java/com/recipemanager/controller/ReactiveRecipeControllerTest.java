@@ -0,0 +1,95 @@
+package com.recipemanager.controller;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.recipemanager.enums.Unit;
+import com.recipemanager.model.Ingredient;
+import com.recipemanager.model.Recipe;
+import com.recipemanager.repository.IngredientRepository;
+import com.recipemanager.repository.RecipeRepository;
+
+/**
+ * Ohne @Transactional: R2DBC sieht nur committete Daten
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ReactiveRecipeControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    @Autowired
+    private IngredientRepository ingredientRepository;
+
+    private Recipe testRecipe;
+
+    @BeforeEach
+    void setUp() {
+        ingredientRepository.deleteAll();
+        recipeRepository.deleteAll();
+
+        testRecipe = recipeRepository.save(new Recipe("Pasta Carbonara", "Italienische Pasta"));
+        ingredientRepository.save(new Ingredient("Spaghetti", 500.0, Unit.G, testRecipe));
+    }
+
+    @AfterEach
+    void tearDown() {
+        ingredientRepository.deleteAll();
+        recipeRepository.deleteAll();
+    }
+
+    @Test
+    void testStreamAllRecipes_ShouldReturnNdjson() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/reactive/recipes")
+                .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("\"title\":\"Pasta Carbonara\"")));
+    }
+
+    @Test
+    void testGetRecipeById_ShouldReturnDetails() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/reactive/recipes/" + testRecipe.getId()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Pasta Carbonara"))
+                .andExpect(jsonPath("$.ingredients[0].unit").value("G"));
+    }
+
+    @Test
+    void testGetRecipeById_NotFound() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/reactive/recipes/999"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isNotFound());
+    }
+}
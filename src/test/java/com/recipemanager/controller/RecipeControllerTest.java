@@ -1,23 +1,37 @@
 package com.recipemanager.controller;
 
+import com.recipemanager.config.BinaryContentConfiguration;
+import com.recipemanager.dto.IngredientRequest;
+import com.recipemanager.dto.RecipeDetailResponse;
 import com.recipemanager.dto.RecipeRequest;
+import com.recipemanager.dto.RecipeResponse;
+import com.recipemanager.enums.Unit;
 import com.recipemanager.model.Recipe;
 import com.recipemanager.repository.RecipeRepository;
 import com.recipemanager.repository.IngredientRepository;
+import com.recipemanager.similarity.SimilarRecipeService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import java.util.List;
+
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @SpringBootTest
 @AutoConfigureMockMvc
@@ -37,6 +51,15 @@ class RecipeControllerTest {
     @Autowired
     private ObjectMapper objectMapper; // ← JSON Konvertierung
 
+    @Autowired
+    private SimilarRecipeService similarRecipeService;
+
+    @Autowired
+    private MappingJackson2CborHttpMessageConverter cborConverter;
+
+    @Autowired
+    private MappingJackson2SmileHttpMessageConverter smileConverter;
+
     private Recipe testRecipe;
 
     // ========== SETUP ==========
@@ -77,6 +100,47 @@ class RecipeControllerTest {
                 .andExpect(jsonPath("$[0].description").doesNotExist()); // ← Description nicht im Light-Response
     }
 
+    @Test
+    void testGetAllRecipes_SortAndFilter() throws Exception {
+        // Arrange
+        recipeRepository.save(new Recipe("Apfelkuchen", "Mit Streuseln"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/recipes?sort=title&direction=desc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].title").value("Pasta Carbonara"))
+                .andExpect(jsonPath("$[1].title").value("Apfelkuchen"));
+
+        mockMvc.perform(get("/api/recipes?titlePrefix=Apfel"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].ingredientCount").value(0));
+    }
+
+    @Test
+    void testGetAllRecipes_UnknownSort_ShouldReturnBadRequest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/recipes?sort=description"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/recipes?direction=sideways"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/recipes?limit=0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testGetSimilarRecipes_UnknownRecipe_ShouldReturnNotFound() throws Exception {
+        // Arrange: Index wird beim Start im Hintergrund aufgebaut
+        similarRecipeService.rebuildAsync().join();
+
+        // Act & Assert
+        mockMvc.perform(get("/api/recipes/999999/similar"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/recipes/" + testRecipe.getId() + "/similar"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isArray());
+    }
+
     @Test
     void testGetRecipeById_ShouldReturnFullDetails() throws Exception {
         // Act & Assert
@@ -90,6 +154,63 @@ class RecipeControllerTest {
                 .andExpect(jsonPath("$.ingredients").isArray()); // ← Mit Ingredients!
     }
 
+    @Test
+    void testGetRecipeById_AfterUpdate_ShouldNotServeStaleCache() throws Exception {
+        // Arrange: Detail-Antwort im Cache
+        mockMvc.perform(get("/api/recipes/" + testRecipe.getId()))
+                .andExpect(jsonPath("$.title").value("Pasta Carbonara"));
+
+        RecipeRequest request = new RecipeRequest();
+        request.setTitle("Pasta Carbonara Neu");
+        request.setDescription("Italienische Pasta");
+
+        mockMvc.perform(put("/api/recipes/" + testRecipe.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/recipes/" + testRecipe.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Pasta Carbonara Neu"));
+    }
+
+    @Test
+    void testGetRecipeById_LargeResponse_ShouldBeGzipped() throws Exception {
+        // Arrange
+        Recipe large = recipeRepository.save(new Recipe("Lasagne", "Schicht für Schicht ".repeat(100)));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/recipes/" + large.getId())
+                .header("Accept-Encoding", "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andExpect(header().string("Vary", containsString("Accept-Encoding")));
+
+        mockMvc.perform(get("/api/recipes/" + large.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Content-Encoding"))
+                .andExpect(jsonPath("$.title").value("Lasagne"));
+    }
+
+    @Test
+    void testGetRecipeById_GzipWithQZero_ShouldNotBeGzipped() throws Exception {
+        // Arrange
+        Recipe large = recipeRepository.save(new Recipe("Lasagne", "Schicht für Schicht ".repeat(100)));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/recipes/" + large.getId())
+                .header("Accept-Encoding", "gzip;q=0, identity"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Content-Encoding"))
+                .andExpect(jsonPath("$.title").value("Lasagne"));
+
+        mockMvc.perform(get("/api/recipes/" + large.getId())
+                .header("Accept-Encoding", "*;q=0.5"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"));
+    }
+
     @Test
     void testGetRecipeById_NotFound() throws Exception {
         // Act & Assert
@@ -98,6 +219,38 @@ class RecipeControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // Sequenz erst beim Commit
+    void testGetChanges_ShouldReturnCursorAndChanges() throws Exception {
+        // Arrange
+        RecipeRequest request = new RecipeRequest();
+        request.setTitle("Pizza Margherita");
+
+        mockMvc.perform(post("/api/recipes")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/recipes/changes").param("since", "0"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.cursor").isString())
+                .andExpect(jsonPath("$.changes[-1].type").value("CREATED"))
+                .andExpect(jsonPath("$.changes[-1].recipe.title").value("Pizza Margherita"));
+
+        ingredientRepository.deleteAll();
+        recipeRepository.deleteAll();
+    }
+
+    @Test
+    void testGetChanges_InvalidCursor_ShouldReturnBadRequest() throws Exception {
+        // Act & Assert: ohne Sharding gibt es nur Shard 0
+        mockMvc.perform(get("/api/recipes/changes").param("since", "abc"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/recipes/changes").param("since", "0:5,1:7"))
+                .andExpect(status().isBadRequest());
+    }
+
     // ========== POST Tests ==========
 
     @Test
@@ -116,7 +269,8 @@ class RecipeControllerTest {
                 .andExpect(status().isCreated())
                 .andExpect(jsonPath("$.id").exists())
                 .andExpect(jsonPath("$.title").value("Pizza Margherita"))
-                .andExpect(jsonPath("$.description").value("Klassische Pizza"));
+                .andExpect(jsonPath("$.description").value("Klassische Pizza"))
+                .andExpect(jsonPath("$.contentFingerprint").doesNotExist());
 
         // Verify: In Datenbank gespeichert
         long count = recipeRepository.count();
@@ -156,6 +310,43 @@ class RecipeControllerTest {
                 .andExpect(jsonPath("$.id").exists());
     }
 
+    @Test
+    void testCreateRecipe_Duplicate_ShouldRejectOrReturnExisting() throws Exception {
+        // Arrange
+        RecipeRequest request = new RecipeRequest();
+        request.setTitle("Pizza Margherita");
+        request.setDescription("Klassische Pizza");
+        request.setIngredients(List.of(ingredient("Tomate"), ingredient("Mozzarella")));
+
+        String created = mockMvc.perform(post("/api/recipes")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        Long id = objectMapper.readTree(created).get("id").asLong();
+
+        // Gleicher Inhalt: anders geschrieben, andere Reihenfolge
+        request.setTitle("pizza  MARGHERITA");
+        request.setIngredients(List.of(ingredient("mozzarella"), ingredient("Tomate")));
+        String json = objectMapper.writeValueAsString(request);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/recipes")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json))
+                .andExpect(status().isConflict())
+                .andExpect(header().string("Location", "/api/recipes/" + id));
+
+        mockMvc.perform(post("/api/recipes?onDuplicate=RETURN_EXISTING")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(id))
+                .andExpect(jsonPath("$.title").value("Pizza Margherita"));
+
+        assertEquals(2, recipeRepository.count());
+    }
+
     // ========== PUT Tests ==========
 
     @Test
@@ -210,4 +401,135 @@ class RecipeControllerTest {
         mockMvc.perform(delete("/api/recipes/999"))
                 .andExpect(status().isNoContent()); // ← Spring löscht auch nicht-existente ohne Fehler
     }
+
+    // ========== Sparse Fieldset Tests ==========
+
+    @Test
+    void testGetAllRecipes_Fields_ShouldReturnOnlyRequestedFields() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/recipes?fields=id,title"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(testRecipe.getId()))
+                .andExpect(jsonPath("$[0].title").value("Pasta Carbonara"))
+                .andExpect(jsonPath("$[0].createdAt").doesNotExist())
+                .andExpect(jsonPath("$[0].ingredientCount").doesNotExist());
+    }
+
+    @Test
+    void testGetRecipeById_Fields_ShouldReturnOnlyRequestedFields() throws Exception {
+        // Arrange
+        RecipeRequest request = new RecipeRequest();
+        request.setTitle("Pfannkuchen");
+        request.setDescription("Dünn ausbacken");
+        request.setIngredients(List.of(ingredient("Mehl"), ingredient("Milch")));
+        Long id = objectMapper.readTree(mockMvc.perform(post("/api/recipes")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andReturn().getResponse().getContentAsString()).get("id").asLong();
+
+        // Act & Assert
+        mockMvc.perform(get("/api/recipes/" + id + "?fields=title,ingredients.title"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Pfannkuchen"))
+                .andExpect(jsonPath("$.id").doesNotExist())
+                .andExpect(jsonPath("$.description").doesNotExist())
+                .andExpect(jsonPath("$.nutrition").doesNotExist())
+                .andExpect(jsonPath("$.ingredients[*].title", containsInAnyOrder("Mehl", "Milch")))
+                .andExpect(jsonPath("$.ingredients[0].amount").doesNotExist());
+
+        // Ohne fields weiter die vollständige Antwort
+        mockMvc.perform(get("/api/recipes/" + id))
+                .andExpect(jsonPath("$.description").value("Dünn ausbacken"))
+                .andExpect(jsonPath("$.ingredients[0].amount").value(1.0));
+    }
+
+    @Test
+    void testGetRecipe_UnknownField_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/recipes?fields=title,secret"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/recipes/" + testRecipe.getId() + "?fields=ingredients.kcal"))
+                .andExpect(status().isBadRequest());
+    }
+
+    // ========== Binary Content Tests ==========
+
+    @Test
+    void testGetAllRecipes_AcceptCbor_ShouldReturnCbor() throws Exception {
+        // Act
+        byte[] body = mockMvc.perform(get("/api/recipes")
+                .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Assert
+        RecipeResponse[] recipes = cborConverter.getObjectMapper().readValue(body, RecipeResponse[].class);
+        assertEquals(1, recipes.length);
+        assertEquals("Pasta Carbonara", recipes[0].getTitle());
+    }
+
+    @Test
+    void testGetRecipeById_AcceptSmile_ShouldReturnSmileWithCompactUnit() throws Exception {
+        // Arrange
+        RecipeRequest request = new RecipeRequest();
+        request.setTitle("Pfannkuchen");
+        request.setIngredients(List.of(ingredient("Mehl")));
+        Long id = objectMapper.readTree(mockMvc.perform(post("/api/recipes")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andReturn().getResponse().getContentAsString()).get("id").asLong();
+
+        // Act
+        byte[] body = mockMvc.perform(get("/api/recipes/" + id)
+                .accept(BinaryContentConfiguration.APPLICATION_SMILE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(BinaryContentConfiguration.APPLICATION_SMILE))
+                .andExpect(header().string("Vary", containsString("Accept")))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Assert: Einheit als Zahl übertragen, beim Lesen wieder das Enum
+        JsonNode tree = smileConverter.getObjectMapper().readTree(body);
+        assertTrue(tree.at("/ingredients/0/unit").isInt());
+        RecipeDetailResponse detail = smileConverter.getObjectMapper().readValue(body, RecipeDetailResponse.class);
+        assertEquals("Mehl", detail.getIngredients().get(0).getTitle());
+        assertEquals(Unit.G, detail.getIngredients().get(0).getUnit());
+    }
+
+    @Test
+    void testGetRecipeById_WildcardAccept_ShouldStayJson() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/recipes/" + testRecipe.getId())
+                .header("Accept", "*/*"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.title").value("Pasta Carbonara"));
+
+        mockMvc.perform(get("/api/recipes")
+                .header("Accept", "*/*"))
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    void testCreateRecipe_CborBody_ShouldBeAccepted() throws Exception {
+        // Arrange
+        RecipeRequest request = new RecipeRequest();
+        request.setTitle("Rührei");
+        request.setIngredients(List.of(ingredient("Eier")));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/recipes")
+                .contentType(MediaType.APPLICATION_CBOR)
+                .content(cborConverter.getObjectMapper().writeValueAsBytes(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.title").value("Rührei"))
+                .andExpect(jsonPath("$.ingredients[0].unit").value("G"));
+    }
+
+    private IngredientRequest ingredient(String title) {
+        IngredientRequest request = new IngredientRequest();
+        request.setTitle(title);
+        request.setAmount(1.0);
+        request.setUnit(Unit.G);
+        return request;
+    }
 }
@@ -0,0 +1,186 @@
+package com.recipemanager.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.graphql.tester.AutoConfigureGraphQlTester;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.graphql.execution.ErrorType;
+import org.springframework.graphql.test.tester.GraphQlTester;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.recipemanager.enums.Unit;
+import com.recipemanager.model.Ingredient;
+import com.recipemanager.model.Recipe;
+import com.recipemanager.repository.CapturingStatementInspector;
+import com.recipemanager.repository.IngredientRepository;
+import com.recipemanager.repository.RecipeRepository;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.recipemanager.repository.CapturingStatementInspector")
+@AutoConfigureMockMvc
+@AutoConfigureGraphQlTester
+@ActiveProfiles("test")
+@Transactional
+class RecipeGraphQlControllerTest {
+
+    @Autowired
+    private GraphQlTester graphQlTester;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    @Autowired
+    private IngredientRepository ingredientRepository;
+
+    private Recipe carbonara;
+
+    @BeforeEach
+    void setUp() {
+        ingredientRepository.deleteAll();
+        recipeRepository.deleteAll();
+
+        carbonara = save("Pasta Carbonara", "Mit Speck", "Spaghetti", "Ei", "Speck");
+        save("Pfannkuchen", "Dünn ausbacken", "Mehl", "Milch");
+        save("Salat", null, "Gurke");
+        CapturingStatementInspector.clear();
+    }
+
+    // ========== QUERY Tests ==========
+
+    @Test
+    void testRecipes_WithIngredients_ShouldLoadIngredientsInOneQuery() {
+        // Act
+        List<String> titles = graphQlTester.document("""
+                { recipes { title description ingredients { title unit } } }
+                """)
+                .execute()
+                .path("recipes[*].title").entityList(String.class).get();
+
+        // Assert: eine IN-Abfrage für Zutaten und eine für Beschreibungen, egal wie viele Rezepte
+        assertEquals(List.of("Pasta Carbonara", "Pfannkuchen", "Salat"), titles);
+        assertEquals(1, statementsReading("from ingredients"));
+        assertEquals(1, statementsReading("description"));
+    }
+
+    @Test
+    void testRecipes_ShouldResolveNestedFields() {
+        graphQlTester.document("""
+                { recipes(titlePrefix: "Pasta") { title description ingredientCount ingredients { title amount unit } } }
+                """)
+                .execute()
+                .path("recipes[0].description").entity(String.class).isEqualTo("Mit Speck")
+                .path("recipes[0].ingredientCount").entity(Integer.class).isEqualTo(3)
+                .path("recipes[0].ingredients[*].title").entityList(String.class)
+                .containsExactly("Spaghetti", "Ei", "Speck")
+                .path("recipes[0].ingredients[0].unit").entity(String.class).isEqualTo("G");
+    }
+
+    @Test
+    void testRecipes_WithoutNestedFields_ShouldNotReadIngredients() {
+        // Act
+        graphQlTester.document("{ recipes { id title } }")
+                .execute()
+                .path("recipes").entityList(Object.class).hasSize(3);
+
+        // Assert
+        assertEquals(0, statementsReading("from ingredients"));
+        assertEquals(0, statementsReading("description"));
+    }
+
+    @Test
+    void testRecipe_ById() {
+        graphQlTester.document("query($id: ID!) { recipe(id: $id) { title ingredients { title } } }")
+                .variable("id", carbonara.getId())
+                .execute()
+                .path("recipe.title").entity(String.class).isEqualTo("Pasta Carbonara")
+                .path("recipe.ingredients").entityList(Object.class).hasSize(3);
+    }
+
+    @Test
+    void testRecipe_NotFound_ShouldReturnNull() {
+        graphQlTester.document("{ recipe(id: 999999) { title } }")
+                .execute()
+                .path("recipe").valueIsNull();
+    }
+
+    @Test
+    void testHttpEndpoint_ShouldAnswerUnderApiPath() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/graphql")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"query\": \"{ recipes(limit: 1) { title } }\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.recipes[0].title").value("Pasta Carbonara"));
+    }
+
+    // ========== LIMIT Tests ==========
+
+    @Test
+    void testRecipes_TooComplex_ShouldBeRejectedWithoutDatabaseAccess() {
+        // Act & Assert: 1000 Rezepte x 10 Zutaten x 3 Felder liegt über max-complexity
+        graphQlTester.document("{ recipes(limit: 1000) { title ingredients { title amount unit } } }")
+                .execute()
+                .errors()
+                .expect(error -> error.getMessage().contains("complexity"))
+                .verify();
+
+        assertEquals(0, CapturingStatementInspector.all().size());
+    }
+
+    @Test
+    void testRecipes_HugeLimit_ShouldNotOverflowComplexity() {
+        // Act & Assert: limit x Felder über int-Bereich, auch mehrfach als Alias
+        graphQlTester.document("{ a: recipes(limit: 2147483647) { id } b: recipes(limit: 2147483647) { id } }")
+                .execute()
+                .errors()
+                .expect(error -> error.getMessage().contains("complexity"))
+                .verify();
+
+        assertEquals(0, CapturingStatementInspector.all().size());
+    }
+
+    @Test
+    void testRecipes_InvalidLimit_ShouldReturnBadRequestError() {
+        graphQlTester.document("{ recipes(limit: 0) { title } }")
+                .execute()
+                .errors()
+                .expect(error -> error.getErrorType() == ErrorType.BAD_REQUEST)
+                // recipes ist non-null, der Fehler macht die ganze Antwort null
+                .expect(error -> error.getMessage().contains("non null"))
+                .verify();
+    }
+
+    // ========== Helper ==========
+
+    private Recipe save(String title, String description, String... ingredients) {
+        Recipe recipe = new Recipe(title, description);
+        recipe.setIngredientCount(ingredients.length);
+        recipe = recipeRepository.save(recipe);
+        for (String ingredient : ingredients) {
+            ingredientRepository.save(new Ingredient(ingredient, 1.0, Unit.G, recipe));
+        }
+        return recipe;
+    }
+
+    private static long statementsReading(String fragment) {
+        return CapturingStatementInspector.all().stream()
+                .map(String::toLowerCase)
+                .filter(sql -> sql.contains(fragment))
+                .count();
+    }
+}
@@ -0,0 +1,148 @@
+package com.recipemanager.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.recipemanager.dto.RecipeRequest;
+import com.recipemanager.enums.ChangeType;
+import com.recipemanager.model.Recipe;
+import com.recipemanager.model.RecipeChange;
+import com.recipemanager.service.RecipeService;
+
+/**
+ * Ohne @Transactional: Events werden erst nach dem Commit verteilt
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class RecipeChangeBroadcasterTest {
+
+    @Autowired
+    private RecipeChangeBroadcaster broadcaster;
+
+    @Autowired
+    private RecipeService recipeService;
+
+    @Test
+    void testCreateRecipe_ShouldPushEventAfterCommit() throws Exception {
+        // Arrange
+        CapturingEmitter emitter = new CapturingEmitter();
+        broadcaster.register(emitter, null);
+
+        // Act
+        Recipe recipe = recipeService.createRecipe(request("Ratatouille"));
+
+        // Assert
+        String message = emitter.sent.poll(5, TimeUnit.SECONDS);
+        assertNotNull(message);
+        assertTrue(message.contains("event:recipe.created"));
+        assertTrue(message.contains("\"recipeId\":" + recipe.getId()));
+        assertTrue(message.contains("id:" + recipe.getChangeSeq()));
+
+        recipeService.deleteRecipe(recipe.getId());
+        emitter.complete();
+    }
+
+    @Test
+    void testSubscriberForOtherRecipe_ShouldNotReceiveEvent() throws Exception {
+        // Arrange
+        CapturingEmitter emitter = new CapturingEmitter();
+        broadcaster.register(emitter, -1L);
+
+        // Act
+        broadcaster.onRecipeChanged(updated(42L, 7L, 1L));
+
+        // Assert
+        assertNull(emitter.sent.poll(200, TimeUnit.MILLISECONDS));
+        emitter.complete();
+    }
+
+    @Test
+    void testSlowConsumer_ShouldBeDropped() throws Exception {
+        // Arrange: Client hängt beim ersten send()
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingEmitter slow = new BlockingEmitter(release);
+        int before = broadcaster.getSubscriberCount();
+        broadcaster.register(slow, null);
+
+        // Act: mehr Events als der Puffer (256) fasst
+        for (long seq = 1; seq <= 300; seq++) {
+            broadcaster.onRecipeChanged(updated(1L, null, seq));
+        }
+
+        // Assert: getrennt, ohne dass der Publisher blockiert wurde
+        assertEquals(before, broadcaster.getSubscriberCount());
+        assertFalse(slow.isSent());
+
+        release.countDown();
+    }
+
+    // ========== Helper ==========
+
+    /**
+     * Event wie nach dem Commit: Sequenz am Change-Feed-Eintrag gesetzt
+     */
+    private static RecipeChangedEvent updated(Long recipeId, Long ingredientId, long seq) {
+        RecipeChange change = new RecipeChange(recipeId, ChangeType.UPDATED);
+        change.setSeq(seq);
+        return new RecipeChangedEvent(recipeId, ingredientId, ChangeType.UPDATED, change);
+    }
+
+    private RecipeRequest request(String title) {
+        RecipeRequest request = new RecipeRequest();
+        request.setTitle(title);
+        return request;
+    }
+
+    static class CapturingEmitter extends SseEmitter {
+
+        final BlockingQueue<String> sent = new LinkedBlockingQueue<>();
+
+        @Override
+        public synchronized void send(Set<DataWithMediaType> items) {
+            sent.add(items.stream()
+                    .map(item -> item.getData().toString())
+                    .collect(Collectors.joining()));
+        }
+    }
+
+    static class BlockingEmitter extends SseEmitter {
+
+        private final CountDownLatch release;
+        private volatile boolean sent;
+
+        BlockingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(Set<DataWithMediaType> items) throws IOException {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            sent = true;
+        }
+
+        boolean isSent() {
+            return sent;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.recipemanager.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest(properties = {
+        "recipemanager.rate-limit.enabled=true",
+        "recipemanager.rate-limit.requests-per-second=0.1",
+        "recipemanager.rate-limit.burst=2",
+        "recipemanager.rate-limit.trust-forwarded-for=true",
+        "recipemanager.rate-limit.max-clients=3",
+        "recipemanager.rate-limit.bulkhead.expensive=1"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class RateLimitFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private RateLimitFilter rateLimitFilter;
+
+    @Test
+    void testRateLimit_ShouldRejectWith429AndRetryAfter() throws Exception {
+        mockMvc.perform(get("/api/recipes").header("X-Forwarded-For", "10.0.0.1"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/recipes").header("X-Forwarded-For", "10.0.0.1"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/recipes").header("X-Forwarded-For", "10.0.0.1"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists("Retry-After"));
+    }
+
+    @Test
+    void testRateLimit_ShouldBeTrackedPerClient() throws Exception {
+        mockMvc.perform(get("/api/recipes").header("X-Forwarded-For", "10.0.0.2"));
+        mockMvc.perform(get("/api/recipes").header("X-Forwarded-For", "10.0.0.2"));
+
+        mockMvc.perform(get("/api/recipes").header("X-Forwarded-For", "10.0.0.3, 192.168.0.1"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void testActuator_ShouldNotBeLimited() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            mockMvc.perform(get("/actuator/health").header("X-Forwarded-For", "10.0.0.4"))
+                    .andExpect(status().isOk());
+        }
+    }
+
+    @Test
+    void testClients_ShouldBeBoundedAndKeepExhaustedClient() throws Exception {
+        // Arrange: Client 5 ist ausgeschöpft
+        mockMvc.perform(get("/api/recipes").header("X-Forwarded-For", "10.0.0.5"));
+        mockMvc.perform(get("/api/recipes").header("X-Forwarded-For", "10.0.0.5"));
+
+        // Act: drei weitere Clients, der vierte verdrängt den, der am frühesten wieder voll ist
+        for (String client : new String[] { "10.0.0.6", "10.0.0.7", "10.0.0.8" }) {
+            mockMvc.perform(get("/api/recipes").header("X-Forwarded-For", client));
+        }
+
+        // Assert: neue Clients setzen das Limit von Client 5 nicht zurück
+        assertEquals(3, rateLimitFilter.getClientCount());
+        mockMvc.perform(get("/api/recipes").header("X-Forwarded-For", "10.0.0.5"))
+                .andExpect(status().isTooManyRequests());
+    }
+
+    @Test
+    void testBulkhead_AsyncRequest_ShouldHoldPermitUntilCompleted() throws Exception {
+        // Arrange: Flux-Antwort läuft asynchron weiter
+        MvcResult stream = mockMvc.perform(get("/api/reactive/recipes").header("X-Forwarded-For", "10.0.1.1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Act & Assert: einziger Platz für teure Requests noch belegt
+        mockMvc.perform(get("/api/recipes").header("X-Forwarded-For", "10.0.1.2"))
+                .andExpect(status().isTooManyRequests());
+
+        mockMvc.perform(asyncDispatch(stream)).andExpect(status().isOk());
+        mockMvc.perform(get("/api/recipes").header("X-Forwarded-For", "10.0.1.3"))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,44 @@
+package com.recipemanager.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    void testBurst_ShouldAllowUpToCapacity() {
+        TokenBucket bucket = new TokenBucket(1.0, 3);
+        long now = 10 * SECOND;
+
+        assertEquals(0, bucket.tryAcquire(now));
+        assertEquals(0, bucket.tryAcquire(now));
+        assertEquals(0, bucket.tryAcquire(now));
+        assertTrue(bucket.tryAcquire(now) > 0);
+    }
+
+    @Test
+    void testRefill_ShouldAllowAgainAfterInterval() {
+        TokenBucket bucket = new TokenBucket(2.0, 1);
+        long now = 10 * SECOND;
+
+        assertEquals(0, bucket.tryAcquire(now));
+        long wait = bucket.tryAcquire(now);
+        assertEquals(SECOND / 2, wait);
+        assertEquals(0, bucket.tryAcquire(now + wait));
+    }
+
+    @Test
+    void testFullAt_ShouldMoveWithEachRequest() {
+        TokenBucket bucket = new TokenBucket(1.0, 5);
+        long now = 10 * SECOND;
+
+        assertEquals(Long.MIN_VALUE, bucket.fullAt());
+        bucket.tryAcquire(now);
+        bucket.tryAcquire(now);
+        assertEquals(now + 2 * SECOND, bucket.fullAt());
+    }
+}
@@ -0,0 +1,160 @@
+package com.recipemanager.invalidation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.recipemanager.cache.RecipeDetailJsonCache;
+import com.recipemanager.dto.IngredientRequest;
+import com.recipemanager.dto.RecipeRequest;
+import com.recipemanager.enums.Unit;
+import com.recipemanager.model.CacheInvalidation;
+import com.recipemanager.model.Ingredient;
+import com.recipemanager.model.Recipe;
+import com.recipemanager.repository.CacheInvalidationRepository;
+import com.recipemanager.repository.IngredientRepository;
+import com.recipemanager.repository.RecipeRepository;
+import com.recipemanager.service.IngredientService;
+import com.recipemanager.service.RecipeService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Ohne @Transactional: Invalidierungen werden erst nach dem Commit verschickt.
+ * Poll und Flush laufen nicht zeitgesteuert, sondern werden im Test aufgerufen.
+ */
+@SpringBootTest(properties = {
+        "recipemanager.invalidation.bus=jdbc",
+        "recipemanager.invalidation.batch-millis=3600000",
+        "recipemanager.invalidation.poll-millis=3600000",
+        "recipemanager.invalidation.settle-millis=0"
+})
+@ActiveProfiles("test")
+class JdbcPollingInvalidationBusTest {
+
+    @Autowired
+    private JdbcPollingInvalidationBus invalidationBus;
+
+    @Autowired
+    private InvalidationBatcher invalidationBatcher;
+
+    @Autowired
+    private CacheInvalidationRepository cacheInvalidationRepository;
+
+    @Autowired
+    private RecipeService recipeService;
+
+    @Autowired
+    private IngredientService ingredientService;
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    @Autowired
+    private IngredientRepository ingredientRepository;
+
+    @Autowired
+    private RecipeDetailJsonCache recipeDetailJsonCache;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Recipe recipe;
+    private Ingredient ingredient;
+
+    @BeforeEach
+    void setUp() {
+        recipe = recipeService.createRecipe(request("Gulasch"));
+        ingredient = ingredientService.createIngredient(recipe.getId(), ingredientRequest("Rindfleisch", 500.0));
+
+        invalidationBatcher.flush();
+        invalidationBus.poll();
+        cacheInvalidationRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cacheInvalidationRepository.deleteAll();
+        ingredientRepository.deleteAll();
+        recipeRepository.deleteAll();
+    }
+
+    @Test
+    void testIngredientEdits_ShouldBeBatchedIntoOneRow() {
+        // Act
+        for (int i = 1; i <= 5; i++) {
+            ingredientService.updateIngredient(ingredient.getId(), ingredientRequest("Rindfleisch", 500.0 + i));
+        }
+        invalidationBatcher.flush();
+
+        // Assert
+        List<CacheInvalidation> rows = cacheInvalidationRepository.findAll();
+        assertEquals(1, rows.size());
+        assertEquals(String.valueOf(recipe.getId()), rows.get(0).getRecipeIds());
+        assertEquals(invalidationBus.getNodeId(), rows.get(0).getNodeId());
+    }
+
+    @Test
+    void testPoll_ShouldIgnoreOwnMessages() {
+        // Arrange
+        invalidationBus.publish(Set.of(recipe.getId()));
+
+        // Act & Assert
+        assertEquals(0, invalidationBus.poll());
+    }
+
+    @Test
+    void testPoll_ShouldEvictLocalCachesForOtherNodes() {
+        // Arrange: Detail-Cache und Second-Level-Cache befüllen
+        long cachedVersion = recipeDetailJsonCache.get(recipe.getId()).orElseThrow().getVersion();
+        assertTrue(entityManagerFactory.getCache().contains(Recipe.class, recipe.getId()));
+        assertTrue(entityManagerFactory.getCache().contains(Ingredient.class, ingredient.getId()));
+
+        cacheInvalidationRepository.save(new CacheInvalidation("andere-instanz", recipe.getId() + ",999999"));
+
+        // Act
+        int invalidated = invalidationBus.poll();
+
+        // Assert
+        assertEquals(2, invalidated);
+        assertFalse(entityManagerFactory.getCache().contains(Recipe.class, recipe.getId()));
+        assertFalse(entityManagerFactory.getCache().contains(Ingredient.class, ingredient.getId()));
+        assertNotEquals(cachedVersion, recipeDetailJsonCache.get(recipe.getId()).orElseThrow().getVersion());
+    }
+
+    @Test
+    void testPoll_ShouldNotDeliverTheSameRowTwice() {
+        // Arrange
+        cacheInvalidationRepository.save(new CacheInvalidation("andere-instanz", String.valueOf(recipe.getId())));
+
+        // Act & Assert
+        assertEquals(1, invalidationBus.poll());
+        assertEquals(0, invalidationBus.poll());
+    }
+
+    private RecipeRequest request(String title) {
+        RecipeRequest request = new RecipeRequest();
+        request.setTitle(title);
+        request.setDescription("Beschreibung");
+        return request;
+    }
+
+    private IngredientRequest ingredientRequest(String title, Double amount) {
+        IngredientRequest request = new IngredientRequest();
+        request.setTitle(title);
+        request.setAmount(amount);
+        request.setUnit(Unit.G);
+        return request;
+    }
+}
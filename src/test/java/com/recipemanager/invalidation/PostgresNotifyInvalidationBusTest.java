@@ -0,0 +1,92 @@
+package com.recipemanager.invalidation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Ohne Spring und ohne Postgres: nur Entprellen und Konfiguration der LISTEN-Verbindung
+ */
+class PostgresNotifyInvalidationBusTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final List<Object> published = new ArrayList<>();
+    private final PostgresNotifyInvalidationBus bus = new PostgresNotifyInvalidationBus();
+    private HikariDataSource pool;
+
+    @BeforeEach
+    void setUp() {
+        pool = new HikariDataSource();
+        pool.setJdbcUrl("jdbc:h2:mem:listen");
+        pool.setUsername("listener");
+        pool.setPassword("geheim");
+        pool.addDataSourceProperty("socketTimeout", "30");
+
+        ReflectionTestUtils.setField(bus, "dataSource", pool);
+        ReflectionTestUtils.setField(bus, "eventPublisher",
+                (org.springframework.context.ApplicationEventPublisher) published::add);
+        ReflectionTestUtils.setField(bus, "allDebounceMillis", 30_000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.close();
+    }
+
+    @Test
+    void testReconnects_ShouldInvalidateAllOncePerWindow() {
+        // Act: erster Abbruch sofort, zwei weitere im selben Fenster
+        bus.markAllPending();
+        bus.publishPendingAll(0);
+        bus.markAllPending();
+        int wait = bus.publishPendingAll(5 * SECOND);
+        bus.markAllPending();
+        bus.publishPendingAll(20 * SECOND);
+
+        // Assert
+        assertEquals(1, published.size());
+        assertTrue(((RemoteInvalidationEvent) published.get(0)).isAll());
+        assertEquals(10_000, wait);
+    }
+
+    @Test
+    void testReconnects_ShouldPublishHeldBackInvalidationAfterWindow() {
+        // Arrange
+        bus.markAllPending();
+        bus.publishPendingAll(0);
+        bus.markAllPending();
+
+        // Act
+        int wait = bus.publishPendingAll(25 * SECOND);
+        bus.publishPendingAll(30 * SECOND);
+        bus.publishPendingAll(40 * SECOND);
+
+        // Assert: zurückgehaltenes Verwerfen genau einmal nachgeholt
+        assertEquals(5_000, wait);
+        assertEquals(2, published.size());
+    }
+
+    @Test
+    void testListenDataSource_ShouldUsePoolConfiguration() throws Exception {
+        // Act
+        SimpleDriverDataSource listen = (SimpleDriverDataSource) bus.listenDataSource();
+
+        // Assert
+        assertEquals("jdbc:h2:mem:listen", listen.getUrl());
+        assertEquals("listener", listen.getUsername());
+        assertEquals("geheim", listen.getPassword());
+        assertEquals("30", listen.getConnectionProperties().getProperty("socketTimeout"));
+    }
+}
@@ -0,0 +1,187 @@
+package com.recipemanager.jobs;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.recipemanager.dto.ImportItemError;
+import com.recipemanager.dto.ImportJobResponse;
+import com.recipemanager.dto.IngredientRequest;
+import com.recipemanager.dto.RecipeDetailResponse;
+import com.recipemanager.dto.RecipeRequest;
+import com.recipemanager.enums.JobStatus;
+import com.recipemanager.enums.Unit;
+import com.recipemanager.repository.IngredientRepository;
+import com.recipemanager.repository.RecipeNutritionRepository;
+import com.recipemanager.repository.RecipeRepository;
+import com.recipemanager.service.RecipeService;
+
+/**
+ * Ohne @Transactional: die Jobs laufen auf eigenen Threads und committen pro Chunk.
+ */
+@SpringBootTest(properties = "recipemanager.import.chunk-size=2")
+@ActiveProfiles("test")
+class ImportJobServiceTest {
+
+    @Autowired
+    private ImportJobService importJobService;
+
+    @Autowired
+    private RecipeService recipeService;
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    @Autowired
+    private IngredientRepository ingredientRepository;
+
+    @Autowired
+    private RecipeNutritionRepository recipeNutritionRepository;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanUp();
+    }
+
+    // ========== Import Tests ==========
+
+    @Test
+    void testSubmit_ShouldImportValidItemsAndCollectErrors() throws InterruptedException {
+        // Arrange: 5 Einträge in 3 Chunks, ein ungültiger und eine Dublette im selben Chunk
+        List<RecipeRequest> items = List.of(
+                request("Carbonara", "Spaghetti", "Ei", "Speck"),
+                request("ab", "Mehl"),
+                request("Salat", "Gurke"),
+                request("Carbonara", "Spaghetti", "Ei", "Speck"),
+                request("Pfannkuchen", "Mehl", "Milch"));
+
+        // Act
+        ImportJobResponse result = awaitFinished(importJobService.submit(items));
+
+        // Assert
+        assertEquals(JobStatus.COMPLETED, result.getStatus());
+        assertEquals(5, result.getTotal());
+        assertEquals(5, result.getProcessed());
+        assertEquals(3, result.getSucceeded());
+        assertEquals(2, result.getFailed());
+        assertTrue(result.getItemsPerSecond() > 0);
+        assertEquals(List.of(1, 3), result.getErrors().stream().map(ImportItemError::getIndex).sorted().toList());
+        assertTrue(result.getErrors().stream()
+                .anyMatch(error -> error.getIndex() == 1 && error.getMessage().startsWith("title:")));
+
+        assertEquals(3, recipeRepository.count());
+        assertEquals(6, ingredientRepository.count());
+        assertEquals(3, recipeNutritionRepository.count());
+    }
+
+    @Test
+    void testSubmit_ImportedRecipe_ShouldBeReadableWithIngredients() throws InterruptedException {
+        // Arrange
+        ImportJob job = importJobService.submit(List.of(request("Carbonara", "Spaghetti", "Ei")));
+
+        // Act
+        awaitFinished(job);
+        Long id = recipeRepository.findAll().get(0).getId();
+        RecipeDetailResponse detail = recipeService.getRecipeById(id).orElseThrow();
+
+        // Assert: Zutaten am Second-Level-Cache vorbei eingefügt, trotzdem sichtbar
+        assertEquals(2, recipeRepository.findById(id).orElseThrow().getIngredientCount());
+        assertEquals(2, detail.getIngredients().size());
+        assertEquals(2, recipeService.getRecipeById(id).orElseThrow().getIngredients().size());
+    }
+
+    @Test
+    void testSubmit_EmptyPayload_ShouldThrow() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> importJobService.submit(List.of()));
+    }
+
+    // ========== Cancel Tests ==========
+
+    @Test
+    void testCancel_RunningJob_ShouldStopAfterCurrentChunk() throws InterruptedException {
+        // Arrange
+        List<RecipeRequest> items = new ArrayList<>();
+        for (int i = 0; i < 400; i++) {
+            items.add(request("Rezept " + i, "Zutat " + i));
+        }
+        ImportJob job = importJobService.submit(items);
+
+        // Act
+        importJobService.cancel(job.getId());
+        ImportJobResponse result = awaitFinished(job);
+
+        // Assert: nur ganze Chunks importiert
+        assertEquals(JobStatus.CANCELLED, result.getStatus());
+        assertTrue(result.getProcessed() < 400);
+        assertEquals(0, result.getProcessed() % 2);
+        assertEquals(result.getSucceeded(), recipeRepository.count());
+    }
+
+    @Test
+    void testCancel_QueuedJob_ShouldNotStart() {
+        // Arrange
+        ImportJob job = new ImportJob("job", List.of(request("Salat", "Gurke")), 10);
+
+        // Act
+        job.cancel();
+
+        // Assert
+        assertEquals(JobStatus.CANCELLED, job.getStatus());
+        assertFalse(job.start());
+    }
+
+    @Test
+    void testCancel_UnknownJob_ShouldThrow() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> importJobService.cancel("unbekannt"));
+    }
+
+    // ========== Helper ==========
+
+    private ImportJobResponse awaitFinished(ImportJob job) throws InterruptedException {
+        for (int i = 0; i < 500 && !job.isFinished(); i++) {
+            Thread.sleep(20);
+        }
+        assertTrue(job.isFinished(), "Import-Job nicht rechtzeitig fertig");
+        return job.toResponse();
+    }
+
+    private void cleanUp() {
+        ingredientRepository.deleteAll();
+        recipeNutritionRepository.deleteAll();
+        recipeRepository.deleteAll();
+    }
+
+    private static RecipeRequest request(String title, String... ingredientTitles) {
+        RecipeRequest request = new RecipeRequest();
+        request.setTitle(title);
+        request.setIngredients(Arrays.stream(ingredientTitles)
+                .map(ingredientTitle -> {
+                    IngredientRequest ingredient = new IngredientRequest();
+                    ingredient.setTitle(ingredientTitle);
+                    ingredient.setAmount(100.0);
+                    ingredient.setUnit(Unit.G);
+                    return ingredient;
+                })
+                .toList());
+        return request;
+    }
+}
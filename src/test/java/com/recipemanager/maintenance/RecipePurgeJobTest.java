@@ -0,0 +1,123 @@
+package com.recipemanager.maintenance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalTime;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.recipemanager.dto.IngredientRequest;
+import com.recipemanager.dto.RecipeRequest;
+import com.recipemanager.enums.Unit;
+import com.recipemanager.model.Recipe;
+import com.recipemanager.repository.IngredientRepository;
+import com.recipemanager.repository.RecipeRepository;
+import com.recipemanager.service.RecipeService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+
+@SpringBootTest(properties = {
+        "recipemanager.purge.batch-size=2",
+        "recipemanager.purge.pause-millis=0"
+})
+@ActiveProfiles("test")
+@Transactional
+class RecipePurgeJobTest {
+
+    @Autowired
+    private RecipePurgeJob recipePurgeJob;
+
+    @Autowired
+    private RecipeService recipeService;
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    @Autowired
+    private IngredientRepository ingredientRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        ingredientRepository.deleteAll();
+        recipeRepository.deleteAll();
+    }
+
+    @Test
+    void testPurge_ShouldRemoveDeletedRecipesAcrossBatches() {
+        // Arrange: 5 gelöschte Rezepte bei Batch-Größe 2, eins bleibt
+        Recipe kept = recipeService.createRecipe(request("Salat", "Gurke", "Tomate"));
+        for (String title : new String[] { "Suppe", "Brot", "Tee", "Pesto", "Kuchen" }) {
+            recipeService.deleteRecipe(recipeService.createRecipe(request(title, "Wasser", "Salz")).getId());
+        }
+        assertEquals(5, recipePurgeJob.refreshBacklog());
+
+        // Act
+        int purged = recipePurgeJob.purge();
+
+        // Assert
+        entityManager.clear();
+        assertEquals(5, purged);
+        assertEquals(0, recipeRepository.countDeleted());
+        assertEquals(0.0, meterRegistry.get("recipemanager.purge.backlog").gauge().value());
+        assertEquals(2L, ((Number) entityManager.createNativeQuery("SELECT COUNT(*) FROM ingredients")
+                .getSingleResult()).longValue());
+        assertEquals(1L, ((Number) entityManager.createNativeQuery("SELECT COUNT(*) FROM recipes")
+                .getSingleResult()).longValue());
+        assertTrue(recipeRepository.existsById(kept.getId()));
+    }
+
+    @Test
+    void testPurge_NothingDeleted_ShouldReturnZero() {
+        // Arrange
+        recipeService.createRecipe(request("Salat", "Gurke"));
+
+        // Act & Assert
+        assertEquals(0, recipePurgeJob.purge());
+        assertEquals(1, recipeRepository.count());
+    }
+
+    @Test
+    void testIsInWindow_ShouldHandleMidnight() {
+        // Arrange
+        RecipePurgeJob job = new RecipePurgeJob();
+        ReflectionTestUtils.setField(job, "windowStart", LocalTime.of(22, 0));
+        ReflectionTestUtils.setField(job, "windowEnd", LocalTime.of(4, 0));
+
+        // Act & Assert
+        assertTrue(job.isInWindow(LocalTime.of(23, 30)));
+        assertTrue(job.isInWindow(LocalTime.of(3, 59)));
+        assertFalse(job.isInWindow(LocalTime.of(4, 0)));
+        assertFalse(job.isInWindow(LocalTime.of(12, 0)));
+    }
+
+    private static RecipeRequest request(String title, String... ingredientTitles) {
+        RecipeRequest request = new RecipeRequest();
+        request.setTitle(title);
+        request.setIngredients(Arrays.stream(ingredientTitles)
+                .map(ingredientTitle -> {
+                    IngredientRequest ingredient = new IngredientRequest();
+                    ingredient.setTitle(ingredientTitle);
+                    ingredient.setAmount(1.0);
+                    ingredient.setUnit(Unit.G);
+                    return ingredient;
+                })
+                .toList());
+        return request;
+    }
+}
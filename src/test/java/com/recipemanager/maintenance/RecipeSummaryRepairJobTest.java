@@ -0,0 +1,134 @@
+package com.recipemanager.maintenance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.recipemanager.dto.IngredientRequest;
+import com.recipemanager.dto.RecipeRequest;
+import com.recipemanager.enums.Unit;
+import com.recipemanager.invalidation.RemoteInvalidationEvent;
+import com.recipemanager.model.Recipe;
+import com.recipemanager.repository.IngredientRepository;
+import com.recipemanager.repository.RecipeNutritionRepository;
+import com.recipemanager.repository.RecipeRepository;
+import com.recipemanager.service.RecipeService;
+
+import jakarta.persistence.EntityManager;
+
+@SpringBootTest(properties = "recipemanager.summary-repair.batch-size=2")
+@ActiveProfiles("test")
+@Transactional
+@RecordApplicationEvents
+class RecipeSummaryRepairJobTest {
+
+    @Autowired
+    private RecipeSummaryRepairJob recipeSummaryRepairJob;
+
+    @Autowired
+    private RecipeService recipeService;
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    @Autowired
+    private IngredientRepository ingredientRepository;
+
+    @Autowired
+    private RecipeNutritionRepository recipeNutritionRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    @BeforeEach
+    void setUp() {
+        ingredientRepository.deleteAll();
+        recipeRepository.deleteAll();
+    }
+
+    @Test
+    void testRepair_ConsistentCounts_ShouldChangeNothing() {
+        // Arrange
+        recipeService.createRecipe(request("Salat", "Gurke", "Tomate"));
+        recipeService.createRecipe(request("Suppe", "Kürbis"));
+
+        // Act & Assert
+        assertEquals(0, recipeSummaryRepairJob.repair());
+        assertEquals(0, events.stream(RemoteInvalidationEvent.class).count());
+    }
+
+    @Test
+    void testRepair_ShouldFixCountsAcrossBatches() {
+        // Arrange: 5 Rezepte bei Batch-Größe 2, zwei davon an den Services vorbei verfälscht
+        Recipe first = recipeService.createRecipe(request("Salat", "Gurke", "Tomate"));
+        recipeService.createRecipe(request("Suppe", "Kürbis"));
+        recipeService.createRecipe(request("Brot", "Mehl", "Hefe", "Salz"));
+        recipeService.createRecipe(request("Tee"));
+        Recipe last = recipeService.createRecipe(request("Pesto", "Basilikum"));
+        entityManager.flush();
+        entityManager.createNativeQuery("UPDATE recipes SET ingredient_count = 0 WHERE id IN (:ids)")
+                .setParameter("ids", List.of(first.getId(), last.getId()))
+                .executeUpdate();
+        entityManager.clear();
+
+        // Act
+        int repaired = recipeSummaryRepairJob.repair();
+
+        // Assert
+        entityManager.clear();
+        assertEquals(2, repaired);
+        assertEquals(2, recipeRepository.findById(first.getId()).orElseThrow().getIngredientCount());
+        assertEquals(1, recipeRepository.findById(last.getId()).orElseThrow().getIngredientCount());
+    }
+
+    @Test
+    void testRepair_ShouldFixNutritionAndInvalidateCaches() {
+        // Arrange: 1 g Mehl = 3,48 kcal, Summe an den Services vorbei verfälscht
+        Recipe bread = recipeService.createRecipe(request("Brot", "Mehl"));
+        recipeService.createRecipe(request("Suppe", "Kürbis"));
+        entityManager.flush();
+        entityManager.createNativeQuery("UPDATE recipe_nutrition SET kcal = 999 WHERE recipe_id = :id")
+                .setParameter("id", bread.getId())
+                .executeUpdate();
+        entityManager.clear();
+
+        // Act
+        int repaired = recipeSummaryRepairJob.repair();
+
+        // Assert: korrigiert und als Invalidierung veröffentlicht
+        entityManager.clear();
+        assertEquals(1, repaired);
+        assertEquals(3.48, recipeNutritionRepository.findById(bread.getId()).orElseThrow().getKcal(), 0.001);
+        assertEquals(List.of(Set.of(bread.getId())), events.stream(RemoteInvalidationEvent.class)
+                .map(RemoteInvalidationEvent::getRecipeIds)
+                .toList());
+    }
+
+    private RecipeRequest request(String title, String... ingredients) {
+        RecipeRequest request = new RecipeRequest();
+        request.setTitle(title);
+        request.setDescription("Beschreibung");
+        request.setIngredients(Arrays.stream(ingredients).map(name -> {
+            IngredientRequest ingredient = new IngredientRequest();
+            ingredient.setTitle(name);
+            ingredient.setAmount(1.0);
+            ingredient.setUnit(Unit.G);
+            return ingredient;
+        }).toList());
+        return request;
+    }
+}
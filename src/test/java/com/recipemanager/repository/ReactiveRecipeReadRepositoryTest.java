@@ -0,0 +1,79 @@
+package com.recipemanager.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.recipemanager.enums.Unit;
+import com.recipemanager.model.Ingredient;
+import com.recipemanager.model.Recipe;
+
+import reactor.test.StepVerifier;
+
+/**
+ * Bewusst ohne @Transactional: R2DBC nutzt eigene Verbindungen und sieht
+ * nur committete Daten.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ReactiveRecipeReadRepositoryTest {
+
+    @Autowired
+    private ReactiveRecipeReadRepository reactiveRecipeReadRepository;
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    @Autowired
+    private IngredientRepository ingredientRepository;
+
+    private Recipe testRecipe;
+
+    @BeforeEach
+    void setUp() {
+        ingredientRepository.deleteAll();
+        recipeRepository.deleteAll();
+
+        testRecipe = recipeRepository.save(new Recipe("Pasta", "Lecker"));
+        recipeRepository.save(new Recipe("Pizza", "Knusprig"));
+        ingredientRepository.save(new Ingredient("Mehl", 200.0, Unit.G, testRecipe));
+        ingredientRepository.save(new Ingredient("Salz", null, Unit.PRISE, testRecipe));
+    }
+
+    @AfterEach
+    void tearDown() {
+        ingredientRepository.deleteAll();
+        recipeRepository.deleteAll();
+    }
+
+    @Test
+    void testFindAll_ShouldStreamAllRecipes() {
+        StepVerifier.create(reactiveRecipeReadRepository.findAll(), 1)
+                .assertNext(recipe -> assertEquals("Pasta", recipe.getTitle()))
+                .thenRequest(1)
+                .assertNext(recipe -> assertEquals("Pizza", recipe.getTitle()))
+                .verifyComplete();
+    }
+
+    @Test
+    void testFindDetailById_ShouldContainIngredients() {
+        StepVerifier.create(reactiveRecipeReadRepository.findDetailById(testRecipe.getId()))
+                .assertNext(detail -> {
+                    assertEquals("Lecker", detail.getDescription());
+                    assertEquals(2, detail.getIngredients().size());
+                    assertEquals(Unit.PRISE, detail.getIngredients().get(1).getUnit());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void testFindDetailById_NotFound() {
+        StepVerifier.create(reactiveRecipeReadRepository.findDetailById(999L))
+                .verifyComplete();
+    }
+}
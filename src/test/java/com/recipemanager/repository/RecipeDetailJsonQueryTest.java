@@ -0,0 +1,144 @@
+package com.recipemanager.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.recipemanager.cache.RecipeDetailJsonCache;
+import com.recipemanager.dto.IngredientRequest;
+import com.recipemanager.dto.RecipeDetailResponse;
+import com.recipemanager.dto.RecipeRequest;
+import com.recipemanager.enums.Unit;
+import com.recipemanager.model.Recipe;
+import com.recipemanager.service.RecipeService;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Von der Datenbank gerendertes Detail-JSON gegen den Weg über Hibernate + Jackson (H2-Variante)
+ */
+@SpringBootTest(properties = "recipemanager.detail-cache.render-in-database=true")
+@ActiveProfiles("test")
+@Transactional
+class RecipeDetailJsonQueryTest {
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    @Autowired
+    private IngredientRepository ingredientRepository;
+
+    @Autowired
+    private RecipeService recipeService;
+
+    @Autowired
+    private RecipeDetailJsonCache recipeDetailJsonCache;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        ingredientRepository.deleteAll();
+        recipeRepository.deleteAll();
+    }
+
+    @Test
+    void testFindDetailJson_ShouldMatchJpaPath() throws Exception {
+        // Arrange
+        Recipe recipe = recipeService.createRecipe(request("Pasta", 3, "Spaghetti", "Olivenöl", "Knoblauch"));
+        flushAndClear();
+
+        // Act
+        byte[] json = recipeRepository.findDetailJson(recipe.getId()).orElseThrow();
+
+        // Assert: gleicher Inhalt, Zahlen- und Zeitformat über Jackson angeglichen
+        RecipeDetailResponse expected = recipeService.getRecipeById(recipe.getId()).orElseThrow();
+        assertEquals(objectMapper.writeValueAsString(expected),
+                objectMapper.writeValueAsString(objectMapper.readValue(json, RecipeDetailResponse.class)));
+        assertNotNull(expected.getNutrition().getPerServing());
+    }
+
+    @Test
+    void testFindDetailJson_WithoutIngredientsAndServings() throws Exception {
+        // Arrange
+        Recipe recipe = recipeService.createRecipe(request("Tee", null));
+        flushAndClear();
+
+        // Act
+        RecipeDetailResponse detail = objectMapper.readValue(
+                recipeRepository.findDetailJson(recipe.getId()).orElseThrow(), RecipeDetailResponse.class);
+
+        // Assert
+        assertEquals("Tee", detail.getTitle());
+        assertTrue(detail.getIngredients().isEmpty());
+        assertNull(detail.getNutrition().getPerServing());
+    }
+
+    @Test
+    void testFindDetailJson_UnknownOrDeleted_ShouldBeEmpty() {
+        // Arrange
+        Recipe recipe = recipeService.createRecipe(request("Suppe", null, "Kürbis"));
+        recipeService.deleteRecipe(recipe.getId());
+        flushAndClear();
+
+        // Act & Assert
+        assertTrue(recipeRepository.findDetailJson(recipe.getId()).isEmpty());
+        assertTrue(recipeRepository.findDetailJson(999999L).isEmpty());
+    }
+
+    @Test
+    void testDetailCache_ShouldServeJsonRenderedByDatabase() {
+        // Arrange
+        Recipe recipe = recipeService.createRecipe(request("Gulasch", 2, "Rind", "Paprika"));
+        flushAndClear();
+
+        // Act
+        byte[] json = recipeDetailJsonCache.get(recipe.getId()).orElseThrow().getJson();
+
+        // Assert
+        assertEquals(new String(recipeRepository.findDetailJson(recipe.getId()).orElseThrow(), StandardCharsets.UTF_8),
+                new String(json, StandardCharsets.UTF_8));
+    }
+
+    // ========== Helper ==========
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+        entityManager.getEntityManagerFactory().getCache().evictAll();
+    }
+
+    private static RecipeRequest request(String title, Integer servings, String... ingredientTitles) {
+        RecipeRequest request = new RecipeRequest();
+        request.setTitle(title);
+        request.setDescription("Beschreibung " + title);
+        request.setServings(servings);
+        request.setIngredients(Arrays.stream(ingredientTitles)
+                .map(ingredientTitle -> {
+                    IngredientRequest ingredient = new IngredientRequest();
+                    ingredient.setTitle(ingredientTitle);
+                    ingredient.setAmount(150.0);
+                    ingredient.setUnit(Unit.G);
+                    return ingredient;
+                })
+                .toList());
+        return request;
+    }
+}
@@ -0,0 +1,261 @@
+package com.recipemanager.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.recipemanager.dto.FieldSelection;
+import com.recipemanager.dto.IngredientResponse;
+import com.recipemanager.dto.RecipeListFilter;
+import com.recipemanager.dto.RecipeResponse;
+import com.recipemanager.enums.RecipeSort;
+import com.recipemanager.enums.Unit;
+import com.recipemanager.model.Ingredient;
+import com.recipemanager.model.Recipe;
+
+/**
+ * Filter/Sortierung der Rezept-Liste, inkl. EXPLAIN des tatsächlich erzeugten SQL gegen H2
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.recipemanager.repository.CapturingStatementInspector")
+@ActiveProfiles("test")
+@Transactional
+class RecipeListQueryTest {
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    @Autowired
+    private IngredientRepository ingredientRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        ingredientRepository.deleteAll();
+        recipeRepository.deleteAll();
+
+        save("Pasta Carbonara", LocalDateTime.of(2024, 3, 1, 12, 0), "Spaghetti", "Ei", "Speck");
+        save("Pasta al Pomodoro", LocalDateTime.of(2024, 5, 10, 18, 0), "Spaghetti", "Tomate");
+        save("Pfannkuchen", LocalDateTime.of(2024, 5, 31, 23, 59), "Mehl", "Ei", "Milch", "Salz");
+        save("Salat_Mix", LocalDateTime.of(2023, 12, 24, 9, 0), "Gurke");
+        CapturingStatementInspector.clear();
+    }
+
+    // ========== Ergebnisse ==========
+
+    @Test
+    void testFindList_DefaultSort_ShouldBeOldestFirst() {
+        // Act
+        List<RecipeResponse> recipes = recipeRepository.findList(new RecipeListFilter());
+
+        // Assert
+        assertEquals(List.of("Salat_Mix", "Pasta Carbonara", "Pasta al Pomodoro", "Pfannkuchen"), titles(recipes));
+        assertEquals(3, recipes.get(1).getIngredientCount());
+    }
+
+    @Test
+    void testFindList_SortByIngredientCountDescending() {
+        // Arrange
+        RecipeListFilter filter = new RecipeListFilter();
+        filter.setSort(RecipeSort.INGREDIENT_COUNT);
+        filter.setDescending(true);
+        filter.setLimit(2);
+
+        // Act & Assert
+        assertEquals(List.of("Pfannkuchen", "Pasta Carbonara"), titles(recipeRepository.findList(filter)));
+    }
+
+    @Test
+    void testFindList_CombinedFilters() {
+        // Arrange
+        RecipeListFilter filter = new RecipeListFilter();
+        filter.setTitlePrefix("P");
+        filter.setCreatedFrom(LocalDate.of(2024, 5, 1));
+        filter.setCreatedTo(LocalDate.of(2024, 5, 31));
+        filter.setIngredient("Ei");
+        filter.setSort(RecipeSort.TITLE);
+
+        // Act & Assert: Bis-Datum inklusive, Pasta al Pomodoro hat kein Ei
+        assertEquals(List.of("Pfannkuchen"), titles(recipeRepository.findList(filter)));
+    }
+
+    @Test
+    void testFindList_TitlePrefix_ShouldEscapeWildcards() {
+        // Arrange
+        RecipeListFilter filter = new RecipeListFilter();
+        filter.setTitlePrefix("Salat_");
+
+        // Act & Assert
+        assertEquals(List.of("Salat_Mix"), titles(recipeRepository.findList(filter)));
+
+        filter.setTitlePrefix("Pasta%");
+        assertTrue(recipeRepository.findList(filter).isEmpty());
+    }
+
+    // ========== EXPLAIN ==========
+
+    @Test
+    void testExplain_SortByTitle_ShouldReadIndexInOrder() {
+        // Arrange
+        RecipeListFilter filter = new RecipeListFilter();
+        filter.setSort(RecipeSort.TITLE);
+
+        // Act
+        String plan = explainLast(filter);
+
+        // Assert
+        assertTrue(plan.contains("IDX_RECIPES_TITLE"), plan);
+        assertTrue(plan.contains("index sorted"), plan);
+    }
+
+    @Test
+    void testExplain_CreatedRange_ShouldUseCreatedAtIndex() {
+        // Arrange
+        RecipeListFilter filter = new RecipeListFilter();
+        filter.setCreatedFrom(LocalDate.of(2024, 1, 1));
+        filter.setCreatedTo(LocalDate.of(2024, 12, 31));
+
+        // Act
+        String plan = explainLast(filter, LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2025, 1, 1, 0, 0));
+
+        // Assert
+        assertTrue(plan.contains("IDX_RECIPES_CREATED_AT"), plan);
+        assertTrue(plan.contains("index sorted"), plan);
+    }
+
+    @Test
+    void testExplain_TitlePrefix_ShouldUseTitleIndex() {
+        // Arrange
+        RecipeListFilter filter = new RecipeListFilter();
+        filter.setTitlePrefix("Pasta");
+        filter.setSort(RecipeSort.TITLE);
+
+        // Act
+        String plan = explainLast(filter, "Pasta%");
+
+        // Assert
+        assertTrue(plan.contains("IDX_RECIPES_TITLE"), plan);
+        assertTrue(plan.contains("TITLE >="), plan);
+    }
+
+    @Test
+    void testExplain_Ingredient_ShouldUseIngredientTitleIndex() {
+        // Arrange
+        RecipeListFilter filter = new RecipeListFilter();
+        filter.setIngredient("Ei");
+
+        // Act
+        String plan = explainLast(filter, "Ei");
+
+        // Assert
+        assertTrue(plan.contains("IDX_INGREDIENTS_TITLE_RECIPE_ID"), plan);
+    }
+
+    @Test
+    void testExplain_IngredientsOfRecipe_ShouldUseUniqueIndex() {
+        // Arrange
+        Long id = recipeRepository.findList(new RecipeListFilter()).get(0).getId();
+        CapturingStatementInspector.clear();
+        ingredientRepository.findResponses(id, FieldSelection.parse("title", IngredientResponse.FIELDS));
+
+        // Act
+        String plan = String.join("\n", jdbcTemplate.queryForList(
+                "EXPLAIN " + CapturingStatementInspector.last(), String.class, id));
+
+        // Assert: Unique-Index (recipe_id, title) ersetzt den früheren Index auf recipe_id
+        assertTrue(plan.contains("UK_INGREDIENTS_RECIPE_ID_TITLE"), plan);
+    }
+
+    // ========== Projektion (?fields=) ==========
+
+    @Test
+    void testFindList_Fields_ShouldSelectOnlyRequestedColumns() {
+        // Arrange
+        RecipeListFilter filter = new RecipeListFilter();
+        filter.setFields(FieldSelection.parse("title", RecipeResponse.FIELDS));
+
+        // Act
+        List<RecipeResponse> recipes = recipeRepository.findList(filter);
+
+        // Assert: Sortierung weiter über created_at, gelesen nur id und title
+        assertEquals("Salat_Mix", recipes.get(0).getTitle());
+        assertNull(recipes.get(0).getCreatedAt());
+        String select = selectClauseOf(CapturingStatementInspector.last());
+        assertTrue(select.contains("title"), select);
+        assertFalse(select.contains("created_at") || select.contains("ingredient_count"), select);
+    }
+
+    @Test
+    void testFindAttributes_ShouldNotReadDescription() {
+        // Arrange
+        Long id = recipeRepository.findList(new RecipeListFilter()).get(0).getId();
+        CapturingStatementInspector.clear();
+
+        // Act
+        Map<String, Object> row = recipeRepository.findAttributes(id, List.of("id", "title")).orElseThrow();
+
+        // Assert
+        assertEquals("Salat_Mix", row.get("title"));
+        String select = selectClauseOf(CapturingStatementInspector.last());
+        assertFalse(select.contains("description"), select);
+    }
+
+    @Test
+    void testFindResponses_Fields_ShouldSelectOnlyRequestedColumns() {
+        // Arrange
+        Long id = recipeRepository.findList(new RecipeListFilter()).get(0).getId();
+        CapturingStatementInspector.clear();
+
+        // Act
+        List<IngredientResponse> ingredients = ingredientRepository.findResponses(id,
+                FieldSelection.parse("title", IngredientResponse.FIELDS));
+
+        // Assert
+        assertEquals("Gurke", ingredients.get(0).getTitle());
+        assertNull(ingredients.get(0).getAmount());
+        String select = selectClauseOf(CapturingStatementInspector.last());
+        assertFalse(select.contains("amount") || select.contains("unit"), select);
+    }
+
+    // ========== Helper ==========
+
+    private static String selectClauseOf(String sql) {
+        return sql.substring(0, sql.toLowerCase().indexOf(" from ")).toLowerCase();
+    }
+
+    private String explainLast(RecipeListFilter filter, Object... parameters) {
+        recipeRepository.findList(filter);
+        String sql = CapturingStatementInspector.last();
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, parameters));
+    }
+
+    private void save(String title, LocalDateTime createdAt, String... ingredients) {
+        Recipe recipe = new Recipe(title, "Beschreibung");
+        recipe.setCreatedAt(createdAt);
+        recipe.setIngredientCount(ingredients.length);
+        recipe = recipeRepository.save(recipe);
+        for (String ingredient : ingredients) {
+            ingredientRepository.save(new Ingredient(ingredient, 1.0, Unit.G, recipe));
+        }
+    }
+
+    private static List<String> titles(List<RecipeResponse> recipes) {
+        return recipes.stream().map(RecipeResponse::getTitle).toList();
+    }
+}
@@ -0,0 +1,198 @@
+package com.recipemanager.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.recipemanager.dto.IngredientRequest;
+import com.recipemanager.dto.RecipeChangesResponse;
+import com.recipemanager.dto.RecipeRequest;
+import com.recipemanager.enums.ChangeType;
+import com.recipemanager.enums.Unit;
+import com.recipemanager.model.Recipe;
+import com.recipemanager.model.RecipeChange;
+import com.recipemanager.repository.IngredientRepository;
+import com.recipemanager.repository.RecipeChangeRepository;
+import com.recipemanager.repository.RecipeRepository;
+
+/**
+ * Ohne @Transactional: die Sequenzen werden erst beim Commit vergeben.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ChangeFeedServiceTest {
+
+    @Autowired
+    private ChangeFeedService changeFeedService;
+
+    @Autowired
+    private RecipeService recipeService;
+
+    @Autowired
+    private IngredientService ingredientService;
+
+    @Autowired
+    private RecipeChangeRepository recipeChangeRepository;
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    @Autowired
+    private IngredientRepository ingredientRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private String cursor;
+
+    @BeforeEach
+    void setUp() {
+        // Nur Änderungen aus diesem Test betrachten
+        cursor = String.valueOf(recipeChangeRepository.maxSeq());
+    }
+
+    @AfterEach
+    void tearDown() {
+        ingredientRepository.deleteAll();
+        recipeRepository.deleteAll();
+    }
+
+    @Test
+    void testCreateRecipe_ShouldAppearInFeed() {
+        // Arrange
+        Recipe recipe = recipeService.createRecipe(request("Gulasch"));
+
+        // Act
+        RecipeChangesResponse response = changeFeedService.getChangesSince(cursor, 100);
+
+        // Assert
+        assertEquals(1, response.getChanges().size());
+        assertEquals(ChangeType.CREATED, response.getChanges().get(0).getType());
+        assertEquals("Gulasch", response.getChanges().get(0).getRecipe().getTitle());
+        assertEquals(String.valueOf(recipe.getChangeSeq()), response.getCursor());
+        assertFalse(response.isHasMore());
+    }
+
+    @Test
+    void testIngredientWrite_ShouldStampRecipe() {
+        // Arrange
+        Recipe recipe = recipeService.createRecipe(request("Suppe"));
+        Long createdSeq = recipe.getChangeSeq();
+
+        // Act
+        IngredientRequest ingredient = new IngredientRequest();
+        ingredient.setTitle("Karotte");
+        ingredient.setAmount(2.0);
+        ingredient.setUnit(Unit.G);
+        ingredientService.createIngredient(recipe.getId(), ingredient);
+
+        // Assert
+        Recipe stamped = recipeRepository.findById(recipe.getId()).orElseThrow();
+        assertTrue(stamped.getChangeSeq() > createdSeq);
+        assertNotNull(stamped.getUpdatedAt());
+        RecipeChangesResponse response = changeFeedService.getChangesSince(String.valueOf(createdSeq), 100);
+        assertEquals(1, response.getChanges().size());
+        assertEquals(ChangeType.UPDATED, response.getChanges().get(0).getType());
+    }
+
+    @Test
+    void testDeleteRecipe_ShouldLeaveTombstone() {
+        // Arrange
+        Recipe recipe = recipeService.createRecipe(request("Auflauf"));
+        recipeService.updateRecipe(recipe.getId(), request("Auflauf Neu"));
+
+        // Act
+        recipeService.deleteRecipe(recipe.getId());
+        RecipeChangesResponse response = changeFeedService.getChangesSince(cursor, 100);
+
+        // Assert: drei Einträge, aber nur der letzte Stand pro Rezept
+        assertEquals(1, response.getChanges().size());
+        assertEquals(ChangeType.DELETED, response.getChanges().get(0).getType());
+        assertNull(response.getChanges().get(0).getRecipe());
+    }
+
+    @Test
+    void testGetChangesSince_ShouldPage() {
+        // Arrange
+        recipeService.createRecipe(request("Eins"));
+        recipeService.createRecipe(request("Zwei"));
+        recipeService.createRecipe(request("Drei"));
+
+        // Act
+        RecipeChangesResponse first = changeFeedService.getChangesSince(cursor, 2);
+        RecipeChangesResponse second = changeFeedService.getChangesSince(first.getCursor(), 2);
+
+        // Assert
+        assertEquals(List.of("Eins", "Zwei"), first.getChanges().stream()
+                .map(change -> change.getRecipe().getTitle()).toList());
+        assertTrue(first.isHasMore());
+        assertEquals("Drei", second.getChanges().get(0).getRecipe().getTitle());
+        assertFalse(second.isHasMore());
+    }
+
+    @Test
+    void testGetChangesSince_LaterCommit_ShouldNotBeSkipped() throws Exception {
+        // Arrange: Transaktion A schreibt zuerst (kleinere ID), committet aber nach B
+        CountDownLatch written = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        CompletableFuture<RecipeChange> first = CompletableFuture.supplyAsync(() ->
+                transactionTemplate.execute(status -> {
+                    RecipeChange change = changeFeedService.recordDeleted(424242L);
+                    written.countDown();
+                    await(commit);
+                    return change;
+                }));
+        assertTrue(written.await(10, TimeUnit.SECONDS));
+        Recipe second = recipeService.createRecipe(request("Zweite"));
+
+        // Act
+        RecipeChangesResponse before = changeFeedService.getChangesSince(cursor, 100);
+        commit.countDown();
+        RecipeChange late = first.get(10, TimeUnit.SECONDS);
+        RecipeChangesResponse after = changeFeedService.getChangesSince(before.getCursor(), 100);
+
+        // Assert: B zuerst sichtbar, A danach mit größerer Sequenz trotz kleinerer ID
+        assertEquals(List.of(second.getId()), before.getChanges().stream()
+                .map(change -> change.getRecipeId()).toList());
+        assertEquals(String.valueOf(second.getChangeSeq()), before.getCursor());
+        assertTrue(late.getId() < recipeChangeRepository.findAll().stream()
+                .filter(change -> change.getRecipeId().equals(second.getId()))
+                .mapToLong(RecipeChange::getId).max().getAsLong());
+        assertEquals(List.of(424242L), after.getChanges().stream()
+                .map(change -> change.getRecipeId()).toList());
+        assertEquals(String.valueOf(late.getSeq()), after.getCursor());
+        assertTrue(late.getSeq() > second.getChangeSeq());
+    }
+
+    // ========== Helper ==========
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private RecipeRequest request(String title) {
+        RecipeRequest request = new RecipeRequest();
+        request.setTitle(title);
+        request.setDescription("Beschreibung");
+        return request;
+    }
+}
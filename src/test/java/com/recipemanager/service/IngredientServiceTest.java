@@ -17,6 +17,7 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.recipemanager.dto.IngredientRequest;
+import com.recipemanager.dto.IngredientUpsertResponse;
 import com.recipemanager.enums.Unit;
 import com.recipemanager.model.Ingredient;
 import com.recipemanager.model.Recipe;
@@ -280,4 +281,72 @@ class IngredientServiceTest {
         assertTrue(ingredientRepository.existsById(ing2.getId()));
         assertEquals(1, ingredientRepository.findByRecipeId(testRecipe.getId()).size());
     }
+
+    // ========== ingredient_count ==========
+
+    @Test
+    void testCreateAndDelete_ShouldMaintainIngredientCount() {
+        // Arrange
+        IngredientRequest request = new IngredientRequest();
+        request.setTitle("Mehl");
+        request.setAmount(200.0);
+        request.setUnit(Unit.G);
+
+        // Act
+        Ingredient first = ingredientService.createIngredient(testRecipe.getId(), request);
+        request.setTitle("Zucker");
+        ingredientService.createIngredient(testRecipe.getId(), request);
+        ingredientService.deleteIngredient(first.getId());
+
+        // Assert
+        assertEquals(1, recipeRepository.findById(testRecipe.getId()).orElseThrow().getIngredientCount());
+    }
+
+    // ========== UPSERT Tests ==========
+
+    @Test
+    void testUpsertIngredients_ShouldCountInsertedAndUpdated() {
+        // Arrange
+        ingredientService.upsertIngredients(testRecipe.getId(),
+                List.of(request("Mehl", 200.0), request("Zucker", 50.0)));
+
+        // Act
+        IngredientUpsertResponse result = ingredientService.upsertIngredients(testRecipe.getId(),
+                List.of(request("Mehl", 250.0), request("Eier", 2.0)));
+
+        // Assert
+        assertEquals(1, result.getInserted());
+        assertEquals(1, result.getUpdated());
+        List<Ingredient> ingredients = ingredientService.getIngredientsByRecipeId(testRecipe.getId());
+        assertEquals(3, ingredients.size());
+        assertEquals(250.0, ingredients.stream()
+                .filter(i -> i.getTitle().equals("Mehl")).findFirst().orElseThrow().getAmount());
+        assertEquals(3, recipeRepository.findById(testRecipe.getId()).orElseThrow().getIngredientCount());
+    }
+
+    @Test
+    void testUpsertIngredients_DuplicateTitleInRequest_ShouldKeepLast() {
+        // Act
+        IngredientUpsertResponse result = ingredientService.upsertIngredients(testRecipe.getId(),
+                List.of(request("Mehl", 100.0), request("Mehl", 300.0)));
+
+        // Assert
+        assertEquals(1, result.getInserted());
+        assertEquals(0, result.getUpdated());
+        assertEquals(300.0, ingredientService.getIngredientsByRecipeId(testRecipe.getId()).get(0).getAmount());
+    }
+
+    @Test
+    void testUpsertIngredients_RecipeNotFound_ShouldThrow() {
+        assertThrows(IllegalArgumentException.class,
+                () -> ingredientService.upsertIngredients(999999L, List.of(request("Mehl", 1.0))));
+    }
+
+    private static IngredientRequest request(String title, Double amount) {
+        IngredientRequest request = new IngredientRequest();
+        request.setTitle(title);
+        request.setAmount(amount);
+        request.setUnit(Unit.G);
+        return request;
+    }
 }
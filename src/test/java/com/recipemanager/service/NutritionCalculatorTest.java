@@ -0,0 +1,33 @@
+package com.recipemanager.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import com.recipemanager.enums.Unit;
+
+class NutritionCalculatorTest {
+
+    @Test
+    void testNormalize_ShouldFoldCaseUmlautsAndPunctuation() {
+        assertEquals("olivenoel", NutritionCalculator.normalize("  Olivenöl "));
+        assertEquals("haehnchenbrust", NutritionCalculator.normalize("Hähnchenbrust"));
+        assertEquals("weisswein trocken", NutritionCalculator.normalize("Weißwein, trocken"));
+        assertEquals("creme fraiche", NutritionCalculator.normalize("Crème fraîche"));
+    }
+
+    @Test
+    void testToGrams_WeightUnits() {
+        assertEquals(500.0, NutritionCalculator.toGrams(500, Unit.G, 0.5));
+        assertEquals(1500.0, NutritionCalculator.toGrams(1.5, Unit.KG, 0.5));
+        assertEquals(1.0, NutritionCalculator.toGrams(2, Unit.PRISE, 0.5));
+    }
+
+    @Test
+    void testToGrams_VolumeUnitsShouldUseDensity() {
+        assertEquals(103.0, NutritionCalculator.toGrams(100, Unit.ML, 1.03), 1e-9);
+        assertEquals(910.0, NutritionCalculator.toGrams(1, Unit.L, 0.91), 1e-9);
+        assertEquals(27.3, NutritionCalculator.toGrams(2, Unit.EL, 0.91), 1e-9);
+        assertEquals(5.0, NutritionCalculator.toGrams(1, Unit.TL, 1.0), 1e-9);
+    }
+}
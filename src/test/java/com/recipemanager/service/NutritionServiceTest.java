@@ -0,0 +1,162 @@
+package com.recipemanager.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.recipemanager.dto.IngredientRequest;
+import com.recipemanager.dto.NutritionResponse;
+import com.recipemanager.dto.RecipeDetailResponse;
+import com.recipemanager.dto.RecipeRequest;
+import com.recipemanager.enums.Unit;
+import com.recipemanager.maintenance.RecipePurgeJob;
+import com.recipemanager.model.Ingredient;
+import com.recipemanager.model.Recipe;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class NutritionServiceTest {
+
+    @Autowired
+    private NutritionService nutritionService;
+
+    @Autowired
+    private RecipeService recipeService;
+
+    @Autowired
+    private IngredientService ingredientService;
+
+    @Autowired
+    private RecipePurgeJob recipePurgeJob;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    void testCreateRecipe_ShouldCalculateTotalsAndPerServing() {
+        // Arrange: 500 g Spaghetti = 1795 kcal, 2 EL Olivenöl = 27.3 g = 241.3 kcal
+        Recipe recipe = recipeService.createRecipe(request("Pasta", 4,
+                ingredient("Spaghetti", 500.0, Unit.G),
+                ingredient("Olivenöl", 2.0, Unit.EL)));
+
+        // Act
+        NutritionResponse nutrition = nutritionService.getNutrition(recipe.getId(), 4).orElseThrow();
+
+        // Assert
+        assertEquals(2036.3, nutrition.getTotal().getKcal(), 0.05);
+        assertEquals(509.1, nutrition.getPerServing().getKcal(), 0.05);
+        assertEquals(65.0, nutrition.getTotal().getProtein(), 0.05);
+        assertEquals(0, nutrition.getUnmatchedIngredients());
+    }
+
+    @Test
+    void testIngredientWrites_ShouldUpdateTotalsIncrementally() {
+        // Arrange
+        Recipe recipe = recipeService.createRecipe(request("Suppe", null,
+                ingredient("Kartoffeln", 1.0, Unit.KG)));
+
+        // Act: anlegen, ändern, löschen
+        Ingredient butter = ingredientService.createIngredient(recipe.getId(), ingredient("Butter", 100.0, Unit.G));
+        assertEquals(770.0 + 741.0, kcal(recipe), 0.05);
+
+        ingredientService.updateIngredient(butter.getId(), ingredient("Butter", 50.0, Unit.G));
+        assertEquals(770.0 + 370.5, kcal(recipe), 0.05);
+
+        ingredientService.deleteIngredient(butter.getId());
+
+        // Assert
+        assertEquals(770.0, kcal(recipe), 0.05);
+    }
+
+    @Test
+    void testUnknownIngredient_ShouldCountAsUnmatched() {
+        // Arrange
+        Recipe recipe = recipeService.createRecipe(request("Exotisch", null,
+                ingredient("Drachenfrucht", 200.0, Unit.G)));
+
+        // Act
+        Ingredient salt = ingredientService.createIngredient(recipe.getId(), ingredient("Salz", 1.0, Unit.PRISE));
+        ingredientService.updateIngredient(salt.getId(), ingredient("Safran", 1.0, Unit.PRISE));
+
+        // Assert
+        NutritionResponse nutrition = nutritionService.getNutrition(recipe.getId(), null).orElseThrow();
+        assertEquals(2, nutrition.getUnmatchedIngredients());
+        assertNull(nutrition.getPerServing());
+    }
+
+    @Test
+    void testUpdateRecipe_ShouldRecalculateReplacedIngredients() {
+        // Arrange
+        Recipe recipe = recipeService.createRecipe(request("Reis", 2,
+                ingredient("Reis", 200.0, Unit.G)));
+
+        // Act
+        recipeService.updateRecipe(recipe.getId(), request("Reis", 2,
+                ingredient("Reis", 100.0, Unit.G),
+                ingredient("Milch", 500.0, Unit.ML)));
+
+        // Assert: 349 + 5 * 1.03 * 64
+        assertEquals(349.0 + 329.6, kcal(recipe), 0.05);
+    }
+
+    @Test
+    void testRecipeDetail_ShouldIncludeNutrition() {
+        // Arrange
+        Recipe recipe = recipeService.createRecipe(request("Brot", 2,
+                ingredient("Brot", 100.0, Unit.G)));
+
+        // Act
+        RecipeDetailResponse detail = recipeService.getRecipeById(recipe.getId()).orElseThrow();
+
+        // Assert
+        assertEquals(2, detail.getNutrition().getServings());
+        assertEquals(132.5, detail.getNutrition().getPerServing().getKcal(), 0.05);
+    }
+
+    @Test
+    void testDeleteRecipe_ShouldRemoveTotalsOnPurge() {
+        // Arrange
+        Recipe recipe = recipeService.createRecipe(request("Weg", null));
+
+        // Act: Soft-Delete lässt die Summen stehen, erst der Purge entfernt sie
+        recipeService.deleteRecipe(recipe.getId());
+        recipePurgeJob.purge();
+        entityManager.clear();
+
+        // Assert
+        assertTrue(nutritionService.getNutrition(recipe.getId(), null).isEmpty());
+    }
+
+    private double kcal(Recipe recipe) {
+        return nutritionService.getNutrition(recipe.getId(), null).orElseThrow().getTotal().getKcal();
+    }
+
+    private RecipeRequest request(String title, Integer servings, IngredientRequest... ingredients) {
+        RecipeRequest request = new RecipeRequest();
+        request.setTitle(title);
+        request.setDescription("Beschreibung");
+        request.setServings(servings);
+        request.setIngredients(List.of(ingredients));
+        return request;
+    }
+
+    private IngredientRequest ingredient(String title, Double amount, Unit unit) {
+        IngredientRequest request = new IngredientRequest();
+        request.setTitle(title);
+        request.setAmount(amount);
+        request.setUnit(unit);
+        return request;
+    }
+}
@@ -1,7 +1,9 @@
 package com.recipemanager.service;
 
+import com.recipemanager.dto.IngredientRequest;
 import com.recipemanager.dto.RecipeRequest;
 import com.recipemanager.dto.RecipeDetailResponse;
+import com.recipemanager.enums.Unit;
 import com.recipemanager.model.Recipe;
 import com.recipemanager.repository.RecipeRepository;
 import com.recipemanager.repository.IngredientRepository;
@@ -12,7 +14,14 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -30,6 +39,9 @@ class RecipeServiceTest {
     @Autowired
     private IngredientRepository ingredientRepository;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
     @BeforeEach
     void setUp() {
         recipeRepository.deleteAll();
@@ -128,6 +140,29 @@ class RecipeServiceTest {
         assertEquals("Neue Beschreibung", updated.getDescription());
     }
 
+    @Test
+    void testUpdateRecipe_ShouldReplaceIngredients() {
+        // Arrange
+        RecipeRequest create = new RecipeRequest();
+        create.setTitle("Salat");
+        create.setIngredients(List.of(ingredient("Gurke"), ingredient("Tomate")));
+        Recipe original = recipeService.createRecipe(create);
+        entityManager.flush();
+        entityManager.clear(); // wie ein neuer Request
+
+        RecipeRequest update = new RecipeRequest();
+        update.setTitle("Salat");
+        update.setIngredients(List.of(ingredient("Paprika")));
+
+        // Act
+        recipeService.updateRecipe(original.getId(), update);
+
+        // Assert
+        var ingredients = ingredientRepository.findByRecipeId(original.getId());
+        assertEquals(1, ingredients.size());
+        assertEquals("Paprika", ingredients.get(0).getTitle());
+    }
+
     @Test
     void testUpdateRecipe_NotFound() {
         // Arrange
@@ -141,6 +176,63 @@ class RecipeServiceTest {
         });
     }
 
+    @Test
+    void testUpdateRecipe_IntoDuplicate_ShouldThrow() {
+        // Arrange
+        RecipeRequest salad = new RecipeRequest();
+        salad.setTitle("Salat");
+        salad.setDescription("Frisch");
+        salad.setIngredients(List.of(ingredient("Gurke"), ingredient("Tomate")));
+        Recipe existing = recipeService.createRecipe(salad);
+
+        salad.setIngredients(List.of(ingredient("Gurke")));
+        Recipe other = recipeService.createRecipe(salad);
+
+        salad.setIngredients(List.of(ingredient("Tomate"), ingredient("gurke")));
+
+        // Act & Assert
+        DuplicateRecipeException e = assertThrows(DuplicateRecipeException.class,
+                () -> recipeService.updateRecipe(other.getId(), salad));
+        assertEquals(existing.getId(), e.getExistingId());
+    }
+
+    @Test
+    void testFingerprint_ShouldIgnoreCaseOrderAmountsAndRepeats() {
+        // Act & Assert
+        assertEquals(
+                RecipeFingerprint.of("Pfannkuchen", List.of("Mehl", "Eier")),
+                RecipeFingerprint.of(" pfannkuchen!", List.of("eier", "Mehl", "MEHL")));
+        assertNotEquals(
+                RecipeFingerprint.of("Pfannkuchen", List.of("Mehl", "Eier")),
+                RecipeFingerprint.of("Pfannkuchen", List.of("Mehl", "Eier", "Milch")));
+    }
+
+    @Test
+    void testUpdateRecipe_ShouldForgetRunningLoadBeforeCommit() throws Exception {
+        // Arrange: ein Ladevorgang ohne Transaktion hängt noch
+        Recipe original = recipeRepository.save(new Recipe("Spaghetti", "Bolognese"));
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+        CompletableFuture<Optional<RecipeDetailResponse>> stale = CompletableFuture.supplyAsync(() ->
+                recipeService.getDetailFlight().load(original.getId(), () -> {
+                    loaderStarted.countDown();
+                    await(releaseLoader);
+                    return Optional.empty();
+                }));
+        assertTrue(loaderStarted.await(5, TimeUnit.SECONDS));
+        assertEquals(1, recipeService.getDetailFlight().getInFlightCount());
+
+        // Act: Schreibzugriff in der (noch nicht committeten) Test-Transaktion
+        RecipeRequest request = new RecipeRequest();
+        request.setTitle("Spaghetti Aglio e Olio");
+        recipeService.updateRecipe(original.getId(), request);
+
+        // Assert
+        assertEquals(0, recipeService.getDetailFlight().getInFlightCount());
+        releaseLoader.countDown();
+        stale.get(5, TimeUnit.SECONDS);
+    }
+
     // ========== DELETE Tests ==========
 
     @Test
@@ -155,4 +247,63 @@ class RecipeServiceTest {
         // Assert
         assertFalse(recipeRepository.existsById(id));
     }
+
+    @Test
+    void testDeleteRecipe_ShouldHideRecipeAndIngredientsUntilPurge() {
+        // Arrange
+        RecipeRequest request = new RecipeRequest();
+        request.setTitle("Raclette");
+        request.setIngredients(List.of(ingredient("Käse"), ingredient("Kartoffeln")));
+        Long id = recipeService.createRecipe(request).getId();
+
+        // Act
+        recipeService.deleteRecipe(id);
+        entityManager.flush();
+        entityManager.clear();
+
+        // Assert: für alle Abfragen weg, die Zeilen stehen noch
+        assertTrue(recipeService.getRecipeById(id).isEmpty());
+        assertTrue(recipeService.getAllRecipes().isEmpty());
+        assertTrue(ingredientRepository.findByRecipeId(id).isEmpty());
+        assertTrue(recipeRepository.lockById(id).isEmpty());
+        assertEquals(1, recipeRepository.countDeleted());
+        assertEquals(2L, ((Number) entityManager
+                .createNativeQuery("SELECT COUNT(*) FROM ingredients WHERE recipe_id = ?1")
+                .setParameter(1, id)
+                .getSingleResult()).longValue());
+    }
+
+    @Test
+    void testDeleteRecipe_ShouldFreeFingerprintForRecreate() {
+        // Arrange
+        RecipeRequest request = new RecipeRequest();
+        request.setTitle("Raclette");
+        request.setIngredients(List.of(ingredient("Käse")));
+        Long id = recipeService.createRecipe(request).getId();
+
+        // Act
+        recipeService.deleteRecipe(id);
+        Recipe recreated = recipeService.createRecipe(request);
+
+        // Assert
+        assertNotEquals(id, recreated.getId());
+    }
+
+    // ========== Helper ==========
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private IngredientRequest ingredient(String title) {
+        IngredientRequest request = new IngredientRequest();
+        request.setTitle(title);
+        request.setAmount(1.0);
+        request.setUnit(Unit.G);
+        return request;
+    }
 }
\ No newline at end of file
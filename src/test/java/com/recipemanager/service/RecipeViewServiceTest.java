@@ -0,0 +1,244 @@
+package com.recipemanager.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.recipemanager.cache.RecipeDetailJsonCache;
+import com.recipemanager.dto.IngredientRequest;
+import com.recipemanager.dto.RecipeRequest;
+import com.recipemanager.enums.Unit;
+import com.recipemanager.maintenance.RecipePurgeJob;
+import com.recipemanager.maintenance.RecipeViewRebuildJob;
+import com.recipemanager.model.Ingredient;
+import com.recipemanager.model.Recipe;
+import com.recipemanager.model.RecipeView;
+import com.recipemanager.repository.IngredientRepository;
+import com.recipemanager.repository.RecipeNutritionRepository;
+import com.recipemanager.repository.RecipeRepository;
+import com.recipemanager.repository.RecipeViewRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Ohne @Transactional: recipe_view wird erst kurz vor dem Commit geschrieben.
+ */
+@SpringBootTest(properties = {
+        "recipemanager.recipe-view.enabled=true",
+        "recipemanager.recipe-view.batch-size=2"
+})
+@ActiveProfiles("test")
+class RecipeViewServiceTest {
+
+    @Autowired
+    private RecipeViewService recipeViewService;
+
+    @Autowired
+    private RecipeViewRebuildJob recipeViewRebuildJob;
+
+    @Autowired
+    private RecipeService recipeService;
+
+    @Autowired
+    private IngredientService ingredientService;
+
+    @Autowired
+    private RecipeDetailJsonCache recipeDetailJsonCache;
+
+    @Autowired
+    private RecipePurgeJob recipePurgeJob;
+
+    @Autowired
+    private RecipeViewRepository recipeViewRepository;
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    @Autowired
+    private IngredientRepository ingredientRepository;
+
+    @Autowired
+    private RecipeNutritionRepository recipeNutritionRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setUp() {
+        tearDown();
+    }
+
+    @AfterEach
+    void tearDown() {
+        recipeViewRepository.deleteAll();
+        ingredientRepository.deleteAll();
+        recipeNutritionRepository.deleteAll();
+        recipeRepository.deleteAll();
+        recipePurgeJob.purge();
+    }
+
+    // ========== Write Tests ==========
+
+    @Test
+    void testCreateRecipe_ShouldWriteSameJsonAsDetailEndpoint() throws Exception {
+        // Act
+        Recipe recipe = recipeService.createRecipe(request("Pasta", 4, "Spaghetti", "Olivenöl"));
+
+        // Assert: gleiche Bytes wie der Weg über Hibernate + Jackson (aus der Datenbank, nicht aus dem
+        // Second-Level-Cache - dort hat createdAt noch Nanosekunden, die Spalte nur Mikrosekunden)
+        entityManagerFactory.getCache().evictAll();
+        byte[] expected = objectMapper.writeValueAsBytes(recipeService.getRecipeById(recipe.getId()).orElseThrow());
+        assertArrayEquals(expected, recipeViewService.getJson(recipe.getId()).orElseThrow());
+    }
+
+    @Test
+    void testIngredientWrites_ShouldUpdateView() {
+        // Arrange
+        Recipe recipe = recipeService.createRecipe(request("Suppe", null, "Kartoffeln"));
+
+        // Act
+        Ingredient butter = ingredientService.createIngredient(recipe.getId(), ingredient("Butter"));
+        assertTrue(json(recipe.getId()).contains("Butter"));
+        ingredientService.updateIngredient(butter.getId(), ingredient("Sahne"));
+        assertTrue(json(recipe.getId()).contains("Sahne"));
+        ingredientService.deleteIngredient(butter.getId());
+
+        // Assert
+        assertFalse(json(recipe.getId()).contains("Sahne"));
+        assertTrue(json(recipe.getId()).contains("Kartoffeln"));
+    }
+
+    @Test
+    void testUpdateRecipe_ShouldReplaceView() {
+        // Arrange
+        Recipe recipe = recipeService.createRecipe(request("Brot", null, "Mehl"));
+
+        // Act
+        recipeService.updateRecipe(recipe.getId(), request("Vollkornbrot", 2, "Vollkornmehl", "Wasser"));
+
+        // Assert
+        String json = json(recipe.getId());
+        assertTrue(json.contains("Vollkornbrot"));
+        assertTrue(json.contains("Wasser"));
+        assertFalse(json.contains("\"Mehl\""));
+    }
+
+    @Test
+    void testDeleteRecipe_ShouldRemoveView() {
+        // Arrange
+        Recipe recipe = recipeService.createRecipe(request("Tee", null));
+
+        // Act
+        recipeService.deleteRecipe(recipe.getId());
+
+        // Assert
+        assertFalse(recipeViewRepository.existsById(recipe.getId()));
+    }
+
+    @Test
+    void testImportRecipes_ShouldWriteOneRowPerRecipe() {
+        // Act
+        List<Recipe> recipes = recipeService.importRecipes(List.of(
+                request("Salat", null, "Gurke"), request("Pesto", null, "Basilikum")));
+
+        // Assert
+        assertEquals(2, recipeViewRepository.count());
+        assertTrue(json(recipes.get(1).getId()).contains("Basilikum"));
+    }
+
+    // ========== Read Tests ==========
+
+    @Test
+    void testDetailCache_ShouldServeBytesFromView() {
+        // Arrange: Zeile an den Services vorbei überschreiben
+        Recipe recipe = recipeService.createRecipe(request("Gulasch", null, "Rind"));
+        RecipeView view = recipeViewRepository.findById(recipe.getId()).orElseThrow();
+        view.setJson("{\"id\":" + recipe.getId() + ",\"title\":\"aus recipe_view\"}");
+        recipeViewRepository.save(view);
+        recipeDetailJsonCache.invalidate(recipe.getId());
+
+        // Act
+        byte[] json = recipeDetailJsonCache.get(recipe.getId()).orElseThrow().getJson();
+
+        // Assert
+        assertTrue(new String(json, StandardCharsets.UTF_8).contains("aus recipe_view"));
+    }
+
+    @Test
+    void testDetailCache_MissingRow_ShouldFallBackToRecipeService() {
+        // Arrange
+        Recipe recipe = recipeService.createRecipe(request("Gulasch", null, "Rind"));
+        recipeViewRepository.deleteById(recipe.getId());
+        recipeDetailJsonCache.invalidate(recipe.getId());
+
+        // Act & Assert
+        assertTrue(new String(recipeDetailJsonCache.get(recipe.getId()).orElseThrow().getJson(),
+                StandardCharsets.UTF_8).contains("Gulasch"));
+    }
+
+    // ========== Rebuild Tests ==========
+
+    @Test
+    void testRebuild_ShouldRestoreRowsAcrossBatchesAndDropOrphans() {
+        // Arrange: 3 Rezepte bei Batch-Größe 2, Zeilen verloren, eine Zeile ohne Rezept
+        List<Long> ids = List.of(
+                recipeService.createRecipe(request("Salat", null, "Gurke")).getId(),
+                recipeService.createRecipe(request("Suppe", null, "Kürbis")).getId(),
+                recipeService.createRecipe(request("Brot", null, "Mehl")).getId());
+        byte[] expected = recipeViewService.getJson(ids.get(1)).orElseThrow();
+        recipeViewRepository.deleteAll();
+        RecipeView orphan = new RecipeView(ids.get(2) + 1000);
+        orphan.setJson("{}");
+        orphan.setUpdatedAt(LocalDateTime.now());
+        recipeViewRepository.save(orphan);
+
+        // Act
+        int rendered = recipeViewRebuildJob.rebuild();
+
+        // Assert
+        assertEquals(3, rendered);
+        assertEquals(3, recipeViewRepository.count());
+        assertFalse(recipeViewRepository.existsById(orphan.getRecipeId()));
+        assertArrayEquals(expected, recipeViewService.getJson(ids.get(1)).orElseThrow());
+    }
+
+    // ========== Helper ==========
+
+    private String json(Long recipeId) {
+        return new String(recipeViewService.getJson(recipeId).orElseThrow(), StandardCharsets.UTF_8);
+    }
+
+    private static RecipeRequest request(String title, Integer servings, String... ingredientTitles) {
+        RecipeRequest request = new RecipeRequest();
+        request.setTitle(title);
+        request.setDescription("Beschreibung " + title);
+        request.setServings(servings);
+        request.setIngredients(Arrays.stream(ingredientTitles).map(RecipeViewServiceTest::ingredient).toList());
+        return request;
+    }
+
+    private static IngredientRequest ingredient(String title) {
+        IngredientRequest ingredient = new IngredientRequest();
+        ingredient.setTitle(title);
+        ingredient.setAmount(100.0);
+        ingredient.setUnit(Unit.G);
+        return ingredient;
+    }
+}
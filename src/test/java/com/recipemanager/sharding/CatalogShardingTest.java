@@ -0,0 +1,134 @@
+package com.recipemanager.sharding;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.recipemanager.cache.CatalogSnapshotService;
+import com.recipemanager.dto.IngredientRequest;
+import com.recipemanager.dto.RecipeRequest;
+import com.recipemanager.dto.RecipeResponse;
+import com.recipemanager.enums.Unit;
+import com.recipemanager.model.Recipe;
+import com.recipemanager.repository.IngredientRepository;
+import com.recipemanager.repository.RecipeNutritionRepository;
+import com.recipemanager.repository.RecipeRepository;
+import com.recipemanager.service.RecipeService;
+
+/**
+ * Katalog-Snapshot über drei H2-Shards (eigene Datenbanken, getrennt von ShardingTest).
+ *
+ * Ohne @Transactional: der Snapshot wird erst nach dem Commit gepatcht
+ * und nur außerhalb von Transaktionen ausgeliefert.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:catalog0;MODE=PostgreSQL",
+        "spring.datasource.hikari.jdbc-url=jdbc:h2:mem:catalog0;MODE=PostgreSQL",
+        "recipemanager.sharding.urls=jdbc:h2:mem:catalog1;MODE=PostgreSQL,jdbc:h2:mem:catalog2;MODE=PostgreSQL",
+        "recipemanager.catalog.enabled=true"
+})
+@ActiveProfiles("test")
+class CatalogShardingTest {
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private CatalogSnapshotService catalogSnapshotService;
+
+    @Autowired
+    private RecipeService recipeService;
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    @Autowired
+    private IngredientRepository ingredientRepository;
+
+    @Autowired
+    private RecipeNutritionRepository recipeNutritionRepository;
+
+    @BeforeEach
+    void setUp() {
+        tearDown();
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (int shard = 0; shard < shardRouter.getShardCount(); shard++) {
+            shardRouter.onShard(shard, () -> {
+                ingredientRepository.deleteAll();
+                recipeNutritionRepository.deleteAll();
+                recipeRepository.deleteAll();
+                return null;
+            });
+        }
+        catalogSnapshotService.reload();
+    }
+
+    @Test
+    void testReload_ShouldLoadRecipesOfAllShards() {
+        // Arrange
+        List<Long> created = createRecipes(6);
+        assertTrue(created.stream().map(shardRouter::shardOf).distinct().count() > 1);
+
+        // Act
+        catalogSnapshotService.reload();
+
+        // Assert: ein Snapshot, nach Erstellung sortiert wie ohne Sharding
+        assertTrue(catalogSnapshotService.isServing());
+        assertEquals(6, catalogSnapshotService.current().getRecipeCount());
+        assertEquals(12, catalogSnapshotService.current().getIngredientCount());
+        assertEquals(created, catalogSnapshotService.list(null).stream().map(RecipeResponse::getId).toList());
+    }
+
+    @Test
+    void testLocalWrites_ShouldBePatchedFromShardOfRecipe() {
+        // Arrange
+        List<Long> created = createRecipes(6);
+        Long remote = created.stream().filter(id -> shardRouter.shardOf(id) != 0).findFirst().orElseThrow();
+
+        // Act
+        recipeService.updateRecipe(remote, request("Neuer Titel"));
+
+        // Assert: neue Rezepte und die Änderung ohne Neuladen im Snapshot
+        assertEquals(6, catalogSnapshotService.current().getRecipeCount());
+        assertEquals("Neuer Titel", catalogSnapshotService.detail(remote).orElseThrow().getTitle());
+    }
+
+    // ========== Helper ==========
+
+    private List<Long> createRecipes(int count) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Recipe recipe = recipeService.createRecipe(request("Rezept " + i));
+            ids.add(recipe.getId());
+        }
+        return ids;
+    }
+
+    private static RecipeRequest request(String title) {
+        RecipeRequest request = new RecipeRequest();
+        request.setTitle(title);
+        request.setDescription("Beschreibung " + title);
+        request.setIngredients(List.of(ingredient("Mehl"), ingredient("Wasser")));
+        return request;
+    }
+
+    private static IngredientRequest ingredient(String title) {
+        IngredientRequest ingredient = new IngredientRequest();
+        ingredient.setTitle(title);
+        ingredient.setAmount(100.0);
+        ingredient.setUnit(Unit.G);
+        return ingredient;
+    }
+}
@@ -0,0 +1,327 @@
+package com.recipemanager.sharding;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.recipemanager.dto.IngredientRequest;
+import com.recipemanager.dto.RecipeChangesResponse;
+import com.recipemanager.dto.RecipeDetailResponse;
+import com.recipemanager.dto.RecipeListFilter;
+import com.recipemanager.dto.RecipeRequest;
+import com.recipemanager.dto.RecipeResponse;
+import com.recipemanager.enums.RecipeSort;
+import com.recipemanager.enums.Unit;
+import com.recipemanager.invalidation.LocalCacheInvalidator;
+import com.recipemanager.invalidation.RemoteInvalidationEvent;
+import com.recipemanager.maintenance.RecipePurgeJob;
+import com.recipemanager.model.Ingredient;
+import com.recipemanager.model.Recipe;
+import com.recipemanager.repository.IngredientRepository;
+import com.recipemanager.repository.ReactiveRecipeReadRepository;
+import com.recipemanager.repository.RecipeNutritionRepository;
+import com.recipemanager.repository.RecipeRepository;
+import com.recipemanager.service.ChangeFeedService;
+import com.recipemanager.service.DuplicateRecipeException;
+import com.recipemanager.service.IngredientService;
+import com.recipemanager.service.RecipeService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Drei H2-Datenbanken als Shards, Shard 0 getrennt von der testdb der anderen Tests.
+ *
+ * Ohne @Transactional: jeder Aufruf holt seine Verbindung selbst von der Shard des Rezepts.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:shard0;MODE=PostgreSQL",
+        "spring.datasource.hikari.jdbc-url=jdbc:h2:mem:shard0;MODE=PostgreSQL",
+        "recipemanager.sharding.urls=jdbc:h2:mem:shard1;MODE=PostgreSQL,jdbc:h2:mem:shard2;MODE=PostgreSQL",
+        "spring.r2dbc.url=r2dbc:h2:mem:///shard0?options=DB_CLOSE_DELAY=-1;MODE=PostgreSQL",
+        "recipemanager.sharding.r2dbc-urls=r2dbc:h2:mem:///shard1?options=DB_CLOSE_DELAY=-1;MODE=PostgreSQL,"
+                + "r2dbc:h2:mem:///shard2?options=DB_CLOSE_DELAY=-1;MODE=PostgreSQL"
+})
+@ActiveProfiles("test")
+class ShardingTest {
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private RecipeService recipeService;
+
+    @Autowired
+    private IngredientService ingredientService;
+
+    @Autowired
+    private ChangeFeedService changeFeedService;
+
+    @Autowired
+    private RecipePurgeJob recipePurgeJob;
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    @Autowired
+    private IngredientRepository ingredientRepository;
+
+    @Autowired
+    private RecipeNutritionRepository recipeNutritionRepository;
+
+    @Autowired
+    private ReactiveRecipeReadRepository reactiveRecipeReadRepository;
+
+    @Autowired
+    private LocalCacheInvalidator localCacheInvalidator;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @AfterEach
+    void tearDown() {
+        for (int shard = 0; shard < shardRouter.getShardCount(); shard++) {
+            shardRouter.onShard(shard, () -> {
+                ingredientRepository.deleteAll();
+                recipeNutritionRepository.deleteAll();
+                recipeRepository.deleteAll();
+                return null;
+            });
+        }
+        recipePurgeJob.purge();
+    }
+
+    // ========== Routing Tests ==========
+
+    @Test
+    void testCreateRecipe_ShouldStoreRecipeOnlyOnShardOfItsId() {
+        // Act
+        List<Recipe> recipes = createRecipes(6);
+
+        // Assert
+        assertEquals(3, shardRouter.getShardCount());
+        for (Recipe recipe : recipes) {
+            int shard = shardRouter.shardOf(recipe.getId());
+            for (int other = 0; other < 3; other++) {
+                boolean stored = shardRouter.onShard(other, () -> recipeRepository.existsById(recipe.getId()));
+                assertEquals(other == shard, stored, "Rezept " + recipe.getId() + " auf Shard " + other);
+            }
+        }
+        assertTrue(recipes.stream().map(recipe -> shardRouter.shardOf(recipe.getId())).distinct().count() > 1);
+    }
+
+    @Test
+    void testReadAndUpdate_ShouldRouteByRecipeAndIngredientId() {
+        // Arrange
+        Recipe recipe = createRecipes(1).get(0);
+        Ingredient ingredient = ingredientService.getIngredientsByRecipeId(recipe.getId()).get(0);
+        IngredientRequest change = new IngredientRequest();
+        change.setTitle("Vollkornmehl");
+        change.setAmount(250.0);
+        change.setUnit(Unit.G);
+
+        // Act
+        ingredientService.updateIngredient(ingredient.getId(), change);
+        recipeService.updateRecipe(recipe.getId(), request("Brot neu", "Vollkornmehl", "Wasser"));
+        RecipeDetailResponse detail = recipeService.getRecipeById(recipe.getId()).orElseThrow();
+
+        // Assert: Zutaten-IDs liegen in der Restklasse ihres Rezepts
+        assertEquals(shardRouter.shardOf(recipe.getId()), shardRouter.shardOf(ingredient.getId()));
+        assertEquals("Brot neu", detail.getTitle());
+        assertEquals(List.of("Vollkornmehl", "Wasser"),
+                detail.getIngredients().stream().map(item -> item.getTitle()).sorted().toList());
+    }
+
+    @Test
+    void testCreateRecipe_Duplicate_ShouldHitSameShard() {
+        // Arrange
+        createRecipes(1);
+
+        // Act & Assert
+        assertThrows(DuplicateRecipeException.class,
+                () -> recipeService.createRecipe(request("Rezept 0", "Mehl", "Wasser")));
+    }
+
+    @Test
+    void testCreateRecipe_DuplicateOfEditedRecipe_ShouldBeFoundOnOtherShard() {
+        // Arrange: bearbeitetes Rezept bleibt auf seiner Shard, der neue Inhalt gehört auf eine andere
+        Recipe recipe = createRecipes(1).get(0);
+        RecipeRequest edited = IntStream.range(0, 100)
+                .mapToObj(i -> request("Brot " + i, "Mehl", "Wasser"))
+                .filter(candidate -> shardRouter.shardOf(candidate) != shardRouter.shardOf(recipe.getId()))
+                .findFirst()
+                .orElseThrow();
+        recipeService.updateRecipe(recipe.getId(), edited);
+
+        // Act
+        DuplicateRecipeException e = assertThrows(DuplicateRecipeException.class,
+                () -> recipeService.createRecipe(request(edited.getTitle(), "Mehl", "Wasser")));
+
+        // Assert
+        assertEquals(recipe.getId(), e.getExistingId());
+        assertEquals(Optional.of(recipe.getId()), recipeService.findDuplicate(edited));
+        assertEquals(1, recipeService.getAllRecipes().size());
+    }
+
+    @Test
+    void testDeleteRecipe_ShouldBePurgedOnItsShard() {
+        // Arrange
+        Recipe recipe = createRecipes(3).get(1);
+
+        // Act
+        recipeService.deleteRecipe(recipe.getId());
+
+        // Assert
+        assertTrue(recipeService.getRecipeById(recipe.getId()).isEmpty());
+        assertEquals(1, recipePurgeJob.refreshBacklog());
+        assertEquals(1, recipePurgeJob.purge());
+        assertEquals(2, recipeService.getAllRecipes().size());
+    }
+
+    // ========== Scatter-Gather Tests ==========
+
+    @Test
+    void testGetRecipes_ShouldMergeShardsByCreatedAt() {
+        // Arrange
+        List<Long> created = createRecipes(6).stream().map(Recipe::getId).toList();
+        RecipeListFilter filter = new RecipeListFilter();
+        filter.setLimit(4);
+
+        // Act
+        List<RecipeResponse> recipes = recipeService.getRecipes(filter);
+
+        // Assert
+        assertEquals(created.subList(0, 4), recipes.stream().map(RecipeResponse::getId).toList());
+    }
+
+    @Test
+    void testGetRecipes_SortedByTitleDescending_ShouldMergeShards() {
+        // Arrange
+        createRecipes(6);
+        RecipeListFilter filter = new RecipeListFilter();
+        filter.setSort(RecipeSort.TITLE);
+        filter.setDescending(true);
+
+        // Act
+        List<RecipeResponse> recipes = recipeService.getRecipes(filter);
+
+        // Assert
+        assertEquals(List.of("Rezept 5", "Rezept 4", "Rezept 3", "Rezept 2", "Rezept 1", "Rezept 0"),
+                recipes.stream().map(RecipeResponse::getTitle).toList());
+    }
+
+    @Test
+    void testGetIngredientResponsesByRecipeIds_ShouldGatherFromAllShards() {
+        // Arrange
+        List<Long> ids = createRecipes(6).stream().map(Recipe::getId).toList();
+
+        // Act & Assert
+        assertEquals(6, ingredientService.getIngredientResponsesByRecipeIds(ids).size());
+        assertEquals(6, recipeService.getDescriptions(ids).size());
+    }
+
+    @Test
+    void testChangeFeed_ShouldMergeShardsWithCursorPerShard() {
+        // Arrange
+        String start = changeFeedService.getChangesSince("0", 1000).getCursor();
+        List<Long> created = createRecipes(6).stream().map(Recipe::getId).toList();
+
+        // Act: in Seiten zu 4 Einträgen
+        RecipeChangesResponse first = changeFeedService.getChangesSince(start, 4);
+        RecipeChangesResponse second = changeFeedService.getChangesSince(first.getCursor(), 4);
+        RecipeChangesResponse third = changeFeedService.getChangesSince(second.getCursor(), 4);
+
+        // Assert: alle Rezepte genau einmal, in Reihenfolge ihrer Änderung
+        assertTrue(first.getCursor().matches("0:\\d+,1:\\d+,2:\\d+"), first.getCursor());
+        assertTrue(first.isHasMore());
+        assertFalse(second.isHasMore());
+        List<Long> seen = new ArrayList<>();
+        first.getChanges().forEach(change -> seen.add(change.getRecipeId()));
+        second.getChanges().forEach(change -> seen.add(change.getRecipeId()));
+        assertEquals(created, seen);
+        assertTrue(third.getChanges().isEmpty());
+        assertEquals(second.getCursor(), third.getCursor());
+    }
+
+    @Test
+    void testReactiveReads_ShouldUseConnectionOfEachShard() {
+        // Arrange
+        List<Long> ids = createRecipes(6).stream().map(Recipe::getId).toList();
+        Long remote = ids.stream().filter(id -> shardRouter.shardOf(id) != 0).findFirst().orElseThrow();
+
+        // Act
+        List<RecipeResponse> all = reactiveRecipeReadRepository.findAll().collectList().block();
+        RecipeDetailResponse detail = reactiveRecipeReadRepository.findDetailById(remote).block();
+
+        // Assert: über alle Shards nach ID gemischt, Details von der Shard des Rezepts
+        assertEquals(ids.stream().sorted().toList(), all.stream().map(RecipeResponse::getId).toList());
+        assertEquals(remote, detail.getId());
+        assertEquals(2, detail.getIngredients().size());
+    }
+
+    // ========== Cache Tests ==========
+
+    @Test
+    void testRemoteInvalidation_ShouldEvictIngredientsFromEveryShard() {
+        // Arrange: Zutaten von Rezepten auf mehreren Shards im Second-Level-Cache
+        List<Long> recipeIds = createRecipes(3).stream().map(Recipe::getId).toList();
+        List<Long> ingredientIds = recipeIds.stream()
+                .flatMap(id -> ingredientService.getIngredientsByRecipeId(id).stream())
+                .map(Ingredient::getId)
+                .toList();
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        assertTrue(recipeIds.stream().map(shardRouter::shardOf).distinct().count() > 1);
+        assertTrue(ingredientIds.stream().allMatch(id -> cache.containsEntity(Ingredient.class, id)));
+
+        // Act
+        localCacheInvalidator.onRemoteInvalidation(
+                RemoteInvalidationEvent.of(recipeIds.stream().collect(Collectors.toSet())));
+
+        // Assert
+        assertEquals(Set.of(), ingredientIds.stream()
+                .filter(id -> cache.containsEntity(Ingredient.class, id))
+                .collect(Collectors.toSet()));
+    }
+
+    // ========== Helper ==========
+
+    private List<Recipe> createRecipes(int count) {
+        List<Recipe> recipes = new ArrayList<>();
+        IntStream.range(0, count)
+                .forEach(i -> recipes.add(recipeService.createRecipe(request("Rezept " + i, "Mehl", "Wasser"))));
+        return recipes;
+    }
+
+    private static RecipeRequest request(String title, String... ingredientTitles) {
+        RecipeRequest request = new RecipeRequest();
+        request.setTitle(title);
+        request.setDescription("Beschreibung " + title);
+        request.setIngredients(Arrays.stream(ingredientTitles)
+                .map(ingredientTitle -> {
+                    IngredientRequest ingredient = new IngredientRequest();
+                    ingredient.setTitle(ingredientTitle);
+                    ingredient.setAmount(100.0);
+                    ingredient.setUnit(Unit.G);
+                    return ingredient;
+                })
+                .toList());
+        return request;
+    }
+}
@@ -0,0 +1,91 @@
+package com.recipemanager.similarity;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.recipemanager.similarity.MinHashIndex.Match;
+
+/**
+ * Abfrage-Latenz LSH gegen Brute-Force auf einem synthetischen Katalog.
+ * Läuft nicht im normalen Build: mvn -Pbenchmark test
+ *
+ * Katalog: 50.000 Rezepte mit 6-14 Zutaten aus 3.000 Namen, in 500 "Küchen"
+ * mit gemeinsamem Grundstock, damit es echte Nachbarn gibt.
+ */
+@Tag("benchmark")
+class MinHashIndexBenchmarkTest {
+
+    private static final int RECIPES = 50_000;
+    private static final int QUERIES = 500;
+    private static final int TOP_N = 10;
+
+    @Test
+    void benchmarkQueryAgainstBruteForce() {
+        MinHashIndex index = new MinHashIndex(128, 64);
+        SplittableRandom random = new SplittableRandom(42);
+        for (int id = 1; id <= RECIPES; id++) {
+            index.put(id, randomRecipe(random));
+        }
+
+        long[] queryIds = random.longs(QUERIES, 1, RECIPES + 1).toArray();
+
+        // Aufwärmen
+        for (long id : queryIds) {
+            index.query(id, TOP_N);
+            index.bruteForce(id, TOP_N);
+        }
+
+        long lshNanos = 0;
+        long bruteNanos = 0;
+        double recall = 0;
+        for (long id : queryIds) {
+            long start = System.nanoTime();
+            List<Match> lsh = index.query(id, TOP_N);
+            lshNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            List<Match> exact = index.bruteForce(id, TOP_N);
+            bruteNanos += System.nanoTime() - start;
+
+            recall += recallOf(lsh, exact);
+        }
+
+        double lshMicros = lshNanos / 1000.0 / QUERIES;
+        double bruteMicros = bruteNanos / 1000.0 / QUERIES;
+        System.out.printf("MinHash/LSH: %.1f µs/Abfrage, Brute-Force: %.1f µs/Abfrage, Faktor %.1f, Recall@%d %.3f%n",
+                lshMicros, bruteMicros, bruteMicros / lshMicros, TOP_N, recall / QUERIES);
+
+        assertTrue(lshMicros < bruteMicros);
+    }
+
+    private static List<String> randomRecipe(SplittableRandom random) {
+        int cuisine = random.nextInt(500);
+        int size = 6 + random.nextInt(9);
+        Set<String> ingredients = new HashSet<>();
+        while (ingredients.size() < size) {
+            // zwei Drittel aus dem Grundstock der Küche (20 Zutaten), der Rest beliebig
+            ingredients.add(random.nextInt(3) < 2
+                    ? "zutat" + (cuisine * 6 + random.nextInt(20)) % 3000
+                    : "zutat" + random.nextInt(3000));
+        }
+        return new ArrayList<>(ingredients);
+    }
+
+    private static double recallOf(List<Match> found, List<Match> exact) {
+        if (exact.isEmpty()) {
+            return 1;
+        }
+        // Gleichstände an der Grenze: alles mit mindestens der schlechtesten exakten Ähnlichkeit zählt
+        double threshold = exact.get(exact.size() - 1).getSimilarity();
+        long hits = found.stream().filter(match -> match.getSimilarity() >= threshold - 1e-9).count();
+        return Math.min(1.0, (double) hits / exact.size());
+    }
+}
@@ -0,0 +1,68 @@
+package com.recipemanager.similarity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.recipemanager.similarity.MinHashIndex.Match;
+
+class MinHashIndexTest {
+
+    @Test
+    void testQuery_ShouldRankByExactJaccard() {
+        // Arrange
+        MinHashIndex index = new MinHashIndex(128, 64);
+        index.put(1, List.of("spaghetti", "ei", "speck", "parmesan", "pfeffer"));
+        index.put(2, List.of("spaghetti", "ei", "speck", "parmesan", "sahne"));
+        index.put(3, List.of("spaghetti", "tomate", "basilikum", "parmesan"));
+        index.put(4, List.of("gurke", "dill", "joghurt"));
+
+        // Act
+        List<Match> matches = index.query(1, 10);
+
+        // Assert: 4 gemeinsame von 6 -> 0.67, 2 von 7 -> 0.29, Gurkensalat gar nicht
+        assertEquals(List.of(2L, 3L), matches.stream().map(Match::getRecipeId).toList());
+        assertEquals(4.0 / 6, matches.get(0).getSimilarity(), 1e-9);
+        assertEquals(2.0 / 7, matches.get(1).getSimilarity(), 1e-9);
+    }
+
+    @Test
+    void testPut_ShouldReplaceAndRemove() {
+        // Arrange
+        MinHashIndex index = new MinHashIndex(128, 64);
+        index.put(1, List.of("mehl", "ei", "milch"));
+        index.put(2, List.of("mehl", "ei", "milch"));
+
+        // Act
+        index.put(2, List.of("gurke", "dill"));
+
+        // Assert
+        assertTrue(index.query(1, 10).isEmpty());
+
+        index.put(1, List.of());
+        assertFalse(index.contains(1));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void testEstimate_ShouldApproximateJaccard() {
+        // Arrange: 50 gemeinsame von 150 Elementen -> J = 1/3
+        MinHashIndex index = new MinHashIndex(256, 64);
+        index.put(1, IntStream.range(0, 100).mapToObj(i -> "z" + i).toList());
+        index.put(2, IntStream.range(50, 150).mapToObj(i -> "z" + i).toList());
+
+        // Act & Assert
+        assertEquals(1.0 / 3, index.estimate(1, 2), 0.1);
+    }
+
+    @Test
+    void testConstructor_BandsMustDivideHashes() {
+        assertThrows(IllegalArgumentException.class, () -> new MinHashIndex(100, 64));
+    }
+}
@@ -0,0 +1,129 @@
+package com.recipemanager.similarity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.recipemanager.dto.IngredientRequest;
+import com.recipemanager.dto.RecipeRequest;
+import com.recipemanager.dto.SimilarRecipeResponse;
+import com.recipemanager.enums.Unit;
+import com.recipemanager.invalidation.RemoteInvalidationEvent;
+import com.recipemanager.model.Ingredient;
+import com.recipemanager.model.Recipe;
+import com.recipemanager.repository.IngredientRepository;
+import com.recipemanager.repository.RecipeRepository;
+import com.recipemanager.service.IngredientService;
+import com.recipemanager.service.RecipeService;
+
+/**
+ * Ohne @Transactional: der Index wird erst nach dem Commit aktualisiert.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class SimilarRecipeServiceTest {
+
+    @Autowired
+    private SimilarRecipeService similarRecipeService;
+
+    @Autowired
+    private RecipeService recipeService;
+
+    @Autowired
+    private IngredientService ingredientService;
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    @Autowired
+    private IngredientRepository ingredientRepository;
+
+    @BeforeEach
+    void setUp() {
+        ingredientRepository.deleteAll();
+        recipeRepository.deleteAll();
+        similarRecipeService.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ingredientRepository.deleteAll();
+        recipeRepository.deleteAll();
+    }
+
+    @Test
+    void testFindSimilar_ShouldFollowIngredientChanges() {
+        // Arrange
+        Recipe carbonara = recipeService.createRecipe(request("Carbonara", "Spaghetti", "Ei", "Speck", "Parmesan"));
+        Recipe gricia = recipeService.createRecipe(request("Gricia", "Spaghetti", "Speck", "Pecorino"));
+        recipeService.createRecipe(request("Gurkensalat", "Gurke", "Dill"));
+
+        // Act
+        List<SimilarRecipeResponse> similar = similarRecipeService.findSimilar(carbonara.getId(), 5).orElseThrow();
+
+        // Assert
+        assertEquals(1, similar.size());
+        assertEquals("Gricia", similar.get(0).getTitle());
+        assertEquals(2.0 / 5, similar.get(0).getSimilarity(), 1e-9);
+
+        // Act: Parmesan statt Pecorino - Namen werden normalisiert
+        Ingredient pecorino = ingredientRepository.findByTitleAndRecipeId("Pecorino", gricia.getId());
+        ingredientService.updateIngredient(pecorino.getId(), ingredient("PARMESAN"));
+
+        // Assert
+        assertEquals(3.0 / 4, similarRecipeService.findSimilar(carbonara.getId(), 5).orElseThrow()
+                .get(0).getSimilarity(), 1e-9);
+
+        // Act: gelöschte Rezepte verschwinden
+        recipeService.deleteRecipe(gricia.getId());
+
+        // Assert
+        assertTrue(similarRecipeService.findSimilar(carbonara.getId(), 5).orElseThrow().isEmpty());
+        assertTrue(similarRecipeService.findSimilar(gricia.getId(), 5).isEmpty());
+    }
+
+    @Test
+    void testRemoteInvalidationAll_ShouldSwapInNewIndex() {
+        // Arrange
+        Recipe carbonara = recipeService.createRecipe(request("Carbonara", "Spaghetti", "Ei", "Speck"));
+        Recipe gricia = recipeService.createRecipe(request("Gricia", "Spaghetti", "Speck", "Pecorino"));
+        MinHashIndex before = similarRecipeService.getIndex();
+
+        // Act: Listener stößt nur an, aufgebaut wird im eigenen Thread
+        similarRecipeService.onRemoteInvalidation(RemoteInvalidationEvent.all());
+        similarRecipeService.rebuildAsync().join();
+
+        // Assert: alter Index wurde nicht geleert, sondern ersetzt
+        assertNotSame(before, similarRecipeService.getIndex());
+        assertTrue(before.contains(carbonara.getId()));
+        assertEquals(2, similarRecipeService.getIndex().size());
+        assertEquals(gricia.getId(), similarRecipeService.findSimilar(carbonara.getId(), 5).orElseThrow()
+                .get(0).getId());
+    }
+
+    private RecipeRequest request(String title, String... ingredients) {
+        RecipeRequest request = new RecipeRequest();
+        request.setTitle(title);
+        request.setDescription("Beschreibung");
+        request.setIngredients(Arrays.stream(ingredients).map(this::ingredient).toList());
+        return request;
+    }
+
+    private IngredientRequest ingredient(String title) {
+        IngredientRequest request = new IngredientRequest();
+        request.setTitle(title);
+        request.setAmount(100.0);
+        request.setUnit(Unit.G);
+        return request;
+    }
+}